@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("io.quarkus")
     id("com.diffplug.spotless") version "6.25.0"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 repositories {
@@ -21,12 +22,18 @@ dependencies {
     implementation("io.quarkus:quarkus-hibernate-orm")
     implementation("io.quarkus:quarkus-hibernate-orm-panache")
     implementation("io.quarkus:quarkus-jdbc-postgresql")
+    implementation("io.quarkus:quarkus-reactive-pg-client")
+    implementation("io.quarkus:quarkus-flyway")
+    implementation("org.flywaydb:flyway-database-postgresql")
     implementation("io.quarkus:quarkus-rest")
     implementation("io.quarkus:quarkus-rest-jackson")
     implementation("io.quarkus:quarkus-smallrye-jwt")
     implementation("io.quarkus:quarkus-smallrye-jwt-build")
     implementation("io.quarkus:quarkus-elytron-security-properties-file")
     implementation("io.quarkus:quarkus-smallrye-openapi")
+    implementation("io.quarkus:quarkus-micrometer-registry-prometheus")
+    implementation("io.quarkus:quarkus-scheduler")
+    implementation("io.quarkus:quarkus-caffeine")
 
     // Password hashing
     implementation("at.favre.lib:bcrypt:0.10.2")
@@ -40,6 +47,7 @@ dependencies {
     // Testing
     testImplementation("io.quarkus:quarkus-junit5")
     testImplementation("io.quarkus:quarkus-junit5-mockito")
+    testImplementation("io.quarkus:quarkus-junit5-virtual-threads")
     testImplementation("io.rest-assured:rest-assured")
     testImplementation("org.mockito:mockito-core")
 
@@ -61,6 +69,33 @@ tasks.withType<JavaCompile> {
     options.compilerArgs.add("-parameters")
 }
 
+// Tests tagged "integration" need PostgreSQL 16+ (see PostgresTestProfile); ./gradlew integrationTest runs them
+tasks.test {
+    useJUnitPlatform { excludeTags("integration") }
+    systemProperty("java.util.logging.manager", "org.jboss.logmanager.LogManager")
+}
+
+val integrationTest by tasks.registering(Test::class) {
+    description = "Runs tests tagged integration against a PostgreSQL database."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform { includeTags("integration") }
+    systemProperty("java.util.logging.manager", "org.jboss.logmanager.LogManager")
+    // Print the stack of any virtual thread that pins its carrier (see VirtualThreadPinningTest)
+    systemProperty("jdk.tracePinnedThreads", "short")
+    shouldRunAfter(tasks.test)
+}
+
+jmh {
+    jmhVersion = "1.37"
+    resultFormat = "JSON"
+    // ./gradlew jmh -PjmhIncludes=<regex> runs a subset of benchmarks
+    (findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+    // ./gradlew jmh -PjmhProfilers=gc adds allocation rates (gc.alloc.rate.norm is bytes/op)
+    (findProperty("jmhProfilers") as String?)?.let { profilers.add(it) }
+}
+
 spotless {
     java {
         palantirJavaFormat()
@@ -0,0 +1,47 @@
+package com.k12.platform.benchmark;
+
+import com.k12.platform.domain.model.valueobjects.PasswordHash;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Verify latency of PasswordHash at each bcrypt cost.
+ * Use the results to choose k12.password-hashing.latency-budget / cost for a given host.
+ * <p>
+ * Run with: {@code ./gradlew jmh -PjmhIncludes=BcryptCostBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BcryptCostBenchmark {
+
+    private static final String PASSWORD = "SecurePass123!";
+
+    @Param({"10", "11", "12", "13", "14"})
+    int cost;
+
+    private PasswordHash hash;
+
+    @Setup
+    public void setUp() {
+        hash = PasswordHash.hash(PASSWORD, cost);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return hash.verify(PASSWORD);
+    }
+}
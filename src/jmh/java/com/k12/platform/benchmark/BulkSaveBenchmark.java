@@ -0,0 +1,164 @@
+package com.k12.platform.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to save 10k / 100k new students: one save per row (findById, insert, own transaction) as a loop over
+ * StudentRepository.save did, against saveAll's batched upserts in a single transaction.
+ * Rows/sec is rows divided by the reported time.
+ * <p>
+ * Needs a migrated PostgreSQL database: set K12_BENCH_JDBC_URL, K12_BENCH_USER and K12_BENCH_PASSWORD
+ * (defaults to the dev database). Rows are removed after each iteration.
+ * <p>
+ * Run with: {@code ./gradlew jmh -PjmhIncludes=BulkSaveBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class BulkSaveBenchmark {
+
+    private static final String UPSERT_SQL = "INSERT INTO students (id, first_name, last_name, date_of_birth,"
+            + " grade_level, class_id, student_number, enrollment_date, created_at, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+            + " ON CONFLICT (id) DO UPDATE SET first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name,"
+            + " date_of_birth = EXCLUDED.date_of_birth, grade_level = EXCLUDED.grade_level,"
+            + " class_id = EXCLUDED.class_id, student_number = EXCLUDED.student_number,"
+            + " enrollment_date = EXCLUDED.enrollment_date, updated_at = EXCLUDED.updated_at";
+
+    @Param({"10000", "100000"})
+    int rows;
+
+    /** Same meaning as k12.persistence.batch-size. */
+    @Param({"500"})
+    int batchSize;
+
+    private Connection connection;
+    private UUID classId;
+    private List<UUID> ids;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("K12_BENCH_JDBC_URL", "jdbc:postgresql://localhost:15432/k12db"),
+                env("K12_BENCH_USER", "k12user"),
+                env("K12_BENCH_PASSWORD", "k12pass"));
+        classId = UUID.randomUUID();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO classes (id, name, grade_level, academic_year, created_at, updated_at)"
+                        + " VALUES (?, ?, 5, '2025-2026', now(), now())")) {
+            statement.setObject(1, classId);
+            statement.setString(2, "bench-" + classId);
+            statement.executeUpdate();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void newStudents() {
+        ids = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            ids.add(UUID.randomUUID());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteStudents() throws SQLException {
+        connection.setAutoCommit(true);
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM students WHERE class_id = ?")) {
+            statement.setObject(1, classId);
+            statement.executeUpdate();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM classes WHERE id = ?")) {
+            statement.setObject(1, classId);
+            statement.executeUpdate();
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int saveEach() throws SQLException {
+        connection.setAutoCommit(true);
+        int saved = 0;
+        try (PreparedStatement select = connection.prepareStatement("SELECT 1 FROM students WHERE id = ?");
+                PreparedStatement insert = connection.prepareStatement(UPSERT_SQL)) {
+            for (UUID id : ids) {
+                select.setObject(1, id);
+                try (ResultSet found = select.executeQuery()) {
+                    found.next();
+                }
+                bind(insert, id);
+                saved += insert.executeUpdate();
+            }
+        }
+        return saved;
+    }
+
+    @Benchmark
+    public int saveAll() throws SQLException {
+        connection.setAutoCommit(false);
+        int pending = 0;
+        try (PreparedStatement upsert = connection.prepareStatement(UPSERT_SQL)) {
+            for (UUID id : ids) {
+                bind(upsert, id);
+                upsert.addBatch();
+                if (++pending == batchSize) {
+                    upsert.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                upsert.executeBatch();
+            }
+        }
+        connection.commit();
+        return ids.size();
+    }
+
+    private void bind(PreparedStatement statement, UUID id) throws SQLException {
+        OffsetDateTime now = OffsetDateTime.now();
+        statement.setObject(1, id);
+        statement.setString(2, "Bench");
+        statement.setString(3, "Student");
+        statement.setString(4, "2015-04-01");
+        statement.setInt(5, 5);
+        statement.setObject(6, classId);
+        statement.setString(7, null);
+        statement.setObject(8, LocalDate.now());
+        statement.setObject(9, now);
+        statement.setObject(10, now);
+    }
+
+    private static String env(String name, String defaultValue) {
+        return Objects.requireNonNullElse(System.getenv(name), defaultValue);
+    }
+}
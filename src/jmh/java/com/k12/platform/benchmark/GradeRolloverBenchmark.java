@@ -0,0 +1,238 @@
+package com.k12.platform.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to roll a district's students over to the next grade: one advance per student (two findById reads and a
+ * full-row update, own transaction) as POST /api/students/{id}/advance does, against JpaGradeRolloverAdapter's
+ * chunked UPDATE ... RETURNING with a checkpoint update per chunk.
+ * Rows/sec is rows divided by the reported time.
+ * <p>
+ * Needs a migrated PostgreSQL database: set K12_BENCH_JDBC_URL, K12_BENCH_USER and K12_BENCH_PASSWORD
+ * (defaults to the dev database). Students go into a class of academic year 1999-2000 and are removed after
+ * each iteration.
+ * <p>
+ * Run with: {@code ./gradlew jmh -PjmhIncludes=GradeRolloverBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class GradeRolloverBenchmark {
+
+    private static final String ACADEMIC_YEAR = "1999-2000";
+
+    private static final String ADVANCE_CHUNK_SQL = "WITH chunk AS ("
+            + " SELECT id FROM students"
+            + " WHERE class_id IN (SELECT id FROM classes WHERE academic_year = ?)"
+            + " AND graduated_at IS NULL AND id > ?"
+            + " ORDER BY id LIMIT ? FOR UPDATE)"
+            + " UPDATE students s"
+            + " SET grade_level = CASE WHEN s.grade_level < 12 THEN s.grade_level + 1 ELSE s.grade_level END,"
+            + " graduated_at = CASE WHEN s.grade_level = 12 THEN ? END, updated_at = ?"
+            + " FROM chunk WHERE s.id = chunk.id"
+            + " RETURNING s.id, s.grade_level, s.graduated_at IS NOT NULL";
+
+    private static final String CHECKPOINT_SQL = "UPDATE grade_rollovers SET last_student_id = ?,"
+            + " advanced = advanced + ?, graduated = graduated + ?, updated_at = ? WHERE academic_year = ?";
+
+    private static final String UPDATE_SQL = "UPDATE students SET first_name = ?, last_name = ?, date_of_birth = ?,"
+            + " grade_level = ?, class_id = ?, student_number = ?, enrollment_date = ?, updated_at = ? WHERE id = ?";
+
+    @Param({"20000", "200000"})
+    int rows;
+
+    /** Same meaning as k12.rollover.chunk-size. */
+    @Param({"5000"})
+    int chunkSize;
+
+    private Connection connection;
+    private UUID classId;
+    private List<UUID> ids;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("K12_BENCH_JDBC_URL", "jdbc:postgresql://localhost:15432/k12db"),
+                env("K12_BENCH_USER", "k12user"),
+                env("K12_BENCH_PASSWORD", "k12pass"));
+        classId = UUID.randomUUID();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO classes (id, name, grade_level, academic_year, created_at, updated_at)"
+                        + " VALUES (?, ?, 5, ?, now(), now())")) {
+            statement.setObject(1, classId);
+            statement.setString(2, "bench-" + classId);
+            statement.setString(3, ACADEMIC_YEAR);
+            statement.executeUpdate();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void insertStudents() throws SQLException {
+        connection.setAutoCommit(false);
+        ids = new ArrayList<>(rows);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO students (id, first_name,"
+                + " last_name, date_of_birth, grade_level, class_id, enrollment_date, created_at, updated_at)"
+                + " VALUES (?, 'Bench', 'Student', '2010-04-01', ?, ?, ?, now(), now())")) {
+            for (int i = 0; i < rows; i++) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                insert.setObject(1, id);
+                insert.setInt(2, i % 13);
+                insert.setObject(3, classId);
+                insert.setObject(4, LocalDate.now());
+                insert.addBatch();
+                if (i % 1000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        try (PreparedStatement start = connection.prepareStatement("INSERT INTO grade_rollovers"
+                + " (academic_year, advanced, graduated, started_at, updated_at) VALUES (?, 0, 0, now(), now())")) {
+            start.setString(1, ACADEMIC_YEAR);
+            start.executeUpdate();
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteStudents() throws SQLException {
+        connection.setAutoCommit(true);
+        try (PreparedStatement students = connection.prepareStatement("DELETE FROM students WHERE class_id = ?");
+                PreparedStatement rollover =
+                        connection.prepareStatement("DELETE FROM grade_rollovers WHERE academic_year = ?")) {
+            students.setObject(1, classId);
+            students.executeUpdate();
+            rollover.setString(1, ACADEMIC_YEAR);
+            rollover.executeUpdate();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM classes WHERE id = ?")) {
+            statement.setObject(1, classId);
+            statement.executeUpdate();
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int advanceEach() throws SQLException {
+        connection.setAutoCommit(true);
+        int advanced = 0;
+        try (PreparedStatement select = connection.prepareStatement("SELECT first_name, last_name, date_of_birth,"
+                        + " grade_level, class_id, student_number, enrollment_date FROM students WHERE id = ?");
+                PreparedStatement update = connection.prepareStatement(UPDATE_SQL)) {
+            for (UUID id : ids) {
+                // The advance endpoint's findById, then JpaStudentAdapter.save's findById before the update
+                select.setObject(1, id);
+                select.executeQuery().close();
+                select.setObject(1, id);
+                try (ResultSet row = select.executeQuery()) {
+                    row.next();
+                    int grade = row.getInt(4);
+                    if (grade == 12) {
+                        continue;
+                    }
+                    update.setString(1, row.getString(1));
+                    update.setString(2, row.getString(2));
+                    update.setString(3, row.getString(3));
+                    update.setInt(4, grade + 1);
+                    update.setObject(5, row.getObject(5));
+                    update.setString(6, row.getString(6));
+                    update.setObject(7, row.getObject(7));
+                    update.setObject(8, OffsetDateTime.now());
+                    update.setObject(9, id);
+                }
+                advanced += update.executeUpdate();
+            }
+        }
+        return advanced;
+    }
+
+    @Benchmark
+    public int rolloverChunks() throws SQLException {
+        connection.setAutoCommit(false);
+        int processed = 0;
+        UUID after = new UUID(0, 0);
+        while (true) {
+            OffsetDateTime now = OffsetDateTime.now();
+            int advanced = 0;
+            int graduated = 0;
+            UUID last = null;
+            try (PreparedStatement chunk = connection.prepareStatement(ADVANCE_CHUNK_SQL)) {
+                chunk.setString(1, ACADEMIC_YEAR);
+                chunk.setObject(2, after);
+                chunk.setInt(3, chunkSize);
+                chunk.setObject(4, now);
+                chunk.setObject(5, now);
+                try (ResultSet returned = chunk.executeQuery()) {
+                    while (returned.next()) {
+                        UUID id = returned.getObject(1, UUID.class);
+                        if (returned.getBoolean(3)) {
+                            graduated++;
+                        } else {
+                            advanced++;
+                        }
+                        if (last == null || compareAsStored(id, last) > 0) {
+                            last = id;
+                        }
+                    }
+                }
+            }
+            if (last != null) {
+                try (PreparedStatement checkpoint = connection.prepareStatement(CHECKPOINT_SQL)) {
+                    checkpoint.setObject(1, last);
+                    checkpoint.setInt(2, advanced);
+                    checkpoint.setInt(3, graduated);
+                    checkpoint.setObject(4, now);
+                    checkpoint.setString(5, ACADEMIC_YEAR);
+                    checkpoint.executeUpdate();
+                }
+            }
+            connection.commit();
+            processed += advanced + graduated;
+            if (advanced + graduated < chunkSize) {
+                return processed;
+            }
+            after = last;
+        }
+    }
+
+    private static int compareAsStored(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static String env(String name, String defaultValue) {
+        return Objects.requireNonNullElse(System.getenv(name), defaultValue);
+    }
+}
@@ -0,0 +1,256 @@
+package com.k12.platform.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes/sec of one repository save per table: the findById followed by an INSERT or UPDATE the adapters
+ * used to run, against the single INSERT ... ON CONFLICT (id) DO UPDATE they issue now.
+ * Each save is its own transaction, as with the @Transactional adapter methods; saves of new rows are
+ * rolled back so that the same row can be inserted again.
+ * <p>
+ * Needs a migrated PostgreSQL database: set K12_BENCH_JDBC_URL, K12_BENCH_USER and K12_BENCH_PASSWORD
+ * (defaults to the dev database). Rows written in setup are removed in teardown.
+ * <p>
+ * Run with: {@code ./gradlew jmh -PjmhIncludes=RepositorySaveBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositorySaveBenchmark {
+
+    @Param({
+        "users",
+        "classes",
+        "students",
+        "teacher_class_assignments",
+        "parent_student_associations",
+        "password_reset_tokens"
+    })
+    String table;
+
+    /** new: every save inserts the row; existing: every save updates it. */
+    @Param({"new", "existing"})
+    String row;
+
+    private Connection connection;
+    private Table spec;
+    private Parents parents;
+    private UUID id;
+    private boolean existing;
+    private PreparedStatement select;
+    private PreparedStatement insert;
+    private PreparedStatement update;
+    private PreparedStatement upsert;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("K12_BENCH_JDBC_URL", "jdbc:postgresql://localhost:15432/k12db"),
+                env("K12_BENCH_USER", "k12user"),
+                env("K12_BENCH_PASSWORD", "k12pass"));
+
+        // Rows the saved row references
+        parents = new Parents(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        Table.USERS.insert(connection, parents.userId(), parents);
+        Table.CLASSES.insert(connection, parents.classId(), parents);
+        Table.STUDENTS.insert(connection, parents.studentId(), parents);
+
+        spec = Table.valueOf(table.toUpperCase());
+        id = UUID.randomUUID();
+        existing = "existing".equals(row);
+        if (existing) {
+            spec.insert(connection, id, parents);
+        }
+
+        select = connection.prepareStatement("SELECT 1 FROM " + table + " WHERE id = ?");
+        insert = connection.prepareStatement(spec.insertSql());
+        update = connection.prepareStatement(spec.updateSql());
+        upsert = connection.prepareStatement(spec.upsertSql());
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        // Association and token rows cascade from users
+        delete(spec.table(), id);
+        delete("users", parents.userId());
+        delete("students", parents.studentId());
+        delete("classes", parents.classId());
+        connection.close();
+    }
+
+    @Benchmark
+    public int findThenInsertOrUpdate() throws SQLException {
+        select.setObject(1, id);
+        boolean found;
+        try (ResultSet rows = select.executeQuery()) {
+            found = rows.next();
+        }
+        int updated;
+        if (found) {
+            spec.bindUpdate(update, id, parents);
+            updated = update.executeUpdate();
+        } else {
+            spec.bind(insert, id, parents);
+            updated = insert.executeUpdate();
+        }
+        endTransaction();
+        return updated;
+    }
+
+    @Benchmark
+    public int upsert() throws SQLException {
+        spec.bind(upsert, id, parents);
+        int updated = upsert.executeUpdate();
+        endTransaction();
+        return updated;
+    }
+
+    private void endTransaction() throws SQLException {
+        if (existing) {
+            connection.commit();
+        } else {
+            connection.rollback();
+        }
+    }
+
+    private void delete(String tableName, UUID rowId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM " + tableName + " WHERE id = ?")) {
+            statement.setObject(1, rowId);
+            statement.executeUpdate();
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        return Objects.requireNonNullElse(System.getenv(name), defaultValue);
+    }
+
+    private record Parents(UUID userId, UUID classId, UUID studentId) {}
+
+    /**
+     * Columns each adapter writes: all of them on insert, the mutable ones on update.
+     */
+    private enum Table {
+        USERS(
+                List.of(
+                        "id", "email", "password_hash", "first_name", "last_name", "role", "is_active", "created_at",
+                        "updated_at"),
+                List.of("email", "password_hash", "first_name", "last_name", "role", "is_active", "updated_at"),
+                (id, parents) -> new Object[] {
+                    id, "bench-" + id + "@example.com", "$2a$12$hash", "Bench", "User", "TEACHER", true,
+                    OffsetDateTime.now(), OffsetDateTime.now()
+                }),
+        CLASSES(
+                List.of("id", "name", "grade_level", "academic_year", "created_at", "updated_at"),
+                List.of("name", "grade_level", "academic_year", "updated_at"),
+                (id, parents) ->
+                        new Object[] {id, "bench-" + id, 5, "2025-2026", OffsetDateTime.now(), OffsetDateTime.now()}),
+        STUDENTS(
+                List.of(
+                        "id", "first_name", "last_name", "grade_level", "class_id", "enrollment_date", "created_at",
+                        "updated_at"),
+                List.of("first_name", "last_name", "grade_level", "class_id", "enrollment_date", "updated_at"),
+                (id, parents) -> new Object[] {
+                    id, "Bench", "Student", 5, parents.classId(), LocalDate.now(), OffsetDateTime.now(),
+                    OffsetDateTime.now()
+                }),
+        TEACHER_CLASS_ASSIGNMENTS(
+                List.of("id", "teacher_id", "class_id", "role", "assigned_date", "created_at"),
+                List.of("role"),
+                (id, parents) -> new Object[] {
+                    id, parents.userId(), parents.classId(), "Homeroom Teacher", LocalDate.now(), OffsetDateTime.now()
+                }),
+        PARENT_STUDENT_ASSOCIATIONS(
+                List.of("id", "parent_id", "student_id", "relationship_type", "is_primary_contact", "created_at"),
+                List.of("relationship_type", "is_primary_contact"),
+                (id, parents) ->
+                        new Object[] {id, parents.userId(), parents.studentId(), "Mother", true, OffsetDateTime.now()}),
+        PASSWORD_RESET_TOKENS(
+                List.of("id", "user_id", "token", "expires_at", "used_at", "created_at"),
+                List.of("used_at"),
+                (id, parents) -> new Object[] {
+                    id, parents.userId(), id.toString(), OffsetDateTime.now().plusHours(1), OffsetDateTime.now(),
+                    OffsetDateTime.now()
+                });
+
+        private final List<String> columns;
+        private final List<String> updatable;
+        private final BiFunction<UUID, Parents, Object[]> values;
+
+        Table(List<String> columns, List<String> updatable, BiFunction<UUID, Parents, Object[]> values) {
+            this.columns = columns;
+            this.updatable = updatable;
+            this.values = values;
+        }
+
+        String table() {
+            return name().toLowerCase();
+        }
+
+        String insertSql() {
+            return "INSERT INTO " + table() + " (" + String.join(", ", columns) + ") VALUES ("
+                    + columns.stream().map(c -> "?").collect(Collectors.joining(", ")) + ")";
+        }
+
+        String updateSql() {
+            return "UPDATE " + table() + " SET "
+                    + updatable.stream().map(c -> c + " = ?").collect(Collectors.joining(", ")) + " WHERE id = ?";
+        }
+
+        String upsertSql() {
+            return insertSql() + " ON CONFLICT (id) DO UPDATE SET "
+                    + updatable.stream().map(c -> c + " = EXCLUDED." + c).collect(Collectors.joining(", "));
+        }
+
+        void bind(PreparedStatement statement, UUID id, Parents parents) throws SQLException {
+            Object[] row = values.apply(id, parents);
+            for (int i = 0; i < row.length; i++) {
+                statement.setObject(i + 1, row[i]);
+            }
+        }
+
+        void bindUpdate(PreparedStatement statement, UUID id, Parents parents) throws SQLException {
+            Object[] row = values.apply(id, parents);
+            int parameter = 1;
+            for (String column : updatable) {
+                statement.setObject(parameter++, row[columns.indexOf(column)]);
+            }
+            statement.setObject(parameter, id);
+        }
+
+        void insert(Connection connection, UUID id, Parents parents) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(insertSql())) {
+                bind(statement, id, parents);
+                statement.executeUpdate();
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.k12.platform.benchmark;
+
+import com.k12.platform.domain.model.Student;
+import com.k12.platform.domain.model.valueobjects.GradeLevel;
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import com.k12.platform.domain.model.valueobjects.StudentNumber;
+import com.k12.platform.domain.model.valueobjects.StudentPersonalInfo;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.StudentView;
+import com.k12.platform.interfaces.rest.dto.StudentResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency and allocations of GET /api/students/{id} below the HTTP layer: reading the whole row and rebuilding
+ * the Student aggregate before mapping it to a StudentResponse, as the endpoint did, against selecting the
+ * displayed columns into a StudentView and mapping that, as JpaStudentQueries does.
+ * Hibernate's own per-entity work on the aggregate path (managed entity, loaded-state snapshot, dirty check at
+ * flush) comes on top of what is measured here.
+ * <p>
+ * Needs a migrated PostgreSQL database: set K12_BENCH_JDBC_URL, K12_BENCH_USER and K12_BENCH_PASSWORD
+ * (defaults to the dev database). Rows written in setup are removed in teardown.
+ * <p>
+ * Run with: {@code ./gradlew jmh -PjmhIncludes=StudentReadBenchmark -PjmhProfilers=gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentReadBenchmark {
+
+    private Connection connection;
+    private UUID classId;
+    private UUID studentId;
+    private PreparedStatement selectRow;
+    private PreparedStatement selectView;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("K12_BENCH_JDBC_URL", "jdbc:postgresql://localhost:15432/k12db"),
+                env("K12_BENCH_USER", "k12user"),
+                env("K12_BENCH_PASSWORD", "k12pass"));
+        classId = UUID.randomUUID();
+        studentId = UUID.randomUUID();
+        try (PreparedStatement insertClass = connection.prepareStatement(
+                        "INSERT INTO classes (id, name, grade_level, academic_year, created_at, updated_at)"
+                                + " VALUES (?, ?, 5, '2025-2026', now(), now())");
+                PreparedStatement insertStudent = connection.prepareStatement(
+                        "INSERT INTO students (id, first_name, last_name, date_of_birth, grade_level, class_id,"
+                                + " student_number, enrollment_date, created_at, updated_at)"
+                                + " VALUES (?, 'Bench', 'Student', '2014-03-01', 5, ?, 'B-1', ?, now(), now())")) {
+            insertClass.setObject(1, classId);
+            insertClass.setString(2, "bench-" + classId);
+            insertClass.executeUpdate();
+            insertStudent.setObject(1, studentId);
+            insertStudent.setObject(2, classId);
+            insertStudent.setObject(3, LocalDate.now());
+            insertStudent.executeUpdate();
+        }
+        selectRow = connection.prepareStatement("SELECT id, first_name, last_name, grade_level, class_id,"
+                + " student_number, date_of_birth, enrollment_date, created_at, updated_at, version"
+                + " FROM students WHERE id = ?");
+        selectView = connection.prepareStatement("SELECT id, first_name, last_name, date_of_birth, grade_level,"
+                + " class_id, student_number, enrollment_date FROM students WHERE id = ?");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (PreparedStatement deleteStudent = connection.prepareStatement("DELETE FROM students WHERE id = ?");
+                PreparedStatement deleteClass = connection.prepareStatement("DELETE FROM classes WHERE id = ?")) {
+            deleteStudent.setObject(1, studentId);
+            deleteStudent.executeUpdate();
+            deleteClass.setObject(1, classId);
+            deleteClass.executeUpdate();
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public StudentResponse aggregate() throws SQLException {
+        selectRow.setObject(1, studentId);
+        try (ResultSet rows = selectRow.executeQuery()) {
+            rows.next();
+            String number = rows.getString("student_number");
+            Student student = Student.reconstitute(
+                    StudentId.of(rows.getObject("id", UUID.class)),
+                    StudentPersonalInfo.of(
+                            rows.getString("first_name"), rows.getString("last_name"), rows.getString("date_of_birth")),
+                    GradeLevel.of(rows.getInt("grade_level")),
+                    UserId.of(rows.getObject("class_id", UUID.class)),
+                    number != null ? StudentNumber.of(number) : StudentNumber.empty(),
+                    rows.getObject("enrollment_date", LocalDate.class),
+                    rows.getObject("created_at", OffsetDateTime.class).toInstant(),
+                    rows.getObject("updated_at", OffsetDateTime.class).toInstant(),
+                    rows.getLong("version"));
+            return new StudentResponse(
+                    student.studentId().value().toString(),
+                    student.personalInfo().firstName(),
+                    student.personalInfo().lastName(),
+                    student.personalInfo().dateOfBirth(),
+                    student.gradeLevel().displayValue(),
+                    student.classId().value().toString(),
+                    student.studentNumber().isEmpty() ? null : student.studentNumber().value(),
+                    student.enrollmentDate().toString());
+        }
+    }
+
+    @Benchmark
+    public StudentResponse projection() throws SQLException {
+        selectView.setObject(1, studentId);
+        try (ResultSet rows = selectView.executeQuery()) {
+            rows.next();
+            StudentView view = new StudentView(
+                    rows.getObject(1, UUID.class),
+                    rows.getString(2),
+                    rows.getString(3),
+                    rows.getString(4),
+                    rows.getInt(5),
+                    rows.getObject(6, UUID.class),
+                    rows.getString(7),
+                    rows.getObject(8, LocalDate.class));
+            return new StudentResponse(
+                    view.studentId().toString(),
+                    view.firstName(),
+                    view.lastName(),
+                    view.dateOfBirth(),
+                    GradeLevel.displayValue(view.gradeLevel()),
+                    view.classId().toString(),
+                    view.studentNumber(),
+                    view.enrollmentDate().toString());
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        return Objects.requireNonNullElse(System.getenv(name), defaultValue);
+    }
+}
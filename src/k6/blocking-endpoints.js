@@ -0,0 +1,60 @@
+// Load test of blocking JDBC endpoints, to compare the worker pool with virtual threads.
+//
+// Start the same build against the same local PostgreSQL twice, then run this script against each:
+//   QUARKUS_VIRTUAL_THREADS_ENABLED=false java -jar build/quarkus-app/quarkus-run.jar   (before: worker pool)
+//   QUARKUS_VIRTUAL_THREADS_ENABLED=true java -jar build/quarkus-app/quarkus-run.jar    (after: virtual threads)
+//   k6 run -e BASE_URL=http://localhost:8081 -e ADMIN_EMAIL=... -e ADMIN_PASSWORD=... src/k6/blocking-endpoints.js
+//
+// Ramps to 2000 concurrent virtual users reading classes, class rosters and users. Compare the request rate,
+// http_req_duration percentiles and the share of 503 answers (admission control turning requests away), along
+// with the k12.admission.* and agroal_* metrics on /q/metrics.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const GRADES = ['K', '1', '2', '3', '4', '5', '6', '7', '8', '9', '10', '11', '12'];
+
+export const options = {
+    scenarios: {
+        blocking_reads: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 2000 },
+                { duration: '2m', target: 2000 },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_duration: ['p(95)<500'],
+        checks: ['rate>0.99'],
+    },
+};
+
+export function setup() {
+    const login = http.post(
+        `${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: __ENV.ADMIN_EMAIL, password: __ENV.ADMIN_PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } },
+    );
+    check(login, { 'admin logged in': (r) => r.status === 200 });
+    const token = login.json('token');
+    const classes = http.get(`${BASE_URL}/api/classes/grade/5?limit=20`, {
+        headers: { Authorization: `Bearer ${token}` },
+    });
+    return { token, classIds: classes.json().map((c) => c.class_id) };
+}
+
+export default function (data) {
+    const headers = { Authorization: `Bearer ${data.token}` };
+    const grade = GRADES[Math.floor(Math.random() * GRADES.length)];
+    const classId = data.classIds[Math.floor(Math.random() * data.classIds.length)];
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/classes/grade/${grade}?limit=50`, null, { headers, tags: { name: 'classes-by-grade' } }],
+        ['GET', `${BASE_URL}/api/classes/${classId}/roster`, null, { headers, tags: { name: 'class-roster' } }],
+        ['GET', `${BASE_URL}/api/users?limit=50`, null, { headers, tags: { name: 'users' } }],
+    ]);
+    responses.forEach((r) => check(r, { 'status is 200': (res) => res.status === 200 }));
+}
@@ -0,0 +1,64 @@
+// Load test of contended student updates: many admins transferring and advancing the same few students.
+//
+// Every save is conditional on the version the student was loaded at, so of two requests that overlap on one
+// student, one answers 409 and writes nothing instead of silently overwriting the other. Create the students
+// first and pass their IDs, then run:
+//   k6 run -e BASE_URL=http://localhost:8081 -e ADMIN_EMAIL=... -e ADMIN_PASSWORD=... \
+//       -e STUDENT_IDS=id1,id2,... src/k6/concurrent-transfers.js
+//
+// Fewer STUDENT_IDS means more contention. Watch the conflicts rate against http_req_duration: conflicts
+// should grow with contention while latency stays flat, since no request waits on another's lock.
+// Any status other than 200 or 409 fails the run.
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const STUDENT_IDS = (__ENV.STUDENT_IDS || '').split(',').filter((id) => id.length > 0);
+const GRADES = ['1', '2', '3', '4', '5', '6', '7', '8', '9', '10', '11'];
+
+const conflicts = new Rate('conflicts');
+
+export const options = {
+    scenarios: {
+        concurrent_transfers: {
+            executor: 'constant-vus',
+            vus: 200,
+            duration: '2m',
+        },
+    },
+    thresholds: {
+        checks: ['rate==1'],
+        http_req_duration: ['p(95)<300'],
+    },
+};
+
+export function setup() {
+    if (STUDENT_IDS.length === 0) {
+        throw new Error('Set STUDENT_IDS to a comma-separated list of student IDs');
+    }
+    const response = http.post(
+        `${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: __ENV.ADMIN_EMAIL, password: __ENV.ADMIN_PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } },
+    );
+    check(response, { 'admin logged in': (r) => r.status === 200 });
+    return { token: response.json('token') };
+}
+
+export default function (data) {
+    const studentId = STUDENT_IDS[Math.floor(Math.random() * STUDENT_IDS.length)];
+    const grade = GRADES[Math.floor(Math.random() * GRADES.length)];
+    const response = http.post(
+        `${BASE_URL}/api/students/${studentId}/transfer`,
+        JSON.stringify({ grade_level: grade }),
+        {
+            headers: { Authorization: `Bearer ${data.token}`, 'Content-Type': 'application/json' },
+            tags: { name: 'transfer' },
+            responseCallback: http.expectedStatuses(200, 409),
+        },
+    );
+    conflicts.add(response.status === 409);
+    check(response, { 'status is 200 or 409': (r) => r.status === 200 || r.status === 409 });
+}
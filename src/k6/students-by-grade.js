@@ -0,0 +1,52 @@
+// Load test of GET /api/students/grade/{grade}, to compare the blocking and reactive read stacks.
+//
+// Build and start the application once per stack against the same local PostgreSQL, then run this script:
+//   ./gradlew quarkusBuild                                          (JDBC on worker threads, the default)
+//   ./gradlew quarkusBuild -Dk12.persistence.reactive.enabled=true  (Vert.x reactive PostgreSQL client)
+//   k6 run -e BASE_URL=http://localhost:8081 -e ADMIN_EMAIL=... -e ADMIN_PASSWORD=... src/k6/students-by-grade.js
+//
+// Holds 2000 concurrent virtual users, each with its own connection. Compare http_req_duration percentiles,
+// http_req_failed and the achieved request rate between the two runs.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const GRADES = ['K', '1', '2', '3', '4', '5', '6', '7', '8', '9', '10', '11', '12'];
+
+export const options = {
+    scenarios: {
+        students_by_grade: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 2000 },
+                { duration: '2m', target: 2000 },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<500'],
+    },
+};
+
+export function setup() {
+    const response = http.post(
+        `${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: __ENV.ADMIN_EMAIL, password: __ENV.ADMIN_PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } },
+    );
+    check(response, { 'admin logged in': (r) => r.status === 200 });
+    return { token: response.json('token') };
+}
+
+export default function (data) {
+    const grade = GRADES[Math.floor(Math.random() * GRADES.length)];
+    const response = http.get(`${BASE_URL}/api/students/grade/${grade}?limit=50`, {
+        headers: { Authorization: `Bearer ${data.token}` },
+        tags: { name: 'students-by-grade' },
+    });
+    check(response, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,22 @@
+package com.k12.platform.domain.model;
+
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import java.time.Instant;
+
+/**
+ * Progress of the year-end grade rollover for one academic year.
+ * Students are rolled over in student ID order; lastStudentId is the last one done (null before the first chunk).
+ */
+public record GradeRolloverCheckpoint(
+        String academicYear,
+        StudentId lastStudentId,
+        int advanced,
+        int graduated,
+        Instant startedAt,
+        Instant updatedAt,
+        Instant completedAt) {
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+}
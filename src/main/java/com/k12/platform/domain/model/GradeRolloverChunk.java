@@ -0,0 +1,14 @@
+package com.k12.platform.domain.model;
+
+import com.k12.platform.domain.model.valueobjects.StudentId;
+
+/**
+ * Outcome of rolling over one chunk of students: how many advanced a grade, how many graduated,
+ * and the last student ID in the chunk (null when no students were left).
+ */
+public record GradeRolloverChunk(int advanced, int graduated, StudentId lastStudentId) {
+
+    public int size() {
+        return advanced + graduated;
+    }
+}
@@ -0,0 +1,18 @@
+package com.k12.platform.domain.model;
+
+import com.k12.platform.domain.model.valueobjects.AssociationId;
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import java.time.Instant;
+
+/**
+ * Domain event emitted when a parent-student association is removed.
+ */
+public record ParentStudentDisassociated(
+        AssociationId associationId, UserId parentId, StudentId studentId, Instant occurredAt) {
+    public ParentStudentDisassociated {
+        if (occurredAt == null) {
+            occurredAt = Instant.now();
+        }
+    }
+}
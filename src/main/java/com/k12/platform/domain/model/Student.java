@@ -27,6 +27,11 @@ public final class Student {
     private final LocalDate enrollmentDate;
     private final Instant createdAt;
     private Instant updatedAt;
+    /**
+     * Version this aggregate was loaded at, 0 if it was never saved.
+     * A save only applies while the stored row is still at this version.
+     */
+    private long version;
 
     private Student(
             StudentId studentId,
@@ -80,10 +85,12 @@ public final class Student {
             StudentNumber studentNumber,
             LocalDate enrollmentDate,
             Instant createdAt,
-            Instant updatedAt) {
+            Instant updatedAt,
+            long version) {
         Student student = new Student(studentId, personalInfo, gradeLevel, classId, studentNumber, enrollmentDate);
         // For reconstitution, we use the fact that updatedAt is not final
         // and createdAt is set in constructor
+        student.version = version;
         return student;
     }
 
@@ -144,6 +151,13 @@ public final class Student {
         this.domainEvents.clear();
     }
 
+    /**
+     * Called by the repository once a save is written: the stored row is one version ahead.
+     */
+    public void markSaved() {
+        this.version++;
+    }
+
     // Getters
     public StudentId studentId() {
         return studentId;
@@ -176,4 +190,8 @@ public final class Student {
     public Instant updatedAt() {
         return updatedAt;
     }
+
+    public long version() {
+        return version;
+    }
 }
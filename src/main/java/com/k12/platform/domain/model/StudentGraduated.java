@@ -0,0 +1,15 @@
+package com.k12.platform.domain.model;
+
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import java.time.Instant;
+
+/**
+ * Domain event emitted when a grade 12 student graduates at year-end rollover.
+ */
+public record StudentGraduated(StudentId studentId, Instant occurredAt) {
+    public StudentGraduated {
+        if (occurredAt == null) {
+            occurredAt = Instant.now();
+        }
+    }
+}
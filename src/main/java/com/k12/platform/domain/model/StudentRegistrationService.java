@@ -55,6 +55,7 @@ public class StudentRegistrationService {
                 studentNumber,
                 enrollmentDate,
                 Instant.now(),
-                Instant.now());
+                Instant.now(),
+                0);
     }
 }
@@ -0,0 +1,18 @@
+package com.k12.platform.domain.model;
+
+import com.k12.platform.domain.model.valueobjects.AssociationId;
+import com.k12.platform.domain.model.valueobjects.ClassId;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import java.time.Instant;
+
+/**
+ * Domain event emitted when a teacher-class assignment is removed.
+ */
+public record TeacherUnassignedFromClass(
+        AssociationId assignmentId, UserId teacherId, ClassId classId, Instant occurredAt) {
+    public TeacherUnassignedFromClass {
+        if (occurredAt == null) {
+            occurredAt = Instant.now();
+        }
+    }
+}
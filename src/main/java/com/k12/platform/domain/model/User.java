@@ -26,6 +26,11 @@ public final class User {
     private boolean isActive;
     private Instant createdAt;
     private Instant lastLoginAt;
+    /**
+     * Version this aggregate was loaded at, 0 if it was never saved.
+     * A save only applies while the stored row is still at this version.
+     */
+    private long version;
     private final List<Object> domainEvents = new ArrayList<>();
 
     private User(
@@ -79,10 +84,12 @@ public final class User {
             UserRole role,
             boolean isActive,
             Instant createdAt,
-            Instant lastLoginAt) {
+            Instant lastLoginAt,
+            long version) {
         User user = new User(userId, email, passwordHash, firstName, lastName, role, isActive);
         user.createdAt = createdAt;
         user.lastLoginAt = lastLoginAt;
+        user.version = version;
         return user;
     }
 
@@ -102,6 +109,21 @@ public final class User {
         return passwordMatches;
     }
 
+    /**
+     * Verifies password, updates last login and re-hashes the password at the target cost
+     * when the stored hash uses a different one. The plain password is only available here,
+     * so this is the one place a hash can be upgraded (or downgraded) transparently.
+     */
+    public boolean login(String plainPassword, int targetCost) {
+        boolean passwordMatches = login(plainPassword);
+        if (passwordMatches && passwordHash.needsRehash(targetCost)) {
+            int previousCost = passwordHash.cost();
+            this.passwordHash = PasswordHash.hash(plainPassword, targetCost);
+            this.recordDomainEvent(new UserPasswordRehashed(this.userId, previousCost, targetCost, null));
+        }
+        return passwordMatches;
+    }
+
     /**
      * Deactivates the user account.
      */
@@ -144,6 +166,13 @@ public final class User {
         this.domainEvents.clear();
     }
 
+    /**
+     * Called by the repository once a save is written: the stored row is one version ahead.
+     */
+    public void markSaved() {
+        this.version++;
+    }
+
     // Getters
     public UserId userId() {
         return userId;
@@ -181,5 +210,9 @@ public final class User {
         return lastLoginAt;
     }
 
+    public long version() {
+        return version;
+    }
+
     // NO setters exposing mutable state - all state changes through behavior methods
 }
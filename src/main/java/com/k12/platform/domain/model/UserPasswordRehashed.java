@@ -0,0 +1,16 @@
+package com.k12.platform.domain.model;
+
+import com.k12.platform.domain.model.valueobjects.UserId;
+import java.time.Instant;
+
+/**
+ * Domain event emitted when a user's password hash is recomputed at a different bcrypt cost.
+ * The password itself is unchanged.
+ */
+public record UserPasswordRehashed(UserId userId, int previousCost, int newCost, Instant occurredAt) {
+    public UserPasswordRehashed {
+        if (occurredAt == null) {
+            occurredAt = Instant.now();
+        }
+    }
+}
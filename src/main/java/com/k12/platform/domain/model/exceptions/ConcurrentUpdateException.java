@@ -0,0 +1,11 @@
+package com.k12.platform.domain.model.exceptions;
+
+/**
+ * Domain exception when an aggregate was changed by another writer between being loaded and saved.
+ * Nothing was written; reload the aggregate and apply the change again.
+ */
+public class ConcurrentUpdateException extends DomainException {
+    public ConcurrentUpdateException(String aggregate, Object id) {
+        super(aggregate + " " + id + " was modified concurrently, reload and retry");
+    }
+}
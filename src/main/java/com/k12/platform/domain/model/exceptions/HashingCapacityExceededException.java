@@ -0,0 +1,19 @@
+package com.k12.platform.domain.model.exceptions;
+
+/**
+ * Domain exception raised when password hashing capacity is exhausted.
+ * Callers should retry after the suggested delay.
+ */
+public class HashingCapacityExceededException extends DomainException {
+
+    private final long retryAfterSeconds;
+
+    public HashingCapacityExceededException(long retryAfterSeconds) {
+        super("Password hashing capacity exceeded");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long retryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -52,7 +52,14 @@ public final class GradeLevel {
      * Get display string ("K" for 0, "1"-"12" otherwise).
      */
     public String displayValue() {
-        return value == 0 ? "K" : String.valueOf(value);
+        return displayValue(value);
+    }
+
+    /**
+     * Display string of a stored grade level, without validating it.
+     */
+    public static String displayValue(int grade) {
+        return grade == 0 ? "K" : String.valueOf(grade);
     }
 
     @Override
@@ -8,6 +8,14 @@ import at.favre.lib.crypto.bcrypt.BCrypt;
  */
 public final class PasswordHash {
 
+    /**
+     * Cost used when no policy is supplied.
+     */
+    public static final int DEFAULT_COST = 12;
+
+    private static final int MIN_COST = 4;
+    private static final int MAX_COST = 31;
+
     private final String value;
 
     private PasswordHash(String value) {
@@ -25,13 +33,23 @@ public final class PasswordHash {
     }
 
     /**
-     * Hashes a plain text password using bcrypt.
+     * Hashes a plain text password using bcrypt at the default cost.
      */
     public static PasswordHash hash(String plainPassword) {
+        return hash(plainPassword, DEFAULT_COST);
+    }
+
+    /**
+     * Hashes a plain text password using bcrypt at the given cost (log2 rounds, 4-31).
+     */
+    public static PasswordHash hash(String plainPassword, int cost) {
         if (plainPassword == null || plainPassword.isBlank()) {
             throw new IllegalArgumentException("Plain password cannot be null or blank");
         }
-        String hashed = BCrypt.withDefaults().hashToString(12, plainPassword.toCharArray());
+        if (cost < MIN_COST || cost > MAX_COST) {
+            throw new IllegalArgumentException("Bcrypt cost must be between " + MIN_COST + " and " + MAX_COST);
+        }
+        String hashed = BCrypt.withDefaults().hashToString(cost, plainPassword.toCharArray());
         return new PasswordHash(hashed);
     }
 
@@ -50,6 +68,29 @@ public final class PasswordHash {
         }
     }
 
+    /**
+     * Bcrypt cost encoded in this hash ({@code $2a$12$...} -> 12), or -1 if the hash is not in bcrypt format.
+     */
+    public int cost() {
+        if (value.length() < 7 || value.charAt(0) != '$' || value.charAt(3) != '$' || value.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = value.charAt(4);
+        char units = value.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(units)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (units - '0');
+    }
+
+    /**
+     * Whether this hash should be recomputed to match the target cost.
+     */
+    public boolean needsRehash(int targetCost) {
+        int cost = cost();
+        return cost != -1 && cost != targetCost;
+    }
+
     public String value() {
         return value;
     }
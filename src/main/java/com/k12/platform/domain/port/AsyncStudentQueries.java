@@ -0,0 +1,15 @@
+package com.k12.platform.domain.port;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking counterpart of {@link StudentQueries}: the calling thread is never blocked, and results complete
+ * once the rows have arrived. Whether a worker thread waits for them instead depends on the implementation.
+ */
+public interface AsyncStudentQueries {
+
+    /**
+     * Students of a grade ordered by last name, then ID (page key sort key: last name), at most limit of them.
+     */
+    CompletionStage<Page<StudentView>> findByGradeLevel(int gradeLevel, PageKey after, int limit);
+}
@@ -4,6 +4,7 @@ import com.k12.platform.domain.model.Class;
 import com.k12.platform.domain.model.valueobjects.AcademicYear;
 import com.k12.platform.domain.model.valueobjects.ClassId;
 import com.k12.platform.domain.model.valueobjects.GradeLevel;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,11 +14,19 @@ import java.util.Optional;
 public interface ClassRepository {
     void save(com.k12.platform.domain.model.Class clazz);
 
+    void saveAll(Collection<Class> classes);
+
     Optional<com.k12.platform.domain.model.Class> findById(ClassId classId);
 
-    List<com.k12.platform.domain.model.Class> findByGradeLevel(GradeLevel gradeLevel);
+    /**
+     * Classes of a grade ordered by name, then ID (page key sort key: name), at most limit of them.
+     */
+    Page<Class> findByGradeLevel(GradeLevel gradeLevel, PageKey after, int limit);
 
-    List<com.k12.platform.domain.model.Class> findByAcademicYear(AcademicYear academicYear);
+    /**
+     * Classes of an academic year ordered by name, then ID (page key sort key: name), at most limit of them.
+     */
+    Page<Class> findByAcademicYear(AcademicYear academicYear, PageKey after, int limit);
 
     List<Class> findByGradeLevelAndAcademicYear(GradeLevel gradeLevel, AcademicYear academicYear);
 
@@ -0,0 +1,32 @@
+package com.k12.platform.domain.port;
+
+import com.k12.platform.domain.model.valueobjects.ClassId;
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Port for the denormalized class roster read model: per class, a JSON document of the class, its teachers,
+ * its students and each student's parents.
+ * Rosters are derived data; they are recomputed from the class, assignment, student and association tables,
+ * never written directly.
+ */
+public interface ClassRosterRepository {
+
+    /**
+     * The class's roster as a JSON object, if the class exists.
+     */
+    Optional<String> findRoster(ClassId classId);
+
+    /**
+     * Recompute the rosters of the given classes and of the classes the given students are in,
+     * in the current transaction.
+     */
+    void refresh(Collection<ClassId> classIds, Collection<StudentId> studentIds);
+
+    /**
+     * Recompute every class's roster.
+     * @return number of rosters written
+     */
+    int rebuild();
+}
@@ -0,0 +1,36 @@
+package com.k12.platform.domain.port;
+
+import com.k12.platform.domain.model.GradeRolloverCheckpoint;
+import com.k12.platform.domain.model.GradeRolloverChunk;
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port for the year-end grade rollover: set-based grade updates plus their checkpoints.
+ */
+public interface GradeRolloverRepository {
+
+    /**
+     * Start the rollover for an academic year, or return its checkpoint if it was already started.
+     */
+    GradeRolloverCheckpoint start(AcademicYear academicYear);
+
+    Optional<GradeRolloverCheckpoint> find(AcademicYear academicYear);
+
+    /**
+     * Rollovers started but not completed, e.g. because the application stopped mid-way.
+     */
+    List<GradeRolloverCheckpoint> findIncomplete();
+
+    /**
+     * In one transaction: advance the next chunkSize students after the checkpoint in the academic year's classes
+     * by one grade, graduate those in grade 12, record a StudentAdvanced or StudentGraduated event for each, and
+     * move the checkpoint past them. The checkpoint is locked for the transaction, so concurrent runs of the same
+     * academic year never advance a student twice. Returns an empty chunk once the rollover is completed.
+     * @throws IllegalStateException if the rollover was not started
+     */
+    GradeRolloverChunk advanceChunk(AcademicYear academicYear, int chunkSize);
+
+    void complete(AcademicYear academicYear);
+}
@@ -0,0 +1,16 @@
+package com.k12.platform.domain.port;
+
+import com.k12.platform.domain.model.valueobjects.UserId;
+import java.time.Instant;
+
+/**
+ * Port for recording successful logins.
+ * Implementations may buffer and write asynchronously; the latest timestamp per user wins.
+ */
+public interface LastLoginRecorder {
+
+    /**
+     * Record that a user logged in at the given instant.
+     */
+    void record(UserId userId, Instant lastLoginAt);
+}
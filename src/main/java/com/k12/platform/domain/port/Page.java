@@ -0,0 +1,13 @@
+package com.k12.platform.domain.port;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paged query, with the key to continue after (null on the last page).
+ */
+public record Page<T>(List<T> items, PageKey next) {
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.k12.platform.domain.port;
+
+import java.util.UUID;
+
+/**
+ * Keyset position in a paged query: the sort key and ID of the last row of the previous page.
+ * The next page starts at the first row ordered after (sortKey, id). Each query documents its sort key.
+ */
+public record PageKey(String sortKey, UUID id) {
+
+    public PageKey {
+        if (sortKey == null || id == null) {
+            throw new IllegalArgumentException("Page key requires a sort key and an ID");
+        }
+    }
+}
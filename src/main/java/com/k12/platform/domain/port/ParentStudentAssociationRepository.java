@@ -4,8 +4,10 @@ import com.k12.platform.domain.model.ParentStudentAssociation;
 import com.k12.platform.domain.model.valueobjects.AssociationId;
 import com.k12.platform.domain.model.valueobjects.StudentId;
 import com.k12.platform.domain.model.valueobjects.UserId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Port for ParentStudentAssociation persistence operations.
@@ -13,12 +15,24 @@ import java.util.Optional;
 public interface ParentStudentAssociationRepository {
     void save(ParentStudentAssociation association);
 
+    void saveAll(Collection<ParentStudentAssociation> associations);
+
     Optional<ParentStudentAssociation> findById(AssociationId associationId);
 
     List<ParentStudentAssociation> findByParentId(UserId parentId);
 
     List<ParentStudentAssociation> findByStudentId(StudentId studentId);
 
+    /**
+     * Pass each of a parent's associations to the action as it is read, without collecting them.
+     */
+    void forEachByParentId(UserId parentId, Consumer<ParentStudentAssociation> action);
+
+    /**
+     * Pass each of a student's associations to the action as it is read, without collecting them.
+     */
+    void forEachByStudentId(StudentId studentId, Consumer<ParentStudentAssociation> action);
+
     Optional<ParentStudentAssociation> findByParentIdAndStudentId(UserId parentId, StudentId studentId);
 
     boolean existsByParentIdAndStudentId(UserId parentId, StudentId studentId);
@@ -0,0 +1,12 @@
+package com.k12.platform.domain.port;
+
+/**
+ * Port for the bcrypt cost new password hashes should use.
+ */
+public interface PasswordCostPolicy {
+
+    /**
+     * Target bcrypt cost (log2 rounds).
+     */
+    int targetCost();
+}
@@ -0,0 +1,17 @@
+package com.k12.platform.domain.port;
+
+import com.k12.platform.domain.model.exceptions.HashingCapacityExceededException;
+import java.util.function.Supplier;
+
+/**
+ * Port for running CPU-heavy password hashing work (bcrypt hash/verify).
+ * Implementations keep hashing off the request worker threads and bound how much of it can queue up.
+ */
+public interface PasswordHashingExecutor {
+
+    /**
+     * Run a hashing task and wait for its result.
+     * @throws HashingCapacityExceededException if the executor is saturated and the task was not accepted
+     */
+    <T> T execute(Supplier<T> task);
+}
@@ -4,6 +4,7 @@ import com.k12.platform.domain.model.PasswordResetToken;
 import com.k12.platform.domain.model.valueobjects.ResetToken;
 import com.k12.platform.domain.model.valueobjects.ResetTokenId;
 import com.k12.platform.domain.model.valueobjects.UserId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +14,8 @@ import java.util.Optional;
 public interface PasswordResetTokenRepository {
     void save(PasswordResetToken token);
 
+    void saveAll(Collection<PasswordResetToken> tokens);
+
     Optional<PasswordResetToken> findById(ResetTokenId tokenId);
 
     Optional<PasswordResetToken> findByToken(ResetToken token);
@@ -0,0 +1,17 @@
+package com.k12.platform.domain.port;
+
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import java.util.Optional;
+
+/**
+ * Read-only port for student lookups that are only displayed, not changed.
+ */
+public interface StudentQueries {
+
+    Optional<StudentView> findById(StudentId studentId);
+
+    /**
+     * Students of a grade ordered by last name, then ID (page key sort key: last name), at most limit of them.
+     */
+    Page<StudentView> findByGradeLevel(int gradeLevel, PageKey after, int limit);
+}
@@ -3,6 +3,7 @@ package com.k12.platform.domain.port;
 import com.k12.platform.domain.model.Student;
 import com.k12.platform.domain.model.valueobjects.StudentId;
 import com.k12.platform.domain.model.valueobjects.UserId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,11 +13,16 @@ import java.util.Optional;
 public interface StudentRepository {
     void save(Student student);
 
+    void saveAll(Collection<Student> students);
+
     Optional<Student> findById(StudentId studentId);
 
     List<Student> findByClassId(UserId classId);
 
-    List<Student> findByGradeLevel(int gradeLevel);
+    /**
+     * Students of a grade ordered by last name, then ID (page key sort key: last name), at most limit of them.
+     */
+    Page<Student> findByGradeLevel(int gradeLevel, PageKey after, int limit);
 
     boolean existsById(StudentId studentId);
 }
@@ -0,0 +1,19 @@
+package com.k12.platform.domain.port;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A student's stored columns as read by {@link StudentQueries}, for display only.
+ * Values are taken from the database as they are, without building or re-validating a Student aggregate;
+ * commands load the aggregate through {@link StudentRepository} instead.
+ */
+public record StudentView(
+        UUID studentId,
+        String firstName,
+        String lastName,
+        String dateOfBirth,
+        int gradeLevel,
+        UUID classId,
+        String studentNumber,
+        LocalDate enrollmentDate) {}
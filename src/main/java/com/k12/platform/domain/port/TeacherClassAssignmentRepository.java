@@ -4,8 +4,10 @@ import com.k12.platform.domain.model.TeacherClassAssignment;
 import com.k12.platform.domain.model.valueobjects.AssociationId;
 import com.k12.platform.domain.model.valueobjects.ClassId;
 import com.k12.platform.domain.model.valueobjects.UserId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Port for TeacherClassAssignment persistence operations.
@@ -13,12 +15,24 @@ import java.util.Optional;
 public interface TeacherClassAssignmentRepository {
     void save(TeacherClassAssignment assignment);
 
+    void saveAll(Collection<TeacherClassAssignment> assignments);
+
     Optional<TeacherClassAssignment> findById(AssociationId assignmentId);
 
     List<TeacherClassAssignment> findByTeacherId(UserId teacherId);
 
     List<TeacherClassAssignment> findByClassId(ClassId classId);
 
+    /**
+     * Pass each of a teacher's assignments to the action as it is read, without collecting them.
+     */
+    void forEachByTeacherId(UserId teacherId, Consumer<TeacherClassAssignment> action);
+
+    /**
+     * Pass each of a class's assignments to the action as it is read, without collecting them.
+     */
+    void forEachByClassId(ClassId classId, Consumer<TeacherClassAssignment> action);
+
     Optional<TeacherClassAssignment> findByTeacherIdAndClassId(UserId teacherId, ClassId classId);
 
     boolean existsByTeacherIdAndClassId(UserId teacherId, ClassId classId);
@@ -3,7 +3,11 @@ package com.k12.platform.domain.port;
 import com.k12.platform.domain.model.User;
 import com.k12.platform.domain.model.valueobjects.EmailAddress;
 import com.k12.platform.domain.model.valueobjects.UserId;
+import java.util.Collection;
+import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Port for user repository.
@@ -17,6 +21,11 @@ public interface UserRepository {
      */
     void save(User user);
 
+    /**
+     * Save many users (create or update each) in one transaction.
+     */
+    void saveAll(Collection<User> users);
+
     /**
      * Find user by ID.
      */
@@ -32,13 +41,30 @@ public interface UserRepository {
      */
     boolean existsByEmail(EmailAddress email);
 
+    /**
+     * Of the given emails, find the ones already taken, in one query.
+     */
+    Set<EmailAddress> findExistingEmails(Collection<EmailAddress> emails);
+
     /**
      * Delete a user by ID.
      */
     void delete(UserId userId);
 
     /**
-     * Find all users.
+     * Users ordered by creation time, then ID (page key sort key: created_at as an ISO-8601 instant),
+     * at most limit of them.
+     */
+    Page<User> findAll(PageKey after, int limit);
+
+    /**
+     * Count all users.
+     */
+    long count();
+
+    /**
+     * Find users whose tokens were revoked, by deactivation or a password change, at or after the given instant,
+     * with the time of the latest revocation; used to rebuild token revocations at startup.
      */
-    java.util.List<User> findAll();
+    Map<UserId, Instant> findTokensRevokedSince(Instant since);
 }
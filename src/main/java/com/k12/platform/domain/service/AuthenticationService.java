@@ -3,7 +3,13 @@ package com.k12.platform.domain.service;
 import com.k12.platform.domain.model.User;
 import com.k12.platform.domain.model.commands.LoginCommand;
 import com.k12.platform.domain.model.exceptions.AccountDeactivatedException;
+import com.k12.platform.domain.model.exceptions.ConcurrentUpdateException;
+import com.k12.platform.domain.model.exceptions.HashingCapacityExceededException;
 import com.k12.platform.domain.model.exceptions.InvalidCredentialsException;
+import com.k12.platform.domain.model.valueobjects.PasswordHash;
+import com.k12.platform.domain.port.LastLoginRecorder;
+import com.k12.platform.domain.port.PasswordCostPolicy;
+import com.k12.platform.domain.port.PasswordHashingExecutor;
 import com.k12.platform.domain.port.UserRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.util.Optional;
@@ -19,12 +25,16 @@ import lombok.RequiredArgsConstructor;
 public class AuthenticationService {
 
     private final UserRepository userRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PasswordCostPolicy passwordCostPolicy;
+    private final LastLoginRecorder lastLoginRecorder;
 
     /**
      * Authenticate user with email and password.
      * @return User if authentication successful
      * @throws InvalidCredentialsException if credentials invalid
      * @throws AccountDeactivatedException if account deactivated
+     * @throws HashingCapacityExceededException if password verification cannot be scheduled
      */
     public User login(LoginCommand command) {
         Optional<User> userOpt = userRepository.findByEmail(command.email());
@@ -40,14 +50,27 @@ public class AuthenticationService {
             throw new AccountDeactivatedException();
         }
 
-        // Verify password
-        boolean passwordMatches = user.login(command.plainPassword());
+        // Verify password on the dedicated hashing executor, re-hashing at the target cost if needed
+        int targetCost = passwordCostPolicy.targetCost();
+        PasswordHash storedHash = user.passwordHash();
+        boolean passwordMatches =
+                passwordHashingExecutor.execute(() -> user.login(command.plainPassword(), targetCost));
         if (!passwordMatches) {
             throw new InvalidCredentialsException();
         }
 
-        // Update last login
-        userRepository.save(user);
+        if (user.passwordHash() != storedHash) {
+            // Password was re-hashed: persist the whole aggregate, last login included
+            try {
+                userRepository.save(user);
+            } catch (ConcurrentUpdateException e) {
+                // The account changed meanwhile: keep that change, the re-hash can wait for the next login
+                lastLoginRecorder.record(user.userId(), user.lastLoginAt());
+            }
+        } else {
+            // Only last login changed: hand it to the batched writer
+            lastLoginRecorder.record(user.userId(), user.lastLoginAt());
+        }
 
         return user;
     }
@@ -0,0 +1,106 @@
+package com.k12.platform.infrastructure.events;
+
+import com.k12.platform.domain.model.ClassCreated;
+import com.k12.platform.domain.model.ParentStudentAssociated;
+import com.k12.platform.domain.model.ParentStudentDisassociated;
+import com.k12.platform.domain.model.StudentAdvanced;
+import com.k12.platform.domain.model.StudentGraduated;
+import com.k12.platform.domain.model.StudentInfoUpdated;
+import com.k12.platform.domain.model.StudentRegistered;
+import com.k12.platform.domain.model.StudentTransferred;
+import com.k12.platform.domain.model.TeacherAssignedToClass;
+import com.k12.platform.domain.model.TeacherUnassignedFromClass;
+import com.k12.platform.domain.model.valueobjects.ClassId;
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import com.k12.platform.domain.port.ClassRosterRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps the class roster read model up to date from the domain events adapters publish while saving.
+ * Events only record which classes, or which students' classes, changed; the rosters of all of them are
+ * recomputed once, just before the transaction commits. A bulk save of a thousand students into one class
+ * therefore recomputes that class once, and a roster never commits without the change that caused it.
+ * <p>
+ * Changes that are not evented (a user's name or email, a student moved to another class) reach the rosters
+ * on the next event for the class or on a rebuild.
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+public class ClassRosterProjector {
+
+    private final ClassRosterRepository rosters;
+    private final TransactionSynchronizationRegistry transactions;
+
+    void onClassCreated(@Observes ClassCreated event) {
+        pending().classIds.add(event.classId());
+    }
+
+    void onTeacherAssigned(@Observes TeacherAssignedToClass event) {
+        pending().classIds.add(event.classId());
+    }
+
+    void onTeacherUnassigned(@Observes TeacherUnassignedFromClass event) {
+        pending().classIds.add(event.classId());
+    }
+
+    void onStudentRegistered(@Observes StudentRegistered event) {
+        pending().studentIds.add(event.studentId());
+    }
+
+    void onStudentInfoUpdated(@Observes StudentInfoUpdated event) {
+        pending().studentIds.add(event.studentId());
+    }
+
+    void onStudentTransferred(@Observes StudentTransferred event) {
+        pending().studentIds.add(event.studentId());
+    }
+
+    void onStudentAdvanced(@Observes StudentAdvanced event) {
+        pending().studentIds.add(event.studentId());
+    }
+
+    void onStudentGraduated(@Observes StudentGraduated event) {
+        pending().studentIds.add(event.studentId());
+    }
+
+    void onParentAssociated(@Observes ParentStudentAssociated event) {
+        pending().studentIds.add(event.studentId());
+    }
+
+    void onParentDisassociated(@Observes ParentStudentDisassociated event) {
+        pending().studentIds.add(event.studentId());
+    }
+
+    /**
+     * The current transaction's pending refresh, registered to run before commit on first use.
+     */
+    private PendingRefresh pending() {
+        PendingRefresh pending = (PendingRefresh) transactions.getResource(PendingRefresh.class);
+        if (pending == null) {
+            pending = new PendingRefresh();
+            transactions.putResource(PendingRefresh.class, pending);
+            transactions.registerInterposedSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private final class PendingRefresh implements Synchronization {
+
+        private final Set<ClassId> classIds = new HashSet<>();
+        private final Set<StudentId> studentIds = new HashSet<>();
+
+        @Override
+        public void beforeCompletion() {
+            rosters.refresh(classIds, studentIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {}
+    }
+}
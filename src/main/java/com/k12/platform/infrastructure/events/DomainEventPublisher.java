@@ -0,0 +1,26 @@
+package com.k12.platform.infrastructure.events;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes domain events recorded by aggregates as CDI events.
+ * Adapters call this after persisting; observers that depend on committed state
+ * should use {@code @Observes(during = TransactionPhase.AFTER_SUCCESS)}.
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final Event<Object> events;
+
+    public void publish(List<Object> domainEvents) {
+        domainEvents.forEach(events::fire);
+    }
+
+    public void publish(Object domainEvent) {
+        events.fire(domainEvent);
+    }
+}
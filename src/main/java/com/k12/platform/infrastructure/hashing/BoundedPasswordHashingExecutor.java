@@ -0,0 +1,113 @@
+package com.k12.platform.infrastructure.hashing;
+
+import com.k12.platform.domain.model.exceptions.HashingCapacityExceededException;
+import com.k12.platform.domain.port.PasswordHashingExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Dedicated, size-bounded executor for bcrypt work.
+ * Keeps hashing off the HTTP worker pool: at most {@code threads} hashes run at once and at most
+ * {@code queueDepth} wait. Anything beyond that is rejected immediately so the caller can answer 503.
+ */
+@ApplicationScoped
+public class BoundedPasswordHashingExecutor implements PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Timer queueWaitTimer;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordHashingExecutor(
+            @ConfigProperty(name = "k12.password-hashing.threads", defaultValue = "0") int threads,
+            @ConfigProperty(name = "k12.password-hashing.queue-depth", defaultValue = "64") int queueDepth,
+            @ConfigProperty(name = "k12.password-hashing.retry-after-seconds", defaultValue = "2")
+                    long retryAfterSeconds,
+            MeterRegistry registry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueDepth),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.queueWaitTimer = Timer.builder("k12.password.hashing.queue.wait")
+                .description("Time a hashing task waited for a free hashing thread")
+                .register(registry);
+        this.hashTimer = Timer.builder("k12.password.hashing.duration")
+                .description("Time spent running bcrypt on a hashing thread")
+                .register(registry);
+        this.rejectedCounter = Counter.builder("k12.password.hashing.rejected")
+                .description("Hashing tasks rejected because the executor was saturated")
+                .register(registry);
+        Gauge.builder("k12.password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Hashing tasks currently waiting")
+                .register(registry);
+        Gauge.builder("k12.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing tasks currently running")
+                .register(registry);
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new HashingCapacityExceededException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.k12.platform.infrastructure.hashing;
+
+import com.k12.platform.domain.model.valueobjects.PasswordHash;
+import com.k12.platform.domain.port.PasswordCostPolicy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import java.time.Duration;
+import java.util.Optional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Bcrypt cost policy.
+ * Uses a fixed cost when {@code k12.password-hashing.cost} is set; otherwise measures real hash time at startup
+ * and picks the highest cost whose hash stays within {@code k12.password-hashing.latency-budget}.
+ */
+@ApplicationScoped
+public class CalibratedPasswordCostPolicy implements PasswordCostPolicy {
+
+    private static final Logger LOG = Logger.getLogger(CalibratedPasswordCostPolicy.class);
+    private static final String CALIBRATION_PASSWORD = "calibration-Password-123";
+    private static final int SAMPLES_PER_COST = 2;
+
+    private final Optional<Integer> fixedCost;
+    private final boolean calibrate;
+    private final Duration latencyBudget;
+    private final int minCost;
+    private final int maxCost;
+    private volatile int targetCost;
+
+    public CalibratedPasswordCostPolicy(
+            @ConfigProperty(name = "k12.password-hashing.cost") Optional<Integer> fixedCost,
+            @ConfigProperty(name = "k12.password-hashing.calibrate", defaultValue = "true") boolean calibrate,
+            @ConfigProperty(name = "k12.password-hashing.latency-budget", defaultValue = "250ms")
+                    Duration latencyBudget,
+            @ConfigProperty(name = "k12.password-hashing.min-cost", defaultValue = "10") int minCost,
+            @ConfigProperty(name = "k12.password-hashing.max-cost", defaultValue = "14") int maxCost,
+            MeterRegistry registry) {
+        if (minCost > maxCost) {
+            throw new IllegalArgumentException("k12.password-hashing.min-cost must not exceed max-cost");
+        }
+        this.fixedCost = fixedCost;
+        this.calibrate = calibrate;
+        this.latencyBudget = latencyBudget;
+        this.minCost = minCost;
+        this.maxCost = maxCost;
+        this.targetCost = fixedCost.orElse(PasswordHash.DEFAULT_COST);
+        Gauge.builder("k12.password.hashing.cost", this, CalibratedPasswordCostPolicy::targetCost)
+                .description("Bcrypt cost used for new and re-hashed passwords")
+                .register(registry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (fixedCost.isEmpty() && calibrate) {
+            calibrate();
+        }
+    }
+
+    @Override
+    public int targetCost() {
+        return targetCost;
+    }
+
+    /**
+     * Measure hash time from min-cost upwards and keep the highest cost within the latency budget.
+     * Each extra cost step doubles the work, so measuring stops at the first cost over budget.
+     * If even min-cost is over budget, min-cost is used anyway.
+     */
+    void calibrate() {
+        int chosen = minCost;
+        for (int cost = minCost; cost <= maxCost; cost++) {
+            Duration elapsed = measure(cost);
+            LOG.debugf("bcrypt cost %d took %d ms", cost, elapsed.toMillis());
+            if (elapsed.compareTo(latencyBudget) > 0) {
+                break;
+            }
+            chosen = cost;
+        }
+        targetCost = chosen;
+        LOG.infof("Calibrated bcrypt cost %d for a latency budget of %d ms", chosen, latencyBudget.toMillis());
+    }
+
+    private Duration measure(int cost) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES_PER_COST; i++) {
+            long start = System.nanoTime();
+            PasswordHash.hash(CALIBRATION_PASSWORD, cost);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return Duration.ofNanos(best);
+    }
+}
@@ -0,0 +1,36 @@
+package com.k12.platform.infrastructure.persistence;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Runs an adapter's upsert for every aggregate of a saveAll call in JDBC batches of k12.persistence.batch-size.
+ * Callers provide the transaction; a saveAll is one transaction however many batches it takes.
+ */
+@ApplicationScoped
+public class BatchUpserter {
+
+    private final int batchSize;
+
+    public BatchUpserter(@ConfigProperty(name = "k12.persistence.batch-size", defaultValue = "500") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("k12.persistence.batch-size must be at least 1");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public <T> int upsertAll(String sql, Collection<T> items, Function<T, Object[]> parameters) {
+        return Upserts.executeBatch(sql, items, parameters, batchSize);
+    }
+
+    /**
+     * Batched conditional upsert.
+     * @return the items whose condition did not hold, so nothing was written for them
+     */
+    public <T> List<T> upsertAllIfCurrent(String sql, Collection<T> items, Function<T, Object[]> parameters) {
+        return Upserts.executeConditionalBatch(sql, items, parameters, batchSize);
+    }
+}
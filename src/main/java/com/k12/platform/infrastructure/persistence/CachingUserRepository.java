@@ -0,0 +1,65 @@
+package com.k12.platform.infrastructure.persistence;
+
+import com.k12.platform.domain.model.User;
+import com.k12.platform.domain.model.valueobjects.EmailAddress;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.UserRepository;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.inject.Inject;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serves {@link UserRepository#findById} and {@link UserRepository#findByEmail} from the {@link UserCache}.
+ * A decorator wraps the repository bean itself, so every caller goes through it, whether it injects the port
+ * or {@link JpaUserAdapter}. Writes drop the users they touch, also when they fail: a conflicting save means
+ * the cached copy is out of date. All other methods go straight to the adapter.
+ */
+@Decorator
+@Priority(10)
+public abstract class CachingUserRepository implements UserRepository {
+
+    @Inject
+    @Delegate
+    UserRepository delegate;
+
+    @Inject
+    UserCache cache;
+
+    @Override
+    public void save(User user) {
+        try {
+            delegate.save(user);
+        } finally {
+            cache.invalidate(List.of(user.userId()));
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<User> users) {
+        try {
+            delegate.saveAll(users);
+        } finally {
+            cache.invalidate(users.stream().map(User::userId).toList());
+        }
+    }
+
+    @Override
+    public Optional<User> findById(UserId userId) {
+        return cache.findById(userId, () -> delegate.findById(userId));
+    }
+
+    @Override
+    public Optional<User> findByEmail(EmailAddress email) {
+        return cache.findByEmail(email, () -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public void delete(UserId userId) {
+        delegate.delete(userId);
+        cache.invalidate(List.of(userId));
+    }
+}
@@ -0,0 +1,136 @@
+package com.k12.platform.infrastructure.persistence;
+
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.LastLoginRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.Session;
+import org.jboss.logging.Logger;
+
+/**
+ * Buffers last-login timestamps in memory and writes them in one batched UPDATE per flush interval.
+ * Logins for the same user between flushes are merged (latest wins), and the buffer is flushed on shutdown.
+ * Replaces a findById plus full-row rewrite of users on every successful login.
+ * The {@link UserCache} is told at once, since these writes bypass the repository.
+ */
+@ApplicationScoped
+public class CoalescingLastLoginWriter implements LastLoginRecorder {
+
+    private static final Logger LOG = Logger.getLogger(CoalescingLastLoginWriter.class);
+
+    /**
+     * One statement for the whole batch; never moves last_login backwards.
+     */
+    private static final String UPDATE_SQL = "UPDATE users AS u SET last_login = v.last_login"
+            + " FROM unnest(?::uuid[], ?::timestamptz[]) AS v(id, last_login)"
+            + " WHERE u.id = v.id AND (u.last_login IS NULL OR u.last_login < v.last_login)";
+
+    private final Map<UUID, Instant> pending = new ConcurrentHashMap<>();
+    private final UserCache userCache;
+    private final Counter recordedCounter;
+    private final Counter writtenCounter;
+    private final Timer flushTimer;
+
+    public CoalescingLastLoginWriter(UserCache userCache, MeterRegistry registry) {
+        this.userCache = userCache;
+        this.recordedCounter = Counter.builder("k12.last-login.recorded")
+                .description("Successful logins buffered for a last-login write")
+                .register(registry);
+        this.writtenCounter = Counter.builder("k12.last-login.written")
+                .description("Users whose last-login timestamp was written by a flush")
+                .register(registry);
+        this.flushTimer = Timer.builder("k12.last-login.flush")
+                .description("Time spent writing one batch of last-login timestamps")
+                .register(registry);
+    }
+
+    @Override
+    public void record(UserId userId, Instant lastLoginAt) {
+        pending.merge(userId.value(), lastLoginAt, CoalescingLastLoginWriter::latest);
+        userCache.recordLogin(userId, lastLoginAt);
+        recordedCounter.increment();
+    }
+
+    @Scheduled(
+            every = "${k12.last-login.flush-interval:5s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledFlush() {
+        flush();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        flush();
+    }
+
+    /**
+     * Write everything buffered so far. Entries that fail to write are put back for the next flush.
+     * @return number of users in the batch
+     */
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> ids = new ArrayList<>(pending.size());
+        List<Instant> timestamps = new ArrayList<>(pending.size());
+        for (UUID id : pending.keySet()) {
+            Instant timestamp = pending.remove(id);
+            if (timestamp != null) {
+                ids.add(id);
+                timestamps.add(timestamp);
+            }
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            flushTimer.record(() -> QuarkusTransaction.requiringNew()
+                    .run(() -> Panache.getEntityManager()
+                            .unwrap(Session.class)
+                            .doWork(connection -> write(connection, ids, timestamps))));
+            writtenCounter.increment(ids.size());
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Failed to write last-login for %d users, will retry", ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                pending.merge(ids.get(i), timestamps.get(i), CoalescingLastLoginWriter::latest);
+            }
+        }
+        return ids.size();
+    }
+
+    private static void write(Connection connection, List<UUID> ids, List<Instant> timestamps) throws SQLException {
+        String[] isoTimestamps = timestamps.stream().map(Instant::toString).toArray(String[]::new);
+        Array idArray = connection.createArrayOf("uuid", ids.toArray());
+        Array timestampArray = connection.createArrayOf("text", isoTimestamps);
+        try (PreparedStatement statement = connection.prepareStatement(UPDATE_SQL)) {
+            statement.setArray(1, idArray);
+            statement.setArray(2, timestampArray);
+            statement.executeUpdate();
+        } finally {
+            idArray.free();
+            timestampArray.free();
+        }
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
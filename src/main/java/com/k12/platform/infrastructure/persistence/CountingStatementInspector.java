@@ -0,0 +1,16 @@
+package com.k12.platform.infrastructure.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hands every statement Hibernate prepares to {@link StatementRecorder}, unchanged.
+ * Registered with Hibernate by class name in application.properties.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementRecorder.prepared(sql);
+        return sql;
+    }
+}
@@ -1,39 +1,61 @@
 package com.k12.platform.infrastructure.persistence;
 
 import com.k12.platform.domain.model.Class;
+import com.k12.platform.domain.port.Page;
+import com.k12.platform.domain.port.PageKey;
 import com.k12.platform.domain.port.ClassRepository;
 import com.k12.platform.domain.model.valueobjects.*;
+import com.k12.platform.infrastructure.events.DomainEventPublisher;
+import com.k12.platform.infrastructure.persistence.ReferenceDataCache.CachedTable;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 import java.time.Instant;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import lombok.RequiredArgsConstructor;
 
 /**
  * JPA-based implementation of ClassRepository port.
  */
 @ApplicationScoped
+@RequiredArgsConstructor
 public class JpaClassAdapter implements ClassRepository {
 
+    /**
+     * created_at is only written on insert; both paths stamp updated_at with the save time.
+     */
+    private static final String UPSERT_SQL = "INSERT INTO classes"
+            + " (id, name, grade_level, academic_year, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)"
+            + " ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, grade_level = EXCLUDED.grade_level,"
+            + " academic_year = EXCLUDED.academic_year, updated_at = EXCLUDED.updated_at";
+
+    private final DomainEventPublisher eventPublisher;
+    private final BatchUpserter batchUpserter;
+    private final ReferenceDataCache referenceDataCache;
+
     @Override
     @Transactional
     public void save(Class clazz) {
-        PanacheClassEntity existing =
-                PanacheClassEntity.findById(clazz.getClassId().value());
-
-        if (existing == null) {
-            // Insert new entity
-            PanacheClassEntity entity = toEntity(clazz);
-            Instant now = Instant.now();
-            entity.setCreatedAt(OffsetDateTime.ofInstant(now, ZoneOffset.UTC));
-            entity.setUpdatedAt(OffsetDateTime.ofInstant(now, ZoneOffset.UTC));
-            entity.persist();
-        } else {
-            // Update existing entity
-            updateFromDomain(existing, clazz);
-            existing.setUpdatedAt(OffsetDateTime.ofInstant(Instant.now(), ZoneOffset.UTC));
+        Upserts.execute(UPSERT_SQL, upsertParameters(clazz, Instant.now()));
+        referenceDataCache.evict(CachedTable.CLASSES, List.of(clazz.getClassId().value()));
+
+        eventPublisher.publish(clazz.getDomainEvents());
+        clazz.clearDomainEvents();
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(Collection<Class> classes) {
+        Instant now = Instant.now();
+        batchUpserter.upsertAll(UPSERT_SQL, classes, clazz -> upsertParameters(clazz, now));
+        referenceDataCache.evict(
+                CachedTable.CLASSES, classes.stream().map(clazz -> clazz.getClassId().value()).toList());
+        for (Class clazz : classes) {
+            eventPublisher.publish(clazz.getDomainEvents());
+            clazz.clearDomainEvents();
         }
     }
 
@@ -47,15 +69,39 @@ public class JpaClassAdapter implements ClassRepository {
     }
 
     @Override
-    public List<Class> findByGradeLevel(GradeLevel gradeLevel) {
-        List<PanacheClassEntity> entities = PanacheClassEntity.list("gradeLevel", gradeLevel.value());
-        return entities.stream().map(this::toDomain).toList();
+    public Page<Class> findByGradeLevel(GradeLevel gradeLevel, PageKey after, int limit) {
+        PanacheQuery<PanacheClassEntity> query = after == null
+                ? PanacheClassEntity.find("gradeLevel = ?1 order by name, id", gradeLevel.value())
+                : PanacheClassEntity.find(
+                        "gradeLevel = ?1 and (name, id) > (?2, ?3) order by name, id",
+                        gradeLevel.value(),
+                        after.sortKey(),
+                        after.id());
+        return Keysets.page(
+                cached(query, ReferenceDataCache.CLASSES_BY_GRADE_LEVEL), limit, JpaClassAdapter::pageKey,
+                this::toDomain);
     }
 
     @Override
-    public List<Class> findByAcademicYear(AcademicYear academicYear) {
-        List<PanacheClassEntity> entities = PanacheClassEntity.list("academicYear", academicYear.value());
-        return entities.stream().map(this::toDomain).toList();
+    public Page<Class> findByAcademicYear(AcademicYear academicYear, PageKey after, int limit) {
+        PanacheQuery<PanacheClassEntity> query = after == null
+                ? PanacheClassEntity.find("academicYear = ?1 order by name, id", academicYear.value())
+                : PanacheClassEntity.find(
+                        "academicYear = ?1 and (name, id) > (?2, ?3) order by name, id",
+                        academicYear.value(),
+                        after.sortKey(),
+                        after.id());
+        return Keysets.page(
+                cached(query, ReferenceDataCache.CLASSES_BY_ACADEMIC_YEAR), limit, JpaClassAdapter::pageKey,
+                this::toDomain);
+    }
+
+    private static PanacheQuery<PanacheClassEntity> cached(PanacheQuery<PanacheClassEntity> query, String region) {
+        return query.withHint(HibernateHints.HINT_CACHEABLE, true).withHint(HibernateHints.HINT_CACHE_REGION, region);
+    }
+
+    private static PageKey pageKey(PanacheClassEntity entity) {
+        return new PageKey(entity.getName(), entity.getId());
     }
 
     @Override
@@ -77,21 +123,6 @@ public class JpaClassAdapter implements ClassRepository {
         return PanacheClassEntity.findById(classId.value()) != null;
     }
 
-    private PanacheClassEntity toEntity(Class clazz) {
-        PanacheClassEntity entity = new PanacheClassEntity();
-        entity.setId(clazz.getClassId().value());
-        entity.setName(clazz.getName().value());
-        entity.setGradeLevel(clazz.getGradeLevel().value());
-        entity.setAcademicYear(clazz.getAcademicYear().value());
-        return entity;
-    }
-
-    private void updateFromDomain(PanacheClassEntity entity, Class clazz) {
-        entity.setName(clazz.getName().value());
-        entity.setGradeLevel(clazz.getGradeLevel().value());
-        entity.setAcademicYear(clazz.getAcademicYear().value());
-    }
-
     private Class toDomain(PanacheClassEntity entity) {
         Instant createdAt =
                 entity.getCreatedAt() != null ? entity.getCreatedAt().toInstant() : Instant.now();
@@ -107,4 +138,15 @@ public class JpaClassAdapter implements ClassRepository {
                 createdAt,
                 updatedAt);
     }
+
+    private static Object[] upsertParameters(Class clazz, Instant now) {
+        return new Object[] {
+            clazz.getClassId().value(),
+            clazz.getName().value(),
+            clazz.getGradeLevel().value(),
+            clazz.getAcademicYear().value(),
+            now,
+            now
+        };
+    }
 }
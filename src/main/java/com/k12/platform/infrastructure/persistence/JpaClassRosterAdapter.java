@@ -0,0 +1,120 @@
+package com.k12.platform.infrastructure.persistence;
+
+import com.k12.platform.domain.model.valueobjects.ClassId;
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import com.k12.platform.domain.port.ClassRosterRepository;
+import io.quarkus.hibernate.orm.panache.Panache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.hibernate.Session;
+
+/**
+ * JPA-based implementation of ClassRosterRepository port.
+ * Roster documents are built by the class_roster() database function (V5 migration) and stored in
+ * class_rosters, one row per class.
+ * <p>
+ * A refresh first locks the classes it recomputes, then recomputes them in a second statement. Two transactions
+ * changing the same class therefore refresh one after the other, and the second one's statement sees what the
+ * first committed; recomputing under the lock in one statement would read a snapshot taken before the wait.
+ * NO KEY UPDATE locks do not block inserts of rows that reference the class.
+ */
+@ApplicationScoped
+public class JpaClassRosterAdapter implements ClassRosterRepository {
+
+    private static final String FIND_SQL = "SELECT CAST(roster AS text) FROM class_rosters WHERE class_id = ?1";
+
+    private static final String LOCK_SQL = "SELECT id FROM classes"
+            + " WHERE id = ANY(?) OR id IN (SELECT class_id FROM students WHERE id = ANY(?))"
+            + " ORDER BY id FOR NO KEY UPDATE";
+
+    private static final String LOCK_ALL_SQL = "SELECT id FROM classes ORDER BY id FOR NO KEY UPDATE";
+
+    private static final String REFRESH_SQL = "INSERT INTO class_rosters (class_id, roster, refreshed_at)"
+            + " SELECT id, class_roster(id), now() FROM classes WHERE id = ANY(?)"
+            + " ON CONFLICT (class_id) DO UPDATE SET roster = EXCLUDED.roster, refreshed_at = EXCLUDED.refreshed_at";
+
+    private static final String REBUILD_SQL = "INSERT INTO class_rosters (class_id, roster, refreshed_at)"
+            + " SELECT id, class_roster(id), now() FROM classes"
+            + " ON CONFLICT (class_id) DO UPDATE SET roster = EXCLUDED.roster, refreshed_at = EXCLUDED.refreshed_at";
+
+    @Override
+    public Optional<String> findRoster(ClassId classId) {
+        return Panache.getEntityManager()
+                .createNativeQuery(FIND_SQL, String.class)
+                .setParameter(1, classId.value())
+                .getResultStream()
+                .findFirst()
+                .map(String.class::cast);
+    }
+
+    @Override
+    @Transactional
+    public void refresh(Collection<ClassId> classIds, Collection<StudentId> studentIds) {
+        if (classIds.isEmpty() && studentIds.isEmpty()) {
+            return;
+        }
+        UUID[] classes = classIds.stream().map(ClassId::value).toArray(UUID[]::new);
+        UUID[] students = studentIds.stream().map(StudentId::value).toArray(UUID[]::new);
+        session().doWork(StatementRecorder.recorded(connection -> {
+            List<UUID> locked;
+            try (PreparedStatement lock = connection.prepareStatement(LOCK_SQL)) {
+                lock.setArray(1, uuids(connection, classes));
+                lock.setArray(2, uuids(connection, students));
+                locked = ids(lock);
+            }
+            if (locked.isEmpty()) {
+                return;
+            }
+            try (PreparedStatement refresh = connection.prepareStatement(REFRESH_SQL)) {
+                refresh.setArray(1, uuids(connection, locked.toArray(UUID[]::new)));
+                refresh.executeUpdate();
+            }
+        }));
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        return session().doReturningWork(StatementRecorder.recordedReturning(connection -> {
+            try (PreparedStatement lock = connection.prepareStatement(LOCK_ALL_SQL)) {
+                ids(lock);
+            }
+            try (PreparedStatement rebuild = connection.prepareStatement(REBUILD_SQL)) {
+                return rebuild.executeUpdate();
+            }
+        }));
+    }
+
+    /**
+     * The session, flushed so that entity changes still pending in it are part of the recomputed rosters.
+     */
+    private static Session session() {
+        Session session = Panache.getEntityManager().unwrap(Session.class);
+        session.flush();
+        return session;
+    }
+
+    private static Array uuids(Connection connection, UUID[] values) throws SQLException {
+        return connection.createArrayOf("uuid", values);
+    }
+
+    private static List<UUID> ids(PreparedStatement statement) throws SQLException {
+        List<UUID> ids = new ArrayList<>();
+        try (ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                ids.add(rows.getObject(1, UUID.class));
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,186 @@
+package com.k12.platform.infrastructure.persistence;
+
+import com.k12.platform.domain.model.GradeRolloverCheckpoint;
+import com.k12.platform.domain.model.GradeRolloverChunk;
+import com.k12.platform.domain.model.StudentAdvanced;
+import com.k12.platform.domain.model.StudentGraduated;
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.domain.model.valueobjects.GradeLevel;
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import com.k12.platform.domain.port.GradeRolloverRepository;
+import com.k12.platform.infrastructure.events.DomainEventPublisher;
+import io.quarkus.hibernate.orm.panache.Panache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+/**
+ * JDBC implementation of GradeRolloverRepository.
+ * Each chunk is one UPDATE ... RETURNING over the next students in ID order, so no student rows are loaded
+ * into the session; the checkpoint row is moved in the same transaction.
+ * Chunks start from the stored checkpoint, read with the row locked, so two runs of the same academic year (say,
+ * resume-on-start on every node) take turns chunk by chunk instead of both advancing the same students.
+ */
+@ApplicationScoped
+@RequiredArgsConstructor
+public class JpaGradeRolloverAdapter implements GradeRolloverRepository {
+
+    private static final String START_SQL = "INSERT INTO grade_rollovers"
+            + " (academic_year, advanced, graduated, started_at, updated_at) VALUES (?, 0, 0, ?, ?)"
+            + " ON CONFLICT (academic_year) DO NOTHING";
+
+    /**
+     * Grade 12 students keep their grade and are stamped graduated; everyone else moves up one grade.
+     * SET expressions see the old grade_level. Bumping version makes a manual save of a student loaded before
+     * the chunk conflict instead of undoing the rollover.
+     */
+    private static final String ADVANCE_CHUNK_SQL = "WITH chunk AS ("
+            + " SELECT id FROM students"
+            + " WHERE class_id IN (SELECT id FROM classes WHERE academic_year = ?)"
+            + " AND graduated_at IS NULL AND id > ?"
+            + " ORDER BY id LIMIT ? FOR UPDATE)"
+            + " UPDATE students s"
+            + " SET grade_level = CASE WHEN s.grade_level < 12 THEN s.grade_level + 1 ELSE s.grade_level END,"
+            + " graduated_at = CASE WHEN s.grade_level = 12 THEN ? END, updated_at = ?, version = s.version + 1"
+            + " FROM chunk WHERE s.id = chunk.id"
+            + " RETURNING s.id, s.grade_level, s.graduated_at IS NOT NULL";
+
+    private static final String LOCK_CHECKPOINT_SQL = "SELECT last_student_id, completed_at IS NOT NULL"
+            + " FROM grade_rollovers WHERE academic_year = ? FOR UPDATE";
+
+    /**
+     * Only moves a checkpoint still where this chunk started; the row lock already guarantees it, this keeps a
+     * chunk from committing over another run's if the lock is ever lost.
+     */
+    private static final String CHECKPOINT_SQL = "UPDATE grade_rollovers SET last_student_id = ?,"
+            + " advanced = advanced + ?, graduated = graduated + ?, updated_at = ?"
+            + " WHERE academic_year = ? AND last_student_id IS NOT DISTINCT FROM ?";
+
+    /**
+     * Sorts before every other UUID, so the first chunk starts at the first student.
+     */
+    private static final UUID BEFORE_FIRST = new UUID(0, 0);
+
+    private final DomainEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public GradeRolloverCheckpoint start(AcademicYear academicYear) {
+        Instant now = Instant.now();
+        Upserts.execute(START_SQL, academicYear.value(), now, now);
+        return find(academicYear).orElseThrow();
+    }
+
+    @Override
+    public Optional<GradeRolloverCheckpoint> find(AcademicYear academicYear) {
+        return PanacheGradeRolloverEntity.<PanacheGradeRolloverEntity>findByIdOptional(academicYear.value())
+                .map(this::toDomain);
+    }
+
+    @Override
+    public List<GradeRolloverCheckpoint> findIncomplete() {
+        return PanacheGradeRolloverEntity.<PanacheGradeRolloverEntity>list("completedAt is null").stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public GradeRolloverChunk advanceChunk(AcademicYear academicYear, int chunkSize) {
+        Instant now = Instant.now();
+        List<Object> events = new ArrayList<>(chunkSize);
+        Session session = Panache.getEntityManager().unwrap(Session.class);
+        session.flush();
+        GradeRolloverChunk chunk = session.doReturningWork(connection -> {
+            int advanced = 0;
+            int graduated = 0;
+            UUID after;
+            try (PreparedStatement statement = connection.prepareStatement(LOCK_CHECKPOINT_SQL)) {
+                Upserts.bind(statement, new Object[] {academicYear.value()});
+                try (ResultSet rows = statement.executeQuery()) {
+                    if (!rows.next()) {
+                        throw new IllegalStateException("Grade rollover for " + academicYear + " was not started");
+                    }
+                    if (rows.getBoolean(2)) {
+                        return new GradeRolloverChunk(0, 0, null);
+                    }
+                    after = rows.getObject(1, UUID.class);
+                }
+            }
+            UUID last = null;
+            try (PreparedStatement statement = connection.prepareStatement(ADVANCE_CHUNK_SQL)) {
+                Upserts.bind(statement, new Object[] {
+                    academicYear.value(), after != null ? after : BEFORE_FIRST, chunkSize, now, now
+                });
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        StudentId studentId = StudentId.of(rows.getObject(1, UUID.class));
+                        int grade = rows.getInt(2);
+                        if (rows.getBoolean(3)) {
+                            graduated++;
+                            events.add(new StudentGraduated(studentId, now));
+                        } else {
+                            advanced++;
+                            events.add(new StudentAdvanced(
+                                    studentId, GradeLevel.of(grade - 1), GradeLevel.of(grade), now));
+                        }
+                        if (last == null || compareAsStored(studentId.value(), last) > 0) {
+                            last = studentId.value();
+                        }
+                    }
+                }
+            }
+            if (last == null) {
+                return new GradeRolloverChunk(0, 0, null);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(CHECKPOINT_SQL)) {
+                Upserts.bind(statement, new Object[] {last, advanced, graduated, now, academicYear.value(), after});
+                if (statement.executeUpdate() == 0) {
+                    throw new IllegalStateException(
+                            "Grade rollover checkpoint for " + academicYear + " moved during the chunk");
+                }
+            }
+            return new GradeRolloverChunk(advanced, graduated, StudentId.of(last));
+        });
+        eventPublisher.publish(events);
+        return chunk;
+    }
+
+    @Override
+    @Transactional
+    public void complete(AcademicYear academicYear) {
+        Instant now = Instant.now();
+        PanacheGradeRolloverEntity.update(
+                "completedAt = ?1, updatedAt = ?1 where academicYear = ?2 and completedAt is null",
+                now,
+                academicYear.value());
+    }
+
+    /**
+     * Order UUIDs the way PostgreSQL does: as unsigned bytes, most significant first.
+     * UUID.compareTo compares signed longs and disagrees for IDs with the top bit set.
+     */
+    static int compareAsStored(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private GradeRolloverCheckpoint toDomain(PanacheGradeRolloverEntity entity) {
+        return new GradeRolloverCheckpoint(
+                entity.getAcademicYear(),
+                entity.getLastStudentId() != null ? StudentId.of(entity.getLastStudentId()) : null,
+                entity.getAdvanced(),
+                entity.getGraduated(),
+                entity.getStartedAt(),
+                entity.getUpdatedAt(),
+                entity.getCompletedAt());
+    }
+}
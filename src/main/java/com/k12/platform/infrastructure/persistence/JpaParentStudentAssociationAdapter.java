@@ -1,34 +1,58 @@
 package com.k12.platform.infrastructure.persistence;
 
 import com.k12.platform.domain.model.ParentStudentAssociation;
+import com.k12.platform.domain.model.ParentStudentDisassociated;
 import com.k12.platform.domain.port.ParentStudentAssociationRepository;
 import com.k12.platform.domain.model.valueobjects.*;
+import com.k12.platform.infrastructure.events.DomainEventPublisher;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 import java.time.Instant;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
 
 /**
  * JPA-based implementation of ParentStudentAssociationRepository port.
  */
 @ApplicationScoped
+@RequiredArgsConstructor
 public class JpaParentStudentAssociationAdapter implements ParentStudentAssociationRepository {
 
+    /**
+     * Only the relationship type and primary-contact flag of an existing association change.
+     */
+    private static final String UPSERT_SQL = "INSERT INTO parent_student_associations"
+            + " (id, parent_id, student_id, relationship_type, is_primary_contact, created_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?)"
+            + " ON CONFLICT (id) DO UPDATE SET relationship_type = EXCLUDED.relationship_type,"
+            + " is_primary_contact = EXCLUDED.is_primary_contact";
+
+    private final DomainEventPublisher eventPublisher;
+    private final BatchUpserter batchUpserter;
+    private final ResultStreamer resultStreamer;
+
     @Override
     @Transactional
     public void save(ParentStudentAssociation association) {
-        PanacheParentStudentAssociationEntity existing = PanacheParentStudentAssociationEntity.findById(
-                association.associationId().value());
-
-        if (existing == null) {
-            PanacheParentStudentAssociationEntity entity = toEntity(association);
-            entity.setCreatedAt(OffsetDateTime.ofInstant(Instant.now(), ZoneOffset.UTC));
-            entity.persist();
-        } else {
-            updateFromDomain(existing, association);
+        Upserts.execute(UPSERT_SQL, upsertParameters(association, Instant.now()));
+
+        eventPublisher.publish(association.getDomainEvents());
+        association.clearDomainEvents();
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(Collection<ParentStudentAssociation> associations) {
+        Instant now = Instant.now();
+        batchUpserter.upsertAll(UPSERT_SQL, associations, association -> upsertParameters(association, now));
+        for (ParentStudentAssociation association : associations) {
+            eventPublisher.publish(association.getDomainEvents());
+            association.clearDomainEvents();
         }
     }
 
@@ -56,6 +80,24 @@ public class JpaParentStudentAssociationAdapter implements ParentStudentAssociat
         return entities.stream().map(this::toDomain).toList();
     }
 
+    @Override
+    @Transactional
+    @TransactionConfiguration(timeoutFromConfigProperty = ResultStreamer.TIMEOUT_PROPERTY)
+    public void forEachByParentId(UserId parentId, Consumer<ParentStudentAssociation> action) {
+        PanacheQuery<PanacheParentStudentAssociationEntity> query =
+                PanacheParentStudentAssociationEntity.find("parentId", parentId.value());
+        resultStreamer.forEach(query, entity -> action.accept(toDomain(entity)));
+    }
+
+    @Override
+    @Transactional
+    @TransactionConfiguration(timeoutFromConfigProperty = ResultStreamer.TIMEOUT_PROPERTY)
+    public void forEachByStudentId(StudentId studentId, Consumer<ParentStudentAssociation> action) {
+        PanacheQuery<PanacheParentStudentAssociationEntity> query =
+                PanacheParentStudentAssociationEntity.find("studentId", studentId.value());
+        resultStreamer.forEach(query, entity -> action.accept(toDomain(entity)));
+    }
+
     @Override
     public Optional<ParentStudentAssociation> findByParentIdAndStudentId(UserId parentId, StudentId studentId) {
         PanacheParentStudentAssociationEntity entity = PanacheParentStudentAssociationEntity.find(
@@ -77,22 +119,14 @@ public class JpaParentStudentAssociationAdapter implements ParentStudentAssociat
     @Override
     @Transactional
     public void delete(AssociationId associationId) {
-        PanacheParentStudentAssociationEntity.deleteById(associationId.value());
-    }
-
-    private PanacheParentStudentAssociationEntity toEntity(ParentStudentAssociation association) {
-        PanacheParentStudentAssociationEntity entity = new PanacheParentStudentAssociationEntity();
-        entity.setId(association.associationId().value());
-        entity.setParentId(association.parentId().value());
-        entity.setStudentId(association.studentId().value());
-        entity.setRelationshipType(association.relationshipType().value());
-        entity.setPrimaryContact(association.isPrimaryContact());
-        return entity;
-    }
-
-    private void updateFromDomain(PanacheParentStudentAssociationEntity entity, ParentStudentAssociation association) {
-        entity.setRelationshipType(association.relationshipType().value());
-        entity.setPrimaryContact(association.isPrimaryContact());
+        PanacheParentStudentAssociationEntity entity =
+                PanacheParentStudentAssociationEntity.findById(associationId.value());
+        if (entity == null) {
+            return;
+        }
+        entity.delete();
+        eventPublisher.publish(new ParentStudentDisassociated(
+                associationId, UserId.of(entity.getParentId()), StudentId.of(entity.getStudentId()), null));
     }
 
     private ParentStudentAssociation toDomain(PanacheParentStudentAssociationEntity entity) {
@@ -107,4 +141,15 @@ public class JpaParentStudentAssociationAdapter implements ParentStudentAssociat
                 entity.isPrimaryContact(),
                 createdAt);
     }
+
+    private static Object[] upsertParameters(ParentStudentAssociation association, Instant now) {
+        return new Object[] {
+            association.associationId().value(),
+            association.parentId().value(),
+            association.studentId().value(),
+            association.relationshipType().value(),
+            association.isPrimaryContact(),
+            now
+        };
+    }
 }
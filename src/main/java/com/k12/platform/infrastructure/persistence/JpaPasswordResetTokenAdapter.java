@@ -6,28 +6,38 @@ import com.k12.platform.domain.model.valueobjects.*;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import lombok.RequiredArgsConstructor;
 
 /**
  * JPA-based implementation of PasswordResetTokenRepository port.
  */
 @ApplicationScoped
+@RequiredArgsConstructor
 public class JpaPasswordResetTokenAdapter implements PasswordResetTokenRepository {
 
+    /**
+     * A token is only ever updated to mark it used.
+     */
+    private static final String UPSERT_SQL = "INSERT INTO password_reset_tokens"
+            + " (id, user_id, token, expires_at, used_at, created_at) VALUES (?, ?, ?, ?, ?, ?)"
+            + " ON CONFLICT (id) DO UPDATE SET used_at = EXCLUDED.used_at";
+
+    private final BatchUpserter batchUpserter;
+
     @Override
     @Transactional
     public void save(PasswordResetToken resetToken) {
-        PanachePasswordResetTokenEntity existing =
-                PanachePasswordResetTokenEntity.findById(resetToken.tokenId().value());
+        Upserts.execute(UPSERT_SQL, upsertParameters(resetToken, Instant.now()));
+    }
 
-        if (existing == null) {
-            PanachePasswordResetTokenEntity entity = toEntity(resetToken);
-            entity.setCreatedAt(Instant.now());
-            entity.persist();
-        } else {
-            updateFromDomain(existing, resetToken);
-        }
+    @Override
+    @Transactional
+    public void saveAll(Collection<PasswordResetToken> resetTokens) {
+        Instant now = Instant.now();
+        batchUpserter.upsertAll(UPSERT_SQL, resetTokens, resetToken -> upsertParameters(resetToken, now));
     }
 
     @Override
@@ -67,20 +77,6 @@ public class JpaPasswordResetTokenAdapter implements PasswordResetTokenRepositor
         PanachePasswordResetTokenEntity.delete("expiresAt < ?1", Instant.now());
     }
 
-    private PanachePasswordResetTokenEntity toEntity(PasswordResetToken resetToken) {
-        PanachePasswordResetTokenEntity entity = new PanachePasswordResetTokenEntity();
-        entity.setId(resetToken.tokenId().value());
-        entity.setUserId(resetToken.userId().value());
-        entity.setToken(resetToken.token().value());
-        entity.setExpiresAt(resetToken.expiresAt());
-        entity.setUsedAt(resetToken.usedAt());
-        return entity;
-    }
-
-    private void updateFromDomain(PanachePasswordResetTokenEntity entity, PasswordResetToken resetToken) {
-        entity.setUsedAt(resetToken.usedAt());
-    }
-
     private PasswordResetToken toDomain(PanachePasswordResetTokenEntity entity) {
         return PasswordResetToken.reconstitute(
                 ResetTokenId.of(entity.getId()),
@@ -90,4 +86,15 @@ public class JpaPasswordResetTokenAdapter implements PasswordResetTokenRepositor
                 entity.getUsedAt(),
                 entity.getCreatedAt());
     }
+
+    private static Object[] upsertParameters(PasswordResetToken resetToken, Instant now) {
+        return new Object[] {
+            resetToken.tokenId().value(),
+            resetToken.userId().value(),
+            resetToken.token().value(),
+            resetToken.expiresAt(),
+            resetToken.usedAt(),
+            now
+        };
+    }
 }
@@ -1,52 +1,71 @@
 package com.k12.platform.infrastructure.persistence;
 
 import com.k12.platform.domain.model.Student;
+import com.k12.platform.domain.model.exceptions.ConcurrentUpdateException;
+import com.k12.platform.domain.port.Page;
+import com.k12.platform.domain.port.PageKey;
 import com.k12.platform.domain.port.StudentRepository;
 import com.k12.platform.domain.model.valueobjects.*;
+import com.k12.platform.infrastructure.events.DomainEventPublisher;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 import java.time.Instant;
-import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import lombok.RequiredArgsConstructor;
 
 /**
  * JPA-based implementation of StudentRepository port.
  */
 @ApplicationScoped
+@RequiredArgsConstructor
 public class JpaStudentAdapter implements StudentRepository {
 
+    /**
+     * created_at is only written on insert; both paths stamp updated_at with the save time.
+     * Optimistic lock: the row is only updated while still at the version the student was loaded at (last
+     * parameter), and both paths store that version plus one; an update that matches no row is a conflict.
+     */
+    private static final String UPSERT_SQL = "INSERT INTO students (id, first_name, last_name, date_of_birth,"
+            + " grade_level, class_id, student_number, enrollment_date, created_at, updated_at, version)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+            + " ON CONFLICT (id) DO UPDATE SET first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name,"
+            + " date_of_birth = EXCLUDED.date_of_birth, grade_level = EXCLUDED.grade_level,"
+            + " class_id = EXCLUDED.class_id, student_number = EXCLUDED.student_number,"
+            + " enrollment_date = EXCLUDED.enrollment_date, updated_at = EXCLUDED.updated_at,"
+            + " version = EXCLUDED.version WHERE students.version = ?";
+
+    private final DomainEventPublisher eventPublisher;
+    private final BatchUpserter batchUpserter;
+
     @Override
     @Transactional
     public void save(Student student) {
-        PanacheStudentEntity existing =
-                PanacheStudentEntity.findById(student.studentId().value());
-
-        if (existing == null) {
-            // Insert new entity
-            PanacheStudentEntity entity = toEntity(student);
-            Instant now = Instant.now();
-            entity.setCreatedAt(java.time.OffsetDateTime.ofInstant(now, ZoneOffset.UTC));
-            entity.setUpdatedAt(java.time.OffsetDateTime.ofInstant(now, ZoneOffset.UTC));
-            entity.persist();
-        } else {
-            // Update existing entity
-            updateFromDomain(existing, student);
-            existing.setUpdatedAt(java.time.OffsetDateTime.ofInstant(Instant.now(), ZoneOffset.UTC));
+        if (Upserts.execute(UPSERT_SQL, upsertParameters(student, Instant.now())) == 0) {
+            throw new ConcurrentUpdateException("Student", student.studentId().value());
         }
+        student.markSaved();
+
+        eventPublisher.publish(student.getDomainEvents());
+        student.clearDomainEvents();
     }
 
-    private void updateFromDomain(PanacheStudentEntity entity, Student student) {
-        entity.setFirstName(student.personalInfo().firstName());
-        entity.setLastName(student.personalInfo().lastName());
-        entity.setDateOfBirth(student.personalInfo().dateOfBirth());
-        entity.setGradeLevel(student.gradeLevel().value());
-        entity.setClassId(student.classId().value());
-        entity.setStudentNumber(
-                student.studentNumber().isEmpty()
-                        ? null
-                        : student.studentNumber().value());
-        entity.setEnrollmentDate(student.enrollmentDate());
+    @Override
+    @Transactional
+    public void saveAll(Collection<Student> students) {
+        Instant now = Instant.now();
+        List<Student> stale =
+                batchUpserter.upsertAllIfCurrent(UPSERT_SQL, students, student -> upsertParameters(student, now));
+        if (!stale.isEmpty()) {
+            throw new ConcurrentUpdateException("Student", stale.get(0).studentId().value());
+        }
+        for (Student student : students) {
+            student.markSaved();
+            eventPublisher.publish(student.getDomainEvents());
+            student.clearDomainEvents();
+        }
     }
 
     @Override
@@ -65,9 +84,16 @@ public class JpaStudentAdapter implements StudentRepository {
     }
 
     @Override
-    public List<Student> findByGradeLevel(int gradeLevel) {
-        List<PanacheStudentEntity> entities = PanacheStudentEntity.list("gradeLevel", gradeLevel);
-        return entities.stream().map(this::toDomain).toList();
+    public Page<Student> findByGradeLevel(int gradeLevel, PageKey after, int limit) {
+        PanacheQuery<PanacheStudentEntity> query = after == null
+                ? PanacheStudentEntity.find("gradeLevel = ?1 order by lastName, id", gradeLevel)
+                : PanacheStudentEntity.find(
+                        "gradeLevel = ?1 and (lastName, id) > (?2, ?3) order by lastName, id",
+                        gradeLevel,
+                        after.sortKey(),
+                        after.id());
+        return Keysets.page(
+                query, limit, entity -> new PageKey(entity.getLastName(), entity.getId()), this::toDomain);
     }
 
     @Override
@@ -75,22 +101,6 @@ public class JpaStudentAdapter implements StudentRepository {
         return PanacheStudentEntity.findById(studentId.value()) != null;
     }
 
-    private PanacheStudentEntity toEntity(Student student) {
-        PanacheStudentEntity entity = new PanacheStudentEntity();
-        entity.setId(student.studentId().value());
-        entity.setFirstName(student.personalInfo().firstName());
-        entity.setLastName(student.personalInfo().lastName());
-        entity.setDateOfBirth(student.personalInfo().dateOfBirth());
-        entity.setGradeLevel(student.gradeLevel().value());
-        entity.setClassId(student.classId().value());
-        entity.setStudentNumber(
-                student.studentNumber().isEmpty()
-                        ? null
-                        : student.studentNumber().value());
-        entity.setEnrollmentDate(student.enrollmentDate());
-        return entity;
-    }
-
     private Student toDomain(PanacheStudentEntity entity) {
         StudentPersonalInfo personalInfo =
                 StudentPersonalInfo.of(entity.getFirstName(), entity.getLastName(), entity.getDateOfBirth());
@@ -112,6 +122,24 @@ public class JpaStudentAdapter implements StudentRepository {
                 studentNumber,
                 entity.getEnrollmentDate(),
                 createdAt,
-                updatedAt);
+                updatedAt,
+                entity.getVersion());
+    }
+
+    private static Object[] upsertParameters(Student student, Instant now) {
+        return new Object[] {
+            student.studentId().value(),
+            student.personalInfo().firstName(),
+            student.personalInfo().lastName(),
+            student.personalInfo().dateOfBirth(),
+            student.gradeLevel().value(),
+            student.classId().value(),
+            student.studentNumber().isEmpty() ? null : student.studentNumber().value(),
+            student.enrollmentDate(),
+            now,
+            now,
+            student.version() + 1,
+            student.version()
+        };
     }
 }
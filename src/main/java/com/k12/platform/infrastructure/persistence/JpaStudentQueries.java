@@ -0,0 +1,55 @@
+package com.k12.platform.infrastructure.persistence;
+
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import com.k12.platform.domain.port.Page;
+import com.k12.platform.domain.port.PageKey;
+import com.k12.platform.domain.port.StudentQueries;
+import com.k12.platform.domain.port.StudentView;
+import io.quarkus.hibernate.orm.panache.Panache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.TypedQuery;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+
+/**
+ * JPA-based implementation of the StudentQueries port.
+ * Queries select the columns straight into {@link StudentView} records: no entity is loaded into the
+ * persistence context, so there is nothing to snapshot or dirty-check, and no aggregate is rebuilt.
+ * They run read-only and without flushing the session first.
+ */
+@ApplicationScoped
+public class JpaStudentQueries implements StudentQueries {
+
+    private static final String SELECT_VIEW = "select new com.k12.platform.domain.port.StudentView(s.id, s.firstName,"
+            + " s.lastName, s.dateOfBirth, s.gradeLevel, s.classId, s.studentNumber, s.enrollmentDate)"
+            + " from PanacheStudentEntity s";
+
+    @Override
+    public Optional<StudentView> findById(StudentId studentId) {
+        return query(SELECT_VIEW + " where s.id = ?1")
+                .setParameter(1, studentId.value())
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public Page<StudentView> findByGradeLevel(int gradeLevel, PageKey after, int limit) {
+        TypedQuery<StudentView> query = after == null
+                ? query(SELECT_VIEW + " where s.gradeLevel = ?1 order by s.lastName, s.id")
+                        .setParameter(1, gradeLevel)
+                : query(SELECT_VIEW + " where s.gradeLevel = ?1 and (s.lastName, s.id) > (?2, ?3)"
+                                + " order by s.lastName, s.id")
+                        .setParameter(1, gradeLevel)
+                        .setParameter(2, after.sortKey())
+                        .setParameter(3, after.id());
+        return Keysets.page(query, limit, view -> new PageKey(view.lastName(), view.studentId()));
+    }
+
+    private static TypedQuery<StudentView> query(String hql) {
+        return Panache.getEntityManager()
+                .createQuery(hql, StudentView.class)
+                .setFlushMode(FlushModeType.COMMIT)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+}
@@ -1,34 +1,63 @@
 package com.k12.platform.infrastructure.persistence;
 
 import com.k12.platform.domain.model.TeacherClassAssignment;
+import com.k12.platform.domain.model.TeacherUnassignedFromClass;
 import com.k12.platform.domain.port.TeacherClassAssignmentRepository;
 import com.k12.platform.domain.model.valueobjects.*;
+import com.k12.platform.infrastructure.events.DomainEventPublisher;
+import com.k12.platform.infrastructure.persistence.ReferenceDataCache.CachedTable;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 import java.time.Instant;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import org.hibernate.jpa.HibernateHints;
+import lombok.RequiredArgsConstructor;
 
 /**
  * JPA-based implementation of TeacherClassAssignmentRepository port.
  */
 @ApplicationScoped
+@RequiredArgsConstructor
 public class JpaTeacherClassAssignmentAdapter implements TeacherClassAssignmentRepository {
 
+    /**
+     * Only the role of an existing assignment changes.
+     */
+    private static final String UPSERT_SQL = "INSERT INTO teacher_class_assignments"
+            + " (id, teacher_id, class_id, role, assigned_date, created_at) VALUES (?, ?, ?, ?, ?, ?)"
+            + " ON CONFLICT (id) DO UPDATE SET role = EXCLUDED.role";
+
+    private final DomainEventPublisher eventPublisher;
+    private final BatchUpserter batchUpserter;
+    private final ResultStreamer resultStreamer;
+    private final ReferenceDataCache referenceDataCache;
+
     @Override
     @Transactional
     public void save(TeacherClassAssignment assignment) {
-        PanacheTeacherClassAssignmentEntity existing = PanacheTeacherClassAssignmentEntity.findById(
-                assignment.assignmentId().value());
-
-        if (existing == null) {
-            PanacheTeacherClassAssignmentEntity entity = toEntity(assignment);
-            entity.setCreatedAt(OffsetDateTime.ofInstant(Instant.now(), ZoneOffset.UTC));
-            entity.persist();
-        } else {
-            updateFromDomain(existing, assignment);
+        Upserts.execute(UPSERT_SQL, upsertParameters(assignment, Instant.now()));
+        referenceDataCache.evict(CachedTable.TEACHER_CLASS_ASSIGNMENTS, List.of(assignment.assignmentId().value()));
+
+        eventPublisher.publish(assignment.getDomainEvents());
+        assignment.clearDomainEvents();
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(Collection<TeacherClassAssignment> assignments) {
+        Instant now = Instant.now();
+        batchUpserter.upsertAll(UPSERT_SQL, assignments, assignment -> upsertParameters(assignment, now));
+        referenceDataCache.evict(
+                CachedTable.TEACHER_CLASS_ASSIGNMENTS,
+                assignments.stream().map(assignment -> assignment.assignmentId().value()).toList());
+        for (TeacherClassAssignment assignment : assignments) {
+            eventPublisher.publish(assignment.getDomainEvents());
+            assignment.clearDomainEvents();
         }
     }
 
@@ -43,8 +72,11 @@ public class JpaTeacherClassAssignmentAdapter implements TeacherClassAssignmentR
 
     @Override
     public List<TeacherClassAssignment> findByTeacherId(UserId teacherId) {
-        List<PanacheTeacherClassAssignmentEntity> entities =
-                PanacheTeacherClassAssignmentEntity.list("teacherId", teacherId.value());
+        List<PanacheTeacherClassAssignmentEntity> entities = PanacheTeacherClassAssignmentEntity.find(
+                        "teacherId", teacherId.value())
+                .withHint(HibernateHints.HINT_CACHEABLE, true)
+                .withHint(HibernateHints.HINT_CACHE_REGION, ReferenceDataCache.ASSIGNMENTS_BY_TEACHER)
+                .list();
         return entities.stream().map(this::toDomain).toList();
     }
 
@@ -55,6 +87,24 @@ public class JpaTeacherClassAssignmentAdapter implements TeacherClassAssignmentR
         return entities.stream().map(this::toDomain).toList();
     }
 
+    @Override
+    @Transactional
+    @TransactionConfiguration(timeoutFromConfigProperty = ResultStreamer.TIMEOUT_PROPERTY)
+    public void forEachByTeacherId(UserId teacherId, Consumer<TeacherClassAssignment> action) {
+        PanacheQuery<PanacheTeacherClassAssignmentEntity> query =
+                PanacheTeacherClassAssignmentEntity.find("teacherId", teacherId.value());
+        resultStreamer.forEach(query, entity -> action.accept(toDomain(entity)));
+    }
+
+    @Override
+    @Transactional
+    @TransactionConfiguration(timeoutFromConfigProperty = ResultStreamer.TIMEOUT_PROPERTY)
+    public void forEachByClassId(ClassId classId, Consumer<TeacherClassAssignment> action) {
+        PanacheQuery<PanacheTeacherClassAssignmentEntity> query =
+                PanacheTeacherClassAssignmentEntity.find("classId", classId.value());
+        resultStreamer.forEach(query, entity -> action.accept(toDomain(entity)));
+    }
+
     @Override
     public Optional<TeacherClassAssignment> findByTeacherIdAndClassId(UserId teacherId, ClassId classId) {
         PanacheTeacherClassAssignmentEntity entity = PanacheTeacherClassAssignmentEntity.find(
@@ -76,21 +126,14 @@ public class JpaTeacherClassAssignmentAdapter implements TeacherClassAssignmentR
     @Override
     @Transactional
     public void delete(AssociationId assignmentId) {
-        PanacheTeacherClassAssignmentEntity.deleteById(assignmentId.value());
-    }
-
-    private PanacheTeacherClassAssignmentEntity toEntity(TeacherClassAssignment assignment) {
-        PanacheTeacherClassAssignmentEntity entity = new PanacheTeacherClassAssignmentEntity();
-        entity.setId(assignment.assignmentId().value());
-        entity.setTeacherId(assignment.teacherId().value());
-        entity.setClassId(assignment.classId().value());
-        entity.setRole(assignment.role().value());
-        entity.setAssignedDate(assignment.assignedDate());
-        return entity;
-    }
-
-    private void updateFromDomain(PanacheTeacherClassAssignmentEntity entity, TeacherClassAssignment assignment) {
-        entity.setRole(assignment.role().value());
+        PanacheTeacherClassAssignmentEntity entity = PanacheTeacherClassAssignmentEntity.findById(assignmentId.value());
+        if (entity == null) {
+            return;
+        }
+        entity.delete();
+        referenceDataCache.evict(CachedTable.TEACHER_CLASS_ASSIGNMENTS, List.of(assignmentId.value()));
+        eventPublisher.publish(new TeacherUnassignedFromClass(
+                assignmentId, UserId.of(entity.getTeacherId()), ClassId.of(entity.getClassId()), null));
     }
 
     private TeacherClassAssignment toDomain(PanacheTeacherClassAssignmentEntity entity) {
@@ -105,4 +148,15 @@ public class JpaTeacherClassAssignmentAdapter implements TeacherClassAssignmentR
                 entity.getAssignedDate(),
                 createdAt);
     }
+
+    private static Object[] upsertParameters(TeacherClassAssignment assignment, Instant now) {
+        return new Object[] {
+            assignment.assignmentId().value(),
+            assignment.teacherId().value(),
+            assignment.classId().value(),
+            assignment.role().value(),
+            assignment.assignedDate(),
+            now
+        };
+    }
 }
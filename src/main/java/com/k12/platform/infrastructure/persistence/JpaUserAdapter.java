@@ -1,17 +1,31 @@
 package com.k12.platform.infrastructure.persistence;
 
 import com.k12.platform.domain.model.User;
+import com.k12.platform.domain.model.UserDeactivated;
+import com.k12.platform.domain.model.UserPasswordChanged;
 import com.k12.platform.domain.model.UserRole;
+import com.k12.platform.domain.model.exceptions.ConcurrentUpdateException;
 import com.k12.platform.domain.model.valueobjects.EmailAddress;
 import com.k12.platform.domain.model.valueobjects.PasswordHash;
 import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.Page;
+import com.k12.platform.domain.port.PageKey;
 import com.k12.platform.domain.port.UserRepository;
+import com.k12.platform.infrastructure.events.DomainEventPublisher;
 import io.quarkus.arc.Unremovable;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
 
 /**
  * JPA persistence adapter implementing UserRepository port.
@@ -20,26 +34,54 @@ import java.util.stream.Collectors;
  */
 @ApplicationScoped
 @Unremovable
+@RequiredArgsConstructor
 public class JpaUserAdapter implements UserRepository {
 
+    /**
+     * New users get updated_at = created_at; updates keep created_at and stamp updated_at with the save time.
+     * Optimistic lock: the row is only updated while still at the version the user was loaded at (last
+     * parameter), and both paths store that version plus one; an update that matches no row is a conflict.
+     * last_login is not versioned, since {@link CoalescingLastLoginWriter} writes it on its own, and never
+     * moves backwards. tokens_revoked_at is only passed when the save deactivates the user or changes the
+     * password (null otherwise, which GREATEST ignores), so no other edit revokes tokens.
+     */
+    private static final String UPSERT_SQL = "INSERT INTO users (id, email, password_hash, first_name, last_name,"
+            + " role, is_active, created_at, updated_at, last_login, tokens_revoked_at, version)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+            + " ON CONFLICT (id) DO UPDATE SET email = EXCLUDED.email, password_hash = EXCLUDED.password_hash,"
+            + " first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name, role = EXCLUDED.role,"
+            + " is_active = EXCLUDED.is_active, last_login = GREATEST(users.last_login, EXCLUDED.last_login),"
+            + " tokens_revoked_at = GREATEST(users.tokens_revoked_at, EXCLUDED.tokens_revoked_at),"
+            + " updated_at = ?, version = EXCLUDED.version WHERE users.version = ?";
+
+    private final DomainEventPublisher eventPublisher;
+    private final BatchUpserter batchUpserter;
+
     @Override
     @Transactional
     public void save(User user) {
-        PanacheUserEntity entity = toEntity(user);
-
-        PanacheUserEntity existing = PanacheUserEntity.findById(entity.getId());
-        if (existing == null) {
-            entity.persist();
-        } else {
-            // Update existing entity fields
-            existing.setEmail(entity.getEmail());
-            existing.setPasswordHash(entity.getPasswordHash());
-            existing.setFirstName(entity.getFirstName());
-            existing.setLastName(entity.getLastName());
-            existing.setRole(entity.getRole());
-            existing.setActive(entity.isActive());
-            existing.setLastLoginAt(entity.getLastLoginAt());
-            existing.persist();
+        if (Upserts.execute(UPSERT_SQL, upsertParameters(user, Instant.now())) == 0) {
+            throw new ConcurrentUpdateException("User", user.userId().value());
+        }
+        user.markSaved();
+
+        eventPublisher.publish(user.getDomainEvents());
+        user.clearDomainEvents();
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(Collection<User> users) {
+        Instant now = Instant.now();
+        List<User> stale =
+                batchUpserter.upsertAllIfCurrent(UPSERT_SQL, users, user -> upsertParameters(user, now));
+        if (!stale.isEmpty()) {
+            throw new ConcurrentUpdateException("User", stale.get(0).userId().value());
+        }
+        for (User user : users) {
+            user.markSaved();
+            eventPublisher.publish(user.getDomainEvents());
+            user.clearDomainEvents();
         }
     }
 
@@ -62,6 +104,19 @@ public class JpaUserAdapter implements UserRepository {
         return PanacheUserEntity.count("email", email.value()) > 0;
     }
 
+    @Override
+    public Set<EmailAddress> findExistingEmails(Collection<EmailAddress> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return PanacheUserEntity.getEntityManager()
+                .createQuery("select u.email from PanacheUserEntity u where u.email in ?1", String.class)
+                .setParameter(1, emails.stream().map(EmailAddress::value).toList())
+                .getResultStream()
+                .map(EmailAddress::of)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     @Transactional
     public void delete(UserId userId) {
@@ -69,28 +124,42 @@ public class JpaUserAdapter implements UserRepository {
     }
 
     @Override
-    public List<User> findAll() {
-        return PanacheUserEntity.<PanacheUserEntity>listAll().stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+    public Page<User> findAll(PageKey after, int limit) {
+        PanacheQuery<PanacheUserEntity> query = after == null
+                ? PanacheUserEntity.find("order by createdAt, id")
+                : PanacheUserEntity.find(
+                        "(createdAt, id) > (?1, ?2) order by createdAt, id",
+                        createdAt(after),
+                        after.id());
+        return Keysets.page(
+                query,
+                limit,
+                entity -> new PageKey(entity.getCreatedAt().toString(), entity.getId()),
+                this::toDomain);
     }
 
-    /**
-     * Map domain User to Panache entity.
-     */
-    private PanacheUserEntity toEntity(User user) {
-        PanacheUserEntity entity = new PanacheUserEntity();
-        entity.setId(user.userId().value());
-        entity.setEmail(user.email().value());
-        entity.setPasswordHash(user.passwordHash().value());
-        entity.setFirstName(user.firstName());
-        entity.setLastName(user.lastName());
-        entity.setRole(user.role().name());
-        entity.setActive(user.isActive());
-        entity.setCreatedAt(user.createdAt());
-        entity.setUpdatedAt(user.createdAt());
-        entity.setLastLoginAt(user.lastLoginAt());
-        return entity;
+    private static Instant createdAt(PageKey key) {
+        try {
+            return Instant.parse(key.sortKey());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page key: " + key.sortKey());
+        }
+    }
+
+    @Override
+    public long count() {
+        return PanacheUserEntity.count();
+    }
+
+    @Override
+    public Map<UserId, Instant> findTokensRevokedSince(Instant since) {
+        return PanacheUserEntity.getEntityManager()
+                .createQuery(
+                        "select u.id, u.tokensRevokedAt from PanacheUserEntity u where u.tokensRevokedAt >= ?1",
+                        Object[].class)
+                .setParameter(1, since)
+                .getResultStream()
+                .collect(Collectors.toMap(row -> UserId.of((UUID) row[0]), row -> (Instant) row[1]));
     }
 
     /**
@@ -106,6 +175,45 @@ public class JpaUserAdapter implements UserRepository {
                 UserRole.valueOf(entity.getRole()),
                 entity.isActive(),
                 entity.getCreatedAt(),
-                entity.getLastLoginAt());
+                entity.getLastLoginAt(),
+                entity.getVersion());
+    }
+
+    private static Object[] upsertParameters(User user, Instant now) {
+        return new Object[] {
+            user.userId().value(),
+            user.email().value(),
+            user.passwordHash().value(),
+            user.firstName(),
+            user.lastName(),
+            user.role().name(),
+            user.isActive(),
+            user.createdAt(),
+            user.createdAt(),
+            user.lastLoginAt(),
+            tokensRevokedAt(user),
+            user.version() + 1,
+            now,
+            user.version()
+        };
+    }
+
+    /**
+     * Latest deactivation or password change among the user's unsaved events, else null.
+     */
+    private static Instant tokensRevokedAt(User user) {
+        Instant revokedAt = null;
+        for (Object event : user.getDomainEvents()) {
+            Instant at = null;
+            if (event instanceof UserDeactivated deactivated) {
+                at = deactivated.deactivatedAt();
+            } else if (event instanceof UserPasswordChanged changed) {
+                at = changed.changedAt();
+            }
+            if (at != null && (revokedAt == null || at.isAfter(revokedAt))) {
+                revokedAt = at;
+            }
+        }
+        return revokedAt;
     }
 }
@@ -0,0 +1,40 @@
+package com.k12.platform.infrastructure.persistence;
+
+import com.k12.platform.domain.port.Page;
+import com.k12.platform.domain.port.PageKey;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import jakarta.persistence.TypedQuery;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination for the adapters' list queries.
+ * Queries filter on {@code (sortKey, id) > (?, ?)} and order by the same columns, so a composite index on
+ * (filter columns, sortKey, id) serves any page without counting or skipping the rows before it.
+ */
+final class Keysets {
+
+    private Keysets() {}
+
+    /**
+     * Read up to limit rows, plus one to learn whether there is a next page, and map them.
+     */
+    static <E, T> Page<T> page(
+            PanacheQuery<E> query, int limit, Function<E, PageKey> key, Function<E, T> toDomain) {
+        return toPage(query.range(0, limit).list(), limit, key, toDomain);
+    }
+
+    /**
+     * Same as for a Panache query, for a typed query that selects the page's items directly.
+     */
+    static <T> Page<T> page(TypedQuery<T> query, int limit, Function<T, PageKey> key) {
+        return toPage(query.setMaxResults(limit + 1).getResultList(), limit, key, Function.identity());
+    }
+
+    private static <E, T> Page<T> toPage(List<E> rows, int limit, Function<E, PageKey> key, Function<E, T> toDomain) {
+        boolean hasNext = rows.size() > limit;
+        List<E> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        PageKey next = hasNext ? key.apply(pageRows.get(limit - 1)) : null;
+        return new Page<>(pageRows.stream().map(toDomain).toList(), next);
+    }
+}
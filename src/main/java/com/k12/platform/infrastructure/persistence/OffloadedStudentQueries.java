@@ -0,0 +1,37 @@
+package com.k12.platform.infrastructure.persistence;
+
+import com.k12.platform.domain.port.AsyncStudentQueries;
+import com.k12.platform.domain.port.Page;
+import com.k12.platform.domain.port.PageKey;
+import com.k12.platform.domain.port.StudentQueries;
+import com.k12.platform.domain.port.StudentView;
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.concurrent.CompletionStage;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AsyncStudentQueries on the blocking stack, used unless {@code k12.persistence.reactive.enabled} is set at build
+ * time: each query runs through {@link StudentQueries} on a worker thread, in its own transaction. The caller's
+ * I/O thread is not blocked, but a worker thread is still held for the whole JDBC call, as for a blocking
+ * endpoint; only {@code PgStudentQueries} serves the query without one.
+ */
+@ApplicationScoped
+@UnlessBuildProperty(name = "k12.persistence.reactive.enabled", stringValue = "true", enableIfMissing = true)
+@RequiredArgsConstructor
+public class OffloadedStudentQueries implements AsyncStudentQueries {
+
+    private final StudentQueries studentQueries;
+
+    @Override
+    public CompletionStage<Page<StudentView>> findByGradeLevel(int gradeLevel, PageKey after, int limit) {
+        return Uni.createFrom()
+                .item(() -> QuarkusTransaction.requiringNew()
+                        .call(() -> studentQueries.findByGradeLevel(gradeLevel, after, limit)))
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .subscribeAsCompletionStage();
+    }
+}
@@ -16,6 +16,7 @@ import lombok.Setter;
 @Getter
 @NoArgsConstructor
 @Entity
+@Cacheable
 @Table(name = "classes")
 public class PanacheClassEntity extends PanacheEntityBase {
 
@@ -0,0 +1,43 @@
+package com.k12.platform.infrastructure.persistence;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * JPA entity for grade rollover checkpoints.
+ * Rows are written by JpaGradeRolloverAdapter's SQL; the entity is only read.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "grade_rollovers")
+public class PanacheGradeRolloverEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "academic_year", updatable = false, nullable = false)
+    private String academicYear;
+
+    @Column(name = "last_student_id")
+    private UUID lastStudentId;
+
+    @Column(name = "advanced", nullable = false)
+    private int advanced;
+
+    @Column(name = "graduated", nullable = false)
+    private int graduated;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+}
@@ -51,4 +51,8 @@ public class PanacheStudentEntity extends PanacheEntityBase {
 
     @Column(name = "updated_at")
     private OffsetDateTime updatedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
 }
@@ -16,6 +16,7 @@ import lombok.Setter;
 @Getter
 @NoArgsConstructor
 @Entity
+@Cacheable
 @Table(name = "teacher_class_assignments")
 public class PanacheTeacherClassAssignmentEntity extends PanacheEntityBase {
 
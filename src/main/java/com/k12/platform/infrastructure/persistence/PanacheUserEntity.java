@@ -52,4 +52,11 @@ public class PanacheUserEntity extends PanacheEntityBase {
 
     @Column(name = "last_login")
     private Instant lastLoginAt;
+
+    @Column(name = "tokens_revoked_at")
+    private Instant tokensRevokedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
 }
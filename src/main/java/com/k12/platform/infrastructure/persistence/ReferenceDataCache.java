@@ -0,0 +1,283 @@
+package com.k12.platform.infrastructure.persistence;
+
+import com.k12.platform.domain.model.ParentStudentAssociated;
+import com.k12.platform.domain.model.ParentStudentDisassociated;
+import com.k12.platform.domain.model.TeacherAssignedToClass;
+import com.k12.platform.domain.model.TeacherUnassignedFromClass;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.jboss.logging.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+/**
+ * Keeps the second-level cache of classes and teacher-class assignments, and the query cache regions of their
+ * list queries, in step with the tables on every application node.
+ * <p>
+ * The adapters write with native SQL, which Hibernate cannot see, so they report each write here. The cached
+ * rows and query results are evicted at once and again after commit on this node, and a PostgreSQL NOTIFY sent
+ * in the writing transaction makes every node, this one included, evict them once it commits; listeners evict
+ * once more after the settle delay, in case a transaction that read the old row was still putting it in the
+ * cache. A node that loses its listening connection evicts everything when it reconnects, and all entries
+ * are dropped every TTL, which bounds staleness should a notification still be missed.
+ * <p>
+ * The same channel carries changes to principals' assignments and associations, which every node, this one
+ * included, fires as {@link ScopeChangeNotified} once the writing transaction commits, so that JWT scope claims
+ * checked on any node go stale. A reconnecting listener fires it for any principal.
+ * Size and idle limits per region are set in application.properties; hits and misses per region are exported
+ * through the Hibernate metrics.
+ */
+@ApplicationScoped
+public class ReferenceDataCache {
+
+    private static final Logger LOG = Logger.getLogger(ReferenceDataCache.class);
+
+    static final String CHANNEL = "k12_reference_data";
+    static final String CLASSES_BY_GRADE_LEVEL = "classes-by-grade-level";
+    static final String CLASSES_BY_ACADEMIC_YEAR = "classes-by-academic-year";
+    static final String ASSIGNMENTS_BY_TEACHER = "teacher-class-assignments-by-teacher";
+
+    /**
+     * Above this many IDs a write evicts the whole entity region instead, keeping notifications small.
+     */
+    private static final int MAX_NOTIFIED_IDS = 100;
+    private static final String ALL = "*";
+    private static final String SCOPE = "SCOPE";
+
+    enum CachedTable {
+        CLASSES(PanacheClassEntity.class, CLASSES_BY_GRADE_LEVEL, CLASSES_BY_ACADEMIC_YEAR),
+        TEACHER_CLASS_ASSIGNMENTS(PanacheTeacherClassAssignmentEntity.class, ASSIGNMENTS_BY_TEACHER);
+
+        private final Class<?> entity;
+        private final List<String> queryRegions;
+
+        CachedTable(Class<?> entity, String... queryRegions) {
+            this.entity = entity;
+            this.queryRegions = List.of(queryRegions);
+        }
+    }
+
+    private final Instance<SessionFactory> sessionFactory;
+    private final Instance<AgroalDataSource> dataSource;
+    private final TransactionSynchronizationRegistry transactions;
+    private final Event<ScopeChangeNotified> scopeChanges;
+    private final boolean listen;
+    private final Duration settleDelay;
+    private final ScheduledExecutorService settler;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public ReferenceDataCache(
+            Instance<SessionFactory> sessionFactory,
+            Instance<AgroalDataSource> dataSource,
+            TransactionSynchronizationRegistry transactions,
+            Event<ScopeChangeNotified> scopeChanges,
+            @ConfigProperty(name = "k12.cache.reference-data.listen", defaultValue = "true") boolean listen,
+            @ConfigProperty(name = "k12.cache.reference-data.settle-delay", defaultValue = "5s")
+                    Duration settleDelay) {
+        this.sessionFactory = sessionFactory;
+        this.dataSource = dataSource;
+        this.transactions = transactions;
+        this.scopeChanges = scopeChanges;
+        this.listen = listen;
+        this.settleDelay = settleDelay;
+        this.settler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reference-data-cache-settler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Report a write to the table's rows in the current transaction; no IDs means any row may have changed.
+     */
+    void evict(CachedTable table, Collection<UUID> ids) {
+        String payload = table.name() + ":" + (ids.isEmpty() || ids.size() > MAX_NOTIFIED_IDS
+                ? ALL
+                : ids.stream().map(UUID::toString).collect(Collectors.joining(",")));
+        apply(payload);
+        transactions.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {}
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    apply(payload);
+                }
+            }
+        });
+        notifyNodes(payload);
+    }
+
+    /**
+     * Evict what a notification payload names: {@code TABLE:*} or {@code TABLE:id,id,...}.
+     */
+    void apply(String payload) {
+        int separator = payload.indexOf(':');
+        CachedTable table;
+        List<UUID> ids;
+        try {
+            table = CachedTable.valueOf(payload.substring(0, Math.max(separator, 0)));
+            String names = payload.substring(separator + 1);
+            ids = ALL.equals(names)
+                    ? List.of()
+                    : Arrays.stream(names.split(",")).map(UUID::fromString).toList();
+        } catch (IllegalArgumentException e) {
+            LOG.warnf("Ignoring malformed cache eviction %s", payload);
+            return;
+        }
+        Cache cache = sessionFactory.get().getCache();
+        if (ids.isEmpty()) {
+            cache.evictEntityData(table.entity);
+        } else {
+            ids.forEach(id -> cache.evictEntityData(table.entity, id));
+        }
+        table.queryRegions.forEach(cache::evictQueryRegion);
+    }
+
+    /**
+     * Handle a notification: scope changes are fired as {@link ScopeChangeNotified}, anything else is evicted now
+     * and again after the settle delay.
+     */
+    void receive(String payload) {
+        if (payload.startsWith(SCOPE + ":")) {
+            try {
+                scopeChanges.fire(new ScopeChangeNotified(UUID.fromString(payload.substring(SCOPE.length() + 1))));
+            } catch (IllegalArgumentException e) {
+                LOG.warnf("Ignoring malformed scope change %s", payload);
+            }
+            return;
+        }
+        apply(payload);
+        settler.schedule(() -> apply(payload), settleDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Drop every cached row and query result; the TTL of the reference data regions.
+     */
+    @Scheduled(every = "${k12.cache.reference-data.ttl:10m}", delayed = "${k12.cache.reference-data.ttl:10m}")
+    void evictAll() {
+        if (!sessionFactory.isResolvable()) {
+            return;
+        }
+        for (CachedTable table : CachedTable.values()) {
+            apply(table.name() + ":" + ALL);
+        }
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!listen) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "reference-data-cache-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+        settler.shutdownNow();
+    }
+
+    void onTeacherAssigned(@Observes TeacherAssignedToClass event) {
+        notifyScopeChanged(event.teacherId());
+    }
+
+    void onTeacherUnassigned(@Observes TeacherUnassignedFromClass event) {
+        notifyScopeChanged(event.teacherId());
+    }
+
+    void onParentAssociated(@Observes ParentStudentAssociated event) {
+        notifyScopeChanged(event.parentId());
+    }
+
+    void onParentDisassociated(@Observes ParentStudentDisassociated event) {
+        notifyScopeChanged(event.parentId());
+    }
+
+    private void notifyScopeChanged(UserId principalId) {
+        notifyNodes(SCOPE + ":" + principalId.value());
+    }
+
+    /**
+     * NOTIFY is transactional: other nodes receive the payload only if, and once, the writing transaction commits.
+     */
+    private void notifyNodes(String payload) {
+        Panache.getEntityManager().unwrap(Session.class).doWork(StatementRecorder.recorded(connection -> {
+            try (PreparedStatement notify = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                notify.setString(1, CHANNEL);
+                notify.setString(2, payload);
+                notify.execute();
+            }
+        }));
+    }
+
+    /**
+     * Hold one pooled connection in LISTEN mode and apply notifications as they arrive, reconnecting on failure.
+     */
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.get().getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+                // Writes committed while no connection was listening were not heard
+                evictAll();
+                scopeChanges.fire(ScopeChangeNotified.anyPrincipal());
+                PGConnection notifications = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] received = notifications.getNotifications(1000);
+                    if (received == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : received) {
+                        receive(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                LOG.warnf(e, "Reference data cache listener lost its connection; reconnecting");
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+}
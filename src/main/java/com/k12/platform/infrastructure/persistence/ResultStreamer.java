@@ -0,0 +1,52 @@
+package com.k12.platform.infrastructure.persistence;
+
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
+
+/**
+ * Hands an adapter's query results to a consumer one row at a time instead of as a list.
+ * Rows are read through a JDBC cursor k12.persistence.fetch-size at a time, loaded read-only and detached once
+ * consumed, so memory stays flat however many rows match.
+ * Callers provide the transaction: the PostgreSQL driver only uses a cursor when autocommit is off.
+ * <p>
+ * When rows go straight into a response body, the transaction and its pooled connection stay open while the
+ * client reads, so a slow client holds them. Such callers bound that with
+ * {@code @TransactionConfiguration(timeoutFromConfigProperty = TIMEOUT_PROPERTY)}: once the transaction times
+ * out, the next fetch fails and the response is aborted. A client that stops reading altogether blocks the write
+ * itself, which only fails once quarkus.http.idle-timeout closes its connection.
+ */
+@ApplicationScoped
+public class ResultStreamer {
+
+    /**
+     * Seconds a transaction streaming rows to a client may stay open.
+     */
+    public static final String TIMEOUT_PROPERTY = "k12.persistence.stream-timeout-seconds";
+
+    private final int fetchSize;
+
+    public ResultStreamer(@ConfigProperty(name = "k12.persistence.fetch-size", defaultValue = "500") int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("k12.persistence.fetch-size must be at least 1");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    public <E> void forEach(PanacheQuery<E> query, Consumer<E> action) {
+        EntityManager entityManager = Panache.getEntityManager();
+        try (Stream<E> rows = query.withHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .withHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream()) {
+            rows.forEach(row -> {
+                action.accept(row);
+                entityManager.detach(row);
+            });
+        }
+    }
+}
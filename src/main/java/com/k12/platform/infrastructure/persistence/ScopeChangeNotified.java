@@ -0,0 +1,19 @@
+package com.k12.platform.infrastructure.persistence;
+
+import java.util.UUID;
+
+/**
+ * Fired on every node when a committed transaction changed a principal's teacher-class assignments or
+ * parent-student associations, on whichever node it ran. A {@code null} principal means notifications may
+ * have been missed, so any principal's scope may have changed.
+ */
+public record ScopeChangeNotified(UUID principalId) {
+
+    static ScopeChangeNotified anyPrincipal() {
+        return new ScopeChangeNotified(null);
+    }
+
+    public boolean anyPrincipalChanged() {
+        return principalId == null;
+    }
+}
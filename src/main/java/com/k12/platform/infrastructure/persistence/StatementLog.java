@@ -0,0 +1,67 @@
+package com.k12.platform.infrastructure.persistence;
+
+import jakarta.enterprise.context.RequestScoped;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The SQL statements run while serving the current request: how many, how long they took to execute,
+ * and how often each statement shape came back. A shape is the statement text with whitespace collapsed and
+ * parameter lists of any length folded into one, so an N+1 pattern shows up as one shape repeated N times.
+ * Filled by {@link StatementRecorder}.
+ */
+@RequestScoped
+public class StatementLog {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\?(?:\\s*,\\s*\\?)+\\)");
+
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int count;
+    private long executionNanos;
+    private String mostRepeated;
+    private int maxRepeats;
+
+    synchronized void prepared(String sql) {
+        count++;
+        String shape = shape(sql);
+        int repeats = shapes.merge(shape, 1, Integer::sum);
+        if (repeats > maxRepeats) {
+            maxRepeats = repeats;
+            mostRepeated = shape;
+        }
+    }
+
+    synchronized void executed(long nanos) {
+        executionNanos += nanos;
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    public synchronized Duration executionTime() {
+        return Duration.ofNanos(executionNanos);
+    }
+
+    /**
+     * Times the most frequent statement shape ran; 0 if none ran.
+     */
+    public synchronized int maxRepeats() {
+        return maxRepeats;
+    }
+
+    /**
+     * The most frequent statement shape, or null if none ran.
+     */
+    public synchronized String mostRepeated() {
+        return mostRepeated;
+    }
+
+    static String shape(String sql) {
+        String collapsed = WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+        return PARAMETER_LIST.matcher(collapsed).replaceAll("(?)");
+    }
+}
@@ -0,0 +1,95 @@
+package com.k12.platform.infrastructure.persistence;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import org.hibernate.jdbc.ReturningWork;
+import org.hibernate.jdbc.Work;
+
+/**
+ * Records statements into the current request's {@link StatementLog}; does nothing outside a request.
+ * Statements Hibernate runs arrive through {@link CountingStatementInspector} and {@link StatementTimingListener}.
+ * Statements the adapters run on the session's JDBC connection bypass both, so that work is wrapped with
+ * {@link #recorded(Work)} or {@link #recordedReturning(ReturningWork)}, which record each prepared statement
+ * and time its executions.
+ */
+final class StatementRecorder {
+
+    private StatementRecorder() {}
+
+    static void prepared(String sql) {
+        StatementLog log = current();
+        if (log != null) {
+            log.prepared(sql);
+        }
+    }
+
+    static void executed(long nanos) {
+        StatementLog log = current();
+        if (log != null) {
+            log.executed(nanos);
+        }
+    }
+
+    static Work recorded(Work work) {
+        return connection -> work.execute(recording(connection));
+    }
+
+    static <T> ReturningWork<T> recordedReturning(ReturningWork<T> work) {
+        return connection -> work.execute(recording(connection));
+    }
+
+    private static StatementLog current() {
+        ArcContainer container = Arc.container();
+        if (container == null || !container.requestContext().isActive()) {
+            return null;
+        }
+        return container.instance(StatementLog.class).get();
+    }
+
+    private static Connection recording(Connection connection) {
+        return proxy(Connection.class, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                prepared((String) args[0]);
+                return timing(statement);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement timing(PreparedStatement statement) {
+        return proxy(PreparedStatement.class, (method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                executed(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> handler.handle(method, args)));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.k12.platform.infrastructure.persistence;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Times the statement and batch executions of one Hibernate session for {@link StatementRecorder}.
+ * Hibernate creates one per session, from the class name in application.properties.
+ */
+public class StatementTimingListener implements SessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        StatementRecorder.executed(System.nanoTime() - executionStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        StatementRecorder.executed(System.nanoTime() - executionStart);
+    }
+}
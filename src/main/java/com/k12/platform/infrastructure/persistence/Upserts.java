@@ -0,0 +1,137 @@
+package com.k12.platform.infrastructure.persistence;
+
+import io.quarkus.hibernate.orm.panache.Panache;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import org.hibernate.Session;
+
+/**
+ * Runs the {@code INSERT ... ON CONFLICT (id) DO UPDATE} statements the adapters save with:
+ * one round trip per save instead of a findById followed by a persist or an update.
+ * Statements run on the current transaction's connection, after pending entity changes are flushed
+ * so that rows they reference are already written.
+ */
+final class Upserts {
+
+    private Upserts() {}
+
+    /**
+     * @return number of rows inserted or updated; 0 when a conditional upsert's WHERE did not hold
+     */
+    static int execute(String sql, Object... parameters) {
+        Session session = Panache.getEntityManager().unwrap(Session.class);
+        session.flush();
+        return session.doReturningWork(StatementRecorder.recordedReturning(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                bind(statement, parameters);
+                return statement.executeUpdate();
+            }
+        }));
+    }
+
+    /**
+     * Run the statement once per item as JDBC batches of at most batchSize rows, on one connection.
+     * No entities are loaded, so memory stays flat however many items there are.
+     * @return number of statements executed
+     */
+    static <T> int executeBatch(String sql, Collection<T> items, Function<T, Object[]> parameters, int batchSize) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        Session session = Panache.getEntityManager().unwrap(Session.class);
+        session.flush();
+        return session.doReturningWork(StatementRecorder.recordedReturning(
+                connection -> executeBatch(connection, sql, items, parameters, batchSize)));
+    }
+
+    static <T> int executeBatch(
+            Connection connection, String sql, Collection<T> items, Function<T, Object[]> parameters, int batchSize)
+            throws SQLException {
+        executeBatch(connection, sql, items, parameters, batchSize, null);
+        return items.size();
+    }
+
+    /**
+     * Like {@link #executeBatch(String, Collection, Function, int)} for a conditional upsert
+     * ({@code ON CONFLICT ... DO UPDATE ... WHERE}).
+     * @return the items whose statement changed no row because the condition did not hold
+     */
+    static <T> List<T> executeConditionalBatch(
+            String sql, Collection<T> items, Function<T, Object[]> parameters, int batchSize) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        Session session = Panache.getEntityManager().unwrap(Session.class);
+        session.flush();
+        return session.doReturningWork(StatementRecorder.recordedReturning(connection -> {
+            List<T> unapplied = new ArrayList<>();
+            executeBatch(connection, sql, items, parameters, batchSize, unapplied);
+            return unapplied;
+        }));
+    }
+
+    /**
+     * Collects the items whose statement reported 0 rows into unapplied, unless it is null.
+     */
+    static <T> void executeBatch(
+            Connection connection,
+            String sql,
+            Collection<T> items,
+            Function<T, Object[]> parameters,
+            int batchSize,
+            List<T> unapplied)
+            throws SQLException {
+        List<T> pending = new ArrayList<>(Math.min(batchSize, items.size()));
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (T item : items) {
+                bind(statement, parameters.apply(item));
+                statement.addBatch();
+                pending.add(item);
+                if (pending.size() == batchSize) {
+                    flush(statement, pending, unapplied);
+                }
+            }
+            if (!pending.isEmpty()) {
+                flush(statement, pending, unapplied);
+            }
+        }
+    }
+
+    private static <T> void flush(PreparedStatement statement, List<T> pending, List<T> unapplied)
+            throws SQLException {
+        int[] counts = statement.executeBatch();
+        if (unapplied != null) {
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    unapplied.add(pending.get(i));
+                }
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * Bind positional parameters. Instants are sent as UTC offset timestamps, which the driver maps to
+     * timestamptz; nulls are sent untyped so the server takes the column's type.
+     */
+    static void bind(PreparedStatement statement, Object[] parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            Object value = parameters[i];
+            if (value == null) {
+                statement.setNull(i + 1, Types.OTHER);
+            } else if (value instanceof Instant instant) {
+                statement.setObject(i + 1, instant.atOffset(ZoneOffset.UTC));
+            } else {
+                statement.setObject(i + 1, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.k12.platform.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.k12.platform.domain.model.User;
+import com.k12.platform.domain.model.UserActivated;
+import com.k12.platform.domain.model.UserDeactivated;
+import com.k12.platform.domain.model.UserPasswordChanged;
+import com.k12.platform.domain.model.UserPasswordRehashed;
+import com.k12.platform.domain.model.UserRole;
+import com.k12.platform.domain.model.valueobjects.EmailAddress;
+import com.k12.platform.domain.model.valueobjects.PasswordHash;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Bounded cache of users read through {@link CachingUserRepository}, keyed by ID with a secondary index by email.
+ * <p>
+ * Entries hold the already validated value objects, and every read reconstitutes a fresh {@link User}, so callers
+ * never share a mutable aggregate and hits skip both the query and email validation. Only found users are cached.
+ * A user is dropped when saved or deleted, at once and again when the transaction completes, and when one of
+ * their domain events is committed. Entries also expire after the TTL, which bounds staleness for writes made
+ * on other nodes. Hit/miss counts are exported as {@code cache.gets{cache="users"}}.
+ */
+@ApplicationScoped
+public class UserCache {
+
+    static final String CACHE_NAME = "users";
+
+    record CachedUser(
+            UserId userId,
+            EmailAddress email,
+            PasswordHash passwordHash,
+            String firstName,
+            String lastName,
+            UserRole role,
+            boolean active,
+            Instant createdAt,
+            Instant lastLoginAt,
+            long version) {
+
+        static CachedUser of(User user) {
+            return new CachedUser(
+                    user.userId(),
+                    user.email(),
+                    user.passwordHash(),
+                    user.firstName(),
+                    user.lastName(),
+                    user.role(),
+                    user.isActive(),
+                    user.createdAt(),
+                    user.lastLoginAt(),
+                    user.version());
+        }
+
+        User toUser() {
+            return User.reconstitute(
+                    userId, email, passwordHash, firstName, lastName, role, active, createdAt, lastLoginAt, version);
+        }
+
+        CachedUser withLastLoginAt(Instant at) {
+            return new CachedUser(
+                    userId, email, passwordHash, firstName, lastName, role, active, createdAt, at, version);
+        }
+    }
+
+    private final Cache<UUID, CachedUser> byId;
+    /**
+     * Email to user ID; an entry is only trusted while the user's cached email still matches it.
+     */
+    private final Cache<String, UUID> idsByEmail;
+    private final TransactionSynchronizationRegistry transactions;
+    /**
+     * Bumped on every invalidation; a load only fills the cache if none happened while it ran.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserCache(
+            @ConfigProperty(name = "k12.cache.users.max-size", defaultValue = "10000") long maxSize,
+            @ConfigProperty(name = "k12.cache.users.ttl", defaultValue = "30s") Duration ttl,
+            TransactionSynchronizationRegistry transactions,
+            MeterRegistry registry) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.transactions = transactions;
+        CaffeineCacheMetrics.monitor(registry, byId, CACHE_NAME);
+    }
+
+    Optional<User> findById(UserId userId, Supplier<Optional<User>> loader) {
+        CachedUser cached = byId.getIfPresent(userId.value());
+        return cached != null ? Optional.of(cached.toUser()) : load(loader);
+    }
+
+    Optional<User> findByEmail(EmailAddress email, Supplier<Optional<User>> loader) {
+        UUID id = idsByEmail.getIfPresent(email.value());
+        CachedUser cached = id == null ? null : byId.getIfPresent(id);
+        if (cached != null && cached.email().equals(email)) {
+            return Optional.of(cached.toUser());
+        }
+        return load(loader);
+    }
+
+    /**
+     * Drop the users now and again once the current transaction, if any, completes: a read that ran
+     * before the commit may otherwise put the old row back.
+     */
+    void invalidate(Collection<UserId> userIds) {
+        evict(userIds);
+        if (transactions.getTransactionKey() != null) {
+            transactions.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {}
+
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userIds);
+                }
+            });
+        }
+    }
+
+    /**
+     * Keep a cached user's last login current; those writes bypass the repository.
+     */
+    public void recordLogin(UserId userId, Instant lastLoginAt) {
+        byId.asMap()
+                .computeIfPresent(
+                        userId.value(),
+                        (id, cached) -> cached.lastLoginAt() != null && !cached.lastLoginAt().isBefore(lastLoginAt)
+                                ? cached
+                                : cached.withLastLoginAt(lastLoginAt));
+    }
+
+    long size() {
+        byId.cleanUp();
+        return byId.estimatedSize();
+    }
+
+    void onDeactivated(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserDeactivated event) {
+        evict(List.of(event.userId()));
+    }
+
+    void onActivated(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserActivated event) {
+        evict(List.of(event.userId()));
+    }
+
+    void onPasswordChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserPasswordChanged event) {
+        evict(List.of(event.userId()));
+    }
+
+    void onPasswordRehashed(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserPasswordRehashed event) {
+        evict(List.of(event.userId()));
+    }
+
+    private Optional<User> load(Supplier<Optional<User>> loader) {
+        long seen = invalidations.get();
+        Optional<User> user = loader.get();
+        user.map(CachedUser::of).ifPresent(cached -> put(cached, seen));
+        return user;
+    }
+
+    /**
+     * Put under the key's lock, so an invalidation either sees the entry and removes it or
+     * has already been counted and the entry is not put.
+     */
+    private void put(CachedUser cached, long seen) {
+        byId.asMap().compute(cached.userId().value(), (id, current) -> invalidations.get() == seen ? cached : current);
+        idsByEmail.put(cached.email().value(), cached.userId().value());
+    }
+
+    private void evict(Collection<UserId> userIds) {
+        invalidations.incrementAndGet();
+        userIds.forEach(userId -> byId.invalidate(userId.value()));
+    }
+}
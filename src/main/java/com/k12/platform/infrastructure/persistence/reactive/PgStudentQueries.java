@@ -0,0 +1,67 @@
+package com.k12.platform.infrastructure.persistence.reactive;
+
+import com.k12.platform.domain.port.AsyncStudentQueries;
+import com.k12.platform.domain.port.Page;
+import com.k12.platform.domain.port.PageKey;
+import com.k12.platform.domain.port.StudentView;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AsyncStudentQueries on the Vert.x reactive PostgreSQL client, used when {@code k12.persistence.reactive.enabled}
+ * is set at build time. Queries are pipelined on the reactive pool's connections from the I/O thread, so the
+ * number of requests waiting on the database is not capped by worker threads or the JDBC pool.
+ * Same SQL, ordering and page keys as {@link com.k12.platform.infrastructure.persistence.JpaStudentQueries}.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "k12.persistence.reactive.enabled", stringValue = "true")
+@RequiredArgsConstructor
+public class PgStudentQueries implements AsyncStudentQueries {
+
+    private static final String SELECT_VIEW = "SELECT id, first_name, last_name, date_of_birth, grade_level,"
+            + " class_id, student_number, enrollment_date FROM students";
+
+    private final Pool pool;
+
+    @Override
+    public CompletionStage<Page<StudentView>> findByGradeLevel(int gradeLevel, PageKey after, int limit) {
+        var rows = after == null
+                ? pool.preparedQuery(SELECT_VIEW + " WHERE grade_level = $1 ORDER BY last_name, id LIMIT $2")
+                        .execute(Tuple.of(gradeLevel, limit + 1))
+                : pool.preparedQuery(SELECT_VIEW + " WHERE grade_level = $1 AND (last_name, id) > ($2, $3)"
+                                + " ORDER BY last_name, id LIMIT $4")
+                        .execute(Tuple.of(gradeLevel, after.sortKey(), after.id(), limit + 1));
+        return rows.map(result -> toPage(result, limit)).subscribeAsCompletionStage();
+    }
+
+    private static Page<StudentView> toPage(RowSet<Row> rows, int limit) {
+        List<StudentView> views = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            views.add(toView(row));
+        }
+        boolean hasNext = views.size() > limit;
+        List<StudentView> items = hasNext ? views.subList(0, limit) : views;
+        PageKey next = hasNext ? new PageKey(items.get(limit - 1).lastName(), items.get(limit - 1).studentId()) : null;
+        return new Page<>(List.copyOf(items), next);
+    }
+
+    private static StudentView toView(Row row) {
+        return new StudentView(
+                row.getUUID("id"),
+                row.getString("first_name"),
+                row.getString("last_name"),
+                row.getString("date_of_birth"),
+                row.getInteger("grade_level"),
+                row.getUUID("class_id"),
+                row.getString("student_number"),
+                row.getLocalDate("enrollment_date"));
+    }
+}
@@ -4,16 +4,22 @@ import com.k12.platform.domain.model.User;
 import com.k12.platform.domain.model.commands.LoginCommand;
 import com.k12.platform.domain.model.exceptions.AccountDeactivatedException;
 import com.k12.platform.domain.model.exceptions.DomainException;
+import com.k12.platform.domain.model.exceptions.HashingCapacityExceededException;
 import com.k12.platform.domain.model.exceptions.InvalidCredentialsException;
 import com.k12.platform.domain.model.valueobjects.EmailAddress;
 import com.k12.platform.domain.service.AuthenticationService;
+import com.k12.platform.interfaces.rest.admission.AdmissionControl;
 import com.k12.platform.interfaces.rest.dto.ErrorResponse;
 import com.k12.platform.interfaces.rest.dto.LoginRequest;
 import com.k12.platform.interfaces.rest.dto.LoginResponse;
 import com.k12.platform.interfaces.rest.dto.UserResponse;
 import com.k12.platform.interfaces.rest.jwt.TokenService;
+import com.k12.platform.interfaces.rest.security.LoginRateLimiter;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.vertx.core.http.HttpServerRequest;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import lombok.RequiredArgsConstructor;
@@ -26,14 +32,17 @@ import lombok.RequiredArgsConstructor;
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
 @RequiredArgsConstructor
+@RunOnVirtualThread
+@AdmissionControl
 public class AuthResource {
 
     private final AuthenticationService authenticationService;
     private final TokenService tokenService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @POST
     @Path("/login")
-    public Response login(@Valid LoginRequest request) {
+    public Response login(@Valid LoginRequest request, @Context HttpServerRequest httpRequest) {
         try {
             // Validate input
             if (request.email() == null || request.email().isBlank()) {
@@ -58,6 +67,15 @@ public class AuthResource {
                         .build();
             }
 
+            // Shed excess attempts per client and per account before any password hashing
+            long retryAfterSeconds = loginRateLimiter.acquire(clientAddress(httpRequest), email.value());
+            if (retryAfterSeconds > 0) {
+                return Response.status(Response.Status.TOO_MANY_REQUESTS)
+                        .header("Retry-After", retryAfterSeconds)
+                        .entity(new ErrorResponse("Too many login attempts, please retry later"))
+                        .build();
+            }
+
             // Map HTTP request → domain command
             var command = new LoginCommand(email, request.password());
 
@@ -89,6 +107,23 @@ public class AuthResource {
             return Response.status(Response.Status.UNAUTHORIZED)
                     .entity(new ErrorResponse("Account is deactivated"))
                     .build();
+
+        } catch (HashingCapacityExceededException e) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", e.retryAfterSeconds())
+                    .entity(new ErrorResponse("Too many login attempts in progress, please retry"))
+                    .build();
+        }
+    }
+
+    /**
+     * The client's address; with proxy address forwarding on, Vert.x already resolved it from X-Forwarded-For
+     * when the request came through a trusted proxy.
+     */
+    private static String clientAddress(HttpServerRequest httpRequest) {
+        if (httpRequest == null || httpRequest.remoteAddress() == null) {
+            return "unknown";
         }
+        return httpRequest.remoteAddress().host();
     }
 }
@@ -5,15 +5,22 @@ import com.k12.platform.domain.model.ClassService;
 import com.k12.platform.domain.model.exceptions.DomainException;
 import com.k12.platform.domain.model.valueobjects.*;
 import com.k12.platform.infrastructure.persistence.JpaClassAdapter;
+import com.k12.platform.infrastructure.persistence.JpaClassRosterAdapter;
+import com.k12.platform.interfaces.rest.admission.AdmissionControl;
 import com.k12.platform.interfaces.rest.dto.ClassResponse;
+import com.k12.platform.interfaces.rest.dto.ClassRosterRebuildResult;
 import com.k12.platform.interfaces.rest.dto.CreateClassRequest;
 import com.k12.platform.interfaces.rest.dto.ErrorResponse;
+import com.k12.platform.interfaces.rest.security.OwnedClassId;
 import com.k12.platform.interfaces.rest.security.RequireRole;
 import com.k12.platform.interfaces.rest.security.UserRole;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -26,10 +33,14 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @RequiredArgsConstructor
+@RunOnVirtualThread
+@AdmissionControl
 public class ClassResource {
 
     private final JpaClassAdapter classRepository;
+    private final JpaClassRosterAdapter classRosterRepository;
     private final ClassService classService;
+    private final Pagination pagination;
 
     @POST
     @RequireRole(UserRole.ADMIN)
@@ -72,7 +83,7 @@ public class ClassResource {
     @APIResponse(responseCode = "200", description = "Class found")
     @APIResponse(responseCode = "403", description = "Insufficient permissions or not authorized for this class")
     @APIResponse(responseCode = "404", description = "Class not found")
-    public Response getClass(@PathParam("id") String id) {
+    public Response getClass(@PathParam("id") @OwnedClassId String id) {
         try {
             ClassId classId = ClassId.of(id);
             Class clazz = classRepository.findById(classId).orElseThrow(() -> new NotFoundException("Class not found"));
@@ -91,22 +102,105 @@ public class ClassResource {
         }
     }
 
+    @GET
+    @Path("/{id}/roster")
+    @RequireRole({UserRole.ADMIN, UserRole.TEACHER})
+    @Operation(
+            summary = "Get class roster",
+            description = "Retrieves a class with its teachers, its students and each student's parents."
+                    + " Teachers can only access their assigned classes.")
+    @APIResponse(responseCode = "200", description = "Class found")
+    @APIResponse(responseCode = "403", description = "Insufficient permissions or not authorized for this class")
+    @APIResponse(responseCode = "404", description = "Class not found")
+    public Response getClassRoster(@PathParam("id") @OwnedClassId String id) {
+        try {
+            ClassId classId = ClassId.of(id);
+            String roster = classRosterRepository
+                    .findRoster(classId)
+                    .orElseThrow(() -> new NotFoundException("Class not found"));
+
+            return Response.ok(roster).build();
+
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("Invalid class ID format"))
+                    .build();
+        } catch (NotFoundException e) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+    }
+
+    @POST
+    @Path("/rosters/rebuild")
+    @RequireRole(UserRole.ADMIN)
+    @Operation(
+            summary = "Rebuild class rosters",
+            description = "Recomputes every class roster from the class, assignment, student and association"
+                    + " records (Admin only)")
+    @APIResponse(responseCode = "200", description = "Rosters rebuilt")
+    @APIResponse(responseCode = "403", description = "Insufficient permissions")
+    public Response rebuildClassRosters() {
+        return Response.ok(new ClassRosterRebuildResult(classRosterRepository.rebuild())).build();
+    }
+
     @GET
     @Path("/grade/{grade}")
     @RequireRole({UserRole.ADMIN, UserRole.TEACHER})
-    @Operation(summary = "Get classes by grade level", description = "Retrieves all classes for a specific grade")
+    @Operation(
+            summary = "Get classes by grade level",
+            description = "Retrieves the classes of a grade by name, one page at a time; a Link header with"
+                    + " rel=\"next\" points to the next page")
     @APIResponse(responseCode = "200", description = "Classes found")
+    @APIResponse(responseCode = "400", description = "Invalid grade, cursor or limit")
     @APIResponse(responseCode = "403", description = "Insufficient permissions")
-    public Response getClassesByGrade(@PathParam("grade") String grade) {
+    public Response getClassesByGrade(
+            @PathParam("grade") String grade,
+            @QueryParam("after") String after,
+            @QueryParam("limit") Integer limit,
+            @Context UriInfo uriInfo) {
         try {
             GradeLevel gradeLevel = GradeLevel.fromString(grade);
-            var classes = classRepository.findByGradeLevel(gradeLevel);
+            int pageSize = pagination.limit(limit);
+            var page = classRepository.findByGradeLevel(gradeLevel, pagination.after(after), pageSize);
+
+            var responses = page.items().stream().map(this::toResponse).toList();
+
+            return pagination.ok(page, responses, pageSize, uriInfo);
+
+        } catch (DomainException | IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+    }
 
-            var responses = classes.stream().map(this::toResponse).toList();
+    @GET
+    @Path("/year/{academicYear}")
+    @RequireRole({UserRole.ADMIN, UserRole.TEACHER})
+    @Operation(
+            summary = "Get classes by academic year",
+            description = "Retrieves the classes of an academic year by name, one page at a time; a Link header with"
+                    + " rel=\"next\" points to the next page")
+    @APIResponse(responseCode = "200", description = "Classes found")
+    @APIResponse(responseCode = "400", description = "Invalid academic year, cursor or limit")
+    @APIResponse(responseCode = "403", description = "Insufficient permissions")
+    public Response getClassesByAcademicYear(
+            @PathParam("academicYear") String academicYear,
+            @QueryParam("after") String after,
+            @QueryParam("limit") Integer limit,
+            @Context UriInfo uriInfo) {
+        try {
+            AcademicYear year = AcademicYear.of(academicYear);
+            int pageSize = pagination.limit(limit);
+            var page = classRepository.findByAcademicYear(year, pagination.after(after), pageSize);
 
-            return Response.ok(responses).build();
+            var responses = page.items().stream().map(this::toResponse).toList();
 
-        } catch (DomainException e) {
+            return pagination.ok(page, responses, pageSize, uriInfo);
+
+        } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity(new ErrorResponse(e.getMessage()))
                     .build();
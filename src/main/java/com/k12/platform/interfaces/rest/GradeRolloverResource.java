@@ -0,0 +1,83 @@
+package com.k12.platform.interfaces.rest;
+
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.interfaces.rest.admission.AdmissionControl;
+import com.k12.platform.interfaces.rest.dto.ErrorResponse;
+import com.k12.platform.interfaces.rest.rollover.GradeRolloverJob;
+import com.k12.platform.interfaces.rest.rollover.GradeRolloverRunner;
+import com.k12.platform.interfaces.rest.security.RequireRole;
+import com.k12.platform.interfaces.rest.security.UserRole;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+
+/**
+ * REST resource for the year-end grade rollover.
+ */
+@Path("/api/rollovers")
+@Produces(MediaType.APPLICATION_JSON)
+@RequiredArgsConstructor
+@RunOnVirtualThread
+@AdmissionControl
+public class GradeRolloverResource {
+
+    private final GradeRolloverRunner gradeRolloverRunner;
+
+    @POST
+    @Path("/{academicYear}")
+    @RequireRole(UserRole.ADMIN)
+    @Operation(
+            summary = "Roll over an academic year",
+            description = "Advances every student in the academic year's classes one grade and graduates grade 12,"
+                    + " in the background. An interrupted rollover resumes where it stopped (Admin only)")
+    @APIResponse(responseCode = "202", description = "Rollover started or resumed")
+    @APIResponse(responseCode = "400", description = "Invalid academic year")
+    @APIResponse(responseCode = "403", description = "Insufficient permissions")
+    @APIResponse(responseCode = "409", description = "Academic year already rolled over")
+    public Response startRollover(@PathParam("academicYear") String academicYear) {
+        try {
+            AcademicYear year = AcademicYear.of(academicYear);
+            GradeRolloverJob job = gradeRolloverRunner.submit(year);
+            return Response.accepted(job.status())
+                    .location(URI.create("/api/rollovers/" + year.value()))
+                    .build();
+
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+    }
+
+    @GET
+    @Path("/{academicYear}")
+    @RequireRole(UserRole.ADMIN)
+    @Operation(summary = "Get rollover status", description = "Progress and throughput of a rollover (Admin only)")
+    @APIResponse(responseCode = "200", description = "Rollover found")
+    @APIResponse(responseCode = "403", description = "Insufficient permissions")
+    @APIResponse(responseCode = "404", description = "Rollover not started")
+    public Response getRollover(@PathParam("academicYear") String academicYear) {
+        try {
+            return gradeRolloverRunner
+                    .status(AcademicYear.of(academicYear))
+                    .map(status -> Response.ok(status).build())
+                    .orElseGet(() -> Response.status(Response.Status.NOT_FOUND)
+                            .entity(new ErrorResponse("Rollover not started"))
+                            .build());
+
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+    }
+}
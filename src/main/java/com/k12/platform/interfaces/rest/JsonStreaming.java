@@ -0,0 +1,55 @@
+package com.k12.platform.interfaces.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Response bodies for list endpoints that read their rows from a cursor rather than a list.
+ * The returned output writes a JSON array element by element as the source produces rows, so neither the rows
+ * nor their DTOs are held in memory together. The source runs when the body is written, after the resource
+ * method returns: validate request parameters before calling {@link #array}.
+ * <p>
+ * A failure while writing leaves the array open and propagates, so the server drops the connection, whose
+ * status line has already gone out, rather than ending the body as if the list were complete.
+ */
+@ApplicationScoped
+public class JsonStreaming {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonStreaming(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param source passes each row to the consumer it is given, e.g. a repository's forEach method
+     * @param toResponse maps a row to the DTO written for it
+     */
+    public <T, R> StreamingOutput array(Consumer<Consumer<T>> source, Function<T, R> toResponse) {
+        return output -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+            try {
+                generator.writeStartArray();
+                source.accept(row -> {
+                    try {
+                        generator.writeObject(toResponse.apply(row));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            // Only closed on success: closing would end the array and the response, so a failure mid-stream
+            // would reach the client as a complete but truncated list
+            generator.close();
+        };
+    }
+}
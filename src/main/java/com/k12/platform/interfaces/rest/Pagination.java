@@ -0,0 +1,89 @@
+package com.k12.platform.interfaces.rest;
+
+import com.k12.platform.domain.port.Page;
+import com.k12.platform.domain.port.PageKey;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Query parameters and responses of the keyset-paged list endpoints.
+ * Endpoints take {@code ?after=<cursor>&limit=<n>} and answer with a JSON array of the page's items;
+ * when there are more, a {@code Link: <...>; rel="next"} header carries the URI of the next page.
+ * Cursors are opaque to clients: a URL-safe Base64 encoding of the repository's page key.
+ */
+@ApplicationScoped
+public class Pagination {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final int ID_LENGTH = 36;
+
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public Pagination(
+            @ConfigProperty(name = "k12.pagination.default-limit", defaultValue = "50") int defaultLimit,
+            @ConfigProperty(name = "k12.pagination.max-limit", defaultValue = "500") int maxLimit) {
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Page size for a requested limit: the default when absent, capped at k12.pagination.max-limit.
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public int limit(Integer requested) {
+        if (requested == null) {
+            return defaultLimit;
+        }
+        if (requested < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return Math.min(requested, maxLimit);
+    }
+
+    /**
+     * Decode an after cursor; null when absent.
+     * @throws IllegalArgumentException if the cursor was not issued by {@link #cursor(PageKey)}
+     */
+    public PageKey after(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.length() <= ID_LENGTH || decoded.charAt(ID_LENGTH) != ':') {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new PageKey(decoded.substring(ID_LENGTH + 1), UUID.fromString(decoded.substring(0, ID_LENGTH)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String cursor(PageKey key) {
+        return ENCODER.encodeToString((key.id() + ":" + key.sortKey()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 200 with the page's items, and a next link when there is a next page.
+     */
+    public Response ok(Page<?> page, List<?> items, int limit, UriInfo uriInfo) {
+        Response.ResponseBuilder response = Response.ok(items);
+        if (page.hasNext()) {
+            response.link(
+                    uriInfo.getRequestUriBuilder()
+                            .replaceQueryParam("after", cursor(page.next()))
+                            .replaceQueryParam("limit", limit)
+                            .build(),
+                    "next");
+        }
+        return response.build();
+    }
+}
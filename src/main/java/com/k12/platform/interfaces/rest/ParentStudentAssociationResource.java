@@ -4,15 +4,17 @@ import com.k12.platform.domain.model.ParentStudentAssociation;
 import com.k12.platform.domain.model.ParentStudentAssociationService;
 import com.k12.platform.domain.model.valueobjects.*;
 import com.k12.platform.infrastructure.persistence.JpaParentStudentAssociationAdapter;
+import com.k12.platform.interfaces.rest.admission.AdmissionControl;
 import com.k12.platform.interfaces.rest.dto.CreateParentStudentAssociationRequest;
 import com.k12.platform.interfaces.rest.dto.ErrorResponse;
 import com.k12.platform.interfaces.rest.dto.ParentStudentAssociationResponse;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import java.net.URI;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 
@@ -23,10 +25,13 @@ import org.eclipse.microprofile.openapi.annotations.Operation;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @RequiredArgsConstructor
+@RunOnVirtualThread
+@AdmissionControl
 public class ParentStudentAssociationResource {
 
     private final JpaParentStudentAssociationAdapter repository;
     private final ParentStudentAssociationService service;
+    private final JsonStreaming jsonStreaming;
 
     @POST
     @Operation(summary = "Associate parent with student", description = "Creates a new parent-student association")
@@ -62,11 +67,10 @@ public class ParentStudentAssociationResource {
     public Response getAssociationsByParent(@PathParam("parentId") String parentId) {
         try {
             UserId parentUserId = UserId.of(parentId);
-            List<ParentStudentAssociation> associations = repository.findByParentId(parentUserId);
+            StreamingOutput body = jsonStreaming.array(
+                    action -> repository.forEachByParentId(parentUserId, action), this::toResponse);
 
-            var responses = associations.stream().map(this::toResponse).toList();
-
-            return Response.ok(responses).build();
+            return Response.ok(body).build();
 
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.BAD_REQUEST)
@@ -81,11 +85,10 @@ public class ParentStudentAssociationResource {
     public Response getAssociationsByStudent(@PathParam("studentId") String studentId) {
         try {
             StudentId id = StudentId.of(studentId);
-            List<ParentStudentAssociation> associations = repository.findByStudentId(id);
-
-            var responses = associations.stream().map(this::toResponse).toList();
+            StreamingOutput body =
+                    jsonStreaming.array(action -> repository.forEachByStudentId(id, action), this::toResponse);
 
-            return Response.ok(responses).build();
+            return Response.ok(body).build();
 
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.BAD_REQUEST)
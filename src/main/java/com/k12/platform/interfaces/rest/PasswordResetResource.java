@@ -2,13 +2,19 @@ package com.k12.platform.interfaces.rest;
 
 import com.k12.platform.domain.model.PasswordResetService;
 import com.k12.platform.domain.model.User;
+import com.k12.platform.domain.model.exceptions.ConcurrentUpdateException;
+import com.k12.platform.domain.model.exceptions.HashingCapacityExceededException;
 import com.k12.platform.domain.model.valueobjects.EmailAddress;
 import com.k12.platform.domain.model.valueobjects.PasswordHash;
 import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.PasswordCostPolicy;
+import com.k12.platform.domain.port.PasswordHashingExecutor;
 import com.k12.platform.domain.port.UserRepository;
+import com.k12.platform.interfaces.rest.admission.AdmissionControl;
 import com.k12.platform.interfaces.rest.dto.ErrorResponse;
 import com.k12.platform.interfaces.rest.dto.PasswordResetConfirmRequest;
 import com.k12.platform.interfaces.rest.dto.PasswordResetRequestRequest;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
@@ -23,10 +29,14 @@ import org.eclipse.microprofile.openapi.annotations.Operation;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @RequiredArgsConstructor
+@RunOnVirtualThread
+@AdmissionControl
 public class PasswordResetResource {
 
     private final PasswordResetService passwordResetService;
     private final UserRepository userRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PasswordCostPolicy passwordCostPolicy;
 
     @POST
     @Path("/request")
@@ -70,7 +80,9 @@ public class PasswordResetResource {
                     userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("User not found"));
 
             // Update password
-            PasswordHash newPasswordHash = PasswordHash.hash(request.newPassword());
+            int cost = passwordCostPolicy.targetCost();
+            PasswordHash newPasswordHash =
+                    passwordHashingExecutor.execute(() -> PasswordHash.hash(request.newPassword(), cost));
             user.updatePassword(newPasswordHash);
             userRepository.save(user);
 
@@ -84,6 +96,16 @@ public class PasswordResetResource {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity(new ErrorResponse(e.getMessage()))
                     .build();
+        } catch (ConcurrentUpdateException e) {
+            // The token is still unused, so the reset can simply be submitted again
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        } catch (HashingCapacityExceededException e) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", e.retryAfterSeconds())
+                    .entity(new ErrorResponse("Server is busy, please retry"))
+                    .build();
         }
     }
 
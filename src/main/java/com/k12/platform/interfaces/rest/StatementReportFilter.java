@@ -0,0 +1,112 @@
+package com.k12.platform.interfaces.rest;
+
+import com.k12.platform.infrastructure.persistence.StatementLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.ext.Provider;
+import java.lang.reflect.Method;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Reports the SQL statements each request ran, from its {@link StatementLog}, per endpoint: as the
+ * {@code k12.request.statements} summary and {@code k12.request.statement.time} timer, and, when
+ * {@code k12.statements.header} is set (dev and tests), as X-Statement-* response headers.
+ * Requests that repeat one statement shape {@code k12.statements.repeat-warning} times or more, the N+1
+ * pattern, are counted in {@code k12.request.statement.repeats} and logged.
+ * <p>
+ * A {@link StreamingOutput} body runs its statements after this filter, while it is written. Its metrics are
+ * therefore recorded once the body has been written; its headers, sent before the body, only count the statements
+ * run up to then and carry X-Statement-Streamed so that callers can tell.
+ */
+@Provider
+public class StatementReportFilter implements ContainerResponseFilter {
+
+    static final String COUNT_HEADER = "X-Statement-Count";
+    static final String TIME_HEADER = "X-Statement-Time-Ms";
+    static final String REPEATS_HEADER = "X-Statement-Max-Repeats";
+    static final String STREAMED_HEADER = "X-Statement-Streamed";
+
+    private static final Logger LOG = Logger.getLogger(StatementReportFilter.class);
+
+    @Inject
+    StatementLog statements;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "k12.statements.header", defaultValue = "false")
+    boolean header;
+
+    @ConfigProperty(name = "k12.statements.repeat-warning", defaultValue = "5")
+    int repeatWarning;
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        Method method = resourceInfo.getResourceMethod();
+        if (method == null) {
+            return;
+        }
+        if (header) {
+            response.getHeaders().putSingle(COUNT_HEADER, statements.count());
+            response.getHeaders().putSingle(TIME_HEADER, statements.executionTime().toNanos() / 1_000_000.0);
+            response.getHeaders().putSingle(REPEATS_HEADER, statements.maxRepeats());
+        }
+
+        String endpoint = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        if (response.getEntity() instanceof StreamingOutput body) {
+            if (header) {
+                response.getHeaders().putSingle(STREAMED_HEADER, true);
+            }
+            response.setEntity(reportedAfterWriting(body, endpoint));
+            return;
+        }
+        report(endpoint);
+    }
+
+    private StreamingOutput reportedAfterWriting(StreamingOutput body, String endpoint) {
+        return output -> {
+            try {
+                body.write(output);
+            } finally {
+                report(endpoint);
+            }
+        };
+    }
+
+    private void report(String endpoint) {
+        int count = statements.count();
+        DistributionSummary.builder("k12.request.statements")
+                .description("SQL statements run to serve one request")
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(count);
+        Timer.builder("k12.request.statement.time")
+                .description("Time spent executing SQL statements to serve one request")
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(statements.executionTime());
+        if (statements.maxRepeats() >= repeatWarning) {
+            Counter.builder("k12.request.statement.repeats")
+                    .description("Requests that repeated one statement shape repeat-warning times or more")
+                    .tag("endpoint", endpoint)
+                    .register(registry)
+                    .increment();
+            LOG.warnf(
+                    "%s ran one statement %d times: %s",
+                    endpoint, statements.maxRepeats(), statements.mostRepeated());
+        }
+    }
+}
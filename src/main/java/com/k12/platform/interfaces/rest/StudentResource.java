@@ -1,38 +1,72 @@
 package com.k12.platform.interfaces.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.k12.platform.domain.model.Student;
 import com.k12.platform.domain.model.StudentRegistrationService;
+import com.k12.platform.domain.model.exceptions.ConcurrentUpdateException;
+import com.k12.platform.domain.model.exceptions.DomainException;
 import com.k12.platform.domain.model.valueobjects.*;
+import com.k12.platform.domain.port.AsyncStudentQueries;
+import com.k12.platform.domain.port.StudentView;
 import com.k12.platform.infrastructure.persistence.JpaStudentAdapter;
+import com.k12.platform.infrastructure.persistence.JpaStudentQueries;
+import com.k12.platform.interfaces.rest.admission.AdmissionControl;
 import com.k12.platform.interfaces.rest.dto.CreateStudentRequest;
 import com.k12.platform.interfaces.rest.dto.ErrorResponse;
 import com.k12.platform.interfaces.rest.dto.StudentResponse;
 import com.k12.platform.interfaces.rest.dto.TransferGradeRequest;
+import com.k12.platform.interfaces.rest.importing.ImportRowReader;
+import com.k12.platform.interfaces.rest.importing.StudentImportReport;
+import com.k12.platform.interfaces.rest.importing.StudentImporter;
+import com.k12.platform.interfaces.rest.security.OwnedStudentId;
 import com.k12.platform.interfaces.rest.security.RequireRole;
 import com.k12.platform.interfaces.rest.security.UserRole;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriInfo;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 
 /**
  * REST resource for Student management.
+ * Blocking endpoints are marked {@code @RunOnVirtualThread} one by one: getStudentsByGrade does not block
+ * and stays on the I/O thread.
  */
 @Path("/api/students")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @RequiredArgsConstructor
+@AdmissionControl
 public class StudentResource {
 
+    static final String TEXT_CSV = "text/csv";
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     private final JpaStudentAdapter studentRepository;
+    private final JpaStudentQueries studentQueries;
+    private final AsyncStudentQueries asyncStudentQueries;
     private final StudentRegistrationService studentRegistrationService;
+    private final StudentImporter studentImporter;
+    private final ObjectMapper objectMapper;
+    private final Pagination pagination;
 
     @POST
+    @RunOnVirtualThread
     @RequireRole(UserRole.ADMIN)
     @Operation(summary = "Register a new student", description = "Creates a new student record (Admin only)")
     @APIResponse(responseCode = "201", description = "Student created successfully")
@@ -67,7 +101,34 @@ public class StudentResource {
         }
     }
 
+    @POST
+    @RunOnVirtualThread
+    @Path("/import")
+    @RequireRole(UserRole.ADMIN)
+    @Consumes({TEXT_CSV, APPLICATION_NDJSON})
+    @Produces(APPLICATION_NDJSON)
+    @Operation(
+            summary = "Import students",
+            description = "Registers students from a CSV file with a header row or from NDJSON, one student per"
+                    + " row in the create-student format. The body is read as it arrives and the response streams"
+                    + " one result line per row, followed by a summary line. Bodies are limited to the server's"
+                    + " request size limit (10 MB by default); split larger files into several imports of whole"
+                    + " rows, repeating the CSV header row in each (Admin only)")
+    @APIResponse(responseCode = "200", description = "Import processed; see the per-row results")
+    @APIResponse(responseCode = "403", description = "Insufficient permissions")
+    @APIResponse(responseCode = "413", description = "Body over the request size limit; split the file")
+    public Response importStudents(InputStream body, @HeaderParam(HttpHeaders.CONTENT_TYPE) String contentType) {
+        boolean csv = contentType != null && contentType.toLowerCase().startsWith(TEXT_CSV);
+        StreamingOutput report = output -> {
+            Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+            ImportRowReader rows = csv ? ImportRowReader.csv(reader) : ImportRowReader.ndjson(reader, objectMapper);
+            studentImporter.importStudents(rows, new StudentImportReport(output, objectMapper));
+        };
+        return Response.ok(report).build();
+    }
+
     @GET
+    @RunOnVirtualThread
     @Path("/{id}")
     @RequireRole({UserRole.ADMIN, UserRole.TEACHER, UserRole.PARENT})
     @Operation(
@@ -77,11 +138,11 @@ public class StudentResource {
     @APIResponse(responseCode = "200", description = "Student found")
     @APIResponse(responseCode = "403", description = "Insufficient permissions or not authorized for this student")
     @APIResponse(responseCode = "404", description = "Student not found")
-    public Response getStudent(@PathParam("id") String id) {
+    public Response getStudent(@PathParam("id") @OwnedStudentId String id) {
         try {
             StudentId studentId = StudentId.of(id);
-            Student student =
-                    studentRepository.findById(studentId).orElseThrow(() -> new NotFoundException("Student not found"));
+            StudentView student =
+                    studentQueries.findById(studentId).orElseThrow(() -> new NotFoundException("Student not found"));
 
             StudentResponse response = toResponse(student);
             return Response.ok(response).build();
@@ -97,7 +158,40 @@ public class StudentResource {
         }
     }
 
+    @GET
+    @Path("/grade/{grade}")
+    @RequireRole(UserRole.ADMIN)
+    @Operation(
+            summary = "Get students by grade level",
+            description = "Retrieves the students of a grade by last name, one page at a time; a Link header with"
+                    + " rel=\"next\" points to the next page (Admin only)")
+    @APIResponse(responseCode = "200", description = "Students found")
+    @APIResponse(responseCode = "400", description = "Invalid grade, cursor or limit")
+    @APIResponse(responseCode = "403", description = "Insufficient permissions")
+    public CompletionStage<Response> getStudentsByGrade(
+            @PathParam("grade") String grade,
+            @QueryParam("after") String after,
+            @QueryParam("limit") Integer limit,
+            @Context UriInfo uriInfo) {
+        // Returns on the I/O thread and the query completes the response. Only the reactive build waits for the
+        // rows without a thread; the default build runs the JDBC query on a worker thread.
+        try {
+            GradeLevel gradeLevel = GradeLevel.fromString(grade);
+            int pageSize = pagination.limit(limit);
+            return asyncStudentQueries
+                    .findByGradeLevel(gradeLevel.value(), pagination.after(after), pageSize)
+                    .thenApply(page -> pagination.ok(
+                            page, page.items().stream().map(this::toResponse).toList(), pageSize, uriInfo));
+
+        } catch (DomainException | IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build());
+        }
+    }
+
     @POST
+    @RunOnVirtualThread
     @Path("/{id}/transfer")
     @RequireRole(UserRole.ADMIN)
     @Operation(
@@ -106,6 +200,7 @@ public class StudentResource {
     @APIResponse(responseCode = "200", description = "Student transferred successfully")
     @APIResponse(responseCode = "403", description = "Insufficient permissions")
     @APIResponse(responseCode = "404", description = "Student not found")
+    @APIResponse(responseCode = "409", description = "Student was modified concurrently")
     public Response transferGrade(@PathParam("id") String id, @Valid TransferGradeRequest request) {
         try {
             StudentId studentId = StudentId.of(id);
@@ -127,10 +222,15 @@ public class StudentResource {
             return Response.status(Response.Status.NOT_FOUND)
                     .entity(new ErrorResponse(e.getMessage()))
                     .build();
+        } catch (ConcurrentUpdateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
         }
     }
 
     @POST
+    @RunOnVirtualThread
     @Path("/{id}/advance")
     @RequireRole(UserRole.ADMIN)
     @Operation(
@@ -139,6 +239,7 @@ public class StudentResource {
     @APIResponse(responseCode = "200", description = "Student advanced successfully")
     @APIResponse(responseCode = "403", description = "Insufficient permissions")
     @APIResponse(responseCode = "404", description = "Student not found")
+    @APIResponse(responseCode = "409", description = "Student was modified concurrently")
     public Response advanceGrade(@PathParam("id") String id) {
         try {
             StudentId studentId = StudentId.of(id);
@@ -159,6 +260,10 @@ public class StudentResource {
             return Response.status(Response.Status.NOT_FOUND)
                     .entity(new ErrorResponse(e.getMessage()))
                     .build();
+        } catch (ConcurrentUpdateException e) {
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
         }
     }
 
@@ -176,4 +281,16 @@ public class StudentResource {
                 studentNumber,
                 student.enrollmentDate().toString());
     }
+
+    private StudentResponse toResponse(StudentView student) {
+        return new StudentResponse(
+                student.studentId().toString(),
+                student.firstName(),
+                student.lastName(),
+                student.dateOfBirth(),
+                GradeLevel.displayValue(student.gradeLevel()),
+                student.classId().toString(),
+                student.studentNumber(),
+                student.enrollmentDate().toString());
+    }
 }
@@ -4,16 +4,18 @@ import com.k12.platform.domain.model.TeacherClassAssignment;
 import com.k12.platform.domain.model.TeacherClassAssignmentService;
 import com.k12.platform.domain.model.valueobjects.*;
 import com.k12.platform.infrastructure.persistence.JpaTeacherClassAssignmentAdapter;
+import com.k12.platform.interfaces.rest.admission.AdmissionControl;
 import com.k12.platform.interfaces.rest.dto.CreateTeacherClassAssignmentRequest;
 import com.k12.platform.interfaces.rest.dto.ErrorResponse;
 import com.k12.platform.interfaces.rest.dto.TeacherClassAssignmentResponse;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import java.net.URI;
 import java.time.LocalDate;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 
@@ -24,10 +26,13 @@ import org.eclipse.microprofile.openapi.annotations.Operation;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @RequiredArgsConstructor
+@RunOnVirtualThread
+@AdmissionControl
 public class TeacherClassAssignmentResource {
 
     private final JpaTeacherClassAssignmentAdapter repository;
     private final TeacherClassAssignmentService service;
+    private final JsonStreaming jsonStreaming;
 
     @POST
     @Operation(summary = "Assign teacher to class", description = "Creates a new teacher-class assignment")
@@ -65,11 +70,10 @@ public class TeacherClassAssignmentResource {
     public Response getAssignmentsByTeacher(@PathParam("teacherId") String teacherId) {
         try {
             UserId teacherUserId = UserId.of(teacherId);
-            List<TeacherClassAssignment> assignments = repository.findByTeacherId(teacherUserId);
+            StreamingOutput body = jsonStreaming.array(
+                    action -> repository.forEachByTeacherId(teacherUserId, action), this::toResponse);
 
-            var responses = assignments.stream().map(this::toResponse).toList();
-
-            return Response.ok(responses).build();
+            return Response.ok(body).build();
 
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.BAD_REQUEST)
@@ -84,11 +88,10 @@ public class TeacherClassAssignmentResource {
     public Response getAssignmentsByClass(@PathParam("classId") String classId) {
         try {
             ClassId classUuid = ClassId.of(classId);
-            List<TeacherClassAssignment> assignments = repository.findByClassId(classUuid);
-
-            var responses = assignments.stream().map(this::toResponse).toList();
+            StreamingOutput body =
+                    jsonStreaming.array(action -> repository.forEachByClassId(classUuid, action), this::toResponse);
 
-            return Response.ok(responses).build();
+            return Response.ok(body).build();
 
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.BAD_REQUEST)
@@ -1,6 +1,8 @@
 package com.k12.platform.interfaces.rest;
 
 import com.k12.platform.domain.port.UserRepository;
+import com.k12.platform.interfaces.rest.admission.AdmissionControl;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.core.Response;
@@ -11,6 +13,8 @@ import lombok.RequiredArgsConstructor;
  */
 @Path("/api/test")
 @RequiredArgsConstructor
+@RunOnVirtualThread
+@AdmissionControl
 public class TestResource {
 
     private final UserRepository userRepository;
@@ -19,7 +23,7 @@ public class TestResource {
     @Path("/db")
     public Response testDb() {
         try {
-            long count = userRepository.findAll().size();
+            long count = userRepository.count();
             return Response.ok("User count: " + count).build();
         } catch (Exception e) {
             return Response.serverError().entity("Error: " + e.getMessage()).build();
@@ -3,20 +3,33 @@ package com.k12.platform.interfaces.rest;
 import com.k12.platform.domain.model.User;
 import com.k12.platform.domain.model.UserRole;
 import com.k12.platform.domain.model.commands.RegisterUserCommand;
+import com.k12.platform.domain.model.exceptions.HashingCapacityExceededException;
 import com.k12.platform.domain.model.exceptions.InvalidEmailException;
 import com.k12.platform.domain.model.exceptions.UserAlreadyExistsException;
 import com.k12.platform.domain.model.valueobjects.EmailAddress;
 import com.k12.platform.domain.model.valueobjects.PasswordHash;
+import com.k12.platform.domain.port.PasswordCostPolicy;
+import com.k12.platform.domain.port.PasswordHashingExecutor;
+import com.k12.platform.domain.port.UserRepository;
 import com.k12.platform.domain.service.PasswordValidator;
 import com.k12.platform.domain.service.UserRegistrationService;
+import com.k12.platform.interfaces.rest.admission.AdmissionControl;
 import com.k12.platform.interfaces.rest.dto.CreateUserRequest;
 import com.k12.platform.interfaces.rest.dto.ErrorResponse;
+import com.k12.platform.interfaces.rest.dto.ProvisionAccountsRequest;
 import com.k12.platform.interfaces.rest.dto.UserResponse;
+import com.k12.platform.interfaces.rest.provisioning.AccountProvisioner;
+import com.k12.platform.interfaces.rest.provisioning.ProvisioningJob;
 import com.k12.platform.interfaces.rest.security.RequireRole;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import java.net.URI;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -27,9 +40,35 @@ import lombok.RequiredArgsConstructor;
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
 @RequiredArgsConstructor
+@RunOnVirtualThread
+@AdmissionControl
 public class UserResource {
 
     private final UserRegistrationService userRegistrationService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PasswordCostPolicy passwordCostPolicy;
+    private final AccountProvisioner accountProvisioner;
+    private final UserRepository userRepository;
+    private final Pagination pagination;
+
+    /**
+     * List users by creation time, one page at a time; a Link header with rel="next" points to the next page.
+     */
+    @GET
+    @RequireRole(value = com.k12.platform.interfaces.rest.security.UserRole.ADMIN)
+    public Response listUsers(
+            @QueryParam("after") String after, @QueryParam("limit") Integer limit, @Context UriInfo uriInfo) {
+        try {
+            int pageSize = pagination.limit(limit);
+            var page = userRepository.findAll(pagination.after(after), pageSize);
+            var responses = page.items().stream().map(UserResource::toResponse).toList();
+            return pagination.ok(page, responses, pageSize, uriInfo);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+    }
 
     @POST
     @Path("/teacher")
@@ -52,6 +91,44 @@ public class UserResource {
         return createUser(request, UserRole.ADMIN);
     }
 
+    /**
+     * Start provisioning teacher and parent accounts in bulk.
+     * Answers 202 with the job status; poll the Location for progress and throughput.
+     */
+    @POST
+    @Path("/bulk")
+    @RequireRole(value = com.k12.platform.interfaces.rest.security.UserRole.ADMIN)
+    public Response provisionAccounts(ProvisionAccountsRequest request) {
+        try {
+            ProvisioningJob job = accountProvisioner.submit(request != null ? request.accounts() : null);
+            return Response.accepted(job.status())
+                    .location(URI.create("/api/users/bulk/" + job.id()))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+    }
+
+    @GET
+    @Path("/bulk/{jobId}")
+    @RequireRole(value = com.k12.platform.interfaces.rest.security.UserRole.ADMIN)
+    public Response getProvisioningJob(@PathParam("jobId") String jobId) {
+        try {
+            return accountProvisioner
+                    .find(UUID.fromString(jobId))
+                    .map(job -> Response.ok(job.status()).build())
+                    .orElseGet(() -> Response.status(Response.Status.NOT_FOUND)
+                            .entity(new ErrorResponse("Provisioning job not found"))
+                            .build());
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("Invalid job ID format"))
+                    .build();
+        }
+    }
+
     private Response createUser(CreateUserRequest request, UserRole role) {
         try {
             // Validate required fields
@@ -99,7 +176,9 @@ public class UserResource {
             }
 
             // Hash password
-            PasswordHash passwordHash = PasswordHash.hash(request.password());
+            int cost = passwordCostPolicy.targetCost();
+            PasswordHash passwordHash =
+                    passwordHashingExecutor.execute(() -> PasswordHash.hash(request.password(), cost));
 
             // Map HTTP request → domain command
             var command =
@@ -109,20 +188,30 @@ public class UserResource {
             User user = userRegistrationService.register(command);
 
             // Map domain → HTTP response
-            var userResponse = new UserResponse(
-                    user.userId().toString(),
-                    user.email().value(),
-                    user.role().name(),
-                    user.firstName(),
-                    user.lastName(),
-                    user.isActive());
-
-            return Response.status(Response.Status.CREATED).entity(userResponse).build();
+            return Response.status(Response.Status.CREATED)
+                    .entity(toResponse(user))
+                    .build();
 
         } catch (UserAlreadyExistsException e) {
             return Response.status(Response.Status.CONFLICT)
                     .entity(new ErrorResponse("User with this email already exists"))
                     .build();
+
+        } catch (HashingCapacityExceededException e) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", e.retryAfterSeconds())
+                    .entity(new ErrorResponse("Server is busy, please retry"))
+                    .build();
         }
     }
+
+    private static UserResponse toResponse(User user) {
+        return new UserResponse(
+                user.userId().toString(),
+                user.email().value(),
+                user.role().name(),
+                user.firstName(),
+                user.lastName(),
+                user.isActive());
+    }
 }
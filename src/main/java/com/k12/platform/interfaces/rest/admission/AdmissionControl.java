@@ -0,0 +1,16 @@
+package com.k12.platform.interfaces.rest.admission;
+
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Admits calls to the annotated endpoints through {@link RequestAdmission} when they run on virtual threads.
+ * Put it on resources whose blocking endpoints are marked {@code @RunOnVirtualThread}.
+ */
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface AdmissionControl {}
@@ -0,0 +1,80 @@
+package com.k12.platform.interfaces.rest.admission;
+
+import com.k12.platform.interfaces.rest.dto.ErrorResponse;
+import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+/**
+ * Holds a {@link RequestAdmission} permit for the whole endpoint call, security checks included, or answers 503
+ * with Retry-After when none frees up in time. Calls on platform threads pass straight through: the worker pool
+ * already bounds them, and endpoints served on the I/O thread must not wait.
+ * <p>
+ * A {@link StreamingOutput} body does its work (JDBC cursors, imports) after the method returns, so its permit
+ * is held until the body has been written, or until the response ends if the body is never written.
+ */
+@Interceptor
+@AdmissionControl
+@Priority(1500)
+public class AdmissionControlInterceptor {
+
+    @Inject
+    RequestAdmission admission;
+
+    @Inject
+    CurrentVertxRequest currentVertxRequest;
+
+    @AroundInvoke
+    public Object admit(InvocationContext context) throws Exception {
+        if (!Thread.currentThread().isVirtual()) {
+            return context.proceed();
+        }
+        if (!admission.acquire()) {
+            throw new ServiceUnavailableException(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", admission.retryAfterSeconds())
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(new ErrorResponse("Server is busy, please retry later"))
+                    .build());
+        }
+        AdmissionPermit permit = new AdmissionPermit(admission);
+        boolean streaming = false;
+        try {
+            Object result = context.proceed();
+            if (result instanceof Response response && response.getEntity() instanceof StreamingOutput body) {
+                streaming = true;
+                releaseWhenResponseEnds(permit);
+                return Response.fromResponse(response)
+                        .entity(permit.heldWhileWriting(body))
+                        .build();
+            }
+            if (result instanceof StreamingOutput body) {
+                streaming = true;
+                releaseWhenResponseEnds(permit);
+                return permit.heldWhileWriting(body);
+            }
+            return result;
+        } finally {
+            if (!streaming) {
+                permit.release();
+            }
+        }
+    }
+
+    /**
+     * Backstop for a streamed body that is never written, e.g. when a response filter fails first.
+     */
+    private void releaseWhenResponseEnds(AdmissionPermit permit) {
+        RoutingContext routingContext = currentVertxRequest != null ? currentVertxRequest.getCurrent() : null;
+        if (routingContext != null) {
+            routingContext.addEndHandler(ended -> permit.release());
+        }
+    }
+}
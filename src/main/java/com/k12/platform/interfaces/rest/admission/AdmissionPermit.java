@@ -0,0 +1,38 @@
+package com.k12.platform.interfaces.rest.admission;
+
+import jakarta.ws.rs.core.StreamingOutput;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The permit of one admitted call. It is released exactly once, however many of the call's exit paths try:
+ * when the endpoint returns, or for a streamed body when the body has been written or the response has ended.
+ */
+final class AdmissionPermit {
+
+    private final RequestAdmission admission;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    AdmissionPermit(RequestAdmission admission) {
+        this.admission = admission;
+    }
+
+    void release() {
+        if (released.compareAndSet(false, true)) {
+            admission.release();
+        }
+    }
+
+    /**
+     * A body that writes the given one and then releases the permit, so the reads it makes while writing
+     * (cursors over the database, an import) still count as admitted.
+     */
+    StreamingOutput heldWhileWriting(StreamingOutput body) {
+        return output -> {
+            try {
+                body.write(output);
+            } finally {
+                release();
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.k12.platform.interfaces.rest.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Caps the endpoint calls on virtual threads that may be in progress at once.
+ * Virtual threads are cheap enough that every open connection gets one, so without a cap they would all queue
+ * for a JDBC connection and time out there together. Here at most {@code max-concurrent} calls proceed, in
+ * arrival order, sized to the connection pool; the rest wait up to {@code max-wait} and are then turned away.
+ */
+@ApplicationScoped
+public class RequestAdmission {
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final long retryAfterSeconds;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public RequestAdmission(
+            @ConfigProperty(name = "k12.admission.max-concurrent", defaultValue = "40") int maxConcurrent,
+            @ConfigProperty(name = "k12.admission.max-wait", defaultValue = "2s") Duration maxWait,
+            @ConfigProperty(name = "k12.admission.retry-after-seconds", defaultValue = "1") long retryAfterSeconds,
+            MeterRegistry registry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.waitTimer = Timer.builder("k12.admission.wait")
+                .description("Time a request on a virtual thread waited to be admitted")
+                .register(registry);
+        this.rejectedCounter = Counter.builder("k12.admission.rejected")
+                .description("Requests on virtual threads turned away because none could be admitted in time")
+                .register(registry);
+        Gauge.builder("k12.admission.waiting", permits, Semaphore::getQueueLength)
+                .description("Requests on virtual threads currently waiting to be admitted")
+                .register(registry);
+        Gauge.builder("k12.admission.active", permits, p -> maxConcurrent - p.availablePermits())
+                .description("Requests on virtual threads currently admitted")
+                .register(registry);
+    }
+
+    /**
+     * Wait for a permit; false if none freed up within the maximum wait.
+     */
+    public boolean acquire() throws InterruptedException {
+        long start = System.nanoTime();
+        boolean admitted = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!admitted) {
+            rejectedCounter.increment();
+        }
+        return admitted;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public long retryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
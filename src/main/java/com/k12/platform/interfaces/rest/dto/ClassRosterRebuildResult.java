@@ -0,0 +1,8 @@
+package com.k12.platform.interfaces.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Response DTO for a class roster rebuild.
+ */
+public record ClassRosterRebuildResult(@JsonProperty("rebuilt") int rebuilt) {}
@@ -0,0 +1,19 @@
+package com.k12.platform.interfaces.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Response DTO for a year-end grade rollover.
+ * State is QUEUED, RUNNING, COMPLETED, FAILED, or INTERRUPTED when a started rollover is not running
+ * (it resumes from its checkpoint when started again). Counts cover the whole rollover;
+ * rows_per_second covers the current run only.
+ */
+public record GradeRolloverStatus(
+        @JsonProperty("academic_year") String academicYear,
+        @JsonProperty("state") String state,
+        @JsonProperty("advanced") int advanced,
+        @JsonProperty("graduated") int graduated,
+        @JsonProperty("started_at") String startedAt,
+        @JsonProperty("completed_at") String completedAt,
+        @JsonProperty("elapsed_millis") long elapsedMillis,
+        @JsonProperty("rows_per_second") double rowsPerSecond) {}
@@ -0,0 +1,12 @@
+package com.k12.platform.interfaces.rest.dto;
+
+import java.util.List;
+
+/**
+ * REST request DTO for bulk account provisioning.
+ * Each account has the CreateUserRequest fields plus its role (TEACHER or PARENT).
+ */
+public record ProvisionAccountsRequest(List<Account> accounts) {
+
+    public record Account(String email, String password, String firstName, String lastName, String role) {}
+}
@@ -0,0 +1,28 @@
+package com.k12.platform.interfaces.rest.dto;
+
+import java.util.List;
+
+/**
+ * REST response DTO for a bulk account provisioning job.
+ * State is QUEUED, RUNNING, COMPLETED or FAILED; processed counts accounts that are created, rejected or failed.
+ * Throughput is accounts processed per second of running time.
+ */
+public record ProvisioningJobStatus(
+        String jobId,
+        String state,
+        int total,
+        int processed,
+        int created,
+        int rejected,
+        int failed,
+        String startedAt,
+        String finishedAt,
+        long elapsedMillis,
+        double accountsPerSecond,
+        List<Rejection> rejections) {
+
+    /**
+     * An account that was not created, by its position in the request.
+     */
+    public record Rejection(int index, String email, String error) {}
+}
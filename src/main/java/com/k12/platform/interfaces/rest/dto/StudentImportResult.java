@@ -0,0 +1,28 @@
+package com.k12.platform.interfaces.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One line of a student import report.
+ * Status is "created" (with student_id), "rejected" (invalid row) or "failed" (could not be saved), with an error.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record StudentImportResult(
+        @JsonProperty("row") int row,
+        @JsonProperty("status") String status,
+        @JsonProperty("student_id") String studentId,
+        @JsonProperty("error") String error) {
+
+    public static StudentImportResult created(int row, String studentId) {
+        return new StudentImportResult(row, "created", studentId, null);
+    }
+
+    public static StudentImportResult rejected(int row, String error) {
+        return new StudentImportResult(row, "rejected", null, error);
+    }
+
+    public static StudentImportResult failed(int row, String error) {
+        return new StudentImportResult(row, "failed", null, error);
+    }
+}
@@ -0,0 +1,12 @@
+package com.k12.platform.interfaces.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Last line of a student import report.
+ */
+public record StudentImportSummary(
+        @JsonProperty("rows") int rows,
+        @JsonProperty("created") int created,
+        @JsonProperty("rejected") int rejected,
+        @JsonProperty("failed") int failed) {}
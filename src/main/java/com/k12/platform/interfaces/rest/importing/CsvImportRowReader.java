@@ -0,0 +1,167 @@
+package com.k12.platform.interfaces.rest.importing;
+
+import com.k12.platform.interfaces.rest.dto.CreateStudentRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RFC 4180 CSV: comma separated, fields optionally double-quoted, "" for a quote inside a quoted field,
+ * quoted fields may span lines. The first record names the columns; unknown columns are ignored and
+ * empty fields are read as absent.
+ */
+final class CsvImportRowReader implements ImportRowReader {
+
+    private static final List<String> COLUMNS = List.of(
+            "first_name",
+            "last_name",
+            "date_of_birth",
+            "grade_level",
+            "class_id",
+            "student_number",
+            "enrollment_date");
+
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> fields = new ArrayList<>();
+    private int[] columnIndexes;
+    private int headerLength;
+    private int rowNumber;
+    private String recordError;
+
+    CsvImportRowReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (columnIndexes == null && !readHeader()) {
+            return null;
+        }
+        while (readRecord()) {
+            if (recordError == null && fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            rowNumber++;
+            if (recordError != null) {
+                return ImportRow.malformed(rowNumber, recordError);
+            }
+            if (fields.size() != headerLength) {
+                return ImportRow.malformed(
+                        rowNumber, "Expected " + headerLength + " fields but found " + fields.size());
+            }
+            return ImportRow.parsed(rowNumber, toRequest());
+        }
+        return null;
+    }
+
+    private boolean readHeader() throws IOException {
+        if (!readRecord()) {
+            return false;
+        }
+        if (recordError != null) {
+            throw new IOException("Invalid CSV header: " + recordError);
+        }
+        headerLength = fields.size();
+        columnIndexes = new int[COLUMNS.size()];
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            columnIndexes[i] = -1;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            // Strip a UTF-8 byte order mark left by spreadsheet exports
+            String name = fields.get(i).replace("\uFEFF", "").strip().toLowerCase(Locale.ROOT);
+            int column = COLUMNS.indexOf(name);
+            if (column >= 0) {
+                columnIndexes[column] = i;
+            }
+        }
+        return true;
+    }
+
+    private CreateStudentRequest toRequest() {
+        return new CreateStudentRequest(
+                column(0), column(1), column(2), column(3), column(4), column(5), column(6));
+    }
+
+    private String column(int column) {
+        int index = columnIndexes[column];
+        if (index < 0) {
+            return null;
+        }
+        String value = fields.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Read one record into {@link #fields}; sets {@link #recordError} instead when it is malformed.
+     * @return false at end of input
+     */
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        recordError = null;
+        int length = 0;
+        boolean quoted = false;
+        boolean afterQuote = false;
+
+        int c = reader.read();
+        if (c < 0) {
+            return false;
+        }
+        while (c >= 0) {
+            if (++length > MAX_ROW_LENGTH && recordError == null) {
+                recordError = "Row exceeds " + MAX_ROW_LENGTH + " characters";
+            }
+            if (recordError != null) {
+                // Discard the rest of the physical line
+                if (c == '\n') {
+                    return true;
+                }
+            } else if (quoted) {
+                if (c == '"') {
+                    quoted = false;
+                    afterQuote = true;
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                if (afterQuote) {
+                    // "" inside a quoted field
+                    field.append('"');
+                    quoted = true;
+                    afterQuote = false;
+                } else if (field.isEmpty()) {
+                    quoted = true;
+                } else {
+                    recordError = "Unexpected quote in unquoted field " + (fields.size() + 1);
+                }
+            } else if (c == ',') {
+                endField();
+                afterQuote = false;
+            } else if (c == '\n') {
+                endField();
+                return true;
+            } else if (c != '\r') {
+                if (afterQuote) {
+                    recordError = "Unexpected character after closing quote in field " + (fields.size() + 1);
+                } else {
+                    field.append((char) c);
+                }
+            }
+            c = reader.read();
+        }
+        if (quoted && recordError == null) {
+            recordError = "Unterminated quoted field " + (fields.size() + 1);
+        }
+        endField();
+        return true;
+    }
+
+    private void endField() {
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+}
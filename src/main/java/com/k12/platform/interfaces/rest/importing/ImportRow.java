@@ -0,0 +1,18 @@
+package com.k12.platform.interfaces.rest.importing;
+
+import com.k12.platform.interfaces.rest.dto.CreateStudentRequest;
+
+/**
+ * One data row of an import file: either the parsed request or the reason it could not be parsed.
+ * @param number 1-based row number, not counting the CSV header
+ */
+public record ImportRow(int number, CreateStudentRequest request, String error) {
+
+    static ImportRow parsed(int number, CreateStudentRequest request) {
+        return new ImportRow(number, request, null);
+    }
+
+    static ImportRow malformed(int number, String error) {
+        return new ImportRow(number, null, error);
+    }
+}
@@ -0,0 +1,35 @@
+package com.k12.platform.interfaces.rest.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads import rows one at a time from a character stream, holding at most one row in memory.
+ */
+public interface ImportRowReader {
+
+    /**
+     * Longest row accepted, in characters; longer rows are skipped and reported as malformed.
+     */
+    int MAX_ROW_LENGTH = 16 * 1024;
+
+    /**
+     * @return the next row, or null at end of input
+     */
+    ImportRow next() throws IOException;
+
+    /**
+     * RFC 4180 CSV with a header row naming the columns of CreateStudentRequest (first_name, last_name, ...).
+     */
+    static ImportRowReader csv(Reader reader) {
+        return new CsvImportRowReader(reader);
+    }
+
+    /**
+     * One CreateStudentRequest JSON object per line.
+     */
+    static ImportRowReader ndjson(Reader reader, ObjectMapper objectMapper) {
+        return new NdjsonImportRowReader(reader, objectMapper);
+    }
+}
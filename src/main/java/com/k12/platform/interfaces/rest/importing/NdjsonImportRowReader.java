@@ -0,0 +1,58 @@
+package com.k12.platform.interfaces.rest.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.k12.platform.interfaces.rest.dto.CreateStudentRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Newline-delimited JSON rows. Blank lines are skipped but still counted, so row numbers match line numbers.
+ */
+final class NdjsonImportRowReader implements ImportRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final StringBuilder line = new StringBuilder();
+    private int lineNumber;
+
+    NdjsonImportRowReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        while (true) {
+            boolean tooLong = false;
+            line.setLength(0);
+            int c = reader.read();
+            if (c < 0) {
+                return null;
+            }
+            while (c >= 0 && c != '\n') {
+                if (line.length() < MAX_ROW_LENGTH) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+                c = reader.read();
+            }
+            lineNumber++;
+
+            if (tooLong) {
+                return ImportRow.malformed(lineNumber, "Row exceeds " + MAX_ROW_LENGTH + " characters");
+            }
+            String json = line.toString().strip();
+            if (json.isEmpty()) {
+                continue;
+            }
+            try {
+                return ImportRow.parsed(lineNumber, objectMapper.readValue(json, CreateStudentRequest.class));
+            } catch (JsonProcessingException e) {
+                return ImportRow.malformed(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
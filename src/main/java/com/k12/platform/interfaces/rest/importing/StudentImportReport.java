@@ -0,0 +1,42 @@
+package com.k12.platform.interfaces.rest.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.k12.platform.interfaces.rest.dto.StudentImportResult;
+import com.k12.platform.interfaces.rest.dto.StudentImportSummary;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes an import report as newline-delimited JSON: one result per row, then the summary.
+ */
+public class StudentImportReport {
+
+    private final OutputStream output;
+    private final ObjectMapper objectMapper;
+
+    public StudentImportReport(OutputStream output, ObjectMapper objectMapper) {
+        this.output = output;
+        this.objectMapper = objectMapper;
+    }
+
+    void row(StudentImportResult result) throws IOException {
+        writeLine(result);
+    }
+
+    void summary(StudentImportSummary summary) throws IOException {
+        writeLine(summary);
+        output.flush();
+    }
+
+    /**
+     * Send what has been written so far to the client.
+     */
+    void flush() throws IOException {
+        output.flush();
+    }
+
+    private void writeLine(Object value) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(value));
+        output.write('\n');
+    }
+}
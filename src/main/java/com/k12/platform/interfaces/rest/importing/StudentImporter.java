@@ -0,0 +1,185 @@
+package com.k12.platform.interfaces.rest.importing;
+
+import com.k12.platform.domain.model.Student;
+import com.k12.platform.domain.model.exceptions.DomainException;
+import com.k12.platform.domain.model.valueobjects.ClassId;
+import com.k12.platform.domain.model.valueobjects.GradeLevel;
+import com.k12.platform.domain.model.valueobjects.StudentNumber;
+import com.k12.platform.domain.model.valueobjects.StudentPersonalInfo;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.ClassRepository;
+import com.k12.platform.domain.port.StudentRepository;
+import com.k12.platform.interfaces.rest.dto.CreateStudentRequest;
+import com.k12.platform.interfaces.rest.dto.StudentImportResult;
+import com.k12.platform.interfaces.rest.dto.StudentImportSummary;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Registers students from an import file row by row.
+ * Rows are validated like StudentResource.createStudent requests and saved k12.students.import.batch-size
+ * at a time, one transaction per batch; results are reported as each batch completes.
+ * If a batch fails to save, its rows are retried individually so only the offending rows are reported failed.
+ */
+@ApplicationScoped
+public class StudentImporter {
+
+    private static final Logger LOG = Logger.getLogger(StudentImporter.class);
+
+    private final StudentRepository studentRepository;
+    private final ClassRepository classRepository;
+    private final Validator validator;
+    private final int batchSize;
+
+    public StudentImporter(
+            StudentRepository studentRepository,
+            ClassRepository classRepository,
+            Validator validator,
+            @ConfigProperty(name = "k12.students.import.batch-size", defaultValue = "1000") int batchSize) {
+        this.studentRepository = studentRepository;
+        this.classRepository = classRepository;
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    public StudentImportSummary importStudents(ImportRowReader rows, StudentImportReport report) throws IOException {
+        Batch batch = new Batch(batchSize);
+        // Only classes found to exist are remembered, so this is bounded by the number of classes
+        Set<UUID> knownClasses = new HashSet<>();
+        int total = 0;
+        int rejected = 0;
+
+        ImportRow row;
+        while ((row = rows.next()) != null) {
+            total++;
+            Student student;
+            try {
+                student = toStudent(row, knownClasses);
+            } catch (IllegalArgumentException | DomainException | DateTimeException e) {
+                rejected++;
+                report.row(StudentImportResult.rejected(row.number(), e.getMessage()));
+                continue;
+            }
+            batch.add(row.number(), student);
+            if (batch.isFull()) {
+                save(batch, report);
+            }
+        }
+        save(batch, report);
+
+        StudentImportSummary summary = new StudentImportSummary(total, batch.created, rejected, batch.failed);
+        report.summary(summary);
+        return summary;
+    }
+
+    private Student toStudent(ImportRow row, Set<UUID> knownClasses) {
+        if (row.error() != null) {
+            throw new IllegalArgumentException(row.error());
+        }
+        CreateStudentRequest request = row.request();
+        Set<ConstraintViolation<CreateStudentRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        UserId classId = UserId.of(request.classId());
+        if (!knownClasses.contains(classId.value())) {
+            if (!classRepository.existsById(ClassId.of(classId.value()))) {
+                throw new IllegalArgumentException("Class not found: " + request.classId());
+            }
+            knownClasses.add(classId.value());
+        }
+
+        LocalDate enrollmentDate =
+                request.enrollmentDate() != null ? LocalDate.parse(request.enrollmentDate()) : LocalDate.now();
+        StudentNumber studentNumber =
+                request.studentNumber() != null ? StudentNumber.of(request.studentNumber()) : StudentNumber.empty();
+        return Student.register(
+                StudentPersonalInfo.of(request.firstName(), request.lastName(), request.dateOfBirth()),
+                GradeLevel.fromString(request.gradeLevel()),
+                classId,
+                studentNumber,
+                enrollmentDate);
+    }
+
+    private void save(Batch batch, StudentImportReport report) throws IOException {
+        if (batch.students.isEmpty()) {
+            return;
+        }
+        try {
+            studentRepository.saveAll(batch.students);
+            for (int i = 0; i < batch.students.size(); i++) {
+                report.row(StudentImportResult.created(
+                        batch.rowNumbers.get(i), batch.students.get(i).studentId().value().toString()));
+            }
+            batch.created += batch.students.size();
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Saving a batch of %d imported students failed; retrying row by row", batch.students.size());
+            for (int i = 0; i < batch.students.size(); i++) {
+                saveOne(batch, i, report);
+            }
+        }
+        report.flush();
+        batch.clear();
+    }
+
+    private void saveOne(Batch batch, int index, StudentImportReport report) throws IOException {
+        Student student = batch.students.get(index);
+        int rowNumber = batch.rowNumbers.get(index);
+        try {
+            studentRepository.save(student);
+            batch.created++;
+            report.row(StudentImportResult.created(rowNumber, student.studentId().value().toString()));
+        } catch (RuntimeException e) {
+            LOG.debugf(e, "Imported student on row %d could not be saved", rowNumber);
+            batch.failed++;
+            report.row(StudentImportResult.failed(rowNumber, "Student could not be saved"));
+        }
+    }
+
+    /**
+     * Students waiting to be saved, with their row numbers, plus the running save counts.
+     */
+    private static final class Batch {
+        final List<Student> students;
+        final List<Integer> rowNumbers;
+        final int capacity;
+        int created;
+        int failed;
+
+        Batch(int capacity) {
+            this.capacity = capacity;
+            this.students = new ArrayList<>(capacity);
+            this.rowNumbers = new ArrayList<>(capacity);
+        }
+
+        void add(int rowNumber, Student student) {
+            students.add(student);
+            rowNumbers.add(rowNumber);
+        }
+
+        boolean isFull() {
+            return students.size() >= capacity;
+        }
+
+        void clear() {
+            students.clear();
+            rowNumbers.clear();
+        }
+    }
+}
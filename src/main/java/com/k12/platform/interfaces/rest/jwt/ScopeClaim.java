@@ -0,0 +1,119 @@
+package com.k12.platform.interfaces.rest.jwt;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Compact, versioned scope claim carried in opt-in JWTs.
+ * Format: {@code <format>.<kind>.<scopeVersion>.<ids>} where kind is {@code c} (class IDs, teachers)
+ * or {@code s} (student IDs, parents) and ids is the concatenation of 22-character base64url UUIDs.
+ */
+public final class ScopeClaim {
+
+    public static final String CLAIM_NAME = "k12_scope";
+
+    static final String FORMAT = "1";
+    static final int ENCODED_ID_LENGTH = 22;
+
+    public enum Kind {
+        CLASSES('c'),
+        STUDENTS('s');
+
+        private final char code;
+
+        Kind(char code) {
+            this.code = code;
+        }
+
+        static Kind fromCode(char code) {
+            for (Kind kind : values()) {
+                if (kind.code == code) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Kind kind;
+    private final long scopeVersion;
+    private final String ids;
+
+    private ScopeClaim(Kind kind, long scopeVersion, String ids) {
+        this.kind = kind;
+        this.scopeVersion = scopeVersion;
+        this.ids = ids;
+    }
+
+    /**
+     * Encode a scope claim value.
+     */
+    public static String encode(Kind kind, long scopeVersion, Collection<UUID> ids) {
+        StringBuilder value = new StringBuilder(16 + ids.size() * ENCODED_ID_LENGTH)
+                .append(FORMAT)
+                .append('.')
+                .append(kind.code)
+                .append('.')
+                .append(scopeVersion)
+                .append('.');
+        for (UUID id : ids) {
+            value.append(encodeId(id));
+        }
+        return value.toString();
+    }
+
+    /**
+     * Parse a scope claim value.
+     * @return the claim, or null if the value is malformed or in an unknown format
+     */
+    public static ScopeClaim parse(String value) {
+        if (value == null || !value.startsWith(FORMAT + ".") || value.length() < 6) {
+            return null;
+        }
+        Kind kind = Kind.fromCode(value.charAt(2));
+        int idsStart = value.indexOf('.', 4);
+        if (kind == null || value.charAt(3) != '.' || idsStart < 0) {
+            return null;
+        }
+        String ids = value.substring(idsStart + 1);
+        if (ids.length() % ENCODED_ID_LENGTH != 0) {
+            return null;
+        }
+        try {
+            return new ScopeClaim(kind, Long.parseLong(value, 4, idsStart, 10), ids);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Check whether the scope lists the given ID.
+     */
+    public boolean contains(UUID id) {
+        String encoded = encodeId(id);
+        for (int i = 0; i < ids.length(); i += ENCODED_ID_LENGTH) {
+            if (ids.regionMatches(i, encoded, 0, ENCODED_ID_LENGTH)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    public long scopeVersion() {
+        return scopeVersion;
+    }
+
+    static String encodeId(UUID id) {
+        byte[] bytes = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,580 @@
+package com.k12.platform.interfaces.rest.jwt;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.RSAKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Signs and reads compact JWTs without the generic builder.
+ * The signing key is resolved once from {@code smallrye.jwt.sign.key.location} or {@code smallrye.jwt.sign.key}:
+ * a PEM PKCS#8 RSA key signs RS256, anything else is taken as a base64 HMAC secret and signs HS256.
+ * The header is serialized once; payload, Base64URL and signature go through pooled byte buffers with an
+ * initialized signer, so issuing a token allocates little more than the returned String. The pool is shared by
+ * all threads rather than kept per thread: a login on a fresh virtual thread would otherwise initialize a signer
+ * and allocate buffers that are never reused.
+ */
+@ApplicationScoped
+public class TokenCodec {
+
+    private static final byte[] BASE64URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DECODE = new byte[128];
+    private static final int POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final byte[] SUB = "\"sub\"".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Private claim with the issue time in epoch milliseconds; {@code iat} only has whole seconds.
+     */
+    public static final String ISSUED_AT_MILLIS = "iat_ms";
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        for (int i = 0; i < BASE64URL.length; i++) {
+            DECODE[BASE64URL[i]] = (byte) i;
+        }
+    }
+
+    private final String algorithm;
+    private final byte[] encodedHeader;
+    private final Supplier<Signer> signers;
+
+    /** Idle workspaces; at most one per concurrent caller is created, and at most POOL_SIZE are kept. */
+    private final BlockingQueue<Buffers> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    @Inject
+    public TokenCodec(
+            @ConfigProperty(name = "smallrye.jwt.sign.key") Optional<String> key,
+            @ConfigProperty(name = "smallrye.jwt.sign.key.location") Optional<String> keyLocation) {
+        // Same precedence as SmallRye's own builder: the location wins when both are set
+        this(keyLocation
+                .map(TokenCodec::readLocation)
+                .or(() -> key)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Set smallrye.jwt.sign.key or smallrye.jwt.sign.key.location to issue tokens")));
+    }
+
+    /**
+     * Codec for the given key content (PEM RSA private key or base64 HMAC secret).
+     */
+    public TokenCodec(String keyContent) {
+        if (keyContent.contains("-----BEGIN")) {
+            PrivateKey privateKey = parsePrivateKey(keyContent);
+            this.algorithm = "RS256";
+            this.signers = () -> Signer.rsa(privateKey);
+        } else {
+            SecretKeySpec secret = new SecretKeySpec(decodeSecret(keyContent.trim()), "HmacSHA256");
+            this.algorithm = "HS256";
+            this.signers = () -> Signer.hmac(secret);
+        }
+        byte[] header = ("{\"alg\":\"" + algorithm + "\",\"typ\":\"JWT\"}").getBytes(StandardCharsets.US_ASCII);
+        this.encodedHeader = new byte[encodedLength(header.length)];
+        encode(header, header.length, encodedHeader, 0);
+    }
+
+    public String algorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Issue a signed token.
+     * @param scope optional scope claim value, may be null
+     */
+    public String issue(
+            String upn,
+            String subject,
+            Collection<String> groups,
+            String email,
+            String firstName,
+            String lastName,
+            Instant issuedAt,
+            Instant expiresAt,
+            String scope) {
+        Buffers b = acquire();
+        try {
+            return issue(b, upn, subject, groups, email, firstName, lastName, issuedAt, expiresAt, scope);
+        } finally {
+            release(b);
+        }
+    }
+
+    private String issue(
+            Buffers b,
+            String upn,
+            String subject,
+            Collection<String> groups,
+            String email,
+            String firstName,
+            String lastName,
+            Instant issuedAt,
+            Instant expiresAt,
+            String scope) {
+        JsonBytes json = b.payload.reset();
+        json.raw('{');
+        json.field("upn", upn).raw(',');
+        json.field("sub", subject).raw(',');
+        json.name("groups").raw('[');
+        boolean first = true;
+        for (String group : groups) {
+            if (!first) {
+                json.raw(',');
+            }
+            json.string(group);
+            first = false;
+        }
+        json.raw(']').raw(',');
+        json.field("email", email).raw(',');
+        json.field("firstName", firstName).raw(',');
+        json.field("lastName", lastName).raw(',');
+        json.name("iat").number(issuedAt.getEpochSecond()).raw(',');
+        json.name(ISSUED_AT_MILLIS).number(issuedAt.toEpochMilli()).raw(',');
+        json.name("exp").number(expiresAt.getEpochSecond()).raw(',');
+        json.field("jti", randomId());
+        if (scope != null) {
+            json.raw(',').field(ScopeClaim.CLAIM_NAME, scope);
+        }
+        json.raw('}');
+
+        Signer signer = b.signer;
+        int signingInputLength = encodedHeader.length + 1 + encodedLength(json.length);
+        byte[] token = b.token(signingInputLength + 1 + encodedLength(signer.length()));
+        System.arraycopy(encodedHeader, 0, token, 0, encodedHeader.length);
+        token[encodedHeader.length] = '.';
+        int pos = encode(json.bytes, json.length, token, encodedHeader.length + 1);
+
+        int signatureLength = signer.sign(token, pos, b.signature);
+        token[pos++] = '.';
+        pos = encode(b.signature, signatureLength, token, pos);
+        return new String(token, 0, pos, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Read the {@code sub} claim of a token as a UUID. Does not verify the signature.
+     * @throws IllegalArgumentException if the token is malformed or has no UUID subject
+     */
+    public UUID subject(String token) {
+        if (token == null) {
+            throw new IllegalArgumentException("Invalid JWT token");
+        }
+        int start = token.indexOf('.');
+        if (start < 0) {
+            throw new IllegalArgumentException("Invalid JWT token");
+        }
+        int end = token.indexOf('.', start + 1);
+        if (end < 0) {
+            end = token.length();
+        }
+
+        Buffers b = acquire();
+        try {
+            return subject(b.decoded((end - start) * 3 / 4 + 3), token, start, end);
+        } finally {
+            release(b);
+        }
+    }
+
+    private static UUID subject(byte[] payload, String token, int start, int end) {
+        int length = decode(token, start + 1, end, payload);
+
+        int at = indexOf(payload, length, SUB);
+        if (at < 0) {
+            throw new IllegalArgumentException("Subject claim not found in token");
+        }
+        int pos = skipWhitespace(payload, length, at + SUB.length);
+        if (pos >= length || payload[pos] != ':') {
+            throw new IllegalArgumentException("Subject claim not found in token");
+        }
+        pos = skipWhitespace(payload, length, pos + 1);
+        if (pos + 38 > length || payload[pos] != '"' || payload[pos + 37] != '"') {
+            throw new IllegalArgumentException("Subject is not a UUID");
+        }
+        return parseUuid(payload, pos + 1);
+    }
+
+    private Buffers acquire() {
+        Buffers b = pool.poll();
+        return b != null ? b : new Buffers(signers.get());
+    }
+
+    private void release(Buffers b) {
+        // Dropped when the pool is full, e.g. after a burst of concurrent logins
+        pool.offer(b);
+    }
+
+    // --- Base64URL -------------------------------------------------------------------------------
+
+    static int encodedLength(int length) {
+        return (length / 3) * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+    }
+
+    /**
+     * Encode without padding into dst at offset; returns the offset after the last written byte.
+     */
+    static int encode(byte[] src, int length, byte[] dst, int offset) {
+        int i = 0;
+        int o = offset;
+        for (; i + 2 < length; i += 3) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            dst[o++] = BASE64URL[bits >>> 18];
+            dst[o++] = BASE64URL[(bits >>> 12) & 0x3f];
+            dst[o++] = BASE64URL[(bits >>> 6) & 0x3f];
+            dst[o++] = BASE64URL[bits & 0x3f];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xff) << 16;
+            dst[o++] = BASE64URL[bits >>> 18];
+            dst[o++] = BASE64URL[(bits >>> 12) & 0x3f];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8;
+            dst[o++] = BASE64URL[bits >>> 18];
+            dst[o++] = BASE64URL[(bits >>> 12) & 0x3f];
+            dst[o++] = BASE64URL[(bits >>> 6) & 0x3f];
+        }
+        return o;
+    }
+
+    /**
+     * Decode chars [from, to) of an unpadded Base64URL string into dst; returns the decoded length.
+     */
+    static int decode(String src, int from, int to, byte[] dst) {
+        int bits = 0;
+        int count = 0;
+        int o = 0;
+        for (int i = from; i < to; i++) {
+            char c = src.charAt(i);
+            int value = c < 128 ? DECODE[c] : -1;
+            if (value < 0) {
+                if (c == '=') {
+                    break;
+                }
+                throw new IllegalArgumentException("Invalid Base64URL character in token");
+            }
+            bits = bits << 6 | value;
+            if (++count == 4) {
+                dst[o++] = (byte) (bits >>> 16);
+                dst[o++] = (byte) (bits >>> 8);
+                dst[o++] = (byte) bits;
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count == 1) {
+            throw new IllegalArgumentException("Invalid Base64URL length in token");
+        }
+        if (count == 2) {
+            dst[o++] = (byte) (bits >>> 4);
+        } else if (count == 3) {
+            dst[o++] = (byte) (bits >>> 10);
+            dst[o++] = (byte) (bits >>> 2);
+        }
+        return o;
+    }
+
+    // --- Parsing helpers -------------------------------------------------------------------------
+
+    private static int indexOf(byte[] haystack, int length, byte[] needle) {
+        outer:
+        for (int i = 0; i + needle.length <= length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] bytes, int length, int pos) {
+        while (pos < length && (bytes[pos] == ' ' || bytes[pos] == '\t' || bytes[pos] == '\n' || bytes[pos] == '\r')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static UUID parseUuid(byte[] bytes, int pos) {
+        if (bytes[pos + 8] != '-' || bytes[pos + 13] != '-' || bytes[pos + 18] != '-' || bytes[pos + 23] != '-') {
+            throw new IllegalArgumentException("Subject is not a UUID");
+        }
+        long msb = hex(bytes, pos, 8) << 32 | hex(bytes, pos + 9, 4) << 16 | hex(bytes, pos + 14, 4);
+        long lsb = hex(bytes, pos + 19, 4) << 48 | hex(bytes, pos + 24, 12);
+        return new UUID(msb, lsb);
+    }
+
+    private static long hex(byte[] bytes, int pos, int digits) {
+        long value = 0;
+        for (int i = pos; i < pos + digits; i++) {
+            int digit = Character.digit(bytes[i], 16);
+            if (digit < 0) {
+                throw new IllegalArgumentException("Subject is not a UUID");
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private static String randomId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    // --- Key resolution --------------------------------------------------------------------------
+
+    private static String readLocation(String location) {
+        try {
+            if (location.startsWith("classpath:")) {
+                String resource = location.substring("classpath:".length()).replaceFirst("^/", "");
+                try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource)) {
+                    if (in == null) {
+                        throw new IllegalStateException("Signing key not found: " + location);
+                    }
+                    return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+            return Files.readString(Path.of(location.replaceFirst("^file:", "")));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read signing key " + location, e);
+        }
+    }
+
+    private static PrivateKey parsePrivateKey(String pem) {
+        if (pem.contains("BEGIN RSA PRIVATE KEY")) {
+            throw new IllegalStateException("PKCS#1 keys are not supported; convert the signing key to PKCS#8");
+        }
+        String body = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        try {
+            return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(body)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid RSA signing key", e);
+        }
+    }
+
+    private static byte[] decodeSecret(String secret) {
+        try {
+            return Base64.getDecoder().decode(secret);
+        } catch (IllegalArgumentException e) {
+            return Base64.getUrlDecoder().decode(secret);
+        }
+    }
+
+    // --- Pooled state ------------------------------------------------------------------------
+
+    /**
+     * Reusable signer bound to the key; used by one caller at a time since Mac and Signature are not thread-safe.
+     */
+    private abstract static class Signer {
+
+        abstract int length();
+
+        /** Sign bytes [0, length) of input into output; returns the signature length. */
+        abstract int sign(byte[] input, int length, byte[] output);
+
+        static Signer hmac(SecretKeySpec secret) {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(secret);
+                return new Signer() {
+                    @Override
+                    int length() {
+                        return mac.getMacLength();
+                    }
+
+                    @Override
+                    int sign(byte[] input, int length, byte[] output) {
+                        try {
+                            mac.update(input, 0, length);
+                            mac.doFinal(output, 0);
+                            return mac.getMacLength();
+                        } catch (GeneralSecurityException e) {
+                            throw new IllegalStateException("Cannot sign token", e);
+                        }
+                    }
+                };
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 unavailable", e);
+            }
+        }
+
+        static Signer rsa(PrivateKey key) {
+            try {
+                Signature signature = Signature.getInstance("SHA256withRSA");
+                signature.initSign(key);
+                int modulusBytes = (((RSAKey) key).getModulus().bitLength() + 7) / 8;
+                return new Signer() {
+                    @Override
+                    int length() {
+                        return modulusBytes;
+                    }
+
+                    @Override
+                    int sign(byte[] input, int length, byte[] output) {
+                        try {
+                            // sign() resets to the initialized state, so initSign is needed only once
+                            signature.update(input, 0, length);
+                            return signature.sign(output, 0, output.length);
+                        } catch (GeneralSecurityException e) {
+                            throw new IllegalStateException("Cannot sign token", e);
+                        }
+                    }
+                };
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("SHA256withRSA unavailable", e);
+            }
+        }
+    }
+
+    /**
+     * Everything one call works in: the signer and the byte buffers. Held by one caller between acquire and release.
+     */
+    private static final class Buffers {
+        final Signer signer;
+        final JsonBytes payload = new JsonBytes();
+        final byte[] signature = new byte[1024];
+        private byte[] token = new byte[2048];
+        private byte[] decoded = new byte[1024];
+
+        Buffers(Signer signer) {
+            this.signer = signer;
+        }
+
+        byte[] token(int capacity) {
+            if (token.length < capacity) {
+                token = new byte[Math.max(capacity, token.length * 2)];
+            }
+            return token;
+        }
+
+        byte[] decoded(int capacity) {
+            if (decoded.length < capacity) {
+                decoded = new byte[Math.max(capacity, decoded.length * 2)];
+            }
+            return decoded;
+        }
+    }
+
+    /**
+     * Minimal UTF-8 JSON writer into a growable byte array.
+     */
+    private static final class JsonBytes {
+        byte[] bytes = new byte[1024];
+        int length;
+
+        JsonBytes reset() {
+            length = 0;
+            return this;
+        }
+
+        JsonBytes raw(char c) {
+            ensure(1);
+            bytes[length++] = (byte) c;
+            return this;
+        }
+
+        JsonBytes name(String name) {
+            return string(name).raw(':');
+        }
+
+        JsonBytes field(String name, String value) {
+            return name(name).string(value);
+        }
+
+        JsonBytes number(long value) {
+            if (value == 0) {
+                return raw('0');
+            }
+            if (value < 0) {
+                raw('-');
+                value = -value;
+            }
+            int digits = 0;
+            for (long v = value; v > 0; v /= 10) {
+                digits++;
+            }
+            ensure(digits);
+            for (int i = length + digits - 1; i >= length; i--) {
+                bytes[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            length += digits;
+            return this;
+        }
+
+        JsonBytes string(String value) {
+            if (value == null) {
+                ensure(4);
+                bytes[length++] = 'n';
+                bytes[length++] = 'u';
+                bytes[length++] = 'l';
+                bytes[length++] = 'l';
+                return this;
+            }
+            raw('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    raw('\\').raw(c);
+                } else if (c < 0x20) {
+                    raw('\\').raw('u').raw('0').raw('0').raw(hexDigit(c >> 4)).raw(hexDigit(c));
+                } else if (c < 0x80) {
+                    raw(c);
+                } else if (c < 0x800) {
+                    ensure(2);
+                    bytes[length++] = (byte) (0xc0 | (c >> 6));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3f));
+                } else if (Character.isHighSurrogate(c)
+                        && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, value.charAt(++i));
+                    ensure(4);
+                    bytes[length++] = (byte) (0xf0 | (cp >> 18));
+                    bytes[length++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                    bytes[length++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                    bytes[length++] = (byte) (0x80 | (cp & 0x3f));
+                } else {
+                    // An unpaired surrogate has no UTF-8 encoding; write U+FFFD as String.getBytes would
+                    if (Character.isSurrogate(c)) {
+                        c = '\uFFFD';
+                    }
+                    ensure(3);
+                    bytes[length++] = (byte) (0xe0 | (c >> 12));
+                    bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+            return raw('"');
+        }
+
+        private static char hexDigit(int value) {
+            return Character.forDigit(value & 0xf, 16);
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+}
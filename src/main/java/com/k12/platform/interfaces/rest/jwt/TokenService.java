@@ -1,36 +1,117 @@
 package com.k12.platform.interfaces.rest.jwt;
 
+import com.k12.platform.domain.model.ParentStudentAssociation;
+import com.k12.platform.domain.model.TeacherClassAssignment;
 import com.k12.platform.domain.model.User;
+import com.k12.platform.domain.model.valueobjects.ClassId;
+import com.k12.platform.domain.model.valueobjects.StudentId;
 import com.k12.platform.domain.model.valueobjects.UserId;
-import io.smallrye.jwt.build.Jwt;
+import com.k12.platform.domain.port.ParentStudentAssociationRepository;
+import com.k12.platform.domain.port.TeacherClassAssignmentRepository;
+import com.k12.platform.interfaces.rest.security.ScopeVersionRegistry;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Set;
-import org.eclipse.microprofile.jwt.Claims;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
 
 /**
- * Service for generating and parsing JWT tokens using SmallRye JWT.
+ * Service for generating and parsing JWT tokens.
+ * Encoding and signing are done by {@link TokenCodec}; SmallRye JWT verifies tokens on requests.
  */
 @ApplicationScoped
 public class TokenService {
 
+    private static final Logger LOG = Logger.getLogger(TokenService.class);
+
+    private final TokenCodec tokenCodec;
+    private final TeacherClassAssignmentRepository teacherClassAssignmentRepository;
+    private final ParentStudentAssociationRepository parentStudentAssociationRepository;
+    private final ScopeVersionRegistry scopeVersions;
+    private final boolean scopeClaimEnabled;
+    private final int scopeClaimMaxIds;
+    private final Duration lifespan;
+
+    public TokenService(
+            TokenCodec tokenCodec,
+            TeacherClassAssignmentRepository teacherClassAssignmentRepository,
+            ParentStudentAssociationRepository parentStudentAssociationRepository,
+            ScopeVersionRegistry scopeVersions,
+            @ConfigProperty(name = "k12.jwt.scope-claim.enabled", defaultValue = "false") boolean scopeClaimEnabled,
+            @ConfigProperty(name = "k12.jwt.scope-claim.max-ids", defaultValue = "64") int scopeClaimMaxIds,
+            @ConfigProperty(name = "k12.jwt.lifespan", defaultValue = "12h") Duration lifespan) {
+        this.tokenCodec = tokenCodec;
+        this.teacherClassAssignmentRepository = teacherClassAssignmentRepository;
+        this.parentStudentAssociationRepository = parentStudentAssociationRepository;
+        this.scopeVersions = scopeVersions;
+        this.scopeClaimEnabled = scopeClaimEnabled;
+        this.scopeClaimMaxIds = scopeClaimMaxIds;
+        this.lifespan = lifespan;
+    }
+
     /**
      * Generate a signed JWT token for the authenticated user.
+     * When scope claims are enabled, teacher and parent tokens also carry their class/student IDs.
      *
      * @param user the user to generate token for
      * @return signed JWT string
      */
     public String generateToken(User user) {
-        return Jwt.upn(user.email().value())
-                .subject(user.userId().toString())
-                .claim(Claims.groups.name(), Set.of(user.role().name()))
-                .claim("email", user.email().value())
-                .claim("firstName", user.firstName())
-                .claim("lastName", user.lastName())
-                .issuedAt(Instant.now())
-                .expiresIn(Duration.ofHours(12))
-                .sign();
+        Instant issuedAt = Instant.now();
+        String scope = scopeClaimEnabled ? scopeClaim(user).orElse(null) : null;
+        return tokenCodec.issue(
+                user.email().value(),
+                user.userId().toString(),
+                List.of(user.role().name()),
+                user.email().value(),
+                user.firstName(),
+                user.lastName(),
+                issuedAt,
+                issuedAt.plus(lifespan),
+                scope);
+    }
+
+    /**
+     * Build the scope claim for teachers (assigned classes) and parents (linked students).
+     * Empty for other roles or when the scope exceeds the size limit; those callers are authorized by lookup.
+     */
+    private Optional<String> scopeClaim(User user) {
+        // Version first: a change committed while loading makes this claim stale rather than wrong
+        long scopeVersion = scopeVersions.nextVersion();
+
+        ScopeClaim.Kind kind;
+        List<UUID> ids;
+        switch (user.role()) {
+            case TEACHER -> {
+                kind = ScopeClaim.Kind.CLASSES;
+                ids = teacherClassAssignmentRepository.findByTeacherId(user.userId()).stream()
+                        .map(TeacherClassAssignment::classId)
+                        .map(ClassId::value)
+                        .distinct()
+                        .toList();
+            }
+            case PARENT -> {
+                kind = ScopeClaim.Kind.STUDENTS;
+                ids = parentStudentAssociationRepository.findByParentId(user.userId()).stream()
+                        .map(ParentStudentAssociation::studentId)
+                        .map(StudentId::value)
+                        .distinct()
+                        .toList();
+            }
+            default -> {
+                return Optional.empty();
+            }
+        }
+
+        if (ids.size() > scopeClaimMaxIds) {
+            LOG.debugf("Scope of %s has %d IDs, over the limit of %d; omitting scope claim",
+                    user.userId(), ids.size(), scopeClaimMaxIds);
+            return Optional.empty();
+        }
+        return Optional.of(ScopeClaim.encode(kind, scopeVersion, ids));
     }
 
     /**
@@ -42,30 +123,7 @@ public class TokenService {
      * @return user ID
      */
     public UserId extractUserId(String token) {
-        // Decode and parse the JWT without verification
-        // Note: This is for convenience - actual validation happens
-        // when the token is used in authenticated requests
-        String[] parts = token.split("\\.");
-        if (parts.length < 2) {
-            throw new IllegalArgumentException("Invalid JWT token");
-        }
-
-        // Decode the payload (second part)
-        String payload =
-                new String(java.util.Base64.getUrlDecoder().decode(parts[1]), java.nio.charset.StandardCharsets.UTF_8);
-
-        // Extract subject from JSON payload
-        // Simple parsing for "sub":"value" pattern
-        String subPattern = "\"sub\":\"";
-        int subIndex = payload.indexOf(subPattern);
-        if (subIndex == -1) {
-            throw new IllegalArgumentException("Subject claim not found in token");
-        }
-
-        int startIndex = subIndex + subPattern.length();
-        int endIndex = payload.indexOf("\"", startIndex);
-        String subject = payload.substring(startIndex, endIndex);
-
-        return UserId.of(subject);
+        // Decoded without verification; validation happens when the token is used in authenticated requests
+        return UserId.of(tokenCodec.subject(token));
     }
 }
@@ -0,0 +1,261 @@
+package com.k12.platform.interfaces.rest.provisioning;
+
+import com.k12.platform.domain.model.User;
+import com.k12.platform.domain.model.UserRole;
+import com.k12.platform.domain.model.exceptions.InvalidEmailException;
+import com.k12.platform.domain.model.valueobjects.EmailAddress;
+import com.k12.platform.domain.model.valueobjects.PasswordHash;
+import com.k12.platform.domain.port.PasswordCostPolicy;
+import com.k12.platform.domain.port.UserRepository;
+import com.k12.platform.domain.service.PasswordValidator;
+import com.k12.platform.interfaces.rest.dto.ProvisionAccountsRequest.Account;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Creates teacher and parent accounts in bulk as background jobs.
+ * Accounts are processed k12.users.provisioning.batch-size at a time: validated like UserResource.createUser,
+ * checked for taken emails with one query per batch, hashed in parallel on a dedicated fork-join pool and saved
+ * with one batched insert. If a batch fails to save, its accounts are retried individually.
+ * Jobs run one at a time since each already uses every hashing thread; finished jobs are kept for
+ * k12.users.provisioning.retention so their status can be read.
+ */
+@ApplicationScoped
+public class AccountProvisioner {
+
+    private static final Logger LOG = Logger.getLogger(AccountProvisioner.class);
+    private static final Set<UserRole> PROVISIONABLE_ROLES = Set.of(UserRole.TEACHER, UserRole.PARENT);
+
+    private final UserRepository userRepository;
+    private final PasswordCostPolicy passwordCostPolicy;
+    private final int batchSize;
+    private final int maxAccounts;
+    private final Duration retention;
+    private final ForkJoinPool hashingPool;
+    private final ExecutorService jobExecutor;
+    private final Map<UUID, ProvisioningJob> jobs = new ConcurrentHashMap<>();
+
+    public AccountProvisioner(
+            UserRepository userRepository,
+            PasswordCostPolicy passwordCostPolicy,
+            @ConfigProperty(name = "k12.users.provisioning.parallelism", defaultValue = "0") int parallelism,
+            @ConfigProperty(name = "k12.users.provisioning.batch-size", defaultValue = "500") int batchSize,
+            @ConfigProperty(name = "k12.users.provisioning.max-accounts", defaultValue = "10000") int maxAccounts,
+            @ConfigProperty(name = "k12.users.provisioning.retention", defaultValue = "1h") Duration retention) {
+        this.userRepository = userRepository;
+        this.passwordCostPolicy = passwordCostPolicy;
+        this.batchSize = batchSize;
+        this.maxAccounts = maxAccounts;
+        this.retention = retention;
+        this.hashingPool = new ForkJoinPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                new HashingThreadFactory(),
+                null,
+                false);
+        this.jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "account-provisioning");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queue a provisioning job for the given accounts.
+     * @throws IllegalArgumentException if there are no accounts or more than k12.users.provisioning.max-accounts
+     */
+    public ProvisioningJob submit(List<Account> accounts) {
+        if (accounts == null || accounts.isEmpty()) {
+            throw new IllegalArgumentException("No accounts to provision");
+        }
+        if (accounts.size() > maxAccounts) {
+            throw new IllegalArgumentException("At most " + maxAccounts + " accounts can be provisioned at once");
+        }
+        evictFinishedJobs();
+        List<Account> snapshot = List.copyOf(accounts);
+        ProvisioningJob job = new ProvisioningJob(snapshot.size());
+        jobs.put(job.id(), job);
+        jobExecutor.execute(() -> run(job, snapshot));
+        return job;
+    }
+
+    public Optional<ProvisioningJob> find(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * Runs on the job thread, which has no request context of its own for the repository reads.
+     */
+    @ActivateRequestContext
+    void run(ProvisioningJob job, List<Account> accounts) {
+        job.start();
+        try {
+            int cost = passwordCostPolicy.targetCost();
+            Set<EmailAddress> seen = new HashSet<>();
+            for (int from = 0; from < accounts.size(); from += batchSize) {
+                provisionBatch(job, accounts, from, Math.min(from + batchSize, accounts.size()), cost, seen);
+            }
+            job.complete();
+            LOG.infof("Provisioning job %s finished: %s", job.id(), job.status());
+        } catch (RuntimeException e) {
+            LOG.errorf(e, "Provisioning job %s failed", job.id());
+            job.fail();
+        }
+    }
+
+    private void provisionBatch(
+            ProvisioningJob job, List<Account> accounts, int from, int to, int cost, Set<EmailAddress> seen) {
+        List<Candidate> candidates = new ArrayList<>(to - from);
+        for (int index = from; index < to; index++) {
+            Account account = accounts.get(index);
+            try {
+                Candidate candidate = validate(index, account);
+                if (!seen.add(candidate.email())) {
+                    throw new IllegalArgumentException("Duplicate email in request");
+                }
+                candidates.add(candidate);
+            } catch (IllegalArgumentException e) {
+                job.rejected(index, account != null ? account.email() : null, e.getMessage());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<EmailAddress> taken = userRepository.findExistingEmails(
+                candidates.stream().map(Candidate::email).toList());
+        if (!taken.isEmpty()) {
+            candidates.removeIf(candidate -> {
+                if (taken.contains(candidate.email())) {
+                    job.rejected(
+                            candidate.index(), candidate.email().value(), "User with this email already exists");
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        List<User> users = hashAndRegister(candidates, cost);
+        try {
+            userRepository.saveAll(users);
+            job.created(users.size());
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Saving a batch of %d provisioned accounts failed; retrying one by one", users.size());
+            for (int i = 0; i < users.size(); i++) {
+                saveOne(job, candidates.get(i), users.get(i));
+            }
+        }
+    }
+
+    /**
+     * Hash every candidate's password on the fork-join pool and wait for all of them.
+     */
+    private List<User> hashAndRegister(List<Candidate> candidates, int cost) {
+        List<ForkJoinTask<PasswordHash>> hashes = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            String password = candidate.account().password();
+            hashes.add(hashingPool.submit(() -> PasswordHash.hash(password, cost)));
+        }
+        List<User> users = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            users.add(User.register(
+                    candidate.email(),
+                    hashes.get(i).join(),
+                    candidate.account().firstName(),
+                    candidate.account().lastName(),
+                    candidate.role()));
+        }
+        return users;
+    }
+
+    private void saveOne(ProvisioningJob job, Candidate candidate, User user) {
+        try {
+            userRepository.save(user);
+            job.created(1);
+        } catch (RuntimeException e) {
+            LOG.debugf(e, "Provisioned account %d could not be saved", candidate.index());
+            job.failed(candidate.index(), candidate.email().value(), "Account could not be saved");
+        }
+    }
+
+    private static Candidate validate(int index, Account account) {
+        if (account == null) {
+            throw new IllegalArgumentException("Missing account");
+        }
+        requireField(account.email(), "email");
+        requireField(account.password(), "password");
+        requireField(account.firstName(), "firstName");
+        requireField(account.lastName(), "lastName");
+        requireField(account.role(), "role");
+
+        EmailAddress email;
+        try {
+            email = EmailAddress.of(account.email());
+        } catch (InvalidEmailException e) {
+            throw new IllegalArgumentException("Invalid email format");
+        }
+        PasswordValidator.validate(account.password());
+
+        UserRole role;
+        try {
+            role = UserRole.valueOf(account.role());
+        } catch (IllegalArgumentException e) {
+            role = null;
+        }
+        if (!PROVISIONABLE_ROLES.contains(role)) {
+            throw new IllegalArgumentException("Role must be TEACHER or PARENT");
+        }
+        return new Candidate(index, account, email, role);
+    }
+
+    private static void requireField(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing required field: " + name);
+        }
+    }
+
+    private void evictFinishedJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+        hashingPool.shutdownNow();
+    }
+
+    private record Candidate(int index, Account account, EmailAddress email, UserRole role) {}
+
+    private static final class HashingThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("account-provisioning-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
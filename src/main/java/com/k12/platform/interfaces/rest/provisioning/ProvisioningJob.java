@@ -0,0 +1,115 @@
+package com.k12.platform.interfaces.rest.provisioning;
+
+import com.k12.platform.interfaces.rest.dto.ProvisioningJobStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of one bulk provisioning job.
+ * Written by the job's thread and read by status requests, so counters are atomic and timestamps volatile.
+ */
+public final class ProvisioningJob {
+
+    enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final UUID id = UUID.randomUUID();
+    private final int total;
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger rejected = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final List<ProvisioningJobStatus.Rejection> rejections = new ArrayList<>();
+    private volatile State state = State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    ProvisioningJob(int total) {
+        this.total = total;
+    }
+
+    public UUID id() {
+        return id;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        state = State.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        state = State.COMPLETED;
+    }
+
+    void fail() {
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+
+    boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    Instant finishedAt() {
+        return finishedAt;
+    }
+
+    void created(int count) {
+        created.addAndGet(count);
+    }
+
+    void rejected(int index, String email, String error) {
+        addRejection(index, email, error);
+        rejected.incrementAndGet();
+    }
+
+    void failed(int index, String email, String error) {
+        addRejection(index, email, error);
+        failed.incrementAndGet();
+    }
+
+    private void addRejection(int index, String email, String error) {
+        synchronized (rejections) {
+            rejections.add(new ProvisioningJobStatus.Rejection(index, email, error));
+        }
+    }
+
+    public ProvisioningJobStatus status() {
+        Instant started = startedAt;
+        Instant finished = finishedAt;
+        int createdCount = created.get();
+        int rejectedCount = rejected.get();
+        int failedCount = failed.get();
+        int processed = createdCount + rejectedCount + failedCount;
+        long elapsedMillis = started == null
+                ? 0
+                : Duration.between(started, finished != null ? finished : Instant.now())
+                        .toMillis();
+        double accountsPerSecond = elapsedMillis > 0 ? processed * 1000.0 / elapsedMillis : 0;
+        List<ProvisioningJobStatus.Rejection> rejectionsCopy;
+        synchronized (rejections) {
+            rejectionsCopy = List.copyOf(rejections);
+        }
+        return new ProvisioningJobStatus(
+                id.toString(),
+                state.name(),
+                total,
+                processed,
+                createdCount,
+                rejectedCount,
+                failedCount,
+                started != null ? started.toString() : null,
+                finished != null ? finished.toString() : null,
+                elapsedMillis,
+                accountsPerSecond,
+                rejectionsCopy);
+    }
+}
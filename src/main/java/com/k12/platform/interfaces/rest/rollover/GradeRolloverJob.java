@@ -0,0 +1,93 @@
+package com.k12.platform.interfaces.rest.rollover;
+
+import com.k12.platform.domain.model.GradeRolloverCheckpoint;
+import com.k12.platform.domain.model.GradeRolloverChunk;
+import com.k12.platform.interfaces.rest.dto.GradeRolloverStatus;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * One run of the grade rollover for an academic year, resumed from its checkpoint if it was started before.
+ * Written by the rollover thread and read by status requests, hence the volatile fields.
+ */
+public final class GradeRolloverJob {
+
+    enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String academicYear;
+    private volatile State state = State.QUEUED;
+    private volatile int advanced;
+    private volatile int graduated;
+    private volatile int processedThisRun;
+    private volatile Instant rolloverStartedAt;
+    private volatile Instant runStartedAt;
+    private volatile Instant finishedAt;
+
+    GradeRolloverJob(String academicYear) {
+        this.academicYear = academicYear;
+    }
+
+    void start(GradeRolloverCheckpoint checkpoint) {
+        advanced = checkpoint.advanced();
+        graduated = checkpoint.graduated();
+        rolloverStartedAt = checkpoint.startedAt();
+        runStartedAt = Instant.now();
+        state = State.RUNNING;
+    }
+
+    void chunkDone(GradeRolloverChunk chunk) {
+        advanced += chunk.advanced();
+        graduated += chunk.graduated();
+        processedThisRun += chunk.size();
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        state = State.COMPLETED;
+    }
+
+    void fail() {
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+
+    boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public GradeRolloverStatus status() {
+        Instant runStarted = runStartedAt;
+        Instant finished = finishedAt;
+        long elapsedMillis = runStarted == null
+                ? 0
+                : Duration.between(runStarted, finished != null ? finished : Instant.now())
+                        .toMillis();
+        double rowsPerSecond = elapsedMillis > 0 ? processedThisRun * 1000.0 / elapsedMillis : 0;
+        return new GradeRolloverStatus(
+                academicYear,
+                state.name(),
+                advanced,
+                graduated,
+                rolloverStartedAt != null ? rolloverStartedAt.toString() : null,
+                state == State.COMPLETED ? finished.toString() : null,
+                elapsedMillis,
+                rowsPerSecond);
+    }
+
+    static GradeRolloverStatus status(GradeRolloverCheckpoint checkpoint) {
+        return new GradeRolloverStatus(
+                checkpoint.academicYear(),
+                checkpoint.isCompleted() ? State.COMPLETED.name() : "INTERRUPTED",
+                checkpoint.advanced(),
+                checkpoint.graduated(),
+                checkpoint.startedAt().toString(),
+                checkpoint.isCompleted() ? checkpoint.completedAt().toString() : null,
+                0,
+                0);
+    }
+}
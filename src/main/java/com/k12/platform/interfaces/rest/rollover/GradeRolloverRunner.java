@@ -0,0 +1,128 @@
+package com.k12.platform.interfaces.rest.rollover;
+
+import com.k12.platform.domain.model.GradeRolloverCheckpoint;
+import com.k12.platform.domain.model.GradeRolloverChunk;
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.domain.port.GradeRolloverRepository;
+import com.k12.platform.interfaces.rest.dto.GradeRolloverStatus;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.enterprise.event.Observes;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Runs year-end grade rollovers in the background, k12.rollover.chunk-size students per transaction.
+ * Every chunk moves the rollover's checkpoint, so a rollover interrupted by a crash or restart continues after
+ * the last committed chunk: on startup when k12.rollover.resume-on-start is set, or when it is started again.
+ * Rollovers run one at a time here; runs on other nodes share the checkpoint and take turns chunk by chunk.
+ */
+@ApplicationScoped
+public class GradeRolloverRunner {
+
+    private static final Logger LOG = Logger.getLogger(GradeRolloverRunner.class);
+
+    private final GradeRolloverRepository gradeRolloverRepository;
+    private final int chunkSize;
+    private final boolean resumeOnStart;
+    private final ExecutorService executor;
+    private final Map<String, GradeRolloverJob> jobs = new ConcurrentHashMap<>();
+
+    public GradeRolloverRunner(
+            GradeRolloverRepository gradeRolloverRepository,
+            @ConfigProperty(name = "k12.rollover.chunk-size", defaultValue = "5000") int chunkSize,
+            @ConfigProperty(name = "k12.rollover.resume-on-start", defaultValue = "true") boolean resumeOnStart) {
+        this.gradeRolloverRepository = gradeRolloverRepository;
+        this.chunkSize = chunkSize;
+        this.resumeOnStart = resumeOnStart;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "grade-rollover");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (resumeOnStart) {
+            executor.execute(this::resumeIncomplete);
+        }
+    }
+
+    /**
+     * Start (or resume) the rollover for an academic year. Starting a rollover that is already queued or running
+     * returns its job.
+     * @throws IllegalStateException if the academic year was already rolled over
+     */
+    public GradeRolloverJob submit(AcademicYear academicYear) {
+        gradeRolloverRepository.find(academicYear).ifPresent(checkpoint -> {
+            if (checkpoint.isCompleted()) {
+                throw new IllegalStateException("Academic year " + academicYear + " was already rolled over");
+            }
+        });
+        return jobs.compute(academicYear.value(), (year, existing) -> {
+            if (existing != null && !existing.isFinished()) {
+                return existing;
+            }
+            GradeRolloverJob job = new GradeRolloverJob(year);
+            executor.execute(() -> run(job, academicYear));
+            return job;
+        });
+    }
+
+    /**
+     * Status of the latest run in this process, else of the stored checkpoint.
+     */
+    public Optional<GradeRolloverStatus> status(AcademicYear academicYear) {
+        GradeRolloverJob job = jobs.get(academicYear.value());
+        if (job != null) {
+            return Optional.of(job.status());
+        }
+        return gradeRolloverRepository.find(academicYear).map(GradeRolloverJob::status);
+    }
+
+    @ActivateRequestContext
+    void run(GradeRolloverJob job, AcademicYear academicYear) {
+        try {
+            GradeRolloverCheckpoint checkpoint = gradeRolloverRepository.start(academicYear);
+            if (checkpoint.lastStudentId() != null) {
+                LOG.infof("Resuming grade rollover for %s after student %s", academicYear, checkpoint.lastStudentId());
+            }
+            job.start(checkpoint);
+            GradeRolloverChunk chunk;
+            do {
+                chunk = gradeRolloverRepository.advanceChunk(academicYear, chunkSize);
+                job.chunkDone(chunk);
+            } while (chunk.size() == chunkSize);
+            gradeRolloverRepository.complete(academicYear);
+            job.complete();
+            LOG.infof("Grade rollover for %s finished: %s", academicYear, job.status());
+        } catch (RuntimeException e) {
+            LOG.errorf(
+                    e, "Grade rollover for %s failed; it resumes from its checkpoint when started again", academicYear);
+            job.fail();
+        }
+    }
+
+    @ActivateRequestContext
+    void resumeIncomplete() {
+        for (GradeRolloverCheckpoint checkpoint : gradeRolloverRepository.findIncomplete()) {
+            try {
+                submit(AcademicYear.of(checkpoint.academicYear()));
+            } catch (IllegalArgumentException e) {
+                LOG.warnf("Not resuming grade rollover for %s: %s", checkpoint.academicYear(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,117 @@
+package com.k12.platform.interfaces.rest.security;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.stream.Collectors;
+
+/**
+ * Precomputed authorization rules for one resource method.
+ * Built once from {@link RequireRole}, {@link OwnedStudentId} and {@link OwnedClassId} so the
+ * interceptor does no reflection or string matching per request.
+ */
+final class AuthorizationDescriptor {
+
+    static final int NO_PARAMETER = -1;
+
+    private final EnumSet<UserRole> requiredRoles;
+    private final String[] requiredRoleNames;
+    private final boolean requireAll;
+    private final int studentIdParameter;
+    private final int classIdParameter;
+    private final String insufficientRolesMessage;
+
+    private AuthorizationDescriptor(
+            EnumSet<UserRole> requiredRoles, boolean requireAll, int studentIdParameter, int classIdParameter) {
+        this.requiredRoles = requiredRoles;
+        this.requiredRoleNames = requiredRoles.stream().map(UserRole::name).toArray(String[]::new);
+        this.requireAll = requireAll;
+        this.studentIdParameter = studentIdParameter;
+        this.classIdParameter = classIdParameter;
+        this.insufficientRolesMessage = "{\"message\":\"Insufficient permissions: requires role(s) "
+                + Arrays.stream(requiredRoleNames).collect(Collectors.joining(", ")) + "\"}";
+    }
+
+    /**
+     * Build the descriptor for a resource method.
+     * Method-level {@link RequireRole} wins over the class-level one.
+     * @throws IllegalStateException if an ownership annotation is declared on more than one parameter
+     */
+    static AuthorizationDescriptor of(Method method) {
+        RequireRole annotation = method.getAnnotation(RequireRole.class);
+        if (annotation == null) {
+            annotation = method.getDeclaringClass().getAnnotation(RequireRole.class);
+        }
+
+        EnumSet<UserRole> roles = EnumSet.noneOf(UserRole.class);
+        boolean requireAll = false;
+        if (annotation != null) {
+            roles.addAll(Arrays.asList(annotation.value()));
+            requireAll = annotation.requireAll();
+        }
+
+        return new AuthorizationDescriptor(
+                roles,
+                requireAll,
+                parameterIndex(method, OwnedStudentId.class),
+                parameterIndex(method, OwnedClassId.class));
+    }
+
+    private static int parameterIndex(Method method, Class<? extends Annotation> marker) {
+        int found = NO_PARAMETER;
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation.annotationType() == marker) {
+                    if (found != NO_PARAMETER) {
+                        throw new IllegalStateException("@" + marker.getSimpleName()
+                                + " declared on more than one parameter of " + method);
+                    }
+                    found = i;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Check the caller's role names against the required roles. No allocation.
+     */
+    boolean isSatisfiedBy(Collection<String> userRoles) {
+        if (requiredRoleNames.length == 0) {
+            return true;
+        }
+        for (String required : requiredRoleNames) {
+            boolean present = userRoles.contains(required);
+            if (requireAll && !present) {
+                return false;
+            }
+            if (!requireAll && present) {
+                return true;
+            }
+        }
+        return requireAll;
+    }
+
+    EnumSet<UserRole> requiredRoles() {
+        return requiredRoles;
+    }
+
+    boolean requireAll() {
+        return requireAll;
+    }
+
+    int studentIdParameter() {
+        return studentIdParameter;
+    }
+
+    int classIdParameter() {
+        return classIdParameter;
+    }
+
+    String insufficientRolesMessage() {
+        return insufficientRolesMessage;
+    }
+}
@@ -0,0 +1,53 @@
+package com.k12.platform.interfaces.rest.security;
+
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.ws.rs.Path;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jboss.logging.Logger;
+
+/**
+ * Table of {@link AuthorizationDescriptor}s keyed by resource method.
+ * Filled at startup from every {@code @Path} bean carrying {@link RequireRole}; methods not seen at
+ * startup are described on first use.
+ */
+@ApplicationScoped
+public class AuthorizationDescriptorRegistry {
+
+    private static final Logger LOG = Logger.getLogger(AuthorizationDescriptorRegistry.class);
+
+    private final Map<Method, AuthorizationDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    void onStart(@Observes StartupEvent event, BeanManager beanManager) {
+        for (Bean<?> bean : beanManager.getBeans(Object.class, Any.Literal.INSTANCE)) {
+            Class<?> beanClass = bean.getBeanClass();
+            if (beanClass.isAnnotationPresent(Path.class)) {
+                register(beanClass);
+            }
+        }
+        LOG.debugf("Compiled %d authorization descriptors", descriptors.size());
+    }
+
+    void register(Class<?> resourceClass) {
+        boolean classLevel = resourceClass.isAnnotationPresent(RequireRole.class);
+        for (Method method : resourceClass.getDeclaredMethods()) {
+            if (classLevel || method.isAnnotationPresent(RequireRole.class)) {
+                descriptors.put(method, AuthorizationDescriptor.of(method));
+            }
+        }
+    }
+
+    AuthorizationDescriptor get(Method method) {
+        AuthorizationDescriptor descriptor = descriptors.get(method);
+        if (descriptor != null) {
+            return descriptor;
+        }
+        return descriptors.computeIfAbsent(method, AuthorizationDescriptor::of);
+    }
+}
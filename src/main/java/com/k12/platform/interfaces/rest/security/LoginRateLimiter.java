@@ -0,0 +1,88 @@
+package com.k12.platform.interfaces.rest.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Locale;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Per-IP and per-email token-bucket limits for login attempts.
+ * Checked before any password hashing, so a credential-stuffing burst costs a map lookup per request.
+ */
+@ApplicationScoped
+public class LoginRateLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketLimiter byIp;
+    private final TokenBucketLimiter byEmail;
+    private final Counter shedByIp;
+    private final Counter shedByEmail;
+    private final Counter overflow;
+
+    public LoginRateLimiter(
+            @ConfigProperty(name = "k12.auth.rate-limit.enabled", defaultValue = "true") boolean enabled,
+            @ConfigProperty(name = "k12.auth.rate-limit.ip.capacity", defaultValue = "300") int ipCapacity,
+            @ConfigProperty(name = "k12.auth.rate-limit.ip.refill-per-minute", defaultValue = "300") int ipRefill,
+            @ConfigProperty(name = "k12.auth.rate-limit.email.capacity", defaultValue = "5") int emailCapacity,
+            @ConfigProperty(name = "k12.auth.rate-limit.email.refill-per-minute", defaultValue = "5") int emailRefill,
+            @ConfigProperty(name = "k12.auth.rate-limit.max-entries", defaultValue = "100000") int maxEntries,
+            @ConfigProperty(name = "k12.auth.rate-limit.stripes", defaultValue = "16") int stripes,
+            MeterRegistry registry) {
+        this.enabled = enabled;
+        this.byIp = new TokenBucketLimiter(ipCapacity, ipRefill, maxEntries, stripes, System::currentTimeMillis);
+        this.byEmail =
+                new TokenBucketLimiter(emailCapacity, emailRefill, maxEntries, stripes, System::currentTimeMillis);
+        this.shedByIp = shedCounter(registry, "ip");
+        this.shedByEmail = shedCounter(registry, "email");
+        this.overflow = Counter.builder("k12.auth.login.rate-limit.overflow")
+                .description("Login attempts admitted without a bucket because the limiter was full")
+                .register(registry);
+        Gauge.builder("k12.auth.login.rate-limit.buckets", this, limiter -> limiter.byIp.size() + limiter.byEmail.size())
+                .description("Token buckets currently tracked for login attempts")
+                .register(registry);
+    }
+
+    /**
+     * Take a login attempt from both the client's and the email's bucket.
+     * @return 0 if the attempt may proceed, else seconds until the client may retry
+     */
+    public long acquire(String clientIp, String email) {
+        if (!enabled) {
+            return 0;
+        }
+
+        long waitMillis = acquire(byIp, clientIp, shedByIp);
+        if (waitMillis == TokenBucketLimiter.ALLOWED) {
+            waitMillis = acquire(byEmail, email.toLowerCase(Locale.ROOT), shedByEmail);
+        }
+        return waitMillis == TokenBucketLimiter.ALLOWED ? 0 : Math.max(1, (waitMillis + 999) / 1000);
+    }
+
+    @Scheduled(every = "${k12.auth.rate-limit.evict-interval:1m}")
+    void evictIdle() {
+        byIp.evictIdle();
+        byEmail.evictIdle();
+    }
+
+    private long acquire(TokenBucketLimiter limiter, String key, Counter shed) {
+        if (limiter.isOverflowing(key)) {
+            overflow.increment();
+            return TokenBucketLimiter.ALLOWED;
+        }
+        long waitMillis = limiter.tryAcquire(key);
+        if (waitMillis != TokenBucketLimiter.ALLOWED) {
+            shed.increment();
+        }
+        return waitMillis;
+    }
+
+    private static Counter shedCounter(MeterRegistry registry, String limit) {
+        return Counter.builder("k12.auth.login.shed")
+                .description("Login attempts rejected by the rate limiter before password verification")
+                .tag("limit", limit)
+                .register(registry);
+    }
+}
@@ -0,0 +1,22 @@
+package com.k12.platform.interfaces.rest.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the resource method parameter holding the class ID that non-admin callers must own.
+ * Teachers must be assigned to the class.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * @RequireRole({UserRole.ADMIN, UserRole.TEACHER})
+ * public Response getClass(@PathParam("id") @OwnedClassId String id)
+ * }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface OwnedClassId {}
@@ -0,0 +1,22 @@
+package com.k12.platform.interfaces.rest.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the resource method parameter holding the student ID that non-admin callers must own.
+ * Teachers must teach the student's class; parents must be linked to the student.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * @RequireRole({UserRole.ADMIN, UserRole.TEACHER, UserRole.PARENT})
+ * public Response getStudent(@PathParam("id") @OwnedStudentId String id)
+ * }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface OwnedStudentId {}
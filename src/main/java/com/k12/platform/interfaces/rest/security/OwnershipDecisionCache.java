@@ -0,0 +1,121 @@
+package com.k12.platform.interfaces.rest.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.k12.platform.domain.model.ParentStudentAssociated;
+import com.k12.platform.domain.model.ParentStudentDisassociated;
+import com.k12.platform.domain.model.TeacherAssignedToClass;
+import com.k12.platform.domain.model.TeacherUnassignedFromClass;
+import com.k12.platform.domain.model.valueobjects.ClassId;
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Bounded cache of resource ownership decisions made by {@link RoleBasedSecurityInterceptor}.
+ * Keys are (principal, relation, resource); both allow and deny decisions are cached.
+ * <p>
+ * All decisions for a principal are dropped when one of their teacher-class assignments or
+ * parent-student associations is committed or removed. Entries also expire after the TTL, which
+ * bounds staleness for changes that are not evented (e.g. a student moved to another class).
+ * A decision whose lookup overlapped an invalidation is returned but not cached, since the lookup
+ * may have read the database before the change committed.
+ * Hit/miss counts are exported as {@code cache.gets{cache="ownership-decisions"}}.
+ */
+@ApplicationScoped
+public class OwnershipDecisionCache {
+
+    static final String CACHE_NAME = "ownership-decisions";
+
+    enum Relation {
+        TEACHES_CLASS,
+        TEACHES_STUDENT,
+        PARENT_OF_STUDENT
+    }
+
+    record Key(UUID principalId, Relation relation, UUID resourceId) {}
+
+    private final Cache<Key, Boolean> decisions;
+    /**
+     * Bumped on every invalidation; a lookup only fills the cache if none happened while it ran.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public OwnershipDecisionCache(
+            @ConfigProperty(name = "k12.security.ownership-cache.max-size", defaultValue = "10000") long maxSize,
+            @ConfigProperty(name = "k12.security.ownership-cache.ttl", defaultValue = "60s") Duration ttl,
+            MeterRegistry registry) {
+        this.decisions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, decisions, CACHE_NAME);
+    }
+
+    public boolean teachesClass(UserId teacherId, ClassId classId, BooleanSupplier lookup) {
+        return decide(new Key(teacherId.value(), Relation.TEACHES_CLASS, classId.value()), lookup);
+    }
+
+    public boolean teachesStudent(UserId teacherId, StudentId studentId, BooleanSupplier lookup) {
+        return decide(new Key(teacherId.value(), Relation.TEACHES_STUDENT, studentId.value()), lookup);
+    }
+
+    public boolean isParentOf(UserId parentId, StudentId studentId, BooleanSupplier lookup) {
+        return decide(new Key(parentId.value(), Relation.PARENT_OF_STUDENT, studentId.value()), lookup);
+    }
+
+    /**
+     * Drop every cached decision for the given principal.
+     */
+    public void invalidatePrincipal(UserId principalId) {
+        UUID id = principalId.value();
+        invalidations.incrementAndGet();
+        decisions.asMap().keySet().removeIf(key -> key.principalId().equals(id));
+    }
+
+    long size() {
+        decisions.cleanUp();
+        return decisions.estimatedSize();
+    }
+
+    void onTeacherAssigned(@Observes(during = TransactionPhase.AFTER_SUCCESS) TeacherAssignedToClass event) {
+        invalidatePrincipal(event.teacherId());
+    }
+
+    void onTeacherUnassigned(@Observes(during = TransactionPhase.AFTER_SUCCESS) TeacherUnassignedFromClass event) {
+        invalidatePrincipal(event.teacherId());
+    }
+
+    void onParentAssociated(@Observes(during = TransactionPhase.AFTER_SUCCESS) ParentStudentAssociated event) {
+        invalidatePrincipal(event.parentId());
+    }
+
+    void onParentDisassociated(
+            @Observes(during = TransactionPhase.AFTER_SUCCESS) ParentStudentDisassociated event) {
+        invalidatePrincipal(event.parentId());
+    }
+
+    private boolean decide(Key key, BooleanSupplier lookup) {
+        Boolean cached = decisions.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long seen = invalidations.get();
+        boolean decision = lookup.getAsBoolean();
+        // Put under the key's lock, so an invalidation either sees the entry and removes it or
+        // has already been counted and the entry is not put
+        decisions.asMap()
+                .compute(key, (k, current) -> invalidations.get() == seen ? Boolean.valueOf(decision) : current);
+        return decision;
+    }
+}
@@ -1,5 +1,6 @@
 package com.k12.platform.interfaces.rest.security;
 
+import jakarta.enterprise.util.Nonbinding;
 import jakarta.interceptor.InterceptorBinding;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -29,12 +30,15 @@ public @interface RequireRole {
     /**
      * Roles that are allowed to access the annotated endpoint.
      * If empty, any authenticated user can access.
+     * Members are {@code @Nonbinding}: otherwise the interceptor would only bind to a bare {@code @RequireRole}.
      */
+    @Nonbinding
     UserRole[] value() default {};
 
     /**
      * If true, user must have ALL specified roles.
      * If false, user must have AT LEAST ONE of the specified roles.
      */
+    @Nonbinding
     boolean requireAll() default false;
 }
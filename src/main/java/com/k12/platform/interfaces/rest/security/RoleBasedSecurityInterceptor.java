@@ -1,25 +1,28 @@
 package com.k12.platform.interfaces.rest.security;
 
-import com.k12.platform.domain.port.ClassRepository;
 import com.k12.platform.domain.model.ParentStudentAssociation;
-import com.k12.platform.domain.port.ParentStudentAssociationRepository;
 import com.k12.platform.domain.model.Student;
-import com.k12.platform.domain.port.StudentRepository;
 import com.k12.platform.domain.model.TeacherClassAssignment;
-import com.k12.platform.domain.port.TeacherClassAssignmentRepository;
 import com.k12.platform.domain.model.valueobjects.ClassId;
 import com.k12.platform.domain.model.valueobjects.StudentId;
 import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.ClassRepository;
+import com.k12.platform.domain.port.ParentStudentAssociationRepository;
+import com.k12.platform.domain.port.StudentRepository;
+import com.k12.platform.domain.port.TeacherClassAssignmentRepository;
+import com.k12.platform.interfaces.rest.jwt.ScopeClaim;
 import jakarta.annotation.Priority;
 import jakarta.inject.Inject;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
+import jakarta.json.JsonString;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 
 /**
@@ -28,8 +31,10 @@ import org.eclipse.microprofile.jwt.JsonWebToken;
  * <ol>
  * <li>User is authenticated</li>
  * <li>User has required role(s)</li>
- * <li>User owns the resource (for non-admins)</li>
+ * <li>User owns the resource bound with @OwnedStudentId / @OwnedClassId (for non-admins)</li>
  * </ol>
+ * Rules per method come precompiled from {@link AuthorizationDescriptorRegistry}. Tokens carrying a
+ * current {@link ScopeClaim} are authorized from the claim instead of the database.
  */
 @Interceptor
 @RequireRole
@@ -48,11 +53,34 @@ public class RoleBasedSecurityInterceptor {
     @Inject
     ParentStudentAssociationRepository parentStudentAssociationRepository;
 
+    @Inject
+    OwnershipDecisionCache ownershipDecisionCache;
+
+    @Inject
+    AuthorizationDescriptorRegistry authorizationDescriptors;
+
+    @Inject
+    ScopeVersionRegistry scopeVersions;
+
     @Context
     SecurityContext securityContext;
 
     @AroundInvoke
     public Object enforceRoleBasedAccess(InvocationContext context) throws Exception {
+        Response rejection = reject(context);
+        if (rejection == null) {
+            return context.proceed();
+        }
+        // Asynchronous endpoints must still return a stage, or the rejection fails as a ClassCastException
+        return CompletionStage.class.isAssignableFrom(context.getMethod().getReturnType())
+                ? CompletableFuture.completedFuture(rejection)
+                : rejection;
+    }
+
+    /**
+     * The response refusing the call, or null if it may proceed.
+     */
+    private Response reject(InvocationContext context) {
         JsonWebToken jwt = (JsonWebToken) securityContext.getUserPrincipal();
         if (jwt == null) {
             return Response.status(Response.Status.UNAUTHORIZED)
@@ -67,26 +95,16 @@ public class RoleBasedSecurityInterceptor {
                     .build();
         }
 
-        RequireRole annotation = context.getMethod().getAnnotation(RequireRole.class);
-        if (annotation == null) {
-            annotation = context.getTarget().getClass().getAnnotation(RequireRole.class);
-        }
-
-        UserRole[] requiredRoles = annotation.value();
-        boolean requireAll = annotation.requireAll();
+        AuthorizationDescriptor descriptor = authorizationDescriptors.get(context.getMethod());
 
-        boolean hasRequiredRole = checkRoles(userRoles, requiredRoles, requireAll);
-
-        if (!hasRequiredRole) {
+        if (!descriptor.isSatisfiedBy(userRoles)) {
             return Response.status(Response.Status.FORBIDDEN)
-                    .entity("{\"message\":\"Insufficient permissions: requires role(s) "
-                            + Arrays.stream(requiredRoles).map(UserRole::name).collect(Collectors.joining(", "))
-                            + "}\"")
+                    .entity(descriptor.insufficientRolesMessage())
                     .build();
         }
 
         if (!userRoles.contains("ADMIN")) {
-            String ownershipError = checkResourceOwnership(context, userRoles);
+            String ownershipError = checkResourceOwnership(jwt, descriptor, context.getParameters(), userRoles);
             if (ownershipError != null) {
                 return Response.status(Response.Status.FORBIDDEN)
                         .entity("{\"message\":\"" + ownershipError + "\"}")
@@ -94,7 +112,7 @@ public class RoleBasedSecurityInterceptor {
             }
         }
 
-        return context.proceed();
+        return null;
     }
 
     /**
@@ -111,136 +129,119 @@ public class RoleBasedSecurityInterceptor {
         return Collections.emptyList();
     }
 
-    /**
-     * Check if user has required roles.
-     */
-    private boolean checkRoles(Collection<String> userRoles, UserRole[] requiredRoles, boolean requireAll) {
-        if (requiredRoles.length == 0) {
-            return true;
-        }
-
-        Set<String> requiredRoleNames =
-                Arrays.stream(requiredRoles).map(UserRole::name).collect(Collectors.toSet());
-
-        if (requireAll) {
-            return userRoles.containsAll(requiredRoleNames);
-        } else {
-            return userRoles.stream().anyMatch(requiredRoleNames::contains);
-        }
-    }
-
     /**
      * Check resource ownership for non-admin users.
      * Returns error message if access denied, null if allowed.
+     * IDs that are not valid UUIDs are left for the resource to reject.
      */
-    private String checkResourceOwnership(InvocationContext context, Collection<String> userRoles) {
-        String userIdStr = securityContext.getUserPrincipal().getName();
-        UserId userId = UserId.of(UUID.fromString(userIdStr));
-
-        Object[] parameters = context.getParameters();
-
-        if (userRoles.contains("TEACHER")) {
-            return checkTeacherResourceAccess(
-                    userId, parameters, context.getMethod().getName());
+    private String checkResourceOwnership(
+            JsonWebToken jwt, AuthorizationDescriptor descriptor, Object[] parameters, Collection<String> userRoles) {
+        boolean teacher = userRoles.contains("TEACHER");
+        if (!teacher && !userRoles.contains("PARENT")) {
+            return "Invalid user role";
         }
 
-        if (userRoles.contains("PARENT")) {
-            return checkParentResourceAccess(
-                    userId, parameters, context.getMethod().getName());
+        UUID classId = uuidParameter(parameters, descriptor.classIdParameter());
+        UUID studentId = uuidParameter(parameters, descriptor.studentIdParameter());
+        if (classId == null && studentId == null) {
+            return null;
         }
 
-        return "Invalid user role";
-    }
-
-    /**
-     * Check if teacher has access to requested resources.
-     */
-    private String checkTeacherResourceAccess(UserId teacherId, Object[] parameters, String methodName) {
-        UUID classId = null;
-        UUID studentId = null;
-
-        for (Object param : parameters) {
-            if (param instanceof UUID) {
-                if (methodName.contains("Class") || methodName.toLowerCase().contains("class")) {
-                    classId = (UUID) param;
-                } else if (methodName.contains("Student")
-                        || methodName.toLowerCase().contains("student")) {
-                    studentId = (UUID) param;
-                }
-            } else if (param instanceof String) {
-                try {
-                    UUID uuid = UUID.fromString((String) param);
-                    if (methodName.contains("Class")) {
-                        classId = uuid;
-                    } else if (methodName.contains("Student")) {
-                        studentId = uuid;
-                    }
-                } catch (IllegalArgumentException ignored) {
-                    // Not a UUID
+        // Subject carries the user ID; the principal name is the UPN (email)
+        UserId userId = UserId.of(jwt.getSubject());
+
+        if (teacher) {
+            ScopeClaim scope = currentScope(jwt, userId, ScopeClaim.Kind.CLASSES);
+            if (classId != null) {
+                boolean assigned = scope != null
+                        ? scope.contains(classId)
+                        : isTeacherAssignedToClass(userId, ClassId.of(classId));
+                if (!assigned) {
+                    return "Teacher not assigned to this class";
                 }
             }
-        }
-
-        if (classId != null) {
-            if (!isTeacherAssignedToClass(teacherId, ClassId.of(classId))) {
-                return "Teacher not assigned to this class";
+            if (studentId != null) {
+                boolean inClass = scope != null
+                        ? isStudentInScopedClass(userId, StudentId.of(studentId), scope)
+                        : isStudentInTeacherClass(userId, StudentId.of(studentId));
+                if (!inClass) {
+                    return "Student not in teacher's assigned class";
+                }
             }
+            return null;
         }
 
         if (studentId != null) {
-            if (!isStudentInTeacherClass(teacherId, StudentId.of(studentId))) {
-                return "Student not in teacher's assigned class";
+            ScopeClaim scope = currentScope(jwt, userId, ScopeClaim.Kind.STUDENTS);
+            boolean linked = scope != null
+                    ? scope.contains(studentId)
+                    : isParentLinkedToStudent(userId, StudentId.of(studentId));
+            if (!linked) {
+                return "Parent not linked to this student";
             }
         }
-
         return null;
     }
 
     /**
-     * Check if parent has access to requested resources.
+     * Read the token's scope claim if present, of the expected kind and still current; otherwise null.
      */
-    private String checkParentResourceAccess(UserId parentId, Object[] parameters, String methodName) {
-        UUID studentId = null;
-
-        for (Object param : parameters) {
-            if (param instanceof UUID) {
-                if (methodName.contains("Student")) {
-                    studentId = (UUID) param;
-                }
-            } else if (param instanceof String) {
-                try {
-                    UUID uuid = UUID.fromString((String) param);
-                    if (methodName.contains("Student")) {
-                        studentId = uuid;
-                    }
-                } catch (IllegalArgumentException ignored) {
-                    // Not a UUID
-                }
-            }
+    private ScopeClaim currentScope(JsonWebToken jwt, UserId userId, ScopeClaim.Kind expectedKind) {
+        Object claim = jwt.getClaim(ScopeClaim.CLAIM_NAME);
+        String value = claim instanceof JsonString json ? json.getString() : claim instanceof String s ? s : null;
+        ScopeClaim scope = ScopeClaim.parse(value);
+        if (scope == null
+                || scope.kind() != expectedKind
+                || !scopeVersions.isCurrent(userId, scope.scopeVersion())) {
+            return null;
         }
+        return scope;
+    }
 
-        if (studentId != null) {
-            if (!isParentLinkedToStudent(parentId, StudentId.of(studentId))) {
-                return "Parent not linked to this student";
+    /**
+     * Read a bound ID parameter, or null if unbound or not a UUID.
+     */
+    private static UUID uuidParameter(Object[] parameters, int index) {
+        if (index == AuthorizationDescriptor.NO_PARAMETER) {
+            return null;
+        }
+        Object value = parameters[index];
+        if (value instanceof UUID uuid) {
+            return uuid;
+        }
+        if (value instanceof String string) {
+            try {
+                return UUID.fromString(string);
+            } catch (IllegalArgumentException ignored) {
+                // Not a UUID
             }
         }
-
         return null;
     }
 
     /**
-     * Check if teacher is assigned to a specific class.
+     * Check if teacher is assigned to a specific class (cached).
      */
     private boolean isTeacherAssignedToClass(UserId teacherId, ClassId classId) {
+        return ownershipDecisionCache.teachesClass(
+                teacherId, classId, () -> lookupTeacherAssignedToClass(teacherId, classId));
+    }
+
+    private boolean lookupTeacherAssignedToClass(UserId teacherId, ClassId classId) {
         Optional<TeacherClassAssignment> assignment =
                 teacherClassAssignmentRepository.findByTeacherIdAndClassId(teacherId, classId);
         return assignment.isPresent();
     }
 
     /**
-     * Check if a student is in a class assigned to this teacher.
+     * Check if a student is in a class assigned to this teacher (cached).
      */
     private boolean isStudentInTeacherClass(UserId teacherId, StudentId studentId) {
+        return ownershipDecisionCache.teachesStudent(
+                teacherId, studentId, () -> lookupStudentInTeacherClass(teacherId, studentId));
+    }
+
+    private boolean lookupStudentInTeacherClass(UserId teacherId, StudentId studentId) {
         // Get the student to find their class
         Optional<Student> studentOpt = studentRepository.findById(studentId);
         if (studentOpt.isEmpty()) {
@@ -266,9 +267,24 @@ public class RoleBasedSecurityInterceptor {
     }
 
     /**
-     * Check if parent is linked to a specific student.
+     * Check if a student is in one of the classes listed in the teacher's scope claim (cached).
+     */
+    private boolean isStudentInScopedClass(UserId teacherId, StudentId studentId, ScopeClaim scope) {
+        return ownershipDecisionCache.teachesStudent(teacherId, studentId, () -> studentRepository
+                .findById(studentId)
+                .map(student -> scope.contains(student.classId().value()))
+                .orElse(false));
+    }
+
+    /**
+     * Check if parent is linked to a specific student (cached).
      */
     private boolean isParentLinkedToStudent(UserId parentId, StudentId studentId) {
+        return ownershipDecisionCache.isParentOf(
+                parentId, studentId, () -> lookupParentLinkedToStudent(parentId, studentId));
+    }
+
+    private boolean lookupParentLinkedToStudent(UserId parentId, StudentId studentId) {
         Optional<ParentStudentAssociation> association =
                 parentStudentAssociationRepository.findByParentIdAndStudentId(parentId, studentId);
         return association.isPresent();
@@ -0,0 +1,114 @@
+package com.k12.platform.interfaces.rest.security;
+
+import com.k12.platform.domain.model.ParentStudentAssociated;
+import com.k12.platform.domain.model.ParentStudentDisassociated;
+import com.k12.platform.domain.model.TeacherAssignedToClass;
+import com.k12.platform.domain.model.TeacherUnassignedFromClass;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.infrastructure.persistence.ScopeChangeNotified;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Scope versions for JWT scope claims.
+ * A scope version is the time (epoch millis) the scope was loaded. A claim is current when it is
+ * younger than the max age and newer than the principal's last assignment/association change.
+ * Changes on this node are seen on commit, changes on other nodes once their notification arrives
+ * (see {@link ScopeChangeNotified}). Changes made before this node started, or while it was not
+ * listening, are unknown, so claims older than that are stale too. The max age bounds staleness
+ * should a notification still be missed, or when notifications are not listened for.
+ */
+@ApplicationScoped
+public class ScopeVersionRegistry {
+
+    private final long maxAgeMillis;
+    private final LongSupplier clock;
+    private volatile long unknownBefore;
+    private final Map<UUID, Long> lastChanged = new ConcurrentHashMap<>();
+
+    public ScopeVersionRegistry(
+            @ConfigProperty(name = "k12.jwt.scope-claim.max-age", defaultValue = "5m") Duration maxAge) {
+        this(maxAge, System::currentTimeMillis);
+    }
+
+    ScopeVersionRegistry(Duration maxAge, LongSupplier clock) {
+        this.maxAgeMillis = maxAge.toMillis();
+        this.clock = clock;
+        this.unknownBefore = clock.getAsLong();
+    }
+
+    /**
+     * Version for a scope about to be loaded. Take it before loading so concurrent changes make the claim stale.
+     */
+    public long nextVersion() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Check whether a claim with this scope version can still be trusted for the principal.
+     */
+    public boolean isCurrent(UserId principalId, long scopeVersion) {
+        long now = clock.getAsLong();
+        if (scopeVersion <= now - maxAgeMillis || scopeVersion > now) {
+            return false;
+        }
+        return scopeVersion > Math.max(lastChanged.getOrDefault(principalId.value(), 0L), unknownBefore);
+    }
+
+    public void markChanged(UserId principalId) {
+        lastChanged.put(principalId.value(), clock.getAsLong());
+    }
+
+    /**
+     * Treat every claim loaded until now as stale, for when changes may have been missed.
+     */
+    public void markAllChanged() {
+        unknownBefore = clock.getAsLong();
+    }
+
+    /**
+     * Forget changes older than the max age; claims that old are rejected anyway.
+     */
+    @Scheduled(every = "${k12.jwt.scope-claim.max-age:5m}")
+    void purge() {
+        long cutoff = clock.getAsLong() - maxAgeMillis;
+        lastChanged.values().removeIf(changedAt -> changedAt <= cutoff);
+    }
+
+    int trackedPrincipals() {
+        return lastChanged.size();
+    }
+
+    void onTeacherAssigned(@Observes(during = TransactionPhase.AFTER_SUCCESS) TeacherAssignedToClass event) {
+        markChanged(event.teacherId());
+    }
+
+    void onTeacherUnassigned(@Observes(during = TransactionPhase.AFTER_SUCCESS) TeacherUnassignedFromClass event) {
+        markChanged(event.teacherId());
+    }
+
+    void onParentAssociated(@Observes(during = TransactionPhase.AFTER_SUCCESS) ParentStudentAssociated event) {
+        markChanged(event.parentId());
+    }
+
+    void onParentDisassociated(
+            @Observes(during = TransactionPhase.AFTER_SUCCESS) ParentStudentDisassociated event) {
+        markChanged(event.parentId());
+    }
+
+    void onScopeChangeNotified(@Observes ScopeChangeNotified event) {
+        if (event.anyPrincipalChanged()) {
+            markAllChanged();
+        } else {
+            markChanged(UserId.of(event.principalId()));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.k12.platform.interfaces.rest.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets keyed by string, spread over independent stripes.
+ * Each bucket is one {@link AtomicLong} packing the last refill time (high 44 bits, millis since
+ * creation) and the token count in thousandths (low 20 bits), updated by CAS.
+ * <p>
+ * Memory is bounded: each stripe holds at most {@code maxEntries / stripes} buckets, new keys beyond
+ * that are let through (fail-open), and {@link #evictIdle()} drops buckets that have refilled to capacity.
+ */
+final class TokenBucketLimiter {
+
+    static final long ALLOWED = 0;
+
+    private static final int TOKEN_BITS = 20;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MILLI = 1000;
+
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+    private final int maxEntriesPerStripe;
+    private final long capacityMilli;
+    private final long refillPerMinute;
+    private final LongSupplier clock;
+    private final long base;
+    private final int seed;
+
+    @SuppressWarnings("unchecked")
+    TokenBucketLimiter(int capacity, int refillPerMinute, int maxEntries, int stripeCount, LongSupplier clock) {
+        if (capacity < 1 || capacity * MILLI > TOKEN_MASK) {
+            throw new IllegalArgumentException("Bucket capacity must be between 1 and " + TOKEN_MASK / MILLI);
+        }
+        if (refillPerMinute < 1) {
+            throw new IllegalArgumentException("Refill rate must be at least 1 per minute");
+        }
+        int count = Integer.highestOneBit(Math.max(1, stripeCount));
+        this.stripes = new ConcurrentHashMap[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.maxEntriesPerStripe = Math.max(1, maxEntries / count);
+        this.capacityMilli = capacity * MILLI;
+        this.refillPerMinute = refillPerMinute;
+        this.clock = clock;
+        this.base = clock.getAsLong();
+        this.seed = (int) System.nanoTime() | 1;
+    }
+
+    /**
+     * Take one token for the key.
+     * @return {@link #ALLOWED}, or the milliseconds until a token is available
+     */
+    long tryAcquire(String key) {
+        ConcurrentHashMap<String, AtomicLong> stripe = stripeFor(key);
+        long now = clock.getAsLong() - base;
+
+        AtomicLong bucket = stripe.get(key);
+        if (bucket == null) {
+            if (stripe.size() >= maxEntriesPerStripe) {
+                return ALLOWED;
+            }
+            bucket = stripe.computeIfAbsent(key, k -> new AtomicLong(pack(now, capacityMilli)));
+        }
+
+        while (true) {
+            long state = bucket.get();
+            long tokens = refilled(state, now);
+            if (tokens < MILLI) {
+                return (MILLI - tokens) * 60_000 / (refillPerMinute * MILLI) + 1;
+            }
+            if (bucket.compareAndSet(state, pack(Math.max(now, time(state)), tokens - MILLI))) {
+                return ALLOWED;
+            }
+        }
+    }
+
+    /**
+     * Whether a new key would be admitted without a bucket because its stripe is full.
+     */
+    boolean isOverflowing(String key) {
+        ConcurrentHashMap<String, AtomicLong> stripe = stripeFor(key);
+        return stripe.size() >= maxEntriesPerStripe && !stripe.containsKey(key);
+    }
+
+    /**
+     * Remove buckets that have refilled to capacity; they behave exactly like absent ones.
+     */
+    void evictIdle() {
+        long now = clock.getAsLong() - base;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            stripe.values().removeIf(bucket -> refilled(bucket.get(), now) >= capacityMilli);
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private long refilled(long state, long now) {
+        long elapsed = Math.max(0, now - time(state));
+        long added = elapsed * refillPerMinute * MILLI / 60_000;
+        return Math.min(capacityMilli, (state & TOKEN_MASK) + added);
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> stripeFor(String key) {
+        // Seeded so clients cannot aim many keys at one stripe
+        int h = key.hashCode() * seed;
+        h ^= h >>> 16;
+        return stripes[h & (stripes.length - 1)];
+    }
+
+    private static long time(long state) {
+        return state >>> TOKEN_BITS;
+    }
+
+    private static long pack(long time, long tokens) {
+        return (time << TOKEN_BITS) | tokens;
+    }
+}
@@ -0,0 +1,64 @@
+package com.k12.platform.interfaces.rest.security;
+
+import com.k12.platform.interfaces.rest.dto.ErrorResponse;
+import com.k12.platform.interfaces.rest.jwt.TokenCodec;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.json.JsonNumber;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import java.security.Principal;
+import java.util.UUID;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+/**
+ * Rejects requests whose JWT was issued before the user was deactivated or changed password.
+ * One Bloom filter probe per authenticated request; see {@link TokenRevocationRegistry}.
+ */
+@Provider
+@Priority(Priorities.AUTHENTICATION + 1)
+public class TokenRevocationFilter implements ContainerRequestFilter {
+
+    @Inject
+    TokenRevocationRegistry revocations;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        Principal principal = requestContext.getSecurityContext().getUserPrincipal();
+        if (!(principal instanceof JsonWebToken jwt) || jwt.getSubject() == null) {
+            return;
+        }
+
+        UUID userId;
+        try {
+            userId = UUID.fromString(jwt.getSubject());
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+
+        if (revocations.isRevoked(userId, issuedAtMillis(jwt))) {
+            requestContext.abortWith(Response.status(Response.Status.UNAUTHORIZED)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(new ErrorResponse("Token has been revoked"))
+                    .build());
+        }
+    }
+
+    /**
+     * The token's millisecond issue time, or the start of its {@code iat} second for tokens issued without it.
+     */
+    private static long issuedAtMillis(JsonWebToken jwt) {
+        Object millis = jwt.getClaim(TokenCodec.ISSUED_AT_MILLIS);
+        if (millis instanceof JsonNumber number) {
+            return number.longValue();
+        }
+        if (millis instanceof Number number) {
+            return number.longValue();
+        }
+        return jwt.getIssuedAtTime() * 1000;
+    }
+}
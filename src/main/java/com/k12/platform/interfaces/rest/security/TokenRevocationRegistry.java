@@ -0,0 +1,170 @@
+package com.k12.platform.interfaces.rest.security;
+
+import com.k12.platform.domain.model.UserDeactivated;
+import com.k12.platform.domain.model.UserPasswordChanged;
+import com.k12.platform.domain.port.UserRepository;
+import com.k12.platform.interfaces.rest.jwt.TokenCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * In-memory "tokens issued at or before T are invalid" table per user.
+ * Fed by {@link UserDeactivated} and {@link UserPasswordChanged} on this node; rebuilt at startup from
+ * users.tokens_revoked_at, which the same two changes set, and polled from it every
+ * {@code k12.security.revocation.poll-interval} for revocations made on other nodes.
+ * <p>
+ * A Bloom filter answers "never revoked" for almost every request without touching the exact map.
+ * Entries are dropped once older than the token lifespan, since every token they could reject has
+ * expired, and the filter is then rebuilt at the new size. Memory is bounded by revocations per lifespan.
+ * Times are compared in milliseconds, from the token's {@link TokenCodec#ISSUED_AT_MILLIS} claim, so a token issued
+ * right after a password reset or reactivation is accepted. Tokens without that claim count as issued at the start
+ * of their {@code iat} second.
+ */
+@ApplicationScoped
+public class TokenRevocationRegistry {
+
+    private static final Logger LOG = Logger.getLogger(TokenRevocationRegistry.class);
+
+    /**
+     * How far each poll reaches back before the previous one: a revocation is stamped before its transaction
+     * commits, and node clocks differ. Revoking again is harmless.
+     */
+    private static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+
+    private final UserRepository userRepository;
+    private final Duration tokenLifespan;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final boolean rebuildOnStart;
+    private final Counter rejectedCounter;
+
+    /** Epoch millisecond of the latest revocation per user. */
+    private final Map<UUID, Long> revokedUpTo = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+
+    /** Start of the latest rebuild or poll; null before the first. */
+    private volatile Instant polledAt;
+
+    public TokenRevocationRegistry(
+            UserRepository userRepository,
+            @ConfigProperty(name = "k12.jwt.lifespan", defaultValue = "12h") Duration tokenLifespan,
+            @ConfigProperty(name = "k12.security.revocation.expected-entries", defaultValue = "10000")
+                    int expectedEntries,
+            @ConfigProperty(name = "k12.security.revocation.false-positive-rate", defaultValue = "0.01")
+                    double falsePositiveRate,
+            @ConfigProperty(name = "k12.security.revocation.rebuild-on-start", defaultValue = "true")
+                    boolean rebuildOnStart,
+            MeterRegistry registry) {
+        this.userRepository = userRepository;
+        this.tokenLifespan = tokenLifespan;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildOnStart = rebuildOnStart;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+        this.rejectedCounter = Counter.builder("k12.security.tokens.revoked.rejected")
+                .description("Requests rejected because their token was revoked")
+                .register(registry);
+        Gauge.builder("k12.security.tokens.revocations", revokedUpTo, Map::size)
+                .description("Users with tokens currently revoked")
+                .register(registry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (rebuildOnStart) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Revoke tokens of users deactivated or whose password changed within the token lifespan.
+     */
+    void rebuild() {
+        Instant now = Instant.now();
+        revokeSince(now.minus(tokenLifespan));
+        polledAt = now;
+        LOG.infof("Rebuilt token revocations for %d users", revokedUpTo.size());
+    }
+
+    /**
+     * Revoke tokens of users deactivated or whose password changed on another node since the previous poll.
+     */
+    @Scheduled(
+            every = "${k12.security.revocation.poll-interval:5s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void poll() {
+        Instant now = Instant.now();
+        Instant previous = polledAt;
+        try {
+            revokeSince(previous != null ? previous.minus(POLL_OVERLAP) : now.minus(tokenLifespan));
+            polledAt = now;
+        } catch (RuntimeException e) {
+            LOG.warnf("Polling token revocations failed, retrying on the next poll: %s", e.getMessage());
+        }
+    }
+
+    private void revokeSince(Instant since) {
+        userRepository.findTokensRevokedSince(since).forEach((userId, revokedAt) -> revoke(userId.value(), revokedAt));
+    }
+
+    /**
+     * Check whether a token for the user issued at the given epoch millisecond has been revoked.
+     */
+    public boolean isRevoked(UUID userId, long issuedAtMillis) {
+        if (!filter.mightContain(userId)) {
+            return false;
+        }
+        Long revokedAt = revokedUpTo.get(userId);
+        if (revokedAt != null && issuedAtMillis <= revokedAt) {
+            rejectedCounter.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Revoke every token for the user issued at or before the given instant.
+     */
+    public synchronized void revoke(UUID userId, Instant at) {
+        revokedUpTo.merge(userId, at.toEpochMilli(), Math::max);
+        filter.add(userId);
+    }
+
+    /**
+     * Drop revocations older than the token lifespan and rebuild the filter to fit the rest.
+     */
+    @Scheduled(every = "${k12.security.revocation.purge-interval:10m}")
+    synchronized void purge() {
+        long cutoff = Instant.now().minus(tokenLifespan).toEpochMilli();
+        revokedUpTo.values().removeIf(revokedAt -> revokedAt < cutoff);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revokedUpTo.size()), falsePositiveRate);
+        revokedUpTo.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+    }
+
+    int size() {
+        return revokedUpTo.size();
+    }
+
+    void onDeactivated(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserDeactivated event) {
+        revoke(event.userId().value(), event.deactivatedAt());
+    }
+
+    void onPasswordChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserPasswordChanged event) {
+        revoke(event.userId().value(), event.changedAt());
+    }
+}
@@ -0,0 +1,66 @@
+-- Schema as mapped by the Panache entities in com.k12.platform.infrastructure.persistence.
+-- Databases that predate migrations are baselined at this version (quarkus.flyway.baseline-version).
+
+CREATE TABLE users (
+    id            UUID         PRIMARY KEY,
+    email         VARCHAR(255) NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    first_name    VARCHAR(255) NOT NULL,
+    last_name     VARCHAR(255) NOT NULL,
+    role          VARCHAR(32)  NOT NULL,
+    is_active     BOOLEAN      NOT NULL DEFAULT TRUE,
+    created_at    TIMESTAMPTZ  NOT NULL,
+    updated_at    TIMESTAMPTZ  NOT NULL,
+    last_login    TIMESTAMPTZ,
+    CONSTRAINT users_email_key UNIQUE (email)
+);
+
+CREATE TABLE classes (
+    id            UUID         PRIMARY KEY,
+    name          VARCHAR(255) NOT NULL,
+    grade_level   INTEGER      NOT NULL,
+    academic_year VARCHAR(9)   NOT NULL,
+    created_at    TIMESTAMPTZ,
+    updated_at    TIMESTAMPTZ
+);
+
+CREATE TABLE students (
+    id              UUID         PRIMARY KEY,
+    first_name      VARCHAR(255) NOT NULL,
+    last_name       VARCHAR(255) NOT NULL,
+    grade_level     INTEGER      NOT NULL,
+    class_id        UUID         NOT NULL REFERENCES classes (id),
+    student_number  VARCHAR(255),
+    date_of_birth   VARCHAR(255),
+    enrollment_date DATE         NOT NULL,
+    created_at      TIMESTAMPTZ,
+    updated_at      TIMESTAMPTZ
+);
+
+CREATE TABLE teacher_class_assignments (
+    id            UUID        PRIMARY KEY,
+    teacher_id    UUID        NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    class_id      UUID        NOT NULL REFERENCES classes (id) ON DELETE CASCADE,
+    role          VARCHAR(50) NOT NULL,
+    assigned_date DATE        NOT NULL,
+    created_at    TIMESTAMPTZ
+);
+
+CREATE TABLE parent_student_associations (
+    id                 UUID        PRIMARY KEY,
+    parent_id          UUID        NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    student_id         UUID        NOT NULL REFERENCES students (id) ON DELETE CASCADE,
+    relationship_type  VARCHAR(50) NOT NULL,
+    is_primary_contact BOOLEAN     NOT NULL,
+    created_at         TIMESTAMPTZ
+);
+
+CREATE TABLE password_reset_tokens (
+    id         UUID         PRIMARY KEY,
+    user_id    UUID         NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    token      VARCHAR(255) NOT NULL,
+    expires_at TIMESTAMPTZ  NOT NULL,
+    used_at    TIMESTAMPTZ,
+    created_at TIMESTAMPTZ,
+    CONSTRAINT password_reset_tokens_token_key UNIQUE (token)
+);
@@ -0,0 +1,35 @@
+-- Indexes behind the repository queries in com.k12.platform.infrastructure.persistence.
+-- Primary keys cover findById/existsById; users.email and password_reset_tokens.token are unique in V1.
+-- RepositoryQueryPlanTest fails when a repository query has no usable index.
+-- IF NOT EXISTS lets this run on baselined databases that already created some of them by hand.
+
+-- findModifiedSince (token revocation rebuild)
+CREATE INDEX IF NOT EXISTS users_updated_at_idx ON users (updated_at);
+
+-- existsByNameAndGradeLevelAndAcademicYear, findByAcademicYear, findByGradeLevelAndAcademicYear;
+-- unique so concurrent creates cannot both pass ClassService's existence check
+CREATE UNIQUE INDEX IF NOT EXISTS classes_academic_year_grade_level_name_key
+    ON classes (academic_year, grade_level, name);
+-- findByGradeLevel
+CREATE INDEX IF NOT EXISTS classes_grade_level_idx ON classes (grade_level);
+
+-- findByClassId, findByGradeLevel
+CREATE INDEX IF NOT EXISTS students_class_id_idx ON students (class_id);
+CREATE INDEX IF NOT EXISTS students_grade_level_idx ON students (grade_level);
+
+-- findByTeacherId, findByTeacherIdAndClassId, existsByTeacherIdAndClassId
+CREATE UNIQUE INDEX IF NOT EXISTS teacher_class_assignments_teacher_id_class_id_key
+    ON teacher_class_assignments (teacher_id, class_id);
+-- findByClassId
+CREATE INDEX IF NOT EXISTS teacher_class_assignments_class_id_idx ON teacher_class_assignments (class_id);
+
+-- findByParentId, findByParentIdAndStudentId, existsByParentIdAndStudentId
+CREATE UNIQUE INDEX IF NOT EXISTS parent_student_associations_parent_id_student_id_key
+    ON parent_student_associations (parent_id, student_id);
+-- findByStudentId
+CREATE INDEX IF NOT EXISTS parent_student_associations_student_id_idx ON parent_student_associations (student_id);
+
+-- findByUserId
+CREATE INDEX IF NOT EXISTS password_reset_tokens_user_id_idx ON password_reset_tokens (user_id);
+-- deleteExpiredTokens
+CREATE INDEX IF NOT EXISTS password_reset_tokens_expires_at_idx ON password_reset_tokens (expires_at);
@@ -0,0 +1,18 @@
+-- Year-end grade rollover (JpaGradeRolloverAdapter).
+-- Students graduated out of grade 12 keep their last grade and get graduated_at; rollovers skip them.
+ALTER TABLE students ADD COLUMN IF NOT EXISTS graduated_at TIMESTAMPTZ;
+
+-- One row per academic year rolled over. last_student_id is the checkpoint: it is written in the same
+-- transaction as each chunk of students, so an interrupted rollover resumes after the last committed chunk.
+CREATE TABLE IF NOT EXISTS grade_rollovers (
+    academic_year   VARCHAR(9)  PRIMARY KEY,
+    last_student_id UUID,
+    advanced        INTEGER     NOT NULL DEFAULT 0,
+    graduated       INTEGER     NOT NULL DEFAULT 0,
+    started_at      TIMESTAMPTZ NOT NULL,
+    updated_at      TIMESTAMPTZ NOT NULL,
+    completed_at    TIMESTAMPTZ
+);
+
+-- findIncomplete (resume on start)
+CREATE INDEX IF NOT EXISTS grade_rollovers_incomplete_idx ON grade_rollovers (started_at) WHERE completed_at IS NULL;
@@ -0,0 +1,16 @@
+-- Indexes behind the keyset-paged list queries: filter columns, then the sort key, then id,
+-- so WHERE filter = ? AND (sort_key, id) > (?, ?) ORDER BY sort_key, id reads one index range per page.
+
+-- ClassRepository.findByGradeLevel; supersedes classes_grade_level_idx
+CREATE INDEX IF NOT EXISTS classes_grade_level_name_id_idx ON classes (grade_level, name, id);
+DROP INDEX IF EXISTS classes_grade_level_idx;
+
+-- ClassRepository.findByAcademicYear
+CREATE INDEX IF NOT EXISTS classes_academic_year_name_id_idx ON classes (academic_year, name, id);
+
+-- StudentRepository.findByGradeLevel; supersedes students_grade_level_idx
+CREATE INDEX IF NOT EXISTS students_grade_level_last_name_id_idx ON students (grade_level, last_name, id);
+DROP INDEX IF EXISTS students_grade_level_idx;
+
+-- UserRepository.findAll
+CREATE INDEX IF NOT EXISTS users_created_at_id_idx ON users (created_at, id);
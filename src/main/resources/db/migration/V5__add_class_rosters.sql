@@ -0,0 +1,58 @@
+-- Denormalized class rosters (JpaClassRosterAdapter): one JSON document per class with its teachers, its
+-- students and each student's parents, so GET /api/classes/{id}/roster is a single primary key read.
+-- Rows are recomputed from the source tables by class_roster() when domain events touch a class
+-- (ClassRosterProjector) and all at once by POST /api/classes/rosters/rebuild.
+
+CREATE OR REPLACE FUNCTION class_roster(roster_class_id UUID) RETURNS JSONB
+LANGUAGE sql STABLE AS $$
+    SELECT jsonb_build_object(
+        'class_id', c.id,
+        'name', c.name,
+        'grade_level', CASE WHEN c.grade_level = 0 THEN 'K' ELSE c.grade_level::text END,
+        'academic_year', c.academic_year,
+        'teachers', COALESCE((
+            SELECT jsonb_agg(jsonb_build_object(
+                        'teacher_id', u.id,
+                        'first_name', u.first_name,
+                        'last_name', u.last_name,
+                        'email', u.email,
+                        'role', t.role)
+                    ORDER BY u.last_name, u.id)
+            FROM teacher_class_assignments t
+            JOIN users u ON u.id = t.teacher_id
+            WHERE t.class_id = c.id), '[]'::jsonb),
+        'students', COALESCE((
+            SELECT jsonb_agg(jsonb_build_object(
+                        'student_id', s.id,
+                        'first_name', s.first_name,
+                        'last_name', s.last_name,
+                        'grade_level', CASE WHEN s.grade_level = 0 THEN 'K' ELSE s.grade_level::text END,
+                        'student_number', s.student_number,
+                        'parents', COALESCE((
+                            SELECT jsonb_agg(jsonb_build_object(
+                                        'parent_id', p.id,
+                                        'first_name', p.first_name,
+                                        'last_name', p.last_name,
+                                        'email', p.email,
+                                        'relationship_type', a.relationship_type,
+                                        'is_primary_contact', a.is_primary_contact)
+                                    ORDER BY a.is_primary_contact DESC, p.last_name, p.id)
+                            FROM parent_student_associations a
+                            JOIN users p ON p.id = a.parent_id
+                            WHERE a.student_id = s.id), '[]'::jsonb))
+                    ORDER BY s.last_name, s.id)
+            FROM students s
+            WHERE s.class_id = c.id AND s.graduated_at IS NULL), '[]'::jsonb))
+    FROM classes c
+    WHERE c.id = roster_class_id
+$$;
+
+CREATE TABLE IF NOT EXISTS class_rosters (
+    class_id     UUID        PRIMARY KEY REFERENCES classes (id) ON DELETE CASCADE,
+    roster       JSONB       NOT NULL,
+    refreshed_at TIMESTAMPTZ NOT NULL
+);
+
+INSERT INTO class_rosters (class_id, roster, refreshed_at)
+SELECT id, class_roster(id), now() FROM classes
+ON CONFLICT (class_id) DO NOTHING;
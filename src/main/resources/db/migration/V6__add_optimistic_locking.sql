@@ -0,0 +1,6 @@
+-- Optimistic locking (JpaStudentAdapter, JpaUserAdapter): a save only applies while the row is still at the
+-- version the aggregate was loaded at, and bumps it; a save that matches no row lost to another writer.
+-- Grade rollovers bump students.version too. users.last_login is kept outside it (CoalescingLastLoginWriter),
+-- so logins never make an edit of the account conflict. Existing rows start at 0.
+ALTER TABLE students ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
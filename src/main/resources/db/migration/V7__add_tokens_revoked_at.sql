@@ -0,0 +1,11 @@
+-- Token revocation (TokenRevocationRegistry): the time a user's tokens were last revoked, set only when the
+-- account is deactivated or its password changed. Startup rebuilds revocations from it rather than from
+-- updated_at, which also moves on logins that rehash the password and on profile edits.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS tokens_revoked_at TIMESTAMPTZ;
+
+-- findTokensRevokedSince (token revocation rebuild and poll)
+CREATE INDEX IF NOT EXISTS users_tokens_revoked_at_idx ON users (tokens_revoked_at)
+    WHERE tokens_revoked_at IS NOT NULL;
+
+-- V2 created this for the rebuild from updated_at, which no query reads any more
+DROP INDEX IF EXISTS users_updated_at_idx;
@@ -152,7 +152,7 @@ class StudentTest {
         Instant updatedAt = Instant.now().minusSeconds(1800);
 
         Student student = Student.reconstitute(
-                studentId, personalInfo, gradeLevel, classId, studentNumber, enrollmentDate, createdAt, updatedAt);
+                studentId, personalInfo, gradeLevel, classId, studentNumber, enrollmentDate, createdAt, updatedAt, 3);
 
         assertEquals(studentId, student.studentId());
         assertEquals(personalInfo, student.personalInfo());
@@ -160,6 +160,7 @@ class StudentTest {
         assertEquals(classId, student.classId());
         assertEquals(studentNumber, student.studentNumber());
         assertEquals(enrollmentDate, student.enrollmentDate());
+        assertEquals(3, student.version());
         // Note: createdAt and updatedAt are set in constructor, not from parameters
         assertEquals(0, student.getDomainEvents().size()); // No events on reconstitution
     }
@@ -251,4 +252,15 @@ class StudentTest {
 
         assertTrue(student.studentNumber().isEmpty());
     }
+
+    @Test
+    @DisplayName("Should start unversioned and move one version ahead per save")
+    void shouldTrackVersion() {
+        Student student = Student.register(personalInfo, gradeLevel, classId, studentNumber, enrollmentDate);
+        assertEquals(0, student.version());
+
+        student.markSaved();
+
+        assertEquals(1, student.version());
+    }
 }
@@ -94,6 +94,42 @@ class UserTest {
         assertEquals(initialEventCount, user.getDomainEvents().size());
     }
 
+    @Test
+    @DisplayName("Should re-hash password at target cost on successful login")
+    void shouldRehashPasswordAtTargetCost() {
+        User user = User.register(email, PasswordHash.hash("SecurePass123!", 4), firstName, lastName, role);
+        user.clearDomainEvents();
+
+        assertTrue(user.login("SecurePass123!", 5));
+
+        assertEquals(5, user.passwordHash().cost());
+        assertTrue(user.passwordHash().verify("SecurePass123!"));
+        assertTrue(user.getDomainEvents().stream().anyMatch(UserPasswordRehashed.class::isInstance));
+    }
+
+    @Test
+    @DisplayName("Should not re-hash password when cost already matches")
+    void shouldNotRehashWhenCostMatches() {
+        PasswordHash original = PasswordHash.hash("SecurePass123!", 4);
+        User user = User.register(email, original, firstName, lastName, role);
+
+        assertTrue(user.login("SecurePass123!", 4));
+
+        assertSame(original, user.passwordHash());
+        assertTrue(user.getDomainEvents().stream().noneMatch(UserPasswordRehashed.class::isInstance));
+    }
+
+    @Test
+    @DisplayName("Should not re-hash password on failed login")
+    void shouldNotRehashOnFailedLogin() {
+        PasswordHash original = PasswordHash.hash("SecurePass123!", 4);
+        User user = User.register(email, original, firstName, lastName, role);
+
+        assertFalse(user.login("WrongPassword123!", 5));
+
+        assertSame(original, user.passwordHash());
+    }
+
     @Test
     @DisplayName("Should record UserLoggedIn event on login")
     void shouldRecordUserLoggedInEvent() {
@@ -164,16 +200,30 @@ class UserTest {
                 role,
                 true, // isActive
                 createdAt,
-                lastLoginAt);
+                lastLoginAt,
+                7);
 
         assertEquals(userId, user.userId());
         assertEquals(email, user.email());
         assertTrue(user.isActive());
         assertEquals(createdAt, user.createdAt());
         assertEquals(lastLoginAt, user.lastLoginAt());
+        assertEquals(7, user.version());
         assertEquals(0, user.getDomainEvents().size()); // No events on reconstitution
     }
 
+    @Test
+    @DisplayName("Should start unversioned and move one version ahead per save")
+    void shouldTrackVersion() {
+        User user = User.register(email, passwordHash, firstName, lastName, role);
+        assertEquals(0, user.version());
+
+        user.markSaved();
+        user.markSaved();
+
+        assertEquals(2, user.version());
+    }
+
     @Test
     @DisplayName("Should get domain events")
     void shouldGetDomainEvents() {
@@ -118,4 +118,44 @@ class PasswordHashTest {
 
         assertTrue(hash.verify(unicodePassword));
     }
+
+    @Test
+    @DisplayName("Should hash password at the requested cost")
+    void shouldHashAtRequestedCost() {
+        PasswordHash hash = PasswordHash.hash("SecurePass123!", 5);
+
+        assertEquals(5, hash.cost());
+        assertTrue(hash.verify("SecurePass123!"));
+    }
+
+    @Test
+    @DisplayName("Should use default cost when none is given")
+    void shouldUseDefaultCost() {
+        assertEquals(PasswordHash.DEFAULT_COST, PasswordHash.hash("SecurePass123!").cost());
+    }
+
+    @Test
+    @DisplayName("Should reject cost outside bcrypt range")
+    void shouldRejectInvalidCost() {
+        assertThrows(IllegalArgumentException.class, () -> PasswordHash.hash("SecurePass123!", 3));
+        assertThrows(IllegalArgumentException.class, () -> PasswordHash.hash("SecurePass123!", 32));
+    }
+
+    @Test
+    @DisplayName("Should report rehash need only for a different cost")
+    void shouldReportRehashNeed() {
+        PasswordHash hash = PasswordHash.hash("SecurePass123!", 4);
+
+        assertFalse(hash.needsRehash(4));
+        assertTrue(hash.needsRehash(5));
+    }
+
+    @Test
+    @DisplayName("Should return -1 cost for non-bcrypt hash")
+    void shouldReturnUnknownCostForNonBcryptHash() {
+        PasswordHash hash = PasswordHash.of("not-a-bcrypt-hash");
+
+        assertEquals(-1, hash.cost());
+        assertFalse(hash.needsRehash(12));
+    }
 }
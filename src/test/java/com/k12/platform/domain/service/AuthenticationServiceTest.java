@@ -8,11 +8,17 @@ import com.k12.platform.domain.model.User;
 import com.k12.platform.domain.model.UserRole;
 import com.k12.platform.domain.model.commands.LoginCommand;
 import com.k12.platform.domain.model.exceptions.AccountDeactivatedException;
+import com.k12.platform.domain.model.exceptions.ConcurrentUpdateException;
 import com.k12.platform.domain.model.exceptions.InvalidCredentialsException;
 import com.k12.platform.domain.model.valueobjects.EmailAddress;
+import com.k12.platform.domain.model.exceptions.HashingCapacityExceededException;
 import com.k12.platform.domain.model.valueobjects.PasswordHash;
+import com.k12.platform.domain.port.LastLoginRecorder;
+import com.k12.platform.domain.port.PasswordCostPolicy;
+import com.k12.platform.domain.port.PasswordHashingExecutor;
 import com.k12.platform.domain.port.UserRepository;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +35,15 @@ class AuthenticationServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    PasswordHashingExecutor passwordHashingExecutor;
+
+    @Mock
+    PasswordCostPolicy passwordCostPolicy;
+
+    @Mock
+    LastLoginRecorder lastLoginRecorder;
+
     AuthenticationService authenticationService;
 
     private User activeUser;
@@ -40,7 +55,12 @@ class AuthenticationServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        authenticationService = new AuthenticationService(userRepository);
+        authenticationService =
+                new AuthenticationService(
+                userRepository, passwordHashingExecutor, passwordCostPolicy, lastLoginRecorder);
+        when(passwordHashingExecutor.execute(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        when(passwordCostPolicy.targetCost()).thenReturn(PasswordHash.DEFAULT_COST);
         testEmail = EmailAddress.of("test@example.com");
         testPasswordHash = PasswordHash.hash(plainPassword);
 
@@ -61,7 +81,7 @@ class AuthenticationServiceTest {
 
         assertNotNull(result);
         assertEquals(testEmail, result.email());
-        verify(userRepository).save(activeUser);
+        verify(lastLoginRecorder).record(activeUser.userId(), activeUser.lastLoginAt());
     }
 
     @Test
@@ -117,7 +137,8 @@ class AuthenticationServiceTest {
         User result = authenticationService.login(command);
 
         assertNotNull(result.lastLoginAt());
-        verify(userRepository).save(activeUser);
+        verify(lastLoginRecorder).record(activeUser.userId(), result.lastLoginAt());
+        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
@@ -136,4 +157,48 @@ class AuthenticationServiceTest {
             assertEquals(role, result.role());
         }
     }
+
+    @Test
+    @DisplayName("Should propagate HashingCapacityExceededException without saving")
+    void shouldPropagateHashingCapacityExceeded() {
+        LoginCommand command = new LoginCommand(testEmail, plainPassword);
+        when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(activeUser));
+        doThrow(new HashingCapacityExceededException(2)).when(passwordHashingExecutor).execute(any());
+
+        assertThrows(HashingCapacityExceededException.class, () -> authenticationService.login(command));
+
+        assertNull(activeUser.lastLoginAt());
+        verify(userRepository, never()).save(any(User.class));
+        verify(lastLoginRecorder, never()).record(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should re-hash password at policy cost and save it on login")
+    void shouldRehashPasswordAtPolicyCost() {
+        User user = User.register(testEmail, PasswordHash.hash(plainPassword, 4), "John", "Doe", UserRole.TEACHER);
+        LoginCommand command = new LoginCommand(testEmail, plainPassword);
+        when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(user));
+        when(passwordCostPolicy.targetCost()).thenReturn(5);
+
+        authenticationService.login(command);
+
+        assertEquals(5, user.passwordHash().cost());
+        verify(userRepository).save(user);
+        verify(lastLoginRecorder, never()).record(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should still log in and record the login when the re-hash loses to a concurrent update")
+    void shouldRecordLoginWhenRehashConflicts() {
+        User user = User.register(testEmail, PasswordHash.hash(plainPassword, 4), "John", "Doe", UserRole.TEACHER);
+        LoginCommand command = new LoginCommand(testEmail, plainPassword);
+        when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(user));
+        when(passwordCostPolicy.targetCost()).thenReturn(5);
+        doThrow(new ConcurrentUpdateException("User", user.userId())).when(userRepository).save(user);
+
+        User result = authenticationService.login(command);
+
+        assertSame(user, result);
+        verify(lastLoginRecorder).record(user.userId(), user.lastLoginAt());
+    }
 }
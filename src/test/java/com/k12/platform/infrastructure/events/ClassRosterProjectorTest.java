@@ -0,0 +1,156 @@
+package com.k12.platform.infrastructure.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.k12.platform.domain.model.ClassCreated;
+import com.k12.platform.domain.model.ParentStudentAssociated;
+import com.k12.platform.domain.model.StudentRegistered;
+import com.k12.platform.domain.model.StudentTransferred;
+import com.k12.platform.domain.model.TeacherAssignedToClass;
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.domain.model.valueobjects.AssociationId;
+import com.k12.platform.domain.model.valueobjects.ClassId;
+import com.k12.platform.domain.model.valueobjects.ClassName;
+import com.k12.platform.domain.model.valueobjects.GradeLevel;
+import com.k12.platform.domain.model.valueobjects.RelationshipType;
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import com.k12.platform.domain.model.valueobjects.TeacherRole;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.ClassRosterRepository;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@DisplayName("ClassRosterProjector Tests")
+class ClassRosterProjectorTest {
+
+    @Mock
+    private ClassRosterRepository rosters;
+
+    private FakeTransaction transaction;
+    private ClassRosterProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        transaction = new FakeTransaction();
+        projector = new ClassRosterProjector(rosters, transaction);
+    }
+
+    @Test
+    @DisplayName("Should refresh nothing before the transaction completes")
+    void shouldDeferRefreshUntilCompletion() {
+        projector.onStudentRegistered(new StudentRegistered(StudentId.generate(), GradeLevel.of(5), null));
+
+        verify(rosters, never()).refresh(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should refresh every touched class once, just before commit")
+    void shouldRefreshTouchedClassesOnce() {
+        ClassId classId = ClassId.generate();
+        StudentId first = StudentId.generate();
+        StudentId second = StudentId.generate();
+
+        projector.onClassCreated(
+                new ClassCreated(classId, ClassName.of("5-A"), GradeLevel.of(5), AcademicYear.of("2025-2026"), null));
+        projector.onTeacherAssigned(new TeacherAssignedToClass(
+                AssociationId.generate(), UserId.generate(), classId, TeacherRole.of("Homeroom Teacher"), null));
+        projector.onStudentRegistered(new StudentRegistered(first, GradeLevel.of(5), null));
+        projector.onStudentRegistered(new StudentRegistered(second, GradeLevel.of(5), null));
+        projector.onStudentTransferred(new StudentTransferred(first, GradeLevel.of(5), GradeLevel.of(6), null));
+        projector.onParentAssociated(new ParentStudentAssociated(
+                AssociationId.generate(), UserId.generate(), second, RelationshipType.of("Mother"), null));
+        transaction.commit();
+
+        verify(rosters, times(1)).refresh(Set.of(classId), Set.of(first, second));
+    }
+
+    @Test
+    @DisplayName("Should collect each transaction's changes separately")
+    void shouldCollectPerTransaction() {
+        StudentId first = StudentId.generate();
+        StudentId second = StudentId.generate();
+
+        projector.onStudentRegistered(new StudentRegistered(first, GradeLevel.of(5), null));
+        transaction.commit();
+        transaction = new FakeTransaction();
+        projector = new ClassRosterProjector(rosters, transaction);
+        projector.onStudentRegistered(new StudentRegistered(second, GradeLevel.of(5), null));
+        transaction.commit();
+
+        verify(rosters).refresh(Set.of(), Set.of(first));
+        verify(rosters).refresh(Set.of(), Set.of(second));
+    }
+
+    @Test
+    @DisplayName("Should register a single synchronization per transaction")
+    void shouldRegisterOneSynchronization() {
+        for (int i = 0; i < 100; i++) {
+            projector.onStudentRegistered(new StudentRegistered(StudentId.generate(), GradeLevel.of(5), null));
+        }
+
+        assertEquals(1, transaction.synchronizations.size());
+    }
+
+    /**
+     * The part of a JTA transaction the projector uses: resources and interposed synchronizations.
+     */
+    private static final class FakeTransaction implements TransactionSynchronizationRegistry {
+
+        private final Map<Object, Object> resources = new HashMap<>();
+        private final List<Synchronization> synchronizations = new ArrayList<>();
+
+        void commit() {
+            synchronizations.forEach(Synchronization::beforeCompletion);
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(Status.STATUS_COMMITTED));
+        }
+
+        @Override
+        public Object getTransactionKey() {
+            return this;
+        }
+
+        @Override
+        public void putResource(Object key, Object value) {
+            resources.put(key, value);
+        }
+
+        @Override
+        public Object getResource(Object key) {
+            return resources.get(key);
+        }
+
+        @Override
+        public void registerInterposedSynchronization(Synchronization sync) {
+            synchronizations.add(sync);
+        }
+
+        @Override
+        public int getTransactionStatus() {
+            return Status.STATUS_ACTIVE;
+        }
+
+        @Override
+        public void setRollbackOnly() {}
+
+        @Override
+        public boolean getRollbackOnly() {
+            return false;
+        }
+    }
+}
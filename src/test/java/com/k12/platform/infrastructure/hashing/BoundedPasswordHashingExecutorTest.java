@@ -0,0 +1,93 @@
+package com.k12.platform.infrastructure.hashing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.k12.platform.domain.model.exceptions.HashingCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for BoundedPasswordHashingExecutor.
+ */
+@DisplayName("BoundedPasswordHashingExecutor Tests")
+class BoundedPasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry registry;
+    private BoundedPasswordHashingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        executor = new BoundedPasswordHashingExecutor(1, 1, 3, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run task and return its result")
+    void shouldReturnTaskResult() {
+        assertEquals("hashed", executor.execute(() -> "hashed"));
+        assertEquals(1, registry.get("k12.password.hashing.duration").timer().count());
+        assertEquals(1, registry.get("k12.password.hashing.queue.wait").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should propagate runtime exceptions from task")
+    void shouldPropagateTaskException() {
+        assertThrows(IllegalArgumentException.class, () -> executor.execute(() -> {
+            throw new IllegalArgumentException("bad password");
+        }));
+    }
+
+    @Test
+    @DisplayName("Should reject immediately when pool and queue are full")
+    void shouldRejectWhenSaturated() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Object> busy = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> "second"));
+        waitForQueueDepth(1);
+
+        HashingCapacityExceededException exception =
+                assertThrows(HashingCapacityExceededException.class, () -> executor.execute(() -> "third"));
+        assertEquals(3, exception.retryAfterSeconds());
+        assertEquals(1.0, registry.get("k12.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("first", busy.get(5, TimeUnit.SECONDS));
+        assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("k12.password.hashing.queue.depth").gauge().value() < depth) {
+            if (System.nanoTime() > deadline) {
+                fail("Task was never queued");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
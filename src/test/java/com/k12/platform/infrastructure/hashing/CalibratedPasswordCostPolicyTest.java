@@ -0,0 +1,70 @@
+package com.k12.platform.infrastructure.hashing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.k12.platform.domain.model.valueobjects.PasswordHash;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CalibratedPasswordCostPolicy.
+ */
+@DisplayName("CalibratedPasswordCostPolicy Tests")
+class CalibratedPasswordCostPolicyTest {
+
+    @Test
+    @DisplayName("Should use fixed cost when configured")
+    void shouldUseFixedCost() {
+        var policy = new CalibratedPasswordCostPolicy(
+                Optional.of(11), true, Duration.ofMillis(250), 10, 14, new SimpleMeterRegistry());
+
+        policy.onStart(null);
+
+        assertEquals(11, policy.targetCost());
+    }
+
+    @Test
+    @DisplayName("Should default to standard cost before calibration")
+    void shouldDefaultBeforeCalibration() {
+        var policy = new CalibratedPasswordCostPolicy(
+                Optional.empty(), false, Duration.ofMillis(250), 10, 14, new SimpleMeterRegistry());
+
+        policy.onStart(null);
+
+        assertEquals(PasswordHash.DEFAULT_COST, policy.targetCost());
+    }
+
+    @Test
+    @DisplayName("Should pick highest cost within a generous budget")
+    void shouldPickMaxCostWithinGenerousBudget() {
+        var policy = new CalibratedPasswordCostPolicy(
+                Optional.empty(), true, Duration.ofSeconds(30), 4, 6, new SimpleMeterRegistry());
+
+        policy.calibrate();
+
+        assertEquals(6, policy.targetCost());
+    }
+
+    @Test
+    @DisplayName("Should fall back to min cost when budget is too small")
+    void shouldFallBackToMinCost() {
+        var policy = new CalibratedPasswordCostPolicy(
+                Optional.empty(), true, Duration.ZERO, 4, 6, new SimpleMeterRegistry());
+
+        policy.calibrate();
+
+        assertEquals(4, policy.targetCost());
+    }
+
+    @Test
+    @DisplayName("Should reject min cost above max cost")
+    void shouldRejectInvertedRange() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new CalibratedPasswordCostPolicy(
+                        Optional.empty(), true, Duration.ofMillis(250), 14, 10, new SimpleMeterRegistry()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.k12.platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.k12.platform.domain.model.User;
+import com.k12.platform.domain.model.UserRole;
+import com.k12.platform.domain.model.valueobjects.EmailAddress;
+import com.k12.platform.domain.model.valueobjects.PasswordHash;
+import com.k12.platform.domain.port.UserRepository;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the user cache decorator sits in front of the adapter for every kind of injection point.
+ */
+@QuarkusTest
+@DisplayName("CachingUserRepository Tests")
+class CachingUserRepositoryTest {
+
+    @InjectMock
+    UserCache userCache;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    JpaUserAdapter jpaUserAdapter;
+
+    @Test
+    @DisplayName("Should serve lookups from the cache through the port and the concrete adapter")
+    void shouldDecorateEveryInjectionPoint() {
+        User user = User.register(
+                EmailAddress.of("decorated@example.com"),
+                PasswordHash.of("$2a$12$abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz01234"),
+                "Decorated",
+                "User",
+                UserRole.PARENT);
+        when(userCache.findById(eq(user.userId()), any())).thenReturn(Optional.of(user));
+        when(userCache.findByEmail(eq(user.email()), any())).thenReturn(Optional.of(user));
+
+        assertSame(user, userRepository.findById(user.userId()).orElseThrow());
+        assertSame(user, jpaUserAdapter.findById(user.userId()).orElseThrow());
+        assertSame(user, jpaUserAdapter.findByEmail(user.email()).orElseThrow());
+    }
+}
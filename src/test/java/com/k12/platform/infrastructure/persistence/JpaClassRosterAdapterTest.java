@@ -0,0 +1,150 @@
+package com.k12.platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.k12.platform.domain.model.Class;
+import com.k12.platform.domain.model.ParentStudentAssociation;
+import com.k12.platform.domain.model.Student;
+import com.k12.platform.domain.model.TeacherClassAssignment;
+import com.k12.platform.domain.model.User;
+import com.k12.platform.domain.model.UserRole;
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.domain.model.valueobjects.ClassName;
+import com.k12.platform.domain.model.valueobjects.EmailAddress;
+import com.k12.platform.domain.model.valueobjects.GradeLevel;
+import com.k12.platform.domain.model.valueobjects.PasswordHash;
+import com.k12.platform.domain.model.valueobjects.RelationshipType;
+import com.k12.platform.domain.model.valueobjects.StudentNumber;
+import com.k12.platform.domain.model.valueobjects.StudentPersonalInfo;
+import com.k12.platform.domain.model.valueobjects.TeacherRole;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.ClassRepository;
+import com.k12.platform.domain.port.ClassRosterRepository;
+import com.k12.platform.domain.port.ParentStudentAssociationRepository;
+import com.k12.platform.domain.port.StudentRepository;
+import com.k12.platform.domain.port.TeacherClassAssignmentRepository;
+import com.k12.platform.domain.port.UserRepository;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the class roster read model against the migrated schema, fed by the events real saves publish;
+ * run with {@code ./gradlew integrationTest}.
+ */
+@QuarkusTest
+@TestProfile(PostgresTestProfile.class)
+@Tag("integration")
+@DisplayName("JpaClassRosterAdapter Tests")
+class JpaClassRosterAdapterTest {
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    StudentRepository studentRepository;
+
+    @Inject
+    TeacherClassAssignmentRepository teacherClassAssignmentRepository;
+
+    @Inject
+    ParentStudentAssociationRepository parentStudentAssociationRepository;
+
+    @Inject
+    ClassRosterRepository classRosterRepository;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should keep the roster up to date from saves")
+    void shouldKeepRosterUpToDate() throws Exception {
+        Class clazz = Class.create(ClassName.of("Roster"), GradeLevel.of(4), AcademicYear.current());
+        classRepository.save(clazz);
+        assertEquals(0, roster(clazz).get("students").size());
+
+        User teacher = user("roster-teacher", UserRole.TEACHER);
+        teacherClassAssignmentRepository.save(TeacherClassAssignment.create(
+                teacher.userId(), clazz.getClassId(), TeacherRole.of("Homeroom Teacher"), LocalDate.now()));
+        Student student = Student.register(
+                StudentPersonalInfo.of("Ada", "Lovelace", "2015-12-10"),
+                GradeLevel.of(4),
+                UserId.of(clazz.getClassId().value()),
+                StudentNumber.empty(),
+                LocalDate.now());
+        studentRepository.save(student);
+        User parent = user("roster-parent", UserRole.PARENT);
+        parentStudentAssociationRepository.save(ParentStudentAssociation.create(
+                parent.userId(), student.studentId(), RelationshipType.of("Mother"), true));
+
+        JsonNode roster = roster(clazz);
+        assertEquals("Roster", roster.get("name").asText());
+        assertEquals(teacher.userId().value().toString(), roster.at("/teachers/0/teacher_id").asText());
+        assertEquals("Ada", roster.at("/students/0/first_name").asText());
+        assertEquals("4", roster.at("/students/0/grade_level").asText());
+        assertEquals("Mother", roster.at("/students/0/parents/0/relationship_type").asText());
+
+        student.transferGrade(GradeLevel.of(5));
+        studentRepository.save(student);
+
+        assertEquals("5", roster(clazz).at("/students/0/grade_level").asText());
+    }
+
+    @Test
+    @DisplayName("Should rebuild rosters from the source tables")
+    void shouldRebuildRosters() throws Exception {
+        Class clazz = Class.create(ClassName.of("Rebuild"), GradeLevel.of(2), AcademicYear.current());
+        classRepository.save(clazz);
+        Student student = Student.register(
+                StudentPersonalInfo.of("Grace", "Hopper", "2017-12-09"),
+                GradeLevel.of(2),
+                UserId.of(clazz.getClassId().value()),
+                StudentNumber.empty(),
+                LocalDate.now());
+        studentRepository.save(student);
+        // A change that bypasses the events
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement rename = connection.prepareStatement(
+                        "UPDATE students SET first_name = 'Amazing Grace' WHERE id = ?")) {
+            rename.setObject(1, student.studentId().value());
+            rename.executeUpdate();
+        }
+        assertEquals("Grace", roster(clazz).at("/students/0/first_name").asText());
+
+        assertTrue(classRosterRepository.rebuild() > 0);
+
+        assertEquals("Amazing Grace", roster(clazz).at("/students/0/first_name").asText());
+    }
+
+    private JsonNode roster(Class clazz) throws Exception {
+        return objectMapper.readTree(classRosterRepository.findRoster(clazz.getClassId()).orElseThrow());
+    }
+
+    private User user(String name, UserRole role) {
+        User user = User.register(
+                EmailAddress.of(name + "-" + UUID.randomUUID() + "@example.com"),
+                PasswordHash.of("$2a$12$abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz01234"),
+                "Roster",
+                name,
+                role);
+        userRepository.save(user);
+        return user;
+    }
+}
@@ -0,0 +1,87 @@
+package com.k12.platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.k12.platform.domain.model.Class;
+import com.k12.platform.domain.model.GradeRolloverChunk;
+import com.k12.platform.domain.model.Student;
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.domain.model.valueobjects.ClassName;
+import com.k12.platform.domain.model.valueobjects.GradeLevel;
+import com.k12.platform.domain.model.valueobjects.StudentNumber;
+import com.k12.platform.domain.model.valueobjects.StudentPersonalInfo;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.ClassRepository;
+import com.k12.platform.domain.port.GradeRolloverRepository;
+import com.k12.platform.domain.port.StudentRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the rollover's set-based chunks against the migrated schema; run with {@code ./gradlew integrationTest}.
+ */
+@QuarkusTest
+@TestProfile(PostgresTestProfile.class)
+@Tag("integration")
+@DisplayName("JpaGradeRolloverAdapter Tests")
+class JpaGradeRolloverAdapterTest {
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    StudentRepository studentRepository;
+
+    @Inject
+    GradeRolloverRepository gradeRolloverRepository;
+
+    @Test
+    @DisplayName("Should advance and graduate every student once, chunk by chunk")
+    void shouldAdvanceAndGraduateChunkByChunk() {
+        AcademicYear year = AcademicYear.current();
+        Class clazz = Class.create(ClassName.of("Rollover"), GradeLevel.of(12), year);
+        classRepository.save(clazz);
+        UserId classId = UserId.of(clazz.getClassId().value());
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            students.add(Student.register(
+                    StudentPersonalInfo.of("First" + i, "Last", "2010-01-01"),
+                    GradeLevel.of(i < 3 ? 12 : i),
+                    classId,
+                    StudentNumber.empty(),
+                    LocalDate.now()));
+        }
+        studentRepository.saveAll(students);
+
+        assertNull(gradeRolloverRepository.start(year).lastStudentId());
+        int advanced = 0;
+        int graduated = 0;
+        GradeRolloverChunk chunk = gradeRolloverRepository.advanceChunk(year, 4);
+        while (chunk.size() > 0) {
+            advanced += chunk.advanced();
+            graduated += chunk.graduated();
+            assertEquals(chunk.lastStudentId(), gradeRolloverRepository.find(year).orElseThrow().lastStudentId());
+            chunk = gradeRolloverRepository.advanceChunk(year, 4);
+        }
+        gradeRolloverRepository.complete(year);
+
+        assertEquals(7, advanced);
+        assertEquals(3, graduated);
+        var checkpoint = gradeRolloverRepository.find(year).orElseThrow();
+        assertTrue(checkpoint.isCompleted());
+        assertEquals(7, checkpoint.advanced());
+        assertEquals(3, checkpoint.graduated());
+        for (Student student : students) {
+            int before = student.gradeLevel().value();
+            int after = studentRepository.findById(student.studentId()).orElseThrow().gradeLevel().value();
+            assertEquals(before == 12 ? 12 : before + 1, after);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.k12.platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.k12.platform.domain.model.Class;
+import com.k12.platform.domain.model.Student;
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.domain.model.valueobjects.ClassName;
+import com.k12.platform.domain.model.valueobjects.GradeLevel;
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import com.k12.platform.domain.model.valueobjects.StudentNumber;
+import com.k12.platform.domain.model.valueobjects.StudentPersonalInfo;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.ClassRepository;
+import com.k12.platform.domain.port.Page;
+import com.k12.platform.domain.port.StudentQueries;
+import com.k12.platform.domain.port.StudentRepository;
+import com.k12.platform.domain.port.StudentView;
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the student read queries against the migrated schema; run with {@code ./gradlew integrationTest}.
+ */
+@QuarkusTest
+@TestProfile(PostgresTestProfile.class)
+@Tag("integration")
+@DisplayName("JpaStudentQueries Tests")
+class JpaStudentQueriesTest {
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    StudentRepository studentRepository;
+
+    @Inject
+    StudentQueries studentQueries;
+
+    @Test
+    @DisplayName("Should read the same values as the aggregate without managing any entity")
+    void shouldMatchAggregateWithoutManagedEntities() {
+        Student student = registerStudents(GradeLevel.of(3), 1).get(0);
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            StudentView view = studentQueries.findById(student.studentId()).orElseThrow();
+
+            assertEquals(student.studentId().value(), view.studentId());
+            assertEquals(student.personalInfo().firstName(), view.firstName());
+            assertEquals(student.personalInfo().lastName(), view.lastName());
+            assertEquals(student.personalInfo().dateOfBirth().toString(), view.dateOfBirth());
+            assertEquals(student.gradeLevel().value(), view.gradeLevel());
+            assertEquals(student.classId().value(), view.classId());
+            assertEquals(student.studentNumber().value(), view.studentNumber());
+            assertEquals(student.enrollmentDate(), view.enrollmentDate());
+            Session session = Panache.getEntityManager().unwrap(Session.class);
+            assertEquals(0, session.getStatistics().getEntityCount());
+        });
+        assertTrue(studentQueries.findById(StudentId.generate()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should page a grade by last name, then ID")
+    void shouldPageGradeByLastName() {
+        GradeLevel grade = GradeLevel.of(11);
+        registerStudents(grade, 5);
+
+        List<StudentView> seen = new ArrayList<>();
+        Page<StudentView> page = studentQueries.findByGradeLevel(grade.value(), null, 2);
+        seen.addAll(page.items());
+        while (page.hasNext()) {
+            page = studentQueries.findByGradeLevel(grade.value(), page.next(), 2);
+            seen.addAll(page.items());
+        }
+
+        assertEquals(studentRepository.findByGradeLevel(grade.value(), null, 100).items().size(), seen.size());
+        for (int i = 1; i < seen.size(); i++) {
+            StudentView previous = seen.get(i - 1);
+            StudentView current = seen.get(i);
+            int byName = previous.lastName().compareTo(current.lastName());
+            assertTrue(byName < 0 || byName == 0 && previous.studentId().compareTo(current.studentId()) != 0);
+        }
+    }
+
+    private List<Student> registerStudents(GradeLevel grade, int count) {
+        Class clazz = Class.create(ClassName.of("Queries " + grade.displayValue()), grade, AcademicYear.current());
+        classRepository.save(clazz);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            students.add(Student.register(
+                    StudentPersonalInfo.of("First" + i, "Last" + (count - i), "2010-01-01"),
+                    grade,
+                    UserId.of(clazz.getClassId().value()),
+                    StudentNumber.of("Q-" + grade.value() + "-" + i),
+                    LocalDate.now()));
+        }
+        studentRepository.saveAll(students);
+        return students;
+    }
+}
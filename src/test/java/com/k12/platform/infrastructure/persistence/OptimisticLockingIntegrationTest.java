@@ -0,0 +1,172 @@
+package com.k12.platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.k12.platform.domain.model.Class;
+import com.k12.platform.domain.model.Student;
+import com.k12.platform.domain.model.User;
+import com.k12.platform.domain.model.UserRole;
+import com.k12.platform.domain.model.exceptions.ConcurrentUpdateException;
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.domain.model.valueobjects.ClassName;
+import com.k12.platform.domain.model.valueobjects.EmailAddress;
+import com.k12.platform.domain.model.valueobjects.GradeLevel;
+import com.k12.platform.domain.model.valueobjects.PasswordHash;
+import com.k12.platform.domain.model.valueobjects.StudentNumber;
+import com.k12.platform.domain.model.valueobjects.StudentPersonalInfo;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.ClassRepository;
+import com.k12.platform.domain.port.StudentRepository;
+import com.k12.platform.domain.port.UserRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the version-conditional saves of students and users against PostgreSQL;
+ * run with {@code ./gradlew integrationTest}.
+ */
+@QuarkusTest
+@TestProfile(PostgresTestProfile.class)
+@Tag("integration")
+@DisplayName("Optimistic locking Integration Tests")
+class OptimisticLockingIntegrationTest {
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    StudentRepository studentRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Test
+    @DisplayName("Should reject a student save based on an outdated version")
+    void shouldRejectStaleStudentSave() {
+        Student student = newStudent();
+        studentRepository.save(student);
+        Student first = studentRepository.findById(student.studentId()).orElseThrow();
+        Student second = studentRepository.findById(student.studentId()).orElseThrow();
+
+        first.transferGrade(GradeLevel.of(6));
+        studentRepository.save(first);
+        second.advanceGrade();
+
+        assertThrows(ConcurrentUpdateException.class, () -> studentRepository.save(second));
+        Student stored = studentRepository.findById(student.studentId()).orElseThrow();
+        assertEquals(6, stored.gradeLevel().value());
+        assertEquals(2, stored.version());
+    }
+
+    @Test
+    @DisplayName("Should save the same student instance again after a save")
+    void shouldResaveSavedStudent() {
+        Student student = newStudent();
+        studentRepository.save(student);
+
+        student.advanceGrade();
+        studentRepository.save(student);
+
+        assertEquals(2, studentRepository.findById(student.studentId()).orElseThrow().version());
+    }
+
+    @Test
+    @DisplayName("Should write none of a batch when one student in it is outdated")
+    void shouldRejectBatchWithStaleStudent() {
+        Student fresh = newStudent();
+        Student other = newStudent();
+        studentRepository.saveAll(List.of(fresh, other));
+        Student stale = studentRepository.findById(other.studentId()).orElseThrow();
+        other.advanceGrade();
+        studentRepository.save(other);
+
+        fresh.advanceGrade();
+        stale.transferGrade(GradeLevel.of(1));
+
+        assertThrows(ConcurrentUpdateException.class, () -> studentRepository.saveAll(List.of(fresh, stale)));
+        assertEquals(5, studentRepository.findById(fresh.studentId()).orElseThrow().gradeLevel().value());
+        assertEquals(6, studentRepository.findById(other.studentId()).orElseThrow().gradeLevel().value());
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent transfers of a student win per version")
+    void shouldSerializeConcurrentTransfers() throws Exception {
+        Student student = newStudent();
+        studentRepository.save(student);
+        int writers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < writers; i++) {
+                int grade = i % 12 + 1;
+                results.add(executor.submit(() -> {
+                    Student loaded = studentRepository.findById(student.studentId()).orElseThrow();
+                    start.await();
+                    loaded.transferGrade(GradeLevel.of(grade));
+                    try {
+                        studentRepository.save(loaded);
+                        return true;
+                    } catch (ConcurrentUpdateException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int saved = 0;
+            for (Future<Boolean> result : results) {
+                saved += result.get() ? 1 : 0;
+            }
+
+            assertEquals(1, saved);
+            assertEquals(2, studentRepository.findById(student.studentId()).orElseThrow().version());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a user save based on an outdated version, also when the user is cached")
+    void shouldRejectStaleUserSave() {
+        User user = User.register(
+                EmailAddress.of("versioned@example.com"),
+                PasswordHash.of("$2a$12$abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz01234"),
+                "Versioned",
+                "User",
+                UserRole.TEACHER);
+        userRepository.save(user);
+        User first = userRepository.findById(user.userId()).orElseThrow();
+        User second = userRepository.findById(user.userId()).orElseThrow();
+
+        first.deactivate();
+        userRepository.save(first);
+        second.updatePassword(PasswordHash.of("$2a$12$zyxwvutsrqponmlkjihgfeuzyxwvutsrqponmlkjihgfedcba98765"));
+
+        assertThrows(ConcurrentUpdateException.class, () -> userRepository.save(second));
+        User stored = userRepository.findById(user.userId()).orElseThrow();
+        assertFalse(stored.isActive());
+        assertEquals(user.passwordHash(), stored.passwordHash());
+    }
+
+    private Student newStudent() {
+        Class clazz = Class.create(ClassName.of("Versioned"), GradeLevel.of(5), AcademicYear.current());
+        classRepository.save(clazz);
+        return Student.register(
+                StudentPersonalInfo.of("Versioned", "Student", "2014-01-01"),
+                GradeLevel.of(5),
+                UserId.of(clazz.getClassId().value()),
+                StudentNumber.empty(),
+                LocalDate.now());
+    }
+}
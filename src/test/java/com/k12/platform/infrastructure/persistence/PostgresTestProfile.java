@@ -0,0 +1,27 @@
+package com.k12.platform.infrastructure.persistence;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import java.util.Map;
+
+/**
+ * Runs against the %test PostgreSQL datasource (localhost:15433/k12db_test, override with QUARKUS_DATASOURCE_JDBC_URL)
+ * instead of the database-less configuration used by the other Quarkus tests.
+ * The schema is recreated from the Flyway migrations on start, so point it at a disposable database only.
+ */
+public class PostgresTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of(
+                "quarkus.datasource.jdbc", "true",
+                "quarkus.hibernate-orm.enabled", "true",
+                "quarkus.flyway.enabled", "true",
+                "quarkus.flyway.clean-disabled", "false",
+                "quarkus.flyway.clean-at-start", "true",
+                "quarkus.flyway.migrate-at-start", "true",
+                "k12.cache.reference-data.listen", "true",
+                "k12.statements.header", "true",
+                "quarkus.hibernate-orm.unsupported-properties.\"hibernate.session_factory.statement_inspector\"",
+                        RecordingStatementInspector.class.getName());
+    }
+}
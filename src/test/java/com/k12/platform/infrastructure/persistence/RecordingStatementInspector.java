@@ -0,0 +1,34 @@
+package com.k12.platform.infrastructure.persistence;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Collects the distinct SQL statements Hibernate prepares, for inspection by tests, and still counts them
+ * like the {@link CountingStatementInspector} it replaces.
+ * Hibernate instantiates it by class name, hence the static state.
+ */
+public class RecordingStatementInspector extends CountingStatementInspector {
+
+    private static final Set<String> STATEMENTS = new LinkedHashSet<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (STATEMENTS) {
+            STATEMENTS.add(sql);
+        }
+        return super.inspect(sql);
+    }
+
+    static Set<String> statements() {
+        synchronized (STATEMENTS) {
+            return new LinkedHashSet<>(STATEMENTS);
+        }
+    }
+
+    static void clear() {
+        synchronized (STATEMENTS) {
+            STATEMENTS.clear();
+        }
+    }
+}
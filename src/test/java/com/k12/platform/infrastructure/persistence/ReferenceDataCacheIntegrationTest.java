@@ -0,0 +1,107 @@
+package com.k12.platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.k12.platform.domain.model.Class;
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.domain.model.valueobjects.ClassName;
+import com.k12.platform.domain.model.valueobjects.GradeLevel;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.ClassRepository;
+import com.k12.platform.interfaces.rest.security.ScopeVersionRegistry;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs second-level cache eviction against PostgreSQL, including notifications sent as another node would;
+ * run with {@code ./gradlew integrationTest}.
+ */
+@QuarkusTest
+@TestProfile(PostgresTestProfile.class)
+@Tag("integration")
+@DisplayName("ReferenceDataCache Integration Tests")
+class ReferenceDataCacheIntegrationTest {
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    ScopeVersionRegistry scopeVersions;
+
+    @Test
+    @DisplayName("Should evict a cached class when it is saved")
+    void shouldEvictOnSave() {
+        Class clazz = Class.create(ClassName.of("Cached"), GradeLevel.of(2), AcademicYear.current());
+        classRepository.save(clazz);
+        UUID id = clazz.getClassId().value();
+
+        classRepository.findById(clazz.getClassId());
+        assertTrue(sessionFactory.getCache().containsEntity(PanacheClassEntity.class, id));
+
+        classRepository.save(clazz);
+
+        assertFalse(sessionFactory.getCache().containsEntity(PanacheClassEntity.class, id));
+    }
+
+    @Test
+    @DisplayName("Should evict a cached class when another node notifies a write")
+    void shouldEvictOnNotification() throws Exception {
+        Class clazz = Class.create(ClassName.of("Remote"), GradeLevel.of(3), AcademicYear.current());
+        classRepository.save(clazz);
+        UUID id = clazz.getClassId().value();
+        classRepository.findById(clazz.getClassId());
+        assertTrue(sessionFactory.getCache().containsEntity(PanacheClassEntity.class, id));
+
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement notify = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            notify.setString(1, ReferenceDataCache.CHANNEL);
+            notify.setString(2, ReferenceDataCache.CachedTable.CLASSES.name() + ":" + id);
+            notify.execute();
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (sessionFactory.getCache().containsEntity(PanacheClassEntity.class, id)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertFalse(sessionFactory.getCache().containsEntity(PanacheClassEntity.class, id));
+    }
+
+    @Test
+    @DisplayName("Should make scope claims stale when another node notifies a scope change")
+    void shouldExpireScopeClaimsOnNotification() throws Exception {
+        UserId teacher = UserId.generate();
+        Thread.sleep(5);
+        long version = scopeVersions.nextVersion();
+        Thread.sleep(5);
+        assertTrue(scopeVersions.isCurrent(teacher, version));
+
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement notify = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            notify.setString(1, ReferenceDataCache.CHANNEL);
+            notify.setString(2, "SCOPE:" + teacher.value());
+            notify.execute();
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (scopeVersions.isCurrent(teacher, version) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertFalse(scopeVersions.isCurrent(teacher, version));
+    }
+}
@@ -0,0 +1,124 @@
+package com.k12.platform.infrastructure.persistence;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.agroal.api.AgroalDataSource;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.Instance;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@DisplayName("ReferenceDataCache Tests")
+class ReferenceDataCacheTest {
+
+    @Mock
+    private Instance<SessionFactory> sessionFactoryInstance;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private Instance<AgroalDataSource> dataSource;
+
+    @Mock
+    private TransactionSynchronizationRegistry transactions;
+
+    @Mock
+    private Event<ScopeChangeNotified> scopeChanges;
+
+    private ReferenceDataCache referenceDataCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(sessionFactoryInstance.get()).thenReturn(sessionFactory);
+        when(sessionFactoryInstance.isResolvable()).thenReturn(true);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        referenceDataCache = new ReferenceDataCache(
+                sessionFactoryInstance, dataSource, transactions, scopeChanges, false, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should evict the named rows and the table's query regions")
+    void shouldEvictNamedRows() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        referenceDataCache.apply("CLASSES:" + first + "," + second);
+
+        verify(cache).evictEntityData(PanacheClassEntity.class, first);
+        verify(cache).evictEntityData(PanacheClassEntity.class, second);
+        verify(cache).evictQueryRegion(ReferenceDataCache.CLASSES_BY_GRADE_LEVEL);
+        verify(cache).evictQueryRegion(ReferenceDataCache.CLASSES_BY_ACADEMIC_YEAR);
+        verify(cache, never()).evictEntityData(PanacheClassEntity.class);
+    }
+
+    @Test
+    @DisplayName("Should evict the whole entity region for a wildcard")
+    void shouldEvictWholeRegion() {
+        referenceDataCache.apply("TEACHER_CLASS_ASSIGNMENTS:*");
+
+        verify(cache).evictEntityData(PanacheTeacherClassAssignmentEntity.class);
+        verify(cache).evictQueryRegion(ReferenceDataCache.ASSIGNMENTS_BY_TEACHER);
+        verify(cache, never()).evictQueryRegion(ReferenceDataCache.CLASSES_BY_GRADE_LEVEL);
+    }
+
+    @Test
+    @DisplayName("Should ignore malformed notifications")
+    void shouldIgnoreMalformedPayloads() {
+        referenceDataCache.apply("USERS:*");
+        referenceDataCache.apply("CLASSES:not-a-uuid");
+        referenceDataCache.apply("garbage");
+
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    @DisplayName("Should fire scope change notifications instead of evicting")
+    void shouldFireScopeChanges() {
+        UUID principal = UUID.randomUUID();
+
+        referenceDataCache.receive("SCOPE:" + principal);
+        referenceDataCache.receive("SCOPE:not-a-uuid");
+
+        verify(scopeChanges).fire(new ScopeChangeNotified(principal));
+        verify(scopeChanges, never()).fire(argThat(ScopeChangeNotified::anyPrincipalChanged));
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    @DisplayName("Should empty every region on expiry")
+    void shouldEvictAllOnExpiry() {
+        referenceDataCache.evictAll();
+
+        verify(cache).evictEntityData(PanacheClassEntity.class);
+        verify(cache).evictEntityData(PanacheTeacherClassAssignmentEntity.class);
+        verify(cache).evictQueryRegion(ReferenceDataCache.ASSIGNMENTS_BY_TEACHER);
+    }
+
+    @Test
+    @DisplayName("Should skip expiry when Hibernate is not running")
+    void shouldSkipExpiryWithoutHibernate() {
+        when(sessionFactoryInstance.isResolvable()).thenReturn(false);
+
+        referenceDataCache.evictAll();
+
+        verify(cache, never()).evictEntityData(any(Class.class));
+    }
+}
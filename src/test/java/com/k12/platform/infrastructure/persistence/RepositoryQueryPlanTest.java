@@ -0,0 +1,185 @@
+package com.k12.platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.domain.model.valueobjects.AssociationId;
+import com.k12.platform.domain.model.valueobjects.ClassId;
+import com.k12.platform.domain.model.valueobjects.EmailAddress;
+import com.k12.platform.domain.model.valueobjects.GradeLevel;
+import com.k12.platform.domain.model.valueobjects.ResetToken;
+import com.k12.platform.domain.model.valueobjects.ResetTokenId;
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.ClassRepository;
+import com.k12.platform.domain.port.ClassRosterRepository;
+import com.k12.platform.domain.port.PageKey;
+import com.k12.platform.domain.port.ParentStudentAssociationRepository;
+import com.k12.platform.domain.port.PasswordResetTokenRepository;
+import com.k12.platform.domain.port.StudentQueries;
+import com.k12.platform.domain.port.StudentRepository;
+import com.k12.platform.domain.port.TeacherClassAssignmentRepository;
+import com.k12.platform.domain.port.UserRepository;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs every repository query against the migrated schema and checks its plan for sequential scans.
+ * Sequential scans are disabled for the EXPLAIN, so the planner only picks one when no index can serve the query.
+ * Requires PostgreSQL 16+ for EXPLAIN (GENERIC_PLAN); run with {@code ./gradlew integrationTest}.
+ */
+@QuarkusTest
+@TestProfile(PostgresTestProfile.class)
+@Tag("integration")
+@DisplayName("Repository query plan Tests")
+class RepositoryQueryPlanTest {
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    StudentRepository studentRepository;
+
+    @Inject
+    StudentQueries studentQueries;
+
+    @Inject
+    ClassRosterRepository classRosterRepository;
+
+    @Inject
+    TeacherClassAssignmentRepository teacherClassAssignmentRepository;
+
+    @Inject
+    ParentStudentAssociationRepository parentStudentAssociationRepository;
+
+    @Inject
+    PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Test
+    @DisplayName("Should serve every repository query from an index")
+    void shouldServeEveryRepositoryQueryFromAnIndex() throws SQLException {
+        RecordingStatementInspector.clear();
+        QuarkusTransaction.requiringNew().run(this::runRepositoryQueries);
+        Set<String> statements = RecordingStatementInspector.statements();
+        assertFalse(statements.isEmpty(), "No SQL was recorded; is the statement inspector registered?");
+
+        List<String> sequentialScans = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            statement.execute("SET LOCAL enable_seqscan = off");
+            for (String sql : statements) {
+                String plan = explain(statement, sql);
+                if (plan.contains("Seq Scan")) {
+                    sequentialScans.add(sql + "\n" + plan);
+                }
+            }
+            connection.rollback();
+        }
+
+        assertTrue(
+                sequentialScans.isEmpty(),
+                "Queries without a usable index:\n\n" + String.join("\n\n", sequentialScans));
+    }
+
+    /**
+     * Every lookup the adapters offer, paged ones both for the first page and for a page after a key.
+     */
+    private void runRepositoryQueries() {
+        UserId userId = UserId.generate();
+        ClassId classId = ClassId.generate();
+        StudentId studentId = StudentId.generate();
+        GradeLevel gradeLevel = GradeLevel.of(5);
+        AcademicYear academicYear = AcademicYear.of("2025-2026");
+
+        userRepository.findById(userId);
+        userRepository.findByEmail(EmailAddress.of("query-plan@example.com"));
+        userRepository.existsByEmail(EmailAddress.of("query-plan@example.com"));
+        userRepository.findExistingEmails(
+                List.of(EmailAddress.of("query-plan@example.com"), EmailAddress.of("query-plan-2@example.com")));
+        userRepository.findTokensRevokedSince(Instant.now());
+        userRepository.findAll(null, 50);
+        userRepository.findAll(new PageKey(Instant.now().toString(), userId.value()), 50);
+
+        classRepository.findById(classId);
+        classRepository.findByGradeLevel(gradeLevel, null, 50);
+        classRepository.findByGradeLevel(gradeLevel, new PageKey("5A", classId.value()), 50);
+        classRepository.findByAcademicYear(academicYear, null, 50);
+        classRepository.findByAcademicYear(academicYear, new PageKey("5A", classId.value()), 50);
+        classRepository.findByGradeLevelAndAcademicYear(gradeLevel, academicYear);
+        classRepository.existsByNameAndGradeLevelAndAcademicYear("5A", gradeLevel.value(), academicYear.value());
+        classRosterRepository.findRoster(classId);
+
+        studentRepository.findById(studentId);
+        studentRepository.findByClassId(UserId.of(classId.value()));
+        studentRepository.findByGradeLevel(gradeLevel.value(), null, 50);
+        studentRepository.findByGradeLevel(gradeLevel.value(), new PageKey("Doe", studentId.value()), 50);
+        studentQueries.findById(studentId);
+        studentQueries.findByGradeLevel(gradeLevel.value(), null, 50);
+        studentQueries.findByGradeLevel(gradeLevel.value(), new PageKey("Doe", studentId.value()), 50);
+
+        teacherClassAssignmentRepository.findById(AssociationId.generate());
+        teacherClassAssignmentRepository.findByTeacherId(userId);
+        teacherClassAssignmentRepository.findByClassId(classId);
+        teacherClassAssignmentRepository.findByTeacherIdAndClassId(userId, classId);
+        teacherClassAssignmentRepository.existsByTeacherIdAndClassId(userId, classId);
+
+        parentStudentAssociationRepository.findById(AssociationId.generate());
+        parentStudentAssociationRepository.findByParentId(userId);
+        parentStudentAssociationRepository.findByStudentId(studentId);
+        parentStudentAssociationRepository.findByParentIdAndStudentId(userId, studentId);
+        parentStudentAssociationRepository.existsByParentIdAndStudentId(userId, studentId);
+
+        passwordResetTokenRepository.findById(ResetTokenId.generate());
+        passwordResetTokenRepository.findByToken(ResetToken.generate());
+        passwordResetTokenRepository.findByUserId(userId);
+        passwordResetTokenRepository.deleteExpiredTokens();
+    }
+
+    private static String explain(Statement statement, String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (ResultSet rows = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numberPlaceholders(sql))) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    /**
+     * GENERIC_PLAN takes $n parameters; Hibernate prepares statements with JDBC '?' placeholders.
+     */
+    private static String numberPlaceholders(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 8);
+        int parameter = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+}
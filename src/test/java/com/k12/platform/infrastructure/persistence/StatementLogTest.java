@@ -0,0 +1,67 @@
+package com.k12.platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for StatementLog.
+ */
+@DisplayName("StatementLog Tests")
+class StatementLogTest {
+
+    private StatementLog log;
+
+    @BeforeEach
+    void setUp() {
+        log = new StatementLog();
+    }
+
+    @Test
+    @DisplayName("Should report nothing before any statement runs")
+    void shouldStartEmpty() {
+        assertEquals(0, log.count());
+        assertEquals(0, log.maxRepeats());
+        assertNull(log.mostRepeated());
+        assertEquals(Duration.ZERO, log.executionTime());
+    }
+
+    @Test
+    @DisplayName("Should count statements and sum their execution time")
+    void shouldCountAndTime() {
+        log.prepared("select * from users where id = ?");
+        log.executed(1_000_000);
+        log.prepared("select * from classes where id = ?");
+        log.executed(2_000_000);
+
+        assertEquals(2, log.count());
+        assertEquals(Duration.ofMillis(3), log.executionTime());
+        assertEquals(1, log.maxRepeats());
+    }
+
+    @Test
+    @DisplayName("Should detect one statement shape repeated per row")
+    void shouldDetectRepeats() {
+        log.prepared("select * from classes where grade_level = ?");
+        for (int i = 0; i < 4; i++) {
+            log.prepared("select * from users\n   where id = ?");
+        }
+
+        assertEquals(5, log.count());
+        assertEquals(4, log.maxRepeats());
+        assertEquals("select * from users where id = ?", log.mostRepeated());
+    }
+
+    @Test
+    @DisplayName("Should fold parameter lists of any length into one shape")
+    void shouldFoldParameterLists() {
+        assertEquals(
+                StatementLog.shape("select * from users where id in (?, ?, ?)"),
+                StatementLog.shape("select * from users where id in (?,?)"));
+        assertEquals(
+                "select * from users where id in (?)", StatementLog.shape(" select * from users where id in (?, ?) "));
+    }
+}
@@ -0,0 +1,66 @@
+package com.k12.platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.k12.platform.domain.model.User;
+import com.k12.platform.domain.model.UserRole;
+import com.k12.platform.domain.model.valueobjects.EmailAddress;
+import com.k12.platform.domain.model.valueobjects.PasswordHash;
+import com.k12.platform.domain.port.UserRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks which user saves record a token revocation against PostgreSQL; run with {@code ./gradlew integrationTest}.
+ */
+@QuarkusTest
+@TestProfile(PostgresTestProfile.class)
+@Tag("integration")
+@DisplayName("Token revocation persistence Integration Tests")
+class TokenRevocationPersistenceTest {
+
+    @Inject
+    UserRepository userRepository;
+
+    @Test
+    @DisplayName("Should not revoke tokens when a login re-hashes the password")
+    void shouldNotRevokeOnRehash() {
+        Instant before = Instant.now().minusSeconds(1);
+        User user = newUser("rehashed@example.com", PasswordHash.hash("secret-password", 4));
+        userRepository.save(user);
+
+        User loaded = userRepository.findById(user.userId()).orElseThrow();
+        assertTrue(loaded.login("secret-password", 5));
+        userRepository.save(loaded);
+
+        assertFalse(userRepository.findTokensRevokedSince(before).containsKey(user.userId()));
+    }
+
+    @Test
+    @DisplayName("Should revoke tokens from the deactivation and from a later password change")
+    void shouldRevokeOnDeactivationAndPasswordChange() {
+        Instant before = Instant.now().minusSeconds(1);
+        User user = newUser("revoked@example.com", PasswordHash.hash("secret-password", 4));
+        userRepository.save(user);
+
+        User loaded = userRepository.findById(user.userId()).orElseThrow();
+        loaded.deactivate();
+        userRepository.save(loaded);
+        Instant deactivatedAt = userRepository.findTokensRevokedSince(before).get(user.userId());
+        assertNotNull(deactivatedAt);
+
+        loaded.updatePassword(PasswordHash.hash("another-password", 4));
+        userRepository.save(loaded);
+        Instant changedAt = userRepository.findTokensRevokedSince(before).get(user.userId());
+        assertTrue(changedAt.isAfter(deactivatedAt));
+    }
+
+    private static User newUser(String email, PasswordHash passwordHash) {
+        return User.register(EmailAddress.of(email), passwordHash, "Revoked", "User", UserRole.TEACHER);
+    }
+}
@@ -0,0 +1,70 @@
+package com.k12.platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Upserts Tests")
+class UpsertsTest {
+
+    @Test
+    @DisplayName("Should bind parameters by position with driver-supported types")
+    void shouldBindParameters() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        UUID id = UUID.randomUUID();
+        Instant createdAt = Instant.parse("2025-09-01T08:00:00Z");
+        LocalDate assignedDate = LocalDate.of(2025, 9, 1);
+
+        Upserts.bind(statement, new Object[] {id, "TEACHER", null, createdAt, assignedDate, true});
+
+        verify(statement).setObject(1, id);
+        verify(statement).setObject(2, "TEACHER");
+        verify(statement).setNull(3, Types.OTHER);
+        verify(statement).setObject(4, createdAt.atOffset(ZoneOffset.UTC));
+        verify(statement).setObject(5, assignedDate);
+        verify(statement).setObject(6, true);
+        verifyNoMoreInteractions(statement);
+    }
+
+    @Test
+    @DisplayName("Should execute batches of at most the batch size")
+    void shouldExecuteBatchesOfBatchSize() throws Exception {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("UPSERT")).thenReturn(statement);
+
+        int executed = Upserts.executeBatch(
+                connection, "UPSERT", List.of(1, 2, 3, 4, 5), item -> new Object[] {item}, 2);
+
+        assertEquals(5, executed);
+        verify(statement, times(5)).addBatch();
+        verify(statement, times(3)).executeBatch();
+        verify(statement).setObject(1, 5);
+        verify(statement).close();
+    }
+
+    @Test
+    @DisplayName("Should collect the items whose conditional statement changed no row")
+    void shouldCollectUnappliedItems() throws Exception {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("UPSERT")).thenReturn(statement);
+        when(statement.executeBatch()).thenReturn(new int[] {1, 0}, new int[] {0});
+        List<Integer> unapplied = new ArrayList<>();
+
+        Upserts.executeBatch(connection, "UPSERT", List.of(1, 2, 3), item -> new Object[] {item}, 2, unapplied);
+
+        assertEquals(List.of(2, 3), unapplied);
+    }
+}
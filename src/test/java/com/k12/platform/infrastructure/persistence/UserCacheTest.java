@@ -0,0 +1,166 @@
+package com.k12.platform.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.k12.platform.domain.model.User;
+import com.k12.platform.domain.model.UserDeactivated;
+import com.k12.platform.domain.model.UserRole;
+import com.k12.platform.domain.model.valueobjects.EmailAddress;
+import com.k12.platform.domain.model.valueobjects.PasswordHash;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Unit tests for UserCache.
+ */
+@DisplayName("UserCache Tests")
+class UserCacheTest {
+
+    @Mock
+    private TransactionSynchronizationRegistry transactions;
+
+    private SimpleMeterRegistry registry;
+    private UserCache cache;
+    private User user;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        registry = new SimpleMeterRegistry();
+        cache = new UserCache(100, Duration.ofMinutes(1), transactions, registry);
+        user = User.register(
+                EmailAddress.of("cached@example.com"),
+                PasswordHash.of("$2a$12$abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz01234"),
+                "Cached",
+                "User",
+                UserRole.TEACHER);
+        user.clearDomainEvents();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should load once and serve a fresh copy of the user from cache")
+    void shouldCacheById() {
+        User first = cache.findById(user.userId(), this::load).orElseThrow();
+        User second = cache.findById(user.userId(), this::load).orElseThrow();
+
+        assertEquals(1, loads.get());
+        assertNotSame(first, second);
+        assertEquals(user.email(), second.email());
+        assertEquals(user.passwordHash(), second.passwordHash());
+        assertEquals(1.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should serve lookups by email from the same entries")
+    void shouldCacheByEmail() {
+        cache.findById(user.userId(), this::load);
+
+        User found = cache.findByEmail(user.email(), this::load).orElseThrow();
+
+        assertEquals(user.userId(), found.userId());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not cache missing users")
+    void shouldNotCacheMissingUsers() {
+        cache.findByEmail(EmailAddress.of("missing@example.com"), () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should reload after the user is saved")
+    void shouldReloadAfterInvalidation() {
+        cache.findById(user.userId(), this::load);
+
+        cache.invalidate(List.of(user.userId()));
+        cache.findById(user.userId(), this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not put back a user loaded while it was being saved")
+    void shouldDiscardLoadRacingInvalidation() {
+        cache.findById(user.userId(), () -> {
+            cache.invalidate(List.of(user.userId()));
+            return load();
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should drop the user again when the saving transaction completes")
+    void shouldInvalidateAfterCompletion() {
+        when(transactions.getTransactionKey()).thenReturn(new Object());
+        cache.invalidate(List.of(user.userId()));
+        ArgumentCaptor<Synchronization> synchronization = ArgumentCaptor.forClass(Synchronization.class);
+        verify(transactions).registerInterposedSynchronization(synchronization.capture());
+
+        cache.findById(user.userId(), this::load);
+        synchronization.getValue().afterCompletion(Status.STATUS_COMMITTED);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should drop the user when a user event is committed")
+    void shouldInvalidateOnEvent() {
+        cache.findById(user.userId(), this::load);
+
+        cache.onDeactivated(new UserDeactivated(user.userId(), Instant.now()));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should keep the cached last login current")
+    void shouldRecordLogin() {
+        cache.findById(user.userId(), this::load);
+        Instant loggedInAt = Instant.now();
+
+        cache.recordLogin(user.userId(), loggedInAt);
+
+        assertEquals(loggedInAt, cache.findById(user.userId(), this::load).orElseThrow().lastLoginAt());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not register a synchronization outside a transaction")
+    void shouldInvalidateWithoutTransaction() {
+        cache.invalidate(List.of(UserId.generate()));
+
+        verify(transactions, never()).registerInterposedSynchronization(any());
+    }
+
+    private Optional<User> load() {
+        loads.incrementAndGet();
+        return Optional.of(user);
+    }
+}
@@ -3,17 +3,22 @@ package com.k12.platform.interfaces.rest;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.k12.platform.domain.model.User;
 import com.k12.platform.domain.model.UserRole;
 import com.k12.platform.domain.model.commands.LoginCommand;
 import com.k12.platform.domain.model.exceptions.AccountDeactivatedException;
+import com.k12.platform.domain.model.exceptions.HashingCapacityExceededException;
 import com.k12.platform.domain.model.exceptions.InvalidCredentialsException;
 import com.k12.platform.domain.model.valueobjects.EmailAddress;
 import com.k12.platform.domain.model.valueobjects.PasswordHash;
 import com.k12.platform.domain.service.AuthenticationService;
 import com.k12.platform.interfaces.rest.jwt.TokenService;
+import com.k12.platform.interfaces.rest.security.LoginRateLimiter;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
@@ -34,6 +39,9 @@ class AuthResourceTest {
     @InjectMock
     TokenService tokenService;
 
+    @InjectMock
+    LoginRateLimiter loginRateLimiter;
+
     @Test
     @DisplayName("Should return 400 when email is missing")
     void shouldReturn400WhenEmailMissing() {
@@ -234,4 +242,61 @@ class AuthResourceTest {
                 .body("token", is("parent-token"))
                 .body("user.role", is("PARENT"));
     }
+
+    @Test
+    @DisplayName("Should return 503 with Retry-After when hashing capacity is exhausted")
+    void shouldReturn503WhenHashingCapacityExceeded() {
+        // Arrange
+        when(authenticationService.login(any(LoginCommand.class)))
+                .thenThrow(new HashingCapacityExceededException(2));
+
+        String requestBody = "{\"email\":\"busy@example.com\",\"password\":\"password123\"}";
+
+        // Act & Assert
+        given().contentType(ContentType.JSON)
+                .body(requestBody)
+                .when()
+                .post("/api/auth/login")
+                .then()
+                .statusCode(is(503))
+                .header("Retry-After", is("2"));
+    }
+
+    @Test
+    @DisplayName("Should return 429 with Retry-After without verifying password when rate limited")
+    void shouldReturn429WhenRateLimited() {
+        // Arrange
+        when(loginRateLimiter.acquire(anyString(), anyString())).thenReturn(7L);
+
+        String requestBody = "{\"email\":\"stuffed@example.com\",\"password\":\"password123\"}";
+
+        // Act & Assert
+        given().contentType(ContentType.JSON)
+                .body(requestBody)
+                .when()
+                .post("/api/auth/login")
+                .then()
+                .statusCode(is(429))
+                .header("Retry-After", is("7"));
+
+        verify(authenticationService, never()).login(any(LoginCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should rate limit the forwarded client address when the request comes through a trusted proxy")
+    void shouldRateLimitForwardedClientAddress() {
+        when(loginRateLimiter.acquire(anyString(), anyString())).thenReturn(7L);
+
+        String requestBody = "{\"email\":\"proxied@example.com\",\"password\":\"password123\"}";
+
+        given().contentType(ContentType.JSON)
+                .header("X-Forwarded-For", "203.0.113.7")
+                .body(requestBody)
+                .when()
+                .post("/api/auth/login")
+                .then()
+                .statusCode(is(429));
+
+        verify(loginRateLimiter).acquire("203.0.113.7", "proxied@example.com");
+    }
 }
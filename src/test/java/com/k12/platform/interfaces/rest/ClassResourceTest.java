@@ -2,13 +2,22 @@ package com.k12.platform.interfaces.rest;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.k12.platform.domain.model.Class;
 import com.k12.platform.domain.model.ClassService;
 import com.k12.platform.domain.model.valueobjects.*;
+import com.k12.platform.domain.port.Page;
+import com.k12.platform.domain.port.PageKey;
 import com.k12.platform.infrastructure.persistence.JpaClassAdapter;
+import com.k12.platform.infrastructure.persistence.JpaClassRosterAdapter;
+import com.k12.platform.interfaces.rest.security.TestTokens;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
@@ -26,12 +35,17 @@ import org.junit.jupiter.api.Test;
 @DisplayName("ClassResource REST Tests")
 class ClassResourceTest {
 
+    private final String adminToken = TestTokens.admin();
+
     @InjectMock
     ClassService classService;
 
     @InjectMock
     JpaClassAdapter classRepository;
 
+    @InjectMock
+    JpaClassRosterAdapter classRosterRepository;
+
     @Test
     @DisplayName("Should create class successfully")
     void shouldCreateClassEndpointExists() {
@@ -44,7 +58,7 @@ class ClassResourceTest {
         String requestBody = "{\"name\":\"5-A\",\"grade_level\":\"5\",\"academic_year\":\"2024-2025\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/classes")
@@ -64,7 +78,7 @@ class ClassResourceTest {
         when(classRepository.findById(any(ClassId.class))).thenReturn(Optional.of(mockClass));
 
         // Act & Assert
-        given().when()
+        given().auth().oauth2(adminToken).when()
                 .get("/api/classes/" + UUID.randomUUID())
                 .then()
                 .statusCode(is(200))
@@ -75,7 +89,7 @@ class ClassResourceTest {
     @Test
     @DisplayName("Should return 400 for invalid class ID format")
     void shouldReturn400ForInvalidClassId() {
-        given().when()
+        given().auth().oauth2(adminToken).when()
                 .get("/api/classes/invalid-uuid")
                 .then()
                 .statusCode(is(400))
@@ -88,16 +102,58 @@ class ClassResourceTest {
         // Arrange
         Class mockClass = Class.create(ClassName.of("5-A"), GradeLevel.of(5), AcademicYear.of("2024-2025"));
 
-        when(classRepository.findByGradeLevel(any(GradeLevel.class))).thenReturn(List.of(mockClass));
+        when(classRepository.findByGradeLevel(any(GradeLevel.class), isNull(), eq(50)))
+                .thenReturn(new Page<>(List.of(mockClass), null));
 
         // Act & Assert
-        given().when().get("/api/classes/grade/5").then().statusCode(is(200));
+        given().auth().oauth2(adminToken).when()
+                .get("/api/classes/grade/5")
+                .then()
+                .statusCode(is(200))
+                .header("Link", nullValue())
+                .body("[0].name", is("5-A"));
+    }
+
+    @Test
+    @DisplayName("Should link to the next page of classes by grade")
+    void shouldLinkToNextPageOfClassesByGrade() {
+        // Arrange
+        Class mockClass = Class.create(ClassName.of("5-A"), GradeLevel.of(5), AcademicYear.of("2024-2025"));
+        PageKey next = new PageKey("5-A", mockClass.getClassId().value());
+        when(classRepository.findByGradeLevel(any(GradeLevel.class), isNull(), eq(1)))
+                .thenReturn(new Page<>(List.of(mockClass), next));
+        when(classRepository.findByGradeLevel(any(GradeLevel.class), eq(next), eq(1)))
+                .thenReturn(new Page<>(List.of(), null));
+
+        // Act
+        String link = given().auth().oauth2(adminToken).when()
+                .get("/api/classes/grade/5?limit=1")
+                .then()
+                .statusCode(is(200))
+                .extract()
+                .header("Link");
+
+        // Assert: following the link asks for the page after the last class
+        String nextUri = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+        assertTrue(link.endsWith("rel=\"next\""));
+        given().auth().oauth2(adminToken).when().get(nextUri).then().statusCode(is(200));
+        verify(classRepository).findByGradeLevel(any(GradeLevel.class), eq(next), eq(1));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an invalid cursor")
+    void shouldReturn400ForInvalidCursor() {
+        given().auth().oauth2(adminToken).when()
+                .get("/api/classes/grade/5?after=not-a-cursor")
+                .then()
+                .statusCode(is(400))
+                .body("message", is("Invalid cursor"));
     }
 
     @Test
     @DisplayName("Should return 500 for invalid grade format (BUG: should be 400)")
     void shouldReturn500ForInvalidGradeFormat() {
-        given().when().get("/api/classes/grade/invalid").then().statusCode(is(400));
+        given().auth().oauth2(adminToken).when().get("/api/classes/grade/invalid").then().statusCode(is(400));
     }
 
     @Test
@@ -112,7 +168,7 @@ class ClassResourceTest {
         String requestBody = "{\"name\":\"K-A\",\"grade_level\":\"K\",\"academic_year\":\"2024-2025\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/classes")
@@ -134,7 +190,7 @@ class ClassResourceTest {
         String requestBody = "{\"name\":\"12-A\",\"grade_level\":\"12\",\"academic_year\":\"2024-2025\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/classes")
@@ -155,7 +211,7 @@ class ClassResourceTest {
         String requestBody = "{\"name\":\"5-A\",\"grade_level\":\"5\",\"academic_year\":\"2025-2026\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/classes")
@@ -176,7 +232,7 @@ class ClassResourceTest {
         String requestBody = "{\"name\":\"Room 101\",\"grade_level\":\"5\",\"academic_year\":\"2024-2025\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/classes")
@@ -190,7 +246,7 @@ class ClassResourceTest {
     void shouldValidateAcademicYearFormat() {
         String requestBody = "{\"name\":\"5-A\",\"grade_level\":\"5\",\"academic_year\":\"invalid\"}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/classes")
@@ -205,10 +261,58 @@ class ClassResourceTest {
         when(classRepository.findById(any(ClassId.class))).thenReturn(Optional.empty());
 
         // Act & Assert
-        given().when()
+        given().auth().oauth2(adminToken).when()
                 .get("/api/classes/" + UUID.randomUUID())
                 .then()
                 .statusCode(is(404))
                 .body("message", is("Class not found"));
     }
+
+    @Test
+    @DisplayName("Should serve the stored class roster as is")
+    void shouldServeClassRoster() {
+        // Arrange
+        UUID classId = UUID.randomUUID();
+        String roster = "{\"class_id\": \"" + classId + "\", \"name\": \"5-A\", \"teachers\": [],"
+                + " \"students\": [{\"first_name\": \"Jane\", \"parents\": []}]}";
+
+        when(classRosterRepository.findRoster(ClassId.of(classId))).thenReturn(Optional.of(roster));
+
+        // Act & Assert
+        given().auth().oauth2(adminToken).when()
+                .get("/api/classes/" + classId + "/roster")
+                .then()
+                .statusCode(is(200))
+                .contentType(ContentType.JSON)
+                .body("class_id", is(classId.toString()))
+                .body("students[0].first_name", is("Jane"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when class has no roster")
+    void shouldReturn404WhenRosterNotFound() {
+        // Arrange
+        when(classRosterRepository.findRoster(any(ClassId.class))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        given().auth().oauth2(adminToken).when()
+                .get("/api/classes/" + UUID.randomUUID() + "/roster")
+                .then()
+                .statusCode(is(404))
+                .body("message", is("Class not found"));
+    }
+
+    @Test
+    @DisplayName("Should report the number of rebuilt rosters")
+    void shouldRebuildClassRosters() {
+        // Arrange
+        when(classRosterRepository.rebuild()).thenReturn(42);
+
+        // Act & Assert
+        given().auth().oauth2(adminToken).when()
+                .post("/api/classes/rosters/rebuild")
+                .then()
+                .statusCode(is(200))
+                .body("rebuilt", is(42));
+    }
 }
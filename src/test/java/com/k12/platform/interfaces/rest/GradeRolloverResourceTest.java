@@ -0,0 +1,57 @@
+package com.k12.platform.interfaces.rest;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.interfaces.rest.rollover.GradeRolloverRunner;
+import com.k12.platform.interfaces.rest.security.TestTokens;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * REST tests for GradeRolloverResource.
+ */
+@QuarkusTest
+@DisplayName("GradeRolloverResource REST Tests")
+class GradeRolloverResourceTest {
+
+    private final String adminToken = TestTokens.admin();
+
+    @InjectMock
+    GradeRolloverRunner gradeRolloverRunner;
+
+    @Test
+    @DisplayName("Should return 400 for invalid academic year")
+    void shouldReturn400ForInvalidAcademicYear() {
+        given().auth().oauth2(adminToken).when().post("/api/rollovers/2024").then().statusCode(is(400));
+    }
+
+    @Test
+    @DisplayName("Should return 409 when academic year was already rolled over")
+    void shouldReturn409WhenAlreadyRolledOver() {
+        when(gradeRolloverRunner.submit(any())).thenThrow(new IllegalStateException("already rolled over"));
+
+        given().auth().oauth2(adminToken).when()
+                .post("/api/rollovers/" + AcademicYear.current())
+                .then()
+                .statusCode(is(409))
+                .body("message", is("already rolled over"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when rollover was not started")
+    void shouldReturn404WhenNotStarted() {
+        when(gradeRolloverRunner.status(any())).thenReturn(Optional.empty());
+
+        given().auth().oauth2(adminToken).when()
+                .get("/api/rollovers/" + AcademicYear.current())
+                .then()
+                .statusCode(is(404));
+    }
+}
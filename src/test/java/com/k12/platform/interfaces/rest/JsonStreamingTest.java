@@ -0,0 +1,79 @@
+package com.k12.platform.interfaces.rest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JsonStreaming Tests")
+class JsonStreamingTest {
+
+    record Row(@JsonProperty("row_name") String name) {}
+
+    private final JsonStreaming streaming = new JsonStreaming(new ObjectMapper());
+
+    @Test
+    @DisplayName("Should write every row the source produces as one JSON array")
+    void shouldWriteRowsAsArray() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        streaming.<String, Row>array(action -> List.of("a", "b").forEach(action), Row::new).write(output);
+
+        assertEquals("[{\"row_name\":\"a\"},{\"row_name\":\"b\"}]", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should write an empty array when the source produces nothing")
+    void shouldWriteEmptyArray() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        streaming.<String, Row>array(action -> {}, Row::new).write(output);
+
+        assertEquals("[]", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should leave the array open when the source fails mid-stream")
+    void shouldNotEndArrayOnSourceFailure() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        IllegalStateException e = assertThrows(
+                IllegalStateException.class,
+                () -> streaming
+                        .<String, Row>array(
+                                action -> {
+                                    action.accept("a");
+                                    throw new IllegalStateException("Transaction timed out");
+                                },
+                                Row::new)
+                        .write(output));
+
+        assertEquals("Transaction timed out", e.getMessage());
+        assertFalse(output.toString(StandardCharsets.UTF_8).endsWith("]"));
+    }
+
+    @Test
+    @DisplayName("Should surface write failures as IOException")
+    void shouldRethrowWriteFailures() {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        IOException e = assertThrows(
+                IOException.class,
+                () -> streaming
+                        .<String, Row>array(action -> List.of("x".repeat(10_000)).forEach(action), Row::new)
+                        .write(broken));
+        assertEquals("Connection reset", e.getMessage());
+    }
+}
@@ -0,0 +1,53 @@
+package com.k12.platform.interfaces.rest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.k12.platform.domain.port.PageKey;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Pagination Tests")
+class PaginationTest {
+
+    private final Pagination pagination = new Pagination(50, 500);
+
+    @Test
+    @DisplayName("Should round-trip page keys through opaque cursors")
+    void shouldRoundTripCursors() {
+        PageKey key = new PageKey("O'Brien: Jr.", UUID.randomUUID());
+
+        String cursor = pagination.cursor(key);
+
+        assertFalse(cursor.contains(key.id().toString()));
+        assertEquals(key, pagination.after(cursor));
+    }
+
+    @Test
+    @DisplayName("Should start at the first page without a cursor")
+    void shouldStartAtFirstPageWithoutCursor() {
+        assertNull(pagination.after(null));
+        assertNull(pagination.after(""));
+    }
+
+    @Test
+    @DisplayName("Should reject cursors it did not issue")
+    void shouldRejectForeignCursors() {
+        String noId = Base64.getUrlEncoder().encodeToString("not-a-key".getBytes());
+        String badId = Base64.getUrlEncoder().encodeToString(("x".repeat(36) + ":Doe").getBytes());
+
+        assertThrows(IllegalArgumentException.class, () -> pagination.after("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> pagination.after(noId));
+        assertThrows(IllegalArgumentException.class, () -> pagination.after(badId));
+    }
+
+    @Test
+    @DisplayName("Should default and cap the page size")
+    void shouldDefaultAndCapPageSize() {
+        assertEquals(50, pagination.limit(null));
+        assertEquals(10, pagination.limit(10));
+        assertEquals(500, pagination.limit(10_000));
+        assertThrows(IllegalArgumentException.class, () -> pagination.limit(0));
+    }
+}
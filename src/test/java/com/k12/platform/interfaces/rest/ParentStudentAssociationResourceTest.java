@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 import com.k12.platform.domain.model.ParentStudentAssociation;
 import com.k12.platform.domain.model.ParentStudentAssociationService;
 import com.k12.platform.domain.model.valueobjects.*;
+import com.k12.platform.interfaces.rest.security.TestTokens;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
@@ -23,6 +24,8 @@ import org.junit.jupiter.api.Test;
 @DisplayName("ParentStudentAssociationResource REST Tests")
 class ParentStudentAssociationResourceTest {
 
+    private final String adminToken = TestTokens.admin();
+
     @InjectMock
     ParentStudentAssociationService service;
 
@@ -43,7 +46,7 @@ class ParentStudentAssociationResourceTest {
                 + "\",\"relationship_type\":\"Father\",\"is_primary_contact\":true}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/parent-student-associations")
@@ -70,7 +73,7 @@ class ParentStudentAssociationResourceTest {
                 + "\",\"relationship_type\":\"Mother\",\"is_primary_contact\":false}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/parent-student-associations")
@@ -86,7 +89,7 @@ class ParentStudentAssociationResourceTest {
         String requestBody = "{\"parent_id\":\"invalid-uuid\",\"student_id\":\"" + studentId
                 + "\",\"relationship_type\":\"Father\",\"is_primary_contact\":false}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/parent-student-associations")
@@ -102,7 +105,7 @@ class ParentStudentAssociationResourceTest {
         String requestBody = "{\"parent_id\":\"" + parentId
                 + "\",\"student_id\":\"invalid-uuid\",\"relationship_type\":\"Father\",\"is_primary_contact\":false}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/parent-student-associations")
@@ -130,7 +133,7 @@ class ParentStudentAssociationResourceTest {
             String requestBody = "{\"parent_id\":\"" + parentId + "\",\"student_id\":\"" + studentId
                     + "\",\"relationship_type\":\"" + relationship + "\",\"is_primary_contact\":false}";
 
-            given().contentType(ContentType.JSON)
+            given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                     .body(requestBody)
                     .when()
                     .post("/api/parent-student-associations")
@@ -154,7 +157,7 @@ class ParentStudentAssociationResourceTest {
                 + "\",\"relationship_type\":\"Father\",\"is_primary_contact\":false}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/parent-student-associations")
@@ -168,7 +171,7 @@ class ParentStudentAssociationResourceTest {
     void shouldValidateRequiredFields() {
         String requestBody = "{}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/parent-student-associations")
@@ -193,7 +196,7 @@ class ParentStudentAssociationResourceTest {
                 + "\",\"relationship_type\":\"Guardian\",\"is_primary_contact\":true}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/parent-student-associations")
@@ -219,7 +222,7 @@ class ParentStudentAssociationResourceTest {
                 + "\",\"relationship_type\":\"Father\",\"is_primary_contact\":true}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/parent-student-associations")
@@ -245,7 +248,7 @@ class ParentStudentAssociationResourceTest {
                 + "\",\"relationship_type\":\"Father\",\"is_primary_contact\":false}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/parent-student-associations")
@@ -0,0 +1,24 @@
+package com.k12.platform.interfaces.rest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails the test if any request it sends through RestAssured runs more than {@link #max()} SQL statements,
+ * or repeats one statement shape more than {@link #maxRepeats()} times, the N+1 pattern.
+ * Counts come from the X-Statement-* headers of {@link StatementReportFilter}, so the test profile must set
+ * {@code k12.statements.header=true}, as {@code PostgresTestProfile} does. On a method, overrides the class.
+ * A request with a streamed body fails the budget, since its headers are sent before most of its statements run.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    int max();
+
+    int maxRepeats() default 3;
+}
@@ -0,0 +1,68 @@
+package com.k12.platform.interfaces.rest;
+
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * Enforces {@link QueryBudget}: installs a RestAssured filter for the duration of each test that checks
+ * every response's statement headers against the budget and fails the request that exceeds it.
+ */
+class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudget.class);
+    private static final String PREVIOUS_FILTERS = "previous-filters";
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        Optional<QueryBudget> budget = AnnotationSupport.findAnnotation(
+                        context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class));
+        if (budget.isEmpty()) {
+            return;
+        }
+        context.getStore(NAMESPACE).put(PREVIOUS_FILTERS, new ArrayList<>(RestAssured.filters()));
+        RestAssured.filters(budgetFilter(budget.get()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterEach(ExtensionContext context) {
+        List<Filter> previous = context.getStore(NAMESPACE).remove(PREVIOUS_FILTERS, List.class);
+        if (previous != null) {
+            RestAssured.replaceFiltersWith(previous);
+        }
+    }
+
+    static Filter budgetFilter(QueryBudget budget) {
+        return (request, response, context) -> {
+            Response sent = context.next(request, response);
+            String endpoint = request.getMethod() + " " + request.getURI();
+            String count = sent.getHeader(StatementReportFilter.COUNT_HEADER);
+            if (count == null) {
+                throw new AssertionError(endpoint + " did not report its statements; is k12.statements.header set?");
+            }
+            if (sent.getHeader(StatementReportFilter.STREAMED_HEADER) != null) {
+                throw new AssertionError(endpoint + " streams its body, so its headers miss the statements run while"
+                        + " writing it; check it against the k12.request.statements metric instead");
+            }
+            if (Integer.parseInt(count) > budget.max()) {
+                throw new AssertionError(
+                        endpoint + " ran " + count + " SQL statements, over its budget of " + budget.max());
+            }
+            int repeats = Integer.parseInt(sent.getHeader(StatementReportFilter.REPEATS_HEADER));
+            if (repeats > budget.maxRepeats()) {
+                throw new AssertionError(endpoint + " ran one statement shape " + repeats
+                        + " times, more than " + budget.maxRepeats() + "; likely an N+1 query");
+            }
+            return sent;
+        };
+    }
+}
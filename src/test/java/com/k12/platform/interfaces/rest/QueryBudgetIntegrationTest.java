@@ -0,0 +1,73 @@
+package com.k12.platform.interfaces.rest;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.k12.platform.domain.model.Class;
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.domain.model.valueobjects.ClassName;
+import com.k12.platform.domain.model.valueobjects.GradeLevel;
+import com.k12.platform.domain.port.ClassRepository;
+import com.k12.platform.infrastructure.persistence.PostgresTestProfile;
+import com.k12.platform.interfaces.rest.security.TestTokens;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Holds the class read endpoints to a fixed number of SQL statements per request, however many rows they
+ * return; run with {@code ./gradlew integrationTest}.
+ */
+@QuarkusTest
+@TestProfile(PostgresTestProfile.class)
+@Tag("integration")
+@DisplayName("Query budget Integration Tests")
+class QueryBudgetIntegrationTest {
+
+    private final String adminToken = TestTokens.admin();
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Test
+    @QueryBudget(max = 2, maxRepeats = 1)
+    @DisplayName("Should list classes by grade in a bounded number of statements")
+    void shouldListClassesByGradeWithinBudget() {
+        for (int i = 0; i < 5; i++) {
+            classRepository.save(Class.create(ClassName.of("Budget " + i), GradeLevel.of(7), AcademicYear.current()));
+        }
+
+        given().auth().oauth2(adminToken).when().get("/api/classes/grade/7").then().statusCode(is(200));
+    }
+
+    @Test
+    @QueryBudget(max = 3, maxRepeats = 1)
+    @DisplayName("Should read a class and its roster in a bounded number of statements")
+    void shouldReadClassWithinBudget() {
+        Class clazz = Class.create(ClassName.of("Budget roster"), GradeLevel.of(8), AcademicYear.current());
+        classRepository.save(clazz);
+        String id = clazz.getClassId().value().toString();
+
+        given().auth().oauth2(adminToken).when().get("/api/classes/" + id).then().statusCode(is(200));
+        given().auth().oauth2(adminToken).when().get("/api/classes/" + id + "/roster").then().statusCode(is(200));
+    }
+
+    @Test
+    @QueryBudget(max = 10)
+    @DisplayName("Should fail the budget of a streamed response instead of passing it on a partial count")
+    void shouldFailBudgetOfStreamedResponse() {
+        String teacherId = UUID.randomUUID().toString();
+
+        AssertionError error = assertThrows(AssertionError.class, () -> given().auth()
+                .oauth2(adminToken)
+                .when()
+                .get("/api/teacher-class-assignments/teacher/" + teacherId));
+        assertTrue(error.getMessage().contains("streams its body"));
+    }
+}
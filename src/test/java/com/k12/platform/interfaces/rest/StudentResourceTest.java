@@ -3,16 +3,28 @@ package com.k12.platform.interfaces.rest;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
 import com.k12.platform.domain.model.Student;
 import com.k12.platform.domain.model.StudentRegistrationService;
+import com.k12.platform.domain.model.exceptions.ConcurrentUpdateException;
 import com.k12.platform.domain.model.valueobjects.*;
+import com.k12.platform.domain.port.Page;
+import com.k12.platform.domain.port.StudentView;
 import com.k12.platform.infrastructure.persistence.JpaStudentAdapter;
+import com.k12.platform.infrastructure.persistence.JpaStudentQueries;
+import com.k12.platform.infrastructure.persistence.OffloadedStudentQueries;
+import com.k12.platform.interfaces.rest.security.TestTokens;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
 import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -26,12 +38,20 @@ import org.junit.jupiter.api.Test;
 @DisplayName("StudentResource REST Tests")
 class StudentResourceTest {
 
+    private final String adminToken = TestTokens.admin();
+
     @InjectMock
     StudentRegistrationService studentRegistrationService;
 
     @InjectMock
     JpaStudentAdapter studentRepository;
 
+    @InjectMock
+    JpaStudentQueries studentQueries;
+
+    @InjectMock
+    OffloadedStudentQueries asyncStudentQueries;
+
     @Test
     @DisplayName("Should create student successfully")
     void shouldCreateStudentEndpointExists() {
@@ -57,7 +77,7 @@ class StudentResourceTest {
                         + classId + "\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/students")
@@ -74,32 +94,74 @@ class StudentResourceTest {
         // Arrange
         UUID studentId = UUID.randomUUID();
         UUID classId = UUID.randomUUID();
-        Student mockStudent = Student.register(
-                StudentPersonalInfo.of("Jane", "Smith", "2010-05-15"),
-                GradeLevel.of(5),
-                UserId.of(classId),
-                StudentNumber.empty(),
-                LocalDate.now());
+        StudentView view = new StudentView(
+                studentId, "Jane", "Smith", "2010-05-15", 5, classId, null, LocalDate.of(2025, 9, 1));
 
-        when(studentRepository.findById(any(StudentId.class))).thenReturn(Optional.of(mockStudent));
+        when(studentQueries.findById(any(StudentId.class))).thenReturn(Optional.of(view));
 
         // Act & Assert
-        given().when()
+        given().auth().oauth2(adminToken).when()
                 .get("/api/students/" + studentId)
                 .then()
                 .statusCode(is(200))
+                .body("student_id", is(studentId.toString()))
                 .body("first_name", is("Jane"))
-                .body("last_name", is("Smith"));
+                .body("last_name", is("Smith"))
+                .body("grade_level", is("5"))
+                .body("enrollment_date", is("2025-09-01"));
+    }
+
+    @Test
+    @DisplayName("Should show kindergarten students' grade as K")
+    void shouldShowKindergartenGradeAsK() {
+        // Arrange
+        UUID studentId = UUID.randomUUID();
+        StudentView view = new StudentView(
+                studentId, "Jane", "Smith", "2020-05-15", 0, UUID.randomUUID(), "S-1", LocalDate.of(2025, 9, 1));
+
+        when(studentQueries.findById(any(StudentId.class))).thenReturn(Optional.of(view));
+
+        // Act & Assert
+        given().auth().oauth2(adminToken).when()
+                .get("/api/students/" + studentId)
+                .then()
+                .statusCode(is(200))
+                .body("grade_level", is("K"))
+                .body("student_number", is("S-1"));
+    }
+
+    @Test
+    @DisplayName("Should get students by grade once their page completes")
+    void shouldGetStudentsByGrade() {
+        // Arrange
+        StudentView view = new StudentView(
+                UUID.randomUUID(), "Jane", "Smith", "2010-05-15", 5, UUID.randomUUID(), null, LocalDate.of(2025, 9, 1));
+
+        when(asyncStudentQueries.findByGradeLevel(eq(5), isNull(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(new Page<>(List.of(view), null)));
+
+        // Act & Assert
+        given().auth().oauth2(adminToken).when()
+                .get("/api/students/grade/5")
+                .then()
+                .statusCode(is(200))
+                .body("[0].last_name", is("Smith"));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid grade before querying students")
+    void shouldRejectInvalidGradeForStudentsByGrade() {
+        given().auth().oauth2(adminToken).when().get("/api/students/grade/13").then().statusCode(is(400));
     }
 
     @Test
     @DisplayName("Should return 404 when student not found")
     void shouldReturn404WhenStudentNotFound() {
         // Arrange
-        when(studentRepository.findById(any(StudentId.class))).thenReturn(Optional.empty());
+        when(studentQueries.findById(any(StudentId.class))).thenReturn(Optional.empty());
 
         // Act & Assert
-        given().when()
+        given().auth().oauth2(adminToken).when()
                 .get("/api/students/" + UUID.randomUUID())
                 .then()
                 .statusCode(is(404))
@@ -124,7 +186,7 @@ class StudentResourceTest {
         String requestBody = "{\"grade_level\":\"6\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/students/" + studentId + "/transfer")
@@ -133,6 +195,30 @@ class StudentResourceTest {
                 .body("grade_level", is("6"));
     }
 
+    @Test
+    @DisplayName("Should answer 409 when the student changed during the transfer")
+    void shouldReturnConflictOnConcurrentTransfer() {
+        UUID studentId = UUID.randomUUID();
+        Student mockStudent = Student.register(
+                StudentPersonalInfo.of("John", "Doe", "2010-05-15"),
+                GradeLevel.of(5),
+                UserId.of(UUID.randomUUID()),
+                StudentNumber.empty(),
+                LocalDate.now());
+
+        when(studentRepository.findById(any(StudentId.class))).thenReturn(Optional.of(mockStudent));
+        doThrow(new ConcurrentUpdateException("Student", studentId))
+                .when(studentRepository)
+                .save(any(Student.class));
+
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
+                .body("{\"grade_level\":\"6\"}")
+                .when()
+                .post("/api/students/" + studentId + "/transfer")
+                .then()
+                .statusCode(is(409));
+    }
+
     @Test
     @DisplayName("Should advance grade successfully")
     void shouldAdvanceGradeEndpointExists() {
@@ -149,7 +235,7 @@ class StudentResourceTest {
         when(studentRepository.findById(any(StudentId.class))).thenReturn(Optional.of(mockStudent));
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .when()
                 .post("/api/students/" + studentId + "/advance")
                 .then()
@@ -182,7 +268,7 @@ class StudentResourceTest {
                         + classId + "\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/students")
@@ -194,7 +280,7 @@ class StudentResourceTest {
     @Test
     @DisplayName("Should return 400 for invalid student ID format")
     void shouldValidateStudentIdFormat() {
-        given().when()
+        given().auth().oauth2(adminToken).when()
                 .get("/api/students/invalid-uuid")
                 .then()
                 .statusCode(is(400))
@@ -226,7 +312,7 @@ class StudentResourceTest {
                         + classId + "\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/students")
@@ -259,7 +345,7 @@ class StudentResourceTest {
                         + classId + "\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/students")
@@ -293,7 +379,7 @@ class StudentResourceTest {
                         + classId + "\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/students")
@@ -327,7 +413,7 @@ class StudentResourceTest {
                         + classId + "\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/students")
@@ -361,7 +447,7 @@ class StudentResourceTest {
                         + classId + "\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/students")
@@ -376,7 +462,7 @@ class StudentResourceTest {
         when(studentRepository.findById(any(StudentId.class))).thenReturn(Optional.empty());
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .when()
                 .post("/api/students/" + UUID.randomUUID() + "/advance")
                 .then()
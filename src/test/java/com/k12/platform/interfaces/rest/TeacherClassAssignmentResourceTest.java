@@ -9,6 +9,7 @@ import com.k12.platform.domain.model.TeacherClassAssignment;
 import com.k12.platform.domain.model.TeacherClassAssignmentService;
 import com.k12.platform.domain.model.valueobjects.*;
 import com.k12.platform.infrastructure.persistence.JpaTeacherClassAssignmentAdapter;
+import com.k12.platform.interfaces.rest.security.TestTokens;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
@@ -26,6 +27,8 @@ import org.junit.jupiter.api.Test;
 @DisplayName("TeacherClassAssignmentResource REST Tests")
 class TeacherClassAssignmentResourceTest {
 
+    private final String adminToken = TestTokens.admin();
+
     @InjectMock
     TeacherClassAssignmentService service;
 
@@ -51,7 +54,7 @@ class TeacherClassAssignmentResourceTest {
                 + "\",\"role\":\"Homeroom Teacher\",\"assigned_date\":\"2024-09-01\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/teacher-class-assignments")
@@ -72,7 +75,7 @@ class TeacherClassAssignmentResourceTest {
         when(repository.findByTeacherId(any(UserId.class))).thenReturn(List.of(mockAssignment));
 
         // Act & Assert
-        given().when()
+        given().auth().oauth2(adminToken).when()
                 .get("/api/teacher-class-assignments/teacher/" + teacherId)
                 .then()
                 .statusCode(is(200));
@@ -81,7 +84,7 @@ class TeacherClassAssignmentResourceTest {
     @Test
     @DisplayName("Should return 400 for invalid teacher ID")
     void shouldReturn400ForInvalidTeacherId() {
-        given().when()
+        given().auth().oauth2(adminToken).when()
                 .get("/api/teacher-class-assignments/teacher/invalid-uuid")
                 .then()
                 .statusCode(is(400))
@@ -104,7 +107,7 @@ class TeacherClassAssignmentResourceTest {
                 + "\",\"role\":\"Subject Teacher\",\"assigned_date\":\"2024-09-01\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/teacher-class-assignments")
@@ -129,7 +132,7 @@ class TeacherClassAssignmentResourceTest {
                 + "\",\"role\":\"Assistant Teacher\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/teacher-class-assignments")
@@ -143,7 +146,7 @@ class TeacherClassAssignmentResourceTest {
     void shouldValidateRequiredFields() {
         String requestBody = "{}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/teacher-class-assignments")
@@ -170,7 +173,7 @@ class TeacherClassAssignmentResourceTest {
                 + "\",\"role\":\"Homeroom Teacher\",\"assigned_date\":\"2024-01-15\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/teacher-class-assignments")
@@ -191,7 +194,7 @@ class TeacherClassAssignmentResourceTest {
         when(repository.findByClassId(any(ClassId.class))).thenReturn(List.of(mockAssignment));
 
         // Act & Assert
-        given().when()
+        given().auth().oauth2(adminToken).when()
                 .get("/api/teacher-class-assignments/class/" + classId)
                 .then()
                 .statusCode(is(200));
@@ -200,7 +203,7 @@ class TeacherClassAssignmentResourceTest {
     @Test
     @DisplayName("Should return 400 for invalid class ID")
     void shouldReturn400ForInvalidClassId() {
-        given().when()
+        given().auth().oauth2(adminToken).when()
                 .get("/api/teacher-class-assignments/class/invalid-uuid")
                 .then()
                 .statusCode(is(400))
@@ -221,7 +224,7 @@ class TeacherClassAssignmentResourceTest {
                 "{\"teacher_id\":\"" + teacherId + "\",\"class_id\":\"" + classId + "\",\"role\":\"Homeroom Teacher\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/teacher-class-assignments")
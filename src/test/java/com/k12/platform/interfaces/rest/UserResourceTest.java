@@ -12,9 +12,12 @@ import com.k12.platform.domain.model.exceptions.UserAlreadyExistsException;
 import com.k12.platform.domain.model.valueobjects.EmailAddress;
 import com.k12.platform.domain.model.valueobjects.PasswordHash;
 import com.k12.platform.domain.service.UserRegistrationService;
+import com.k12.platform.interfaces.rest.provisioning.AccountProvisioner;
+import com.k12.platform.interfaces.rest.security.TestTokens;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -26,9 +29,14 @@ import org.junit.jupiter.api.Test;
 @DisplayName("UserResource REST Tests")
 class UserResourceTest {
 
+    private final String adminToken = TestTokens.admin();
+
     @InjectMock
     UserRegistrationService userRegistrationService;
 
+    @InjectMock
+    AccountProvisioner accountProvisioner;
+
     @Test
     @DisplayName("Should create teacher successfully")
     void shouldCreateTeacherSuccessfully() {
@@ -46,7 +54,7 @@ class UserResourceTest {
                 "{\"email\":\"teacher@example.com\",\"password\":\"SecurePass123!\",\"firstName\":\"John\",\"lastName\":\"Doe\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/teacher")
@@ -76,7 +84,7 @@ class UserResourceTest {
                 "{\"email\":\"parent@example.com\",\"password\":\"SecurePass123!\",\"firstName\":\"Jane\",\"lastName\":\"Smith\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/parent")
@@ -103,7 +111,7 @@ class UserResourceTest {
                 "{\"email\":\"admin@example.com\",\"password\":\"SecurePass123!\",\"firstName\":\"Admin\",\"lastName\":\"User\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/admin")
@@ -118,7 +126,7 @@ class UserResourceTest {
     void shouldReturn400WhenEmailMissing() {
         String requestBody = "{\"password\":\"SecurePass123!\",\"firstName\":\"John\",\"lastName\":\"Doe\"}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/teacher")
@@ -132,7 +140,7 @@ class UserResourceTest {
     void shouldReturn400WhenPasswordMissing() {
         String requestBody = "{\"email\":\"test@example.com\",\"firstName\":\"John\",\"lastName\":\"Doe\"}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/teacher")
@@ -146,7 +154,7 @@ class UserResourceTest {
     void shouldReturn400WhenFirstNameMissing() {
         String requestBody = "{\"email\":\"test@example.com\",\"password\":\"SecurePass123!\",\"lastName\":\"Doe\"}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/teacher")
@@ -160,7 +168,7 @@ class UserResourceTest {
     void shouldReturn400WhenLastNameMissing() {
         String requestBody = "{\"email\":\"test@example.com\",\"password\":\"SecurePass123!\",\"firstName\":\"John\"}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/teacher")
@@ -175,7 +183,7 @@ class UserResourceTest {
         String requestBody =
                 "{\"email\":\"invalidemail\",\"password\":\"SecurePass123!\",\"firstName\":\"John\",\"lastName\":\"Doe\"}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/teacher")
@@ -189,7 +197,7 @@ class UserResourceTest {
         String requestBody =
                 "{\"email\":\"test@example.com\",\"password\":\"123\",\"firstName\":\"John\",\"lastName\":\"Doe\"}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/teacher")
@@ -209,7 +217,7 @@ class UserResourceTest {
                 "{\"email\":\"test@example.com\",\"password\":\"SecurePass123!\",\"firstName\":\"John\",\"lastName\":\"Doe\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/teacher")
@@ -235,7 +243,7 @@ class UserResourceTest {
                 "{\"email\":\"test@example.com\",\"password\":\"SecurePass123!\",\"firstName\":\"John\",\"lastName\":\"Doe\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/teacher")
@@ -260,7 +268,7 @@ class UserResourceTest {
                 "{\"email\":\"user+tag@example.com\",\"password\":\"SecurePass123!\",\"firstName\":\"John\",\"lastName\":\"Doe\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/parent")
@@ -286,7 +294,7 @@ class UserResourceTest {
                 "{\"email\":\"test@example.com\",\"password\":\"VeryStrongPassword123!@#\",\"firstName\":\"John\",\"lastName\":\"Doe\"}";
 
         // Act & Assert
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/admin")
@@ -301,7 +309,7 @@ class UserResourceTest {
         String requestBody =
                 "{\"email\":\"test@example.com\",\"password\":\"Pass1!\",\"firstName\":\"John\",\"lastName\":\"Doe\"}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/teacher")
@@ -317,7 +325,7 @@ class UserResourceTest {
         String requestBody =
                 "{\"email\":\"test@example.com\",\"password\":\"        \",\"firstName\":\"John\",\"lastName\":\"Doe\"}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/teacher")
@@ -333,7 +341,7 @@ class UserResourceTest {
         String requestBody =
                 "{\"email\":\"test@example.com\",\"password\":\"\",\"firstName\":\"John\",\"lastName\":\"Doe\"}";
 
-        given().contentType(ContentType.JSON)
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
                 .body(requestBody)
                 .when()
                 .post("/api/users/teacher")
@@ -341,4 +349,29 @@ class UserResourceTest {
                 .statusCode(is(400))
                 .body("message", is("Missing required field: password"));
     }
+
+    @Test
+    @DisplayName("Should return 400 when bulk provisioning is refused")
+    void shouldReturn400WhenBulkProvisioningIsRefused() {
+        when(accountProvisioner.submit(any())).thenThrow(new IllegalArgumentException("No accounts to provision"));
+
+        given().auth().oauth2(adminToken).contentType(ContentType.JSON)
+                .body("{\"accounts\":[]}")
+                .when()
+                .post("/api/users/bulk")
+                .then()
+                .statusCode(is(400))
+                .body("message", is("No accounts to provision"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for unknown provisioning job")
+    void shouldReturn404ForUnknownProvisioningJob() {
+        when(accountProvisioner.find(any())).thenReturn(Optional.empty());
+
+        given().auth().oauth2(adminToken).when()
+                .get("/api/users/bulk/8d7f3c2e-5b1a-4f6e-9c3d-2a1b0e9f8d7c")
+                .then()
+                .statusCode(is(404));
+    }
 }
@@ -0,0 +1,53 @@
+package com.k12.platform.interfaces.rest;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+
+import com.k12.platform.interfaces.rest.security.TestTokens;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit5.virtual.ShouldNotPin;
+import io.quarkus.test.junit5.virtual.VirtualThreadUnit;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Drives endpoints on virtual threads through Hibernate, JTA and the PostgreSQL driver, and fails if any of
+ * them pins a carrier thread (e.g. by blocking inside a synchronized block); run with
+ * {@code ./gradlew integrationTest}, which also prints the pinned stacks.
+ */
+@QuarkusTest
+@TestProfile(VirtualThreadsTestProfile.class)
+@Tag("integration")
+@VirtualThreadUnit
+@ShouldNotPin
+@DisplayName("Virtual thread pinning Tests")
+class VirtualThreadPinningTest {
+
+    private final String adminToken = TestTokens.admin();
+
+    @Test
+    @DisplayName("Should create and read a class without pinning")
+    void shouldCreateAndReadClassWithoutPinning() {
+        String classId = given().auth().oauth2(adminToken).contentType(ContentType.JSON)
+                .body("{\"name\":\"Pinning\",\"grade_level\":\"3\",\"academic_year\":\"2024-2025\"}")
+                .when()
+                .post("/api/classes")
+                .then()
+                .statusCode(is(201))
+                .extract()
+                .path("class_id");
+
+        given().auth().oauth2(adminToken).when().get("/api/classes/" + classId).then().statusCode(is(200));
+        given().auth().oauth2(adminToken).when().get("/api/classes/" + classId + "/roster").then().statusCode(is(200));
+        given().auth().oauth2(adminToken).when().get("/api/classes/grade/3").then().statusCode(is(200));
+    }
+
+    @Test
+    @DisplayName("Should query users without pinning")
+    void shouldQueryUsersWithoutPinning() {
+        given().auth().oauth2(adminToken).when().get("/api/test/db").then().statusCode(is(200));
+    }
+}
@@ -0,0 +1,18 @@
+package com.k12.platform.interfaces.rest;
+
+import com.k12.platform.infrastructure.persistence.PostgresTestProfile;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The PostgreSQL test profile with endpoints running on virtual threads.
+ */
+public class VirtualThreadsTestProfile extends PostgresTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        Map<String, String> overrides = new HashMap<>(super.getConfigOverrides());
+        overrides.put("quarkus.virtual-threads.enabled", "true");
+        return overrides;
+    }
+}
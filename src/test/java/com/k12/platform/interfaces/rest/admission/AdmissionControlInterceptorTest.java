@@ -0,0 +1,107 @@
+package com.k12.platform.interfaces.rest.admission;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.interceptor.InvocationContext;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AdmissionControlInterceptor.
+ */
+@DisplayName("AdmissionControlInterceptor Tests")
+class AdmissionControlInterceptorTest {
+
+    private AdmissionControlInterceptor interceptor;
+    private InvocationContext context;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        interceptor = new AdmissionControlInterceptor();
+        interceptor.admission = new RequestAdmission(1, Duration.ofMillis(20), 3, new SimpleMeterRegistry());
+        context = mock(InvocationContext.class);
+        when(context.proceed()).thenReturn("ok");
+    }
+
+    @Test
+    @DisplayName("Should admit calls on virtual threads and release them afterwards")
+    void shouldAdmitOnVirtualThread() throws Exception {
+        assertEquals("ok", onVirtualThread(() -> interceptor.admit(context)));
+        assertEquals("ok", onVirtualThread(() -> interceptor.admit(context)));
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After when no call can be admitted")
+    void shouldRejectWhenSaturated() throws Exception {
+        interceptor.admission.acquire();
+
+        Exception thrown = onVirtualThread(() -> {
+            try {
+                interceptor.admit(context);
+                return null;
+            } catch (ServiceUnavailableException e) {
+                return e;
+            }
+        });
+
+        ServiceUnavailableException rejection = assertInstanceOf(ServiceUnavailableException.class, thrown);
+        assertEquals(503, rejection.getResponse().getStatus());
+        assertEquals("3", rejection.getResponse().getHeaderString("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("Should hold the permit of a streamed response until its body is written")
+    void shouldHoldPermitUntilStreamedBodyIsWritten() throws Exception {
+        StreamingOutput body = output -> output.write('x');
+        when(context.proceed()).thenReturn(Response.ok(body).build());
+
+        Response response = assertInstanceOf(Response.class, onVirtualThread(() -> interceptor.admit(context)));
+
+        assertFalse(onVirtualThread(interceptor.admission::acquire));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertInstanceOf(StreamingOutput.class, response.getEntity()).write(output);
+        assertEquals("x", output.toString());
+        assertTrue(onVirtualThread(interceptor.admission::acquire));
+    }
+
+    @Test
+    @DisplayName("Should release the permit of a streamed body that fails while writing")
+    void shouldReleasePermitWhenStreamedBodyFails() throws Exception {
+        StreamingOutput body = output -> {
+            throw new IOException("client went away");
+        };
+        when(context.proceed()).thenReturn(body);
+
+        Object result = onVirtualThread(() -> interceptor.admit(context));
+
+        StreamingOutput held = assertInstanceOf(StreamingOutput.class, result);
+        assertThrows(IOException.class, () -> held.write(new ByteArrayOutputStream()));
+        assertTrue(onVirtualThread(interceptor.admission::acquire));
+    }
+
+    @Test
+    @DisplayName("Should pass calls on platform threads straight through")
+    void shouldIgnorePlatformThreads() throws Exception {
+        interceptor.admission.acquire();
+
+        assertEquals("ok", interceptor.admit(context));
+    }
+
+    private static <T> T onVirtualThread(Callable<T> call) throws Exception {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return executor.submit(call).get();
+        }
+    }
+}
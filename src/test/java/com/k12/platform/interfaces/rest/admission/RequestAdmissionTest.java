@@ -0,0 +1,66 @@
+package com.k12.platform.interfaces.rest.admission;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for RequestAdmission.
+ */
+@DisplayName("RequestAdmission Tests")
+class RequestAdmissionTest {
+
+    private SimpleMeterRegistry registry;
+    private RequestAdmission admission;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        admission = new RequestAdmission(2, Duration.ofMillis(50), 3, registry);
+    }
+
+    @Test
+    @DisplayName("Should admit up to the limit and turn the next request away after waiting")
+    void shouldRejectBeyondLimit() throws InterruptedException {
+        assertTrue(admission.acquire());
+        assertTrue(admission.acquire());
+
+        assertFalse(admission.acquire());
+        assertEquals(1.0, registry.get("k12.admission.rejected").counter().count());
+        assertEquals(2.0, registry.get("k12.admission.active").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should admit again once a request is released")
+    void shouldAdmitAfterRelease() throws InterruptedException {
+        admission.acquire();
+        admission.acquire();
+
+        admission.release();
+
+        assertTrue(admission.acquire());
+        assertEquals(0.0, registry.get("k12.admission.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should admit a waiting request when a permit frees up in time")
+    void shouldAdmitWaitingRequest() throws Exception {
+        RequestAdmission patient = new RequestAdmission(1, Duration.ofSeconds(5), 3, registry);
+        patient.acquire();
+        Thread releaser = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            patient.release();
+        });
+
+        assertTrue(patient.acquire());
+        releaser.join();
+    }
+}
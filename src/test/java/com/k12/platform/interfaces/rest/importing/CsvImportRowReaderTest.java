@@ -0,0 +1,88 @@
+package com.k12.platform.interfaces.rest.importing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CsvImportRowReader Tests")
+class CsvImportRowReaderTest {
+
+    private static ImportRowReader reader(String csv) {
+        return ImportRowReader.csv(new StringReader(csv));
+    }
+
+    @Test
+    @DisplayName("Should map columns by header name")
+    void shouldMapColumnsByHeaderName() throws IOException {
+        ImportRowReader rows = reader("class_id,last_name,first_name,date_of_birth,grade_level,notes\r\n"
+                + "c-1,Doe,Jane,2015-04-01,3,ignored\r\n");
+
+        ImportRow row = rows.next();
+
+        assertEquals(1, row.number());
+        assertNull(row.error());
+        assertEquals("Jane", row.request().firstName());
+        assertEquals("Doe", row.request().lastName());
+        assertEquals("3", row.request().gradeLevel());
+        assertEquals("c-1", row.request().classId());
+        assertNull(row.request().studentNumber());
+        assertNull(rows.next());
+    }
+
+    @Test
+    @DisplayName("Should read quoted fields with commas, quotes and line breaks")
+    void shouldReadQuotedFields() throws IOException {
+        ImportRowReader rows = reader("first_name,last_name\n\"O\"\"Brien, Jr.\",\"Multi\nLine\"\n");
+
+        ImportRow row = rows.next();
+
+        assertEquals("O\"Brien, Jr.", row.request().firstName());
+        assertEquals("Multi\nLine", row.request().lastName());
+    }
+
+    @Test
+    @DisplayName("Should treat empty fields as absent and skip blank lines")
+    void shouldTreatEmptyFieldsAsAbsent() throws IOException {
+        ImportRowReader rows = reader("first_name,student_number\n\nJane,\nJohn,S-1");
+
+        ImportRow first = rows.next();
+        ImportRow second = rows.next();
+
+        assertNull(first.request().studentNumber());
+        assertEquals(1, first.number());
+        assertEquals("S-1", second.request().studentNumber());
+        assertEquals(2, second.number());
+        assertNull(rows.next());
+    }
+
+    @Test
+    @DisplayName("Should report malformed rows and continue")
+    void shouldReportMalformedRows() throws IOException {
+        ImportRowReader rows = reader("first_name,last_name\nJane\nab\"c,Doe\nJohn,Doe\n\"open,Doe\n");
+
+        assertTrue(rows.next().error().contains("Expected 2 fields"));
+        assertTrue(rows.next().error().contains("Unexpected quote"));
+        assertEquals("John", rows.next().request().firstName());
+        assertTrue(rows.next().error().contains("Unterminated"));
+        assertNull(rows.next());
+    }
+
+    @Test
+    @DisplayName("Should reject rows longer than the limit")
+    void shouldRejectLongRows() throws IOException {
+        ImportRowReader rows = reader("first_name\n" + "x".repeat(ImportRowReader.MAX_ROW_LENGTH + 1) + "\nJane\n");
+
+        assertTrue(rows.next().error().contains("exceeds"));
+        assertEquals("Jane", rows.next().request().firstName());
+    }
+
+    @Test
+    @DisplayName("Should return nothing for empty input")
+    void shouldReturnNothingForEmptyInput() throws IOException {
+        assertNull(reader("").next());
+        assertNull(reader("first_name,last_name\n").next());
+    }
+}
@@ -0,0 +1,53 @@
+package com.k12.platform.interfaces.rest.importing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NdjsonImportRowReader Tests")
+class NdjsonImportRowReaderTest {
+
+    private static ImportRowReader reader(String ndjson) {
+        return ImportRowReader.ndjson(new StringReader(ndjson), new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should parse one request per line numbered by line")
+    void shouldParseOneRequestPerLine() throws IOException {
+        ImportRowReader rows = reader("{\"first_name\":\"Jane\",\"grade_level\":\"K\"}\n\n"
+                + "{\"first_name\":\"John\",\"class_id\":\"c-1\"}");
+
+        ImportRow first = rows.next();
+        ImportRow second = rows.next();
+
+        assertEquals(1, first.number());
+        assertEquals("Jane", first.request().firstName());
+        assertEquals("K", first.request().gradeLevel());
+        assertEquals(3, second.number());
+        assertEquals("c-1", second.request().classId());
+        assertNull(rows.next());
+    }
+
+    @Test
+    @DisplayName("Should report invalid JSON and continue")
+    void shouldReportInvalidJson() throws IOException {
+        ImportRowReader rows = reader("{not json}\n{\"first_name\":\"Jane\"}\n");
+
+        assertTrue(rows.next().error().startsWith("Invalid JSON"));
+        assertEquals("Jane", rows.next().request().firstName());
+    }
+
+    @Test
+    @DisplayName("Should reject lines longer than the limit")
+    void shouldRejectLongLines() throws IOException {
+        String longLine = "{\"first_name\":\"" + "x".repeat(ImportRowReader.MAX_ROW_LENGTH) + "\"}";
+        ImportRowReader rows = reader(longLine + "\n{\"first_name\":\"Jane\"}\n");
+
+        assertTrue(rows.next().error().contains("exceeds"));
+        assertEquals(2, rows.next().number());
+    }
+}
@@ -0,0 +1,140 @@
+package com.k12.platform.interfaces.rest.importing;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.k12.platform.domain.model.Student;
+import com.k12.platform.domain.model.valueobjects.ClassId;
+import com.k12.platform.domain.port.ClassRepository;
+import com.k12.platform.domain.port.StudentRepository;
+import com.k12.platform.interfaces.rest.dto.CreateStudentRequest;
+import com.k12.platform.interfaces.rest.dto.StudentImportSummary;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@DisplayName("StudentImporter Tests")
+class StudentImporterTest {
+
+    private static final String CLASS_ID = UUID.randomUUID().toString();
+    private static final String HEADER = "first_name,last_name,date_of_birth,grade_level,class_id\n";
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private ClassRepository classRepository;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ConstraintViolation<CreateStudentRequest> violation;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final List<Integer> savedBatchSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(validator.validate(any(CreateStudentRequest.class))).thenReturn(Set.of());
+        when(classRepository.existsById(ClassId.of(CLASS_ID))).thenReturn(true);
+        doAnswer(invocation -> {
+                    savedBatchSizes.add(invocation.<Collection<Student>>getArgument(0).size());
+                    return null;
+                })
+                .when(studentRepository)
+                .saveAll(any());
+    }
+
+    private StudentImportSummary importCsv(String csv, int batchSize) throws IOException {
+        StudentImporter importer = new StudentImporter(studentRepository, classRepository, validator, batchSize);
+        return importer.importStudents(
+                ImportRowReader.csv(new StringReader(csv)), new StudentImportReport(output, objectMapper));
+    }
+
+    private List<String> reportLines() {
+        return output.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private static String row(String firstName, String grade) {
+        return firstName + ",Doe,2015-04-01," + grade + "," + CLASS_ID + "\n";
+    }
+
+    @Test
+    @DisplayName("Should save valid rows in batches and report each row")
+    void shouldSaveInBatches() throws IOException {
+        StudentImportSummary summary = importCsv(HEADER + row("A", "1") + row("B", "2") + row("C", "K"), 2);
+
+        assertEquals(new StudentImportSummary(3, 3, 0, 0), summary);
+        assertEquals(List.of(2, 1), savedBatchSizes);
+        List<String> lines = reportLines();
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"row\":1,\"status\":\"created\",\"student_id\":"));
+        assertEquals("{\"rows\":3,\"created\":3,\"rejected\":0,\"failed\":0}", lines.get(3));
+        // Class existence is checked once per class
+        verify(classRepository, times(1)).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid rows without saving them")
+    void shouldRejectInvalidRows() throws IOException {
+        String unknownClass = "X,Doe,2015-04-01,3," + UUID.randomUUID() + "\n";
+
+        StudentImportSummary summary = importCsv(HEADER + row("A", "13") + unknownClass + "Y,Doe\n" + row("B", "1"), 10);
+
+        assertEquals(new StudentImportSummary(4, 1, 3, 0), summary);
+        assertEquals(List.of(1), savedBatchSizes);
+        List<String> lines = reportLines();
+        assertTrue(lines.get(0).startsWith("{\"row\":1,\"status\":\"rejected\""));
+        assertTrue(lines.get(1).contains("Class not found"));
+        assertTrue(lines.get(2).contains("Expected 5 fields"));
+    }
+
+    @Test
+    @DisplayName("Should report bean validation messages")
+    void shouldReportValidationMessages() throws IOException {
+        when(violation.getMessage()).thenReturn("Grade level is required");
+        when(validator.validate(any(CreateStudentRequest.class))).thenReturn(Set.of(violation));
+
+        importCsv(HEADER + row("A", "1"), 10);
+
+        assertEquals(
+                "{\"row\":1,\"status\":\"rejected\",\"error\":\"Grade level is required\"}",
+                reportLines().get(0));
+        verify(studentRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch row by row")
+    void shouldRetryFailedBatchRowByRow() throws IOException {
+        doThrow(new IllegalStateException("batch failed")).when(studentRepository).saveAll(any());
+        doNothing()
+                .doThrow(new IllegalStateException("row failed"))
+                .when(studentRepository)
+                .save(any(Student.class));
+
+        StudentImportSummary summary = importCsv(HEADER + row("A", "1") + row("B", "2"), 10);
+
+        assertEquals(new StudentImportSummary(2, 1, 0, 1), summary);
+        List<String> lines = reportLines();
+        assertTrue(lines.get(0).contains("\"created\""));
+        assertEquals("{\"row\":2,\"status\":\"failed\",\"error\":\"Student could not be saved\"}", lines.get(1));
+    }
+}
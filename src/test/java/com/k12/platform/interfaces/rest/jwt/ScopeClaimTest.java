@@ -0,0 +1,62 @@
+package com.k12.platform.interfaces.rest.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ScopeClaim.
+ */
+@DisplayName("ScopeClaim Tests")
+class ScopeClaimTest {
+
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should round-trip kind, version and IDs")
+    void shouldRoundTrip() {
+        String value = ScopeClaim.encode(ScopeClaim.Kind.CLASSES, 1234L, List.of(first, second));
+
+        ScopeClaim claim = ScopeClaim.parse(value);
+
+        assertNotNull(claim);
+        assertEquals(ScopeClaim.Kind.CLASSES, claim.kind());
+        assertEquals(1234L, claim.scopeVersion());
+        assertTrue(claim.contains(first));
+        assertTrue(claim.contains(second));
+        assertFalse(claim.contains(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Should encode each ID as 22 base64url characters")
+    void shouldEncodeCompactly() {
+        String value = ScopeClaim.encode(ScopeClaim.Kind.STUDENTS, 7L, List.of(first, second));
+
+        assertEquals("1.s.7.".length() + 2 * ScopeClaim.ENCODED_ID_LENGTH, value.length());
+    }
+
+    @Test
+    @DisplayName("Should parse empty scope")
+    void shouldParseEmptyScope() {
+        ScopeClaim claim = ScopeClaim.parse(ScopeClaim.encode(ScopeClaim.Kind.STUDENTS, 1L, List.of()));
+
+        assertNotNull(claim);
+        assertFalse(claim.contains(first));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown format, kind and malformed values")
+    void shouldRejectMalformed() {
+        String valid = ScopeClaim.encode(ScopeClaim.Kind.CLASSES, 1L, List.of(first));
+
+        assertNull(ScopeClaim.parse(null));
+        assertNull(ScopeClaim.parse("2" + valid.substring(1)));
+        assertNull(ScopeClaim.parse("1.x" + valid.substring(3)));
+        assertNull(ScopeClaim.parse("1.c.abc." + ScopeClaim.encodeId(first)));
+        assertNull(ScopeClaim.parse(valid.substring(0, valid.length() - 1)));
+    }
+}
@@ -0,0 +1,158 @@
+package com.k12.platform.interfaces.rest.provisioning;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.k12.platform.domain.model.User;
+import com.k12.platform.domain.model.UserRole;
+import com.k12.platform.domain.model.valueobjects.EmailAddress;
+import com.k12.platform.domain.port.PasswordCostPolicy;
+import com.k12.platform.domain.port.UserRepository;
+import com.k12.platform.interfaces.rest.dto.ProvisionAccountsRequest.Account;
+import com.k12.platform.interfaces.rest.dto.ProvisioningJobStatus;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@DisplayName("AccountProvisioner Tests")
+class AccountProvisionerTest {
+
+    private static final String PASSWORD = "SecurePass123!";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordCostPolicy passwordCostPolicy;
+
+    private final List<User> saved = new ArrayList<>();
+    private final List<Integer> savedBatchSizes = new ArrayList<>();
+    private AccountProvisioner provisioner;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // Lowest bcrypt cost keeps the test fast
+        when(passwordCostPolicy.targetCost()).thenReturn(4);
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of());
+        doAnswer(invocation -> {
+                    Collection<User> users = invocation.getArgument(0);
+                    savedBatchSizes.add(users.size());
+                    saved.addAll(users);
+                    return null;
+                })
+                .when(userRepository)
+                .saveAll(any());
+        provisioner = new AccountProvisioner(userRepository, passwordCostPolicy, 2, 2, 5, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        provisioner.shutdown();
+    }
+
+    private static Account account(String email, String role) {
+        return new Account(email, PASSWORD, "First", "Last", role);
+    }
+
+    private ProvisioningJobStatus run(List<Account> accounts) {
+        ProvisioningJob job = new ProvisioningJob(accounts.size());
+        provisioner.run(job, accounts);
+        return job.status();
+    }
+
+    @Test
+    @DisplayName("Should hash and save accounts in batches")
+    void shouldHashAndSaveInBatches() {
+        ProvisioningJobStatus status = run(List.of(
+                account("a@example.com", "TEACHER"),
+                account("b@example.com", "PARENT"),
+                account("c@example.com", "TEACHER")));
+
+        assertEquals("COMPLETED", status.state());
+        assertEquals(3, status.created());
+        assertEquals(3, status.processed());
+        assertEquals(List.of(2, 1), savedBatchSizes);
+        assertEquals(UserRole.PARENT, saved.get(1).role());
+        assertTrue(saved.get(0).passwordHash().verify(PASSWORD));
+        verify(userRepository, times(2)).findExistingEmails(any());
+        verify(userRepository, never()).existsByEmail(any());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid, duplicate and taken accounts")
+    void shouldRejectInvalidDuplicateAndTakenAccounts() {
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of(EmailAddress.of("taken@example.com")));
+
+        ProvisioningJobStatus status = run(List.of(
+                account("a@example.com", "TEACHER"),
+                account("a@example.com", "PARENT"),
+                account("taken@example.com", "TEACHER"),
+                account("not-an-email", "TEACHER"),
+                account("b@example.com", "ADMIN"),
+                new Account("c@example.com", "short", "First", "Last", "PARENT")));
+
+        assertEquals(1, status.created());
+        assertEquals(5, status.rejected());
+        List<String> errors = status.rejections().stream()
+                .map(ProvisioningJobStatus.Rejection::error)
+                .toList();
+        assertTrue(errors.contains("Duplicate email in request"));
+        assertTrue(errors.contains("User with this email already exists"));
+        assertTrue(errors.contains("Invalid email format"));
+        assertTrue(errors.contains("Role must be TEACHER or PARENT"));
+        assertEquals(5, errors.size());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch one account at a time")
+    void shouldRetryFailedBatchOneByOne() {
+        doThrow(new IllegalStateException("batch failed")).when(userRepository).saveAll(any());
+        doNothing().doThrow(new IllegalStateException("row failed")).when(userRepository).save(any(User.class));
+
+        ProvisioningJobStatus status =
+                run(List.of(account("a@example.com", "TEACHER"), account("b@example.com", "TEACHER")));
+
+        assertEquals(1, status.created());
+        assertEquals(1, status.failed());
+        assertEquals(new ProvisioningJobStatus.Rejection(1, "b@example.com", "Account could not be saved"),
+                status.rejections().get(0));
+    }
+
+    @Test
+    @DisplayName("Should refuse empty and oversized jobs")
+    void shouldRefuseEmptyAndOversizedJobs() {
+        List<Account> tooMany = IntStream.range(0, 6)
+                .mapToObj(i -> account("user" + i + "@example.com", "TEACHER"))
+                .toList();
+
+        assertThrows(IllegalArgumentException.class, () -> provisioner.submit(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> provisioner.submit(tooMany));
+    }
+
+    @Test
+    @DisplayName("Should run submitted jobs in the background")
+    void shouldRunSubmittedJobsInBackground() throws InterruptedException {
+        ProvisioningJob job = provisioner.submit(List.of(account("a@example.com", "TEACHER")));
+
+        assertSame(job, provisioner.find(job.id()).orElseThrow());
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!job.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        ProvisioningJobStatus status = job.status();
+        assertEquals("COMPLETED", status.state());
+        assertEquals(1, status.created());
+        assertNotNull(status.finishedAt());
+    }
+}
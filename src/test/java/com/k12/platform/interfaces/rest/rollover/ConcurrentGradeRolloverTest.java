@@ -0,0 +1,109 @@
+package com.k12.platform.interfaces.rest.rollover;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.k12.platform.domain.model.Class;
+import com.k12.platform.domain.model.Student;
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.domain.model.valueobjects.ClassName;
+import com.k12.platform.domain.model.valueobjects.GradeLevel;
+import com.k12.platform.domain.model.valueobjects.StudentNumber;
+import com.k12.platform.domain.model.valueobjects.StudentPersonalInfo;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.ClassRepository;
+import com.k12.platform.domain.port.GradeRolloverRepository;
+import com.k12.platform.domain.port.StudentRepository;
+import com.k12.platform.infrastructure.persistence.PostgresTestProfile;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs two rollovers of the same academic year at once, as two nodes resuming on start would;
+ * run with {@code ./gradlew integrationTest}.
+ */
+@QuarkusTest
+@TestProfile(PostgresTestProfile.class)
+@Tag("integration")
+@DisplayName("Concurrent grade rollover Integration Tests")
+class ConcurrentGradeRolloverTest {
+
+    @Inject
+    ClassRepository classRepository;
+
+    @Inject
+    StudentRepository studentRepository;
+
+    @Inject
+    GradeRolloverRepository gradeRolloverRepository;
+
+    @Test
+    @DisplayName("Should advance every student exactly once when two runners roll over the same year")
+    void shouldAdvanceEveryStudentOnceWithTwoRunners() throws Exception {
+        int startYear = Year.now().getValue() - 2;
+        AcademicYear year = AcademicYear.of(startYear + "-" + (startYear + 1));
+        Class clazz = Class.create(ClassName.of("Concurrent rollover"), GradeLevel.of(6), year);
+        classRepository.save(clazz);
+        UserId classId = UserId.of(clazz.getClassId().value());
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            students.add(Student.register(
+                    StudentPersonalInfo.of("First" + i, "Last", "2010-01-01"),
+                    GradeLevel.of(i % 12 + 1),
+                    classId,
+                    StudentNumber.empty(),
+                    LocalDate.now()));
+        }
+        studentRepository.saveAll(students);
+        long graduating = students.stream().filter(s -> s.gradeLevel().value() == 12).count();
+
+        GradeRolloverRunner first = new GradeRolloverRunner(gradeRolloverRepository, 3, false);
+        GradeRolloverRunner second = new GradeRolloverRunner(gradeRolloverRepository, 3, false);
+        GradeRolloverJob firstJob = new GradeRolloverJob(year.value());
+        GradeRolloverJob secondJob = new GradeRolloverJob(year.value());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> firstRun = executor.submit(() -> {
+                start.await();
+                first.run(firstJob, year);
+                return null;
+            });
+            Future<?> secondRun = executor.submit(() -> {
+                start.await();
+                second.run(secondJob, year);
+                return null;
+            });
+            start.countDown();
+            firstRun.get();
+            secondRun.get();
+        } finally {
+            executor.shutdownNow();
+            first.shutdown();
+            second.shutdown();
+        }
+
+        assertEquals("COMPLETED", firstJob.status().state());
+        assertEquals("COMPLETED", secondJob.status().state());
+        var checkpoint = gradeRolloverRepository.find(year).orElseThrow();
+        assertTrue(checkpoint.isCompleted());
+        assertEquals(students.size() - graduating, checkpoint.advanced());
+        assertEquals(graduating, checkpoint.graduated());
+        for (Student student : students) {
+            int before = student.gradeLevel().value();
+            int after = studentRepository.findById(student.studentId()).orElseThrow().gradeLevel().value();
+            assertEquals(before == 12 ? 12 : before + 1, after);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.k12.platform.interfaces.rest.rollover;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import com.k12.platform.domain.model.GradeRolloverCheckpoint;
+import com.k12.platform.domain.model.GradeRolloverChunk;
+import com.k12.platform.domain.model.valueobjects.AcademicYear;
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import com.k12.platform.domain.port.GradeRolloverRepository;
+import com.k12.platform.interfaces.rest.dto.GradeRolloverStatus;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@DisplayName("GradeRolloverRunner Tests")
+class GradeRolloverRunnerTest {
+
+    private static final AcademicYear YEAR = AcademicYear.current();
+
+    @Mock
+    private GradeRolloverRepository gradeRolloverRepository;
+
+    private GradeRolloverRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        runner = new GradeRolloverRunner(gradeRolloverRepository, 2, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    private static GradeRolloverCheckpoint checkpoint(StudentId lastStudentId, int advanced, Instant completedAt) {
+        Instant startedAt = Instant.parse("2026-06-20T00:00:00Z");
+        return new GradeRolloverCheckpoint(
+                YEAR.value(), lastStudentId, advanced, 0, startedAt, startedAt, completedAt);
+    }
+
+    @Test
+    @DisplayName("Should advance chunks until a short chunk, then complete")
+    void shouldAdvanceChunksUntilShortChunk() {
+        StudentId first = StudentId.generate();
+        StudentId second = StudentId.generate();
+        when(gradeRolloverRepository.start(YEAR)).thenReturn(checkpoint(null, 0, null));
+        when(gradeRolloverRepository.advanceChunk(YEAR, 2))
+                .thenReturn(new GradeRolloverChunk(2, 0, first))
+                .thenReturn(new GradeRolloverChunk(1, 0, second));
+        GradeRolloverJob job = new GradeRolloverJob(YEAR.value());
+
+        runner.run(job, YEAR);
+
+        GradeRolloverStatus status = job.status();
+        assertEquals("COMPLETED", status.state());
+        assertEquals(3, status.advanced());
+        assertNotNull(status.completedAt());
+        verify(gradeRolloverRepository).complete(YEAR);
+        verify(gradeRolloverRepository, times(2)).advanceChunk(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should resume with the checkpointed counts")
+    void shouldResumeAfterCheckpoint() {
+        StudentId last = StudentId.generate();
+        when(gradeRolloverRepository.start(YEAR)).thenReturn(checkpoint(last, 40, null));
+        when(gradeRolloverRepository.advanceChunk(YEAR, 2)).thenReturn(new GradeRolloverChunk(0, 1, last));
+        GradeRolloverJob job = new GradeRolloverJob(YEAR.value());
+
+        runner.run(job, YEAR);
+
+        GradeRolloverStatus status = job.status();
+        assertEquals(40, status.advanced());
+        assertEquals(1, status.graduated());
+        verify(gradeRolloverRepository).complete(YEAR);
+    }
+
+    @Test
+    @DisplayName("Should stop when another run finished the rollover")
+    void shouldStopWhenAnotherRunFinished() {
+        when(gradeRolloverRepository.start(YEAR)).thenReturn(checkpoint(StudentId.generate(), 40, null));
+        when(gradeRolloverRepository.advanceChunk(YEAR, 2)).thenReturn(new GradeRolloverChunk(0, 0, null));
+        GradeRolloverJob job = new GradeRolloverJob(YEAR.value());
+
+        runner.run(job, YEAR);
+
+        assertEquals("COMPLETED", job.status().state());
+        verify(gradeRolloverRepository, times(1)).advanceChunk(YEAR, 2);
+    }
+
+    @Test
+    @DisplayName("Should fail without completing when a chunk fails")
+    void shouldFailWhenChunkFails() {
+        when(gradeRolloverRepository.start(YEAR)).thenReturn(checkpoint(null, 0, null));
+        when(gradeRolloverRepository.advanceChunk(any(), anyInt()))
+                .thenThrow(new IllegalStateException("connection lost"));
+        GradeRolloverJob job = new GradeRolloverJob(YEAR.value());
+
+        runner.run(job, YEAR);
+
+        assertEquals("FAILED", job.status().state());
+        verify(gradeRolloverRepository, never()).complete(any());
+    }
+
+    @Test
+    @DisplayName("Should refuse a completed academic year")
+    void shouldRefuseCompletedYear() {
+        when(gradeRolloverRepository.find(YEAR)).thenReturn(Optional.of(checkpoint(null, 10, Instant.now())));
+
+        assertThrows(IllegalStateException.class, () -> runner.submit(YEAR));
+    }
+
+    @Test
+    @DisplayName("Should report an interrupted rollover from its checkpoint")
+    void shouldReportInterruptedRollover() {
+        when(gradeRolloverRepository.find(YEAR)).thenReturn(Optional.of(checkpoint(StudentId.generate(), 10, null)));
+
+        GradeRolloverStatus status = runner.status(YEAR).orElseThrow();
+
+        assertEquals("INTERRUPTED", status.state());
+        assertEquals(10, status.advanced());
+    }
+}
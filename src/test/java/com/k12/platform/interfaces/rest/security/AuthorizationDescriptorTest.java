@@ -0,0 +1,103 @@
+package com.k12.platform.interfaces.rest.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AuthorizationDescriptor and AuthorizationDescriptorRegistry.
+ */
+@DisplayName("AuthorizationDescriptor Tests")
+class AuthorizationDescriptorTest {
+
+    @RequireRole(UserRole.ADMIN)
+    static class SampleResource {
+
+        @RequireRole({UserRole.ADMIN, UserRole.TEACHER, UserRole.PARENT})
+        public void getStudent(String ignored, @OwnedStudentId String id) {}
+
+        @RequireRole({UserRole.ADMIN, UserRole.TEACHER})
+        public void getClass(@OwnedClassId String id) {}
+
+        public void adminOnly(String id) {}
+
+        @RequireRole(value = {UserRole.TEACHER, UserRole.PARENT}, requireAll = true)
+        public void teacherAndParent() {}
+
+        @RequireRole
+        public void ambiguous(@OwnedStudentId String first, @OwnedStudentId String second) {}
+    }
+
+    @Test
+    @DisplayName("Should bind owned student ID parameter by index")
+    void shouldBindStudentParameter() throws Exception {
+        AuthorizationDescriptor descriptor = describe("getStudent", String.class, String.class);
+
+        assertEquals(1, descriptor.studentIdParameter());
+        assertEquals(AuthorizationDescriptor.NO_PARAMETER, descriptor.classIdParameter());
+        assertEquals(EnumSet.of(UserRole.ADMIN, UserRole.TEACHER, UserRole.PARENT), descriptor.requiredRoles());
+    }
+
+    @Test
+    @DisplayName("Should bind owned class ID parameter by index")
+    void shouldBindClassParameter() throws Exception {
+        AuthorizationDescriptor descriptor = describe("getClass", String.class);
+
+        assertEquals(0, descriptor.classIdParameter());
+        assertEquals(AuthorizationDescriptor.NO_PARAMETER, descriptor.studentIdParameter());
+    }
+
+    @Test
+    @DisplayName("Should fall back to class-level roles without binding parameters")
+    void shouldUseClassLevelRoles() throws Exception {
+        AuthorizationDescriptor descriptor = describe("adminOnly", String.class);
+
+        assertEquals(EnumSet.of(UserRole.ADMIN), descriptor.requiredRoles());
+        assertEquals(AuthorizationDescriptor.NO_PARAMETER, descriptor.studentIdParameter());
+        assertTrue(descriptor.isSatisfiedBy(Set.of("ADMIN")));
+        assertFalse(descriptor.isSatisfiedBy(Set.of("TEACHER")));
+    }
+
+    @Test
+    @DisplayName("Should require every role when requireAll is set")
+    void shouldRequireAllRoles() throws Exception {
+        AuthorizationDescriptor descriptor = describe("teacherAndParent");
+
+        assertTrue(descriptor.isSatisfiedBy(List.of("TEACHER", "PARENT")));
+        assertFalse(descriptor.isSatisfiedBy(List.of("TEACHER")));
+    }
+
+    @Test
+    @DisplayName("Should precompute insufficient roles message as valid JSON")
+    void shouldPrecomputeMessage() throws Exception {
+        AuthorizationDescriptor descriptor = describe("getClass", String.class);
+
+        assertEquals(
+                "{\"message\":\"Insufficient permissions: requires role(s) ADMIN, TEACHER\"}",
+                descriptor.insufficientRolesMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject ownership annotation on more than one parameter")
+    void shouldRejectAmbiguousBinding() throws Exception {
+        assertThrows(IllegalStateException.class, () -> describe("ambiguous", String.class, String.class));
+    }
+
+    @Test
+    @DisplayName("Should return the registered descriptor for a resource method")
+    void shouldReturnRegisteredDescriptor() throws Exception {
+        AuthorizationDescriptorRegistry registry = new AuthorizationDescriptorRegistry();
+        Method method = SampleResource.class.getMethod("adminOnly", String.class);
+
+        assertSame(registry.get(method), registry.get(method));
+    }
+
+    private static AuthorizationDescriptor describe(String name, Class<?>... parameterTypes) throws Exception {
+        return AuthorizationDescriptor.of(SampleResource.class.getMethod(name, parameterTypes));
+    }
+}
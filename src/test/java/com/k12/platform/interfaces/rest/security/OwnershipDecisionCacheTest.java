@@ -0,0 +1,120 @@
+package com.k12.platform.interfaces.rest.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.k12.platform.domain.model.ParentStudentDisassociated;
+import com.k12.platform.domain.model.TeacherAssignedToClass;
+import com.k12.platform.domain.model.valueobjects.AssociationId;
+import com.k12.platform.domain.model.valueobjects.ClassId;
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import com.k12.platform.domain.model.valueobjects.TeacherRole;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for OwnershipDecisionCache.
+ */
+@DisplayName("OwnershipDecisionCache Tests")
+class OwnershipDecisionCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private OwnershipDecisionCache cache;
+    private UserId teacherId;
+    private UserId parentId;
+    private ClassId classId;
+    private StudentId studentId;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new OwnershipDecisionCache(100, Duration.ofMinutes(1), registry);
+        teacherId = UserId.generate();
+        parentId = UserId.generate();
+        classId = ClassId.generate();
+        studentId = StudentId.generate();
+    }
+
+    @Test
+    @DisplayName("Should not cache a decision whose lookup overlapped an invalidation")
+    void shouldNotCacheDecisionLoadedDuringInvalidation() {
+        AtomicInteger lookups = new AtomicInteger();
+
+        assertTrue(cache.teachesClass(teacherId, classId, () -> {
+            lookups.incrementAndGet();
+            cache.invalidatePrincipal(teacherId);
+            return true;
+        }));
+        assertFalse(cache.teachesClass(teacherId, classId, () -> lookups.incrementAndGet() < 0));
+
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    @DisplayName("Should call lookup once and serve repeated decisions from cache")
+    void shouldCacheDecision() {
+        AtomicInteger lookups = new AtomicInteger();
+
+        assertTrue(cache.teachesClass(teacherId, classId, () -> lookups.incrementAndGet() > 0));
+        assertTrue(cache.teachesClass(teacherId, classId, () -> lookups.incrementAndGet() > 0));
+
+        assertEquals(1, lookups.get());
+        assertEquals(1.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should cache deny decisions")
+    void shouldCacheDenyDecision() {
+        AtomicInteger lookups = new AtomicInteger();
+
+        assertFalse(cache.isParentOf(parentId, studentId, () -> lookups.incrementAndGet() < 0));
+        assertFalse(cache.isParentOf(parentId, studentId, () -> lookups.incrementAndGet() < 0));
+
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    @DisplayName("Should keep relations for the same resource separate")
+    void shouldSeparateRelations() {
+        assertTrue(cache.teachesStudent(teacherId, studentId, () -> true));
+        assertFalse(cache.isParentOf(teacherId, studentId, () -> false));
+    }
+
+    @Test
+    @DisplayName("Should drop a teacher's decisions when they are assigned to a class")
+    void shouldInvalidateOnTeacherAssigned() {
+        cache.teachesClass(teacherId, classId, () -> false);
+        cache.teachesClass(UserId.generate(), classId, () -> false);
+
+        cache.onTeacherAssigned(new TeacherAssignedToClass(
+                AssociationId.generate(), teacherId, classId, TeacherRole.of("PRIMARY"), null));
+
+        assertTrue(cache.teachesClass(teacherId, classId, () -> true));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should drop a parent's decisions when an association is removed")
+    void shouldInvalidateOnParentDisassociated() {
+        cache.isParentOf(parentId, studentId, () -> true);
+
+        cache.onParentDisassociated(new ParentStudentDisassociated(AssociationId.generate(), parentId, studentId, null));
+
+        assertFalse(cache.isParentOf(parentId, studentId, () -> false));
+    }
+
+    @Test
+    @DisplayName("Should bound the number of cached decisions")
+    void shouldBoundSize() {
+        for (int i = 0; i < 500; i++) {
+            cache.teachesClass(UserId.generate(), classId, () -> true);
+        }
+
+        assertTrue(cache.size() <= 100);
+    }
+}
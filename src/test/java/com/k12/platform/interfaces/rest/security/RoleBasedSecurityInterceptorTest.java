@@ -0,0 +1,67 @@
+package com.k12.platform.interfaces.rest.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.interceptor.InvocationContext;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import java.util.concurrent.CompletionStage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Unit tests for RoleBasedSecurityInterceptor.
+ */
+@DisplayName("RoleBasedSecurityInterceptor Tests")
+class RoleBasedSecurityInterceptorTest {
+
+    @Mock
+    private InvocationContext context;
+
+    @Mock
+    private SecurityContext securityContext;
+
+    private RoleBasedSecurityInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        interceptor = new RoleBasedSecurityInterceptor();
+        interceptor.securityContext = securityContext;
+    }
+
+    @Test
+    @DisplayName("Should reject an anonymous call with a plain response")
+    void shouldRejectSynchronousCall() throws Exception {
+        when(context.getMethod()).thenReturn(Endpoints.class.getDeclaredMethod("blocking"));
+
+        Object result = interceptor.enforceRoleBasedAccess(context);
+
+        assertEquals(401, ((Response) result).getStatus());
+        verify(context, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("Should reject an anonymous call to an asynchronous endpoint with a completed stage")
+    void shouldRejectAsynchronousCall() throws Exception {
+        when(context.getMethod()).thenReturn(Endpoints.class.getDeclaredMethod("nonBlocking"));
+
+        Object result = interceptor.enforceRoleBasedAccess(context);
+
+        CompletionStage<?> stage = assertInstanceOf(CompletionStage.class, result);
+        assertEquals(401, ((Response) stage.toCompletableFuture().join()).getStatus());
+        verify(context, never()).proceed();
+    }
+
+    interface Endpoints {
+        Response blocking();
+
+        CompletionStage<Response> nonBlocking();
+    }
+}
@@ -0,0 +1,114 @@
+package com.k12.platform.interfaces.rest.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.k12.platform.domain.model.ParentStudentAssociated;
+import com.k12.platform.domain.model.valueobjects.AssociationId;
+import com.k12.platform.domain.model.valueobjects.RelationshipType;
+import com.k12.platform.domain.model.valueobjects.StudentId;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.infrastructure.persistence.ScopeChangeNotified;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ScopeVersionRegistry.
+ */
+@DisplayName("ScopeVersionRegistry Tests")
+class ScopeVersionRegistryTest {
+
+    private AtomicLong now;
+    private ScopeVersionRegistry registry;
+    private UserId principal;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000_000L);
+        registry = new ScopeVersionRegistry(Duration.ofMinutes(5), now::get);
+        principal = UserId.generate();
+    }
+
+    @Test
+    @DisplayName("Should accept version issued after startup within max age")
+    void shouldAcceptFreshVersion() {
+        now.addAndGet(10);
+        long version = registry.nextVersion();
+        now.addAndGet(1_000);
+
+        assertTrue(registry.isCurrent(principal, version));
+    }
+
+    @Test
+    @DisplayName("Should reject version issued before startup")
+    void shouldRejectVersionBeforeStartup() {
+        assertFalse(registry.isCurrent(principal, now.get() - 1));
+    }
+
+    @Test
+    @DisplayName("Should reject version older than max age")
+    void shouldRejectExpiredVersion() {
+        now.addAndGet(10);
+        long version = registry.nextVersion();
+        now.addAndGet(Duration.ofMinutes(5).toMillis());
+
+        assertFalse(registry.isCurrent(principal, version));
+    }
+
+    @Test
+    @DisplayName("Should reject version loaded before the principal's scope changed")
+    void shouldRejectVersionBeforeChange() {
+        now.addAndGet(10);
+        long version = registry.nextVersion();
+        now.addAndGet(10);
+
+        registry.onParentAssociated(new ParentStudentAssociated(
+                AssociationId.generate(), principal, StudentId.generate(), RelationshipType.mother(), null));
+
+        assertFalse(registry.isCurrent(principal, version));
+        assertTrue(registry.isCurrent(UserId.generate(), version));
+        now.addAndGet(10);
+        assertTrue(registry.isCurrent(principal, registry.nextVersion()));
+    }
+
+    @Test
+    @DisplayName("Should reject versions loaded before a change notified by another node")
+    void shouldRejectVersionBeforeNotifiedChange() {
+        now.addAndGet(10);
+        long version = registry.nextVersion();
+        now.addAndGet(10);
+
+        registry.onScopeChangeNotified(new ScopeChangeNotified(principal.value()));
+
+        assertFalse(registry.isCurrent(principal, version));
+        assertTrue(registry.isCurrent(UserId.generate(), version));
+    }
+
+    @Test
+    @DisplayName("Should reject every earlier version when notifications may have been missed")
+    void shouldRejectAllVersionsAfterMissedNotifications() {
+        now.addAndGet(10);
+        long version = registry.nextVersion();
+        now.addAndGet(10);
+
+        registry.onScopeChangeNotified(new ScopeChangeNotified(null));
+
+        assertFalse(registry.isCurrent(principal, version));
+        assertFalse(registry.isCurrent(UserId.generate(), version));
+        now.addAndGet(10);
+        assertTrue(registry.isCurrent(principal, registry.nextVersion()));
+    }
+
+    @Test
+    @DisplayName("Should forget changes older than max age")
+    void shouldPurgeOldChanges() {
+        registry.markChanged(principal);
+        now.addAndGet(Duration.ofMinutes(5).toMillis());
+
+        registry.purge();
+
+        assertEquals(0, registry.trackedPrincipals());
+    }
+}
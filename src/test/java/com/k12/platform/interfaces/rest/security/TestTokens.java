@@ -0,0 +1,47 @@
+package com.k12.platform.interfaces.rest.security;
+
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.interfaces.rest.jwt.TokenCodec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Bearer tokens for REST tests, signed with the test key that application.properties verifies with.
+ */
+public final class TestTokens {
+
+    private static final TokenCodec CODEC = new TokenCodec(readKey());
+
+    private TestTokens() {}
+
+    public static String admin() {
+        return token(UserId.generate(), UserRole.ADMIN);
+    }
+
+    public static String token(UserId userId, UserRole role) {
+        Instant issuedAt = Instant.now();
+        String email = role.name().toLowerCase() + "@example.com";
+        return CODEC.issue(
+                email,
+                userId.toString(),
+                List.of(role.name()),
+                email,
+                "Test",
+                "User",
+                issuedAt,
+                issuedAt.plusSeconds(3600),
+                null);
+    }
+
+    private static String readKey() {
+        try (InputStream key = TestTokens.class.getResourceAsStream("/security/test-private-key.pem")) {
+            return new String(key.readAllBytes(), StandardCharsets.US_ASCII);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
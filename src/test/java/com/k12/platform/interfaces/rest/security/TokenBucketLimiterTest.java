@@ -0,0 +1,91 @@
+package com.k12.platform.interfaces.rest.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TokenBucketLimiter.
+ */
+@DisplayName("TokenBucketLimiter Tests")
+class TokenBucketLimiterTest {
+
+    private AtomicLong now;
+    private TokenBucketLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000_000L);
+        limiter = new TokenBucketLimiter(3, 60, 100, 4, now::get);
+    }
+
+    @Test
+    @DisplayName("Should allow a burst up to capacity then reject")
+    void shouldAllowBurstUpToCapacity() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(TokenBucketLimiter.ALLOWED, limiter.tryAcquire("10.0.0.1"));
+        }
+
+        long waitMillis = limiter.tryAcquire("10.0.0.1");
+
+        assertTrue(waitMillis > 0 && waitMillis <= 1001, "wait: " + waitMillis);
+    }
+
+    @Test
+    @DisplayName("Should keep keys independent")
+    void shouldKeepKeysIndependent() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        assertEquals(TokenBucketLimiter.ALLOWED, limiter.tryAcquire("10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("Should refill tokens over time")
+    void shouldRefillOverTime() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        now.addAndGet(1_000);
+
+        assertEquals(TokenBucketLimiter.ALLOWED, limiter.tryAcquire("10.0.0.1"));
+        assertNotEquals(TokenBucketLimiter.ALLOWED, limiter.tryAcquire("10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Should evict buckets that have refilled to capacity")
+    void shouldEvictIdleBuckets() {
+        limiter.tryAcquire("idle");
+        limiter.tryAcquire("busy");
+        limiter.tryAcquire("busy");
+        limiter.tryAcquire("busy");
+
+        now.addAndGet(1_000);
+        limiter.evictIdle();
+
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    @DisplayName("Should admit new keys without a bucket once full")
+    void shouldFailOpenWhenFull() {
+        TokenBucketLimiter small = new TokenBucketLimiter(1, 1, 1, 1, now::get);
+        small.tryAcquire("first");
+
+        assertTrue(small.isOverflowing("second"));
+        assertEquals(TokenBucketLimiter.ALLOWED, small.tryAcquire("second"));
+        assertEquals(TokenBucketLimiter.ALLOWED, small.tryAcquire("second"));
+        assertEquals(1, small.size());
+    }
+
+    @Test
+    @DisplayName("Should reject capacity that does not fit the packed state")
+    void shouldRejectOversizedCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLimiter(2_000, 1, 10, 1, now::get));
+    }
+}
@@ -0,0 +1,172 @@
+package com.k12.platform.interfaces.rest.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.k12.platform.domain.model.UserDeactivated;
+import com.k12.platform.domain.model.UserPasswordChanged;
+import com.k12.platform.domain.model.valueobjects.UserId;
+import com.k12.platform.domain.port.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Unit tests for TokenRevocationRegistry.
+ */
+@DisplayName("TokenRevocationRegistry Tests")
+class TokenRevocationRegistryTest {
+
+    @Mock
+    UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationRegistry registry;
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new TokenRevocationRegistry(userRepository, Duration.ofHours(12), 100, 0.01, true, meterRegistry);
+        userId = UserId.generate();
+    }
+
+    @Test
+    @DisplayName("Should not revoke tokens of users without revocations")
+    void shouldNotRevokeUnknownUser() {
+        assertFalse(registry.isRevoked(userId.value(), Instant.now().toEpochMilli()));
+    }
+
+    @Test
+    @DisplayName("Should revoke tokens issued before deactivation")
+    void shouldRevokeOnDeactivation() {
+        Instant deactivatedAt = Instant.now();
+
+        registry.onDeactivated(new UserDeactivated(userId, deactivatedAt));
+
+        assertTrue(registry.isRevoked(userId.value(), deactivatedAt.toEpochMilli() - 60_000));
+        assertTrue(registry.isRevoked(userId.value(), deactivatedAt.toEpochMilli()));
+        assertEquals(2.0, meterRegistry.get("k12.security.tokens.revoked.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should accept tokens issued after password change")
+    void shouldAcceptTokenIssuedAfterPasswordChange() {
+        Instant changedAt = Instant.now();
+
+        registry.onPasswordChanged(new UserPasswordChanged(userId, changedAt));
+
+        assertTrue(registry.isRevoked(userId.value(), changedAt.toEpochMilli() - 1));
+        assertFalse(registry.isRevoked(userId.value(), changedAt.toEpochMilli() + 1));
+    }
+
+    @Test
+    @DisplayName("Should keep the latest revocation per user")
+    void shouldKeepLatestRevocation() {
+        Instant later = Instant.now();
+
+        registry.revoke(userId.value(), later);
+        registry.revoke(userId.value(), later.minusSeconds(600));
+
+        assertTrue(registry.isRevoked(userId.value(), later.toEpochMilli() - 1));
+    }
+
+    @Test
+    @DisplayName("Should drop revocations older than token lifespan on purge")
+    void shouldPurgeExpiredRevocations() {
+        UUID recent = UUID.randomUUID();
+        registry.revoke(userId.value(), Instant.now().minus(Duration.ofHours(13)));
+        registry.revoke(recent, Instant.now());
+
+        registry.purge();
+
+        assertEquals(1, registry.size());
+        assertTrue(registry.isRevoked(recent, Instant.now().toEpochMilli() - 60_000));
+    }
+
+    @Test
+    @DisplayName("Should rebuild revocations at startup from tokens revoked within lifespan")
+    void shouldRebuildAtStartup() {
+        Instant revokedAt = Instant.now().minusSeconds(3600);
+        when(userRepository.findTokensRevokedSince(any())).thenReturn(Map.of(userId, revokedAt));
+
+        registry.rebuild();
+
+        assertTrue(registry.isRevoked(userId.value(), revokedAt.toEpochMilli() - 1));
+        assertFalse(registry.isRevoked(userId.value(), revokedAt.toEpochMilli() + 1));
+    }
+
+    @Test
+    @DisplayName("Should poll revocations made on other nodes since shortly before the previous poll")
+    void shouldPollRevocationsFromOtherNodes() {
+        Instant revokedAt = Instant.now();
+        when(userRepository.findTokensRevokedSince(any())).thenReturn(Map.of()).thenReturn(Map.of(userId, revokedAt));
+        registry.rebuild();
+
+        registry.poll();
+
+        assertTrue(registry.isRevoked(userId.value(), revokedAt.toEpochMilli()));
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        verify(userRepository, times(2)).findTokensRevokedSince(since.capture());
+        assertTrue(since.getAllValues().get(1).isAfter(Instant.now().minus(Duration.ofMinutes(2))));
+    }
+
+    @Test
+    @DisplayName("Should keep polling from the last successful poll after a failure")
+    void shouldRetryFailedPoll() {
+        Instant revokedAt = Instant.now();
+        when(userRepository.findTokensRevokedSince(any()))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(Map.of(userId, revokedAt));
+
+        registry.poll();
+        registry.poll();
+
+        assertTrue(registry.isRevoked(userId.value(), revokedAt.toEpochMilli()));
+    }
+
+    @Test
+    @DisplayName("Should accept a token issued later within the same second as the revocation")
+    void shouldAcceptTokenIssuedLaterInSameSecond() {
+        Instant changedAt = Instant.ofEpochMilli(1_700_000_000_400L);
+
+        registry.onPasswordChanged(new UserPasswordChanged(userId, changedAt));
+
+        assertFalse(registry.isRevoked(userId.value(), 1_700_000_000_401L));
+        assertTrue(registry.isRevoked(userId.value(), 1_700_000_000_000L));
+    }
+
+    @Test
+    @DisplayName("Bloom filter should contain every added ID")
+    void bloomFilterShouldHaveNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        UUID[] ids = new UUID[1000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID();
+            filter.add(ids[i]);
+        }
+
+        for (UUID id : ids) {
+            assertTrue(filter.mightContain(id));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 500, "false positives: " + falsePositives);
+    }
+}